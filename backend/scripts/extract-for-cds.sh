@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+#
+# Spring Boot 실행 JAR를 CDS(Class Data Sharing) 아카이브에 적합한 형태로 풉니다.
+#
+# CDS는 중첩 JAR(BOOT-INF/lib/*.jar) 안의 클래스를 아카이브하지 못하므로
+#   <출력 디렉토리>/lib/*.jar      의존성 JAR
+#   <출력 디렉토리>/app.jar        애플리케이션 클래스 + Class-Path 매니페스트
+# 형태로 풀어 `java -jar <출력 디렉토리>/app.jar`로 실행할 수 있게 합니다.
+# 클래스패스 순서는 BOOT-INF/classpath.idx를 그대로 따릅니다.
+#
+# 사용법: scripts/extract-for-cds.sh <boot-jar> <출력 디렉토리>
+# 필요 도구: jar (JDK)
+
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "usage: $0 <boot-jar> <output-dir>" >&2
+  exit 1
+fi
+
+BOOT_JAR="$(realpath "$1")"
+OUT_DIR="$2"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+(cd "$WORK_DIR" && jar --extract --file "$BOOT_JAR")
+
+START_CLASS="$(sed -n 's/^Start-Class: *//p' "$WORK_DIR/META-INF/MANIFEST.MF" | tr -d '\r')"
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR/lib"
+cp "$WORK_DIR"/BOOT-INF/lib/*.jar "$OUT_DIR/lib/"
+
+# 매니페스트 한 줄은 72바이트 제한이 있으므로 Class-Path 항목을 연속 줄(앞 공백)로 나눠 씁니다.
+{
+  echo "Main-Class: $START_CLASS"
+  echo "Class-Path: "
+  sed -n 's/^- "BOOT-INF\/lib\/\(.*\)"$/  lib\/\1/p' "$WORK_DIR/BOOT-INF/classpath.idx"
+} > "$WORK_DIR/manifest.txt"
+
+jar --create --file "$OUT_DIR/app.jar" --manifest "$WORK_DIR/manifest.txt" -C "$WORK_DIR/BOOT-INF/classes" .
+
+echo "Extracted $(ls "$OUT_DIR/lib" | wc -l) libraries to $OUT_DIR (main class: $START_CLASS)"
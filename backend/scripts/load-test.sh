@@ -0,0 +1,117 @@
+#!/usr/bin/env bash
+#
+# 참여자 흐름 부하 테스트: 매칭 생성 → 참여(2명) → 질문 조회 → 답변 제출(2명) → 기록 생성
+#
+# 애플리케이션을 스레드 모드별(platform/virtual)로 기동하고 LoadTestRunner(src/test/java/com/rstracker/loadtest)로
+# 단계별 지연 백분위수와 처리량을 측정하여 target/loadtest/<모드>.json에 남깁니다.
+# - platform: 저장된 기준선(BASELINE)과 비교하여 회귀가 있으면 실패
+# - virtual: platform 결과와 비교만 출력 (JDK 21 이상 필요, 그 미만이면 건너뜀)
+# DB는 docker-compose의 postgres 서비스(localhost:5433)를 사용하며, API Rate Limiting은 측정 중 해제합니다.
+#
+# 사용법: scripts/load-test.sh <boot-jar> [LoadTestRunner 옵션...]
+#   scripts/load-test.sh target/rstracker-backend-1.0.0.jar --concurrency=50 --duration=2m
+#   scripts/load-test.sh target/rstracker-backend-1.0.0.jar --model=open --rate=30 --concurrency=200
+# 환경 변수: JAVA (기본: java), THREAD_MODES (기본: "platform virtual"),
+#           BASELINE (기본: src/test/resources/loadtest/baseline.json, 빈 값이면 기준선 비교 안 함),
+#           FAIL_ON_REGRESSION (기본: true), COMPOSE_POSTGRES (기본: true, docker compose로 postgres 기동),
+#           SPRING_DATASOURCE_URL/DB_USERNAME/DB_PASSWORD (기본: docker-compose 값), STARTUP_TIMEOUT (초, 기본: 120)
+# 기준선 갱신: 같은 장비에서 실행한 뒤 target/loadtest/platform.json을 BASELINE 경로로 복사합니다.
+
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+  echo "usage: $0 <boot-jar> [LoadTestRunner options...]" >&2
+  exit 1
+fi
+
+cd "$(dirname "$0")/.."
+
+BOOT_JAR="$1"
+shift
+RUNNER_ARGS="$*"
+JAVA="${JAVA:-java}"
+THREAD_MODES="${THREAD_MODES:-platform virtual}"
+BASELINE="${BASELINE-src/test/resources/loadtest/baseline.json}"
+FAIL_ON_REGRESSION="${FAIL_ON_REGRESSION:-true}"
+COMPOSE_POSTGRES="${COMPOSE_POSTGRES:-true}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+AUTH="${ADMIN_USERNAME:-admin}:${ADMIN_PASSWORD:-admin123}"
+
+export SPRING_DATASOURCE_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:5433/relationship_tracker}"
+export DB_USERNAME="${DB_USERNAME:-rstracker}"
+export DB_PASSWORD="${DB_PASSWORD-rstracker_dev_password}"
+export API_RATE_LIMIT_PER_MINUTE=1000000000
+export LEDGER_EPHEMERAL_KEY_ALLOWED="${LEDGER_EPHEMERAL_KEY_ALLOWED:-true}"
+
+LOG_FILE="$(mktemp)"
+APP_PID=""
+trap '[ -z "$APP_PID" ] || kill "$APP_PID" 2>/dev/null || true; rm -f "$LOG_FILE"' EXIT
+
+if [ "$COMPOSE_POSTGRES" = "true" ]; then
+  docker compose -f ../docker-compose.yml up -d --wait postgres
+fi
+
+JAVA_MAJOR="$("$JAVA" -version 2>&1 | sed -n 's/.*version "\([0-9]*\).*/\1/p' | head -n 1)"
+
+# 러너는 한 번만 컴파일하고 테스트 클래스패스로 직접 실행 (종료 코드를 그대로 전달)
+mkdir -p target/loadtest
+mvn -B -q test-compile dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/loadtest/classpath.txt
+RUNNER_CLASSPATH="target/test-classes:target/classes:$(cat target/loadtest/classpath.txt)"
+
+stop_app() {
+  kill "$APP_PID" 2>/dev/null || true
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+}
+
+# 모드별로 기동하고 헬스 체크가 UP이 될 때까지 대기
+start_app() {
+  local virtual="$1"
+  VIRTUAL_THREADS_ENABLED="$virtual" "$JAVA" -jar "$BOOT_JAR" > "$LOG_FILE" 2>&1 &
+  APP_PID=$!
+  local waited=0
+  until curl -sf -u "$AUTH" "http://localhost:8080/api/actuator/health" > /dev/null; do
+    if ! kill -0 "$APP_PID" 2>/dev/null || [ "$waited" -ge $((STARTUP_TIMEOUT * 10)) ]; then
+      echo "startup failed (VIRTUAL_THREADS_ENABLED=$virtual)" >&2
+      tail -n 50 "$LOG_FILE" >&2
+      exit 1
+    fi
+    sleep 0.1
+    waited=$((waited + 1))
+  done
+}
+
+run_load_test() {
+  local label="$1" baseline="$2" fail_on_regression="$3"
+  local args="--label=$label --fail-on-regression=$fail_on_regression $RUNNER_ARGS"
+  [ -z "$baseline" ] || args="--baseline=$baseline $args"
+  # shellcheck disable=SC2086
+  "$JAVA" -cp "$RUNNER_CLASSPATH" com.rstracker.loadtest.LoadTestRunner $args
+}
+
+FIRST_REPORT=""
+STATUS=0
+for mode in $THREAD_MODES; do
+  case "$mode" in
+    platform) virtual=false ;;
+    virtual) virtual=true ;;
+    *) echo "unknown thread mode: $mode" >&2; exit 1 ;;
+  esac
+  if [ "$virtual" = "true" ] && [ "${JAVA_MAJOR:-0}" -lt 21 ]; then
+    echo "Skipping virtual thread mode: requires JDK 21+ (found $JAVA_MAJOR)"
+    continue
+  fi
+
+  echo "== $mode threads =="
+  start_app "$virtual"
+  if [ -z "$FIRST_REPORT" ]; then
+    # 첫 번째 모드는 저장된 기준선과 비교
+    run_load_test "$mode" "$BASELINE" "$FAIL_ON_REGRESSION" || STATUS=$?
+    FIRST_REPORT="target/loadtest/$mode.json"
+  else
+    # 이후 모드는 첫 번째 모드 결과와 비교만 출력
+    run_load_test "$mode" "$FIRST_REPORT" false || STATUS=$?
+  fi
+  stop_app
+done
+exit "$STATUS"
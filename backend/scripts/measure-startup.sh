@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# 기동 시간 비교: 기본 프로필 vs fast-start 프로필 vs fast-start + CDS 아카이브
+#
+# 각 구성을 RUNS회 기동하여 "Started ... (process running for N)"의 JVM 기준 기동 시간을 수집하고
+# 중앙값을 Markdown 표로 출력합니다. GITHUB_STEP_SUMMARY가 있으면 CI 요약에도 기록합니다.
+# DB 접속 정보는 application.yml의 환경 변수(DB_USERNAME, DB_PASSWORD)를 따릅니다.
+#
+# 사용법: scripts/measure-startup.sh <boot-jar> <CDS 추출 디렉토리(app.jsa 포함)>
+# 환경 변수: JAVA (기본: java), RUNS (기본: 5), STARTUP_TIMEOUT (초, 기본: 120)
+
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "usage: $0 <boot-jar> <cds-dir>" >&2
+  exit 1
+fi
+
+BOOT_JAR="$1"
+CDS_DIR="$2"
+JAVA="${JAVA:-java}"
+RUNS="${RUNS:-5}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+export LEDGER_EPHEMERAL_KEY_ALLOWED="${LEDGER_EPHEMERAL_KEY_ALLOWED:-true}"  # 측정용 기동에는 원장 서명 키가 없음
+LOG_FILE="$(mktemp)"
+trap 'rm -f "$LOG_FILE"' EXIT
+
+# 한 번 기동하고 "process running for" 값을 출력합니다.
+measure_once() {
+  "$@" > "$LOG_FILE" 2>&1 &
+  local pid=$!
+  local waited=0
+  while ! grep -q "Started .* in .* seconds" "$LOG_FILE"; do
+    if ! kill -0 "$pid" 2>/dev/null || [ "$waited" -ge $((STARTUP_TIMEOUT * 10)) ]; then
+      kill "$pid" 2>/dev/null || true
+      echo "startup failed: $*" >&2
+      tail -n 30 "$LOG_FILE" >&2
+      return 1
+    fi
+    sleep 0.1
+    waited=$((waited + 1))
+  done
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  sed -n 's/.*Started .* (process running for \([0-9.]*\)).*/\1/p' "$LOG_FILE" | head -n 1
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { if (NR % 2) print values[(NR + 1) / 2]; else printf "%.3f\n", (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+  local label="$1"
+  shift
+  local samples=()
+  # 첫 실행은 파일 캐시 예열용으로 버립니다.
+  measure_once "$@" > /dev/null
+  for _ in $(seq "$RUNS"); do
+    samples+=("$(measure_once "$@")")
+  done
+  echo "| $label | $(printf '%s\n' "${samples[@]}" | median) | ${samples[*]} |"
+}
+
+REPORT="$(
+  echo "## Startup time (median of $RUNS runs, seconds)"
+  echo
+  echo "| Configuration | Median | Samples |"
+  echo "|---|---|---|"
+  measure "default" \
+    "$JAVA" -jar "$BOOT_JAR"
+  measure "fast-start" \
+    "$JAVA" -jar "$CDS_DIR/app.jar" --spring.profiles.active=fast-start
+  measure "fast-start + CDS" \
+    "$JAVA" -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -jar "$CDS_DIR/app.jar" --spring.profiles.active=fast-start
+)"
+
+echo "$REPORT"
+if [ -n "${GITHUB_STEP_SUMMARY:-}" ]; then
+  echo "$REPORT" >> "$GITHUB_STEP_SUMMARY"
+fi
@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+#
+# 참여자 흐름 스모크 테스트: 매칭 생성 → 참여(2명) → 답변 제출 → 기록 생성
+#
+# 주어진 명령으로 애플리케이션을 기동하고 로컬 PostgreSQL(application.yml의 datasource)에 대해
+# 전체 흐름을 실행한 뒤, 기동 시간과 흐름 실행 후 RSS를 출력합니다.
+# 네이티브 바이너리와 JVM 빌드를 같은 스크립트로 실행해 비교합니다.
+#
+# 사용법:
+#   scripts/native-smoke-test.sh target/rstracker-backend                       # 네이티브 (mvn -Pnative native:compile)
+#   scripts/native-smoke-test.sh java -jar target/rstracker-backend-1.0.0.jar   # JVM
+# 환경 변수: BASE_URL (기본: http://localhost:8080/api), ADMIN_USERNAME/ADMIN_PASSWORD, STARTUP_TIMEOUT (초, 기본: 120)
+# 필요 도구: curl, jq
+
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+  echo "usage: $0 <command...>" >&2
+  exit 1
+fi
+
+BASE_URL="${BASE_URL:-http://localhost:8080/api}"
+AUTH="${ADMIN_USERNAME:-admin}:${ADMIN_PASSWORD:-admin123}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+export LEDGER_EPHEMERAL_KEY_ALLOWED="${LEDGER_EPHEMERAL_KEY_ALLOWED:-true}"  # 스모크 테스트용 기동에는 원장 서명 키가 없음
+WORK_DIR="$(mktemp -d)"
+LOG_FILE="$WORK_DIR/app.log"
+COOKIES="$WORK_DIR/cookies"
+
+"$@" > "$LOG_FILE" 2>&1 &
+APP_PID=$!
+trap 'kill "$APP_PID" 2>/dev/null || true; rm -rf "$WORK_DIR"' EXIT
+
+fail() {
+  echo "FAILED: $1" >&2
+  tail -n 50 "$LOG_FILE" >&2
+  exit 1
+}
+
+# 기동 대기 (헬스 체크가 UP이 될 때까지)
+START_NANOS=$(date +%s%N)
+until curl -sf -u "$AUTH" "$BASE_URL/actuator/health" > /dev/null; do
+  kill -0 "$APP_PID" 2>/dev/null || fail "application exited during startup"
+  [ $(( ($(date +%s%N) - START_NANOS) / 1000000000 )) -lt "$STARTUP_TIMEOUT" ] || fail "startup timed out"
+  sleep 0.05
+done
+READY_MILLIS=$(( ($(date +%s%N) - START_NANOS) / 1000000 ))
+STARTED_LINE="$(grep -o "Started .* seconds ([^)]*)" "$LOG_FILE" || true)"
+
+# 기본 보안 설정은 CSRF가 켜져 있으므로 기본 로그인 페이지에서 토큰을 받아 세션 쿠키와 함께 보냅니다.
+CSRF_TOKEN="$(curl -sf -c "$COOKIES" "$BASE_URL/login" | sed -n 's/.*name="_csrf" type="hidden" value="\([^"]*\)".*/\1/p')"
+[ -n "$CSRF_TOKEN" ] || fail "could not obtain CSRF token"
+
+api() {
+  local method="$1" path="$2" body="${3:-}"
+  local args=(-sf -u "$AUTH" -b "$COOKIES" -H "X-CSRF-TOKEN: $CSRF_TOKEN" -X "$method")
+  if [ -n "$body" ]; then
+    args+=(-H "Content-Type: application/json" -d "$body")
+  fi
+  curl "${args[@]}" "$BASE_URL$path" || fail "$method $path"
+}
+
+# 기본 질문 데이터는 기동 후 비동기로 채워지므로 질문이 보일 때까지 대기
+for _ in $(seq 100); do
+  QUESTIONS="$(api GET /questions)"
+  [ "$(echo "$QUESTIONS" | jq 'length')" -gt 0 ] && break
+  sleep 0.1
+done
+[ "$(echo "$QUESTIONS" | jq 'length')" -gt 0 ] || fail "no active questions"
+
+FLOW_START_NANOS=$(date +%s%N)
+
+MATCHING="$(api POST /matching/create)"
+MATCHING_ID="$(echo "$MATCHING" | jq -r '.id')"
+CODE="$(echo "$MATCHING" | jq -r '.code')"
+
+FIRST="$(api POST "/matching/join/$CODE" | jq -r '.participantCode')"
+SECOND="$(api POST "/matching/join/$CODE" | jq -r '.participantCode')"
+[ "$(api GET "/matching/status/$CODE" | jq -r '.status')" = "established" ] || fail "matching not established"
+
+# 각 질문의 첫 번째 선택지로 응답
+ANSWERS="$(echo "$QUESTIONS" | jq -c '{answers: [.[] | {questionId: .id, choiceId: .choices[0].id}]}')"
+api POST "/answers/submit/$FIRST" "$ANSWERS" > /dev/null
+api POST "/answers/submit/$SECOND" "$ANSWERS" > /dev/null
+
+RECORD="$(api POST "/records/create/$MATCHING_ID")"
+RECORD_ID="$(echo "$RECORD" | jq -r '.recordId')"
+TEMPERATURE="$(echo "$RECORD" | jq -r '.temperature')"
+[ "$(api GET "/records/$RECORD_ID" | jq -r '.recordId')" = "$RECORD_ID" ] || fail "record not readable"
+
+FLOW_MILLIS=$(( ($(date +%s%N) - FLOW_START_NANOS) / 1000000 ))
+RSS_KB="$(awk '/^VmRSS:/ { print $2 }' "/proc/$APP_PID/status" 2>/dev/null || echo "n/a")"
+
+echo "OK: matching=$CODE record=$RECORD_ID temperature=$TEMPERATURE"
+echo "| Command | Ready (ms) | Flow (ms) | RSS after flow (MB) |"
+echo "|---|---|---|---|"
+echo "| \`$*\` | $READY_MILLIS | $FLOW_MILLIS | $(( ${RSS_KB/n\/a/0} / 1024 )) |"
+[ -z "$STARTED_LINE" ] || echo "$STARTED_LINE"
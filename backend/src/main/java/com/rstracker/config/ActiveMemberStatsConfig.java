@@ -0,0 +1,26 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.ActiveMemberRepository;
+import com.rstracker.service.stats.ActiveMemberSketcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 활동 멤버 스케치 갱신 작업 설정
+ *
+ * app.active-members.sketcher-enabled=false이면 새 참여/로그인이 스케치에 반영되지 않습니다.
+ * (조회는 그대로 동작하며, 다시 켠 뒤 빠진 기간은 재구축으로 채움)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.active-members.sketcher-enabled", havingValue = "true", matchIfMissing = true)
+public class ActiveMemberStatsConfig {
+
+    @Bean
+    public ActiveMemberSketcher activeMemberSketcher(ActiveMemberRepository activeMemberRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     ActiveMemberStatsProperties properties) {
+        return new ActiveMemberSketcher(activeMemberRepository, transactionManager, properties);
+    }
+}
@@ -0,0 +1,54 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 활동 멤버 수(DAU/WAU/MAU) 스케치 설정 Properties
+ * application.yml의 app.active-members에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.active-members")
+public class ActiveMemberStatsProperties {
+
+    /**
+     * 스케치 갱신 사용 여부 (false이면 새 참여/로그인이 반영되지 않음)
+     */
+    private boolean sketcherEnabled = true;
+
+    /**
+     * 참여자/로그인 시각을 읽어 스케치에 반영하는 간격
+     */
+    private Duration scanInterval = Duration.ofMinutes(1);
+
+    /**
+     * 이전 실행과 겹쳐 읽는 구간 (늦게 커밋된 참여를 놓치지 않도록, HLL은 같은 멤버를 다시 넣어도 값이 같음)
+     */
+    private Duration scanOverlap = Duration.ofMinutes(5);
+
+    /**
+     * 정확한 집계를 사용할 최대 기간 (일, 이보다 긴 기간은 스케치로 추정)
+     */
+    private int exactMaxDays = 7;
+
+    /**
+     * 정확한 집계용 날짜별 활동 멤버 보관 기간
+     */
+    private Duration exactRetention = Duration.ofDays(14);
+
+    /**
+     * 시작할 때 참여자/사용자 테이블로 과거 스케치를 채울지 여부
+     */
+    private boolean backfillOnStartup = false;
+
+    /**
+     * 읽을 때 커서에서 한 번에 가져올 행 수
+     */
+    private int fetchSize = 1000;
+}
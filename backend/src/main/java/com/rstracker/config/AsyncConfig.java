@@ -0,0 +1,26 @@
+package com.rstracker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ *
+ * 실행기는 따로 정의하지 않고 Spring Boot가 구성하는 applicationTaskExecutor를 사용합니다.
+ * - 기본: spring.task.execution.pool 설정을 따르는 플랫폼 스레드 풀
+ * - spring.threads.virtual.enabled=true (JDK 21+): 작업마다 가상 스레드를 생성하는 실행기
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("Async task failed: {}.{}", method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+}
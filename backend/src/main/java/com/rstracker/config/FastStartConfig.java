@@ -0,0 +1,42 @@
+package com.rstracker.config;
+
+import com.rstracker.controller.AnswerController;
+import com.rstracker.controller.MatchingController;
+import com.rstracker.controller.QuestionController;
+import com.rstracker.controller.RecordController;
+import com.rstracker.event.OutboxRelay;
+import com.rstracker.service.search.UserSearchIndex;
+import com.rstracker.service.similarity.RecordSimilarityIndex;
+import com.rstracker.service.stats.RecordPercentileIndex;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 빠른 기동 프로필 설정 (application-fast-start.yml)
+ *
+ * fast-start 프로필은 빈을 지연 초기화합니다. 다만 참여자 요청 경로(매칭, 답변, 질문 조회, 기록)는
+ * 첫 요청 지연을 없애기 위해 즉시 초기화하고, 이 빈들이 의존하는 JPA/Flyway도 함께 기동 시 준비됩니다.
+ * 결과적으로 관리자 전용 컨트롤러(UserController 등)와 문서화/관리용 빈만 첫 사용 시점으로 미뤄집니다.
+ * OutboxRelay는 @Scheduled가 빈 생성 시점에 등록되므로 즉시 초기화합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter participantPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MatchingController.class,
+                AnswerController.class,
+                QuestionController.class,
+                RecordController.class,
+                RateLimitInterceptor.class,
+                DataInitializer.class,
+                UserSearchIndex.class,
+                RecordPercentileIndex.class,
+                RecordSimilarityIndex.class,
+                OutboxRelay.class);
+    }
+}
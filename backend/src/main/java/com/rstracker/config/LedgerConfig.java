@@ -0,0 +1,32 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRootRepository;
+import com.rstracker.service.ledger.RecordLedgerAppender;
+import com.rstracker.service.ledger.RecordLedgerSigner;
+import com.rstracker.service.metrics.ServiceMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기록 원장 추가 작업 설정
+ *
+ * app.ledger.appender-enabled=false이면 기록은 계속 생성되지만 원장에 추가되지 않습니다. (다시 켜면 밀린 기록부터 추가)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.ledger.appender-enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerConfig {
+
+    @Bean
+    public RecordLedgerAppender recordLedgerAppender(RecordLedgerRepository recordLedgerRepository,
+                                                     RecordLedgerRootRepository recordLedgerRootRepository,
+                                                     RecordLedgerSigner recordLedgerSigner,
+                                                     PlatformTransactionManager transactionManager,
+                                                     LedgerProperties properties,
+                                                     ServiceMetrics serviceMetrics) {
+        return new RecordLedgerAppender(recordLedgerRepository, recordLedgerRootRepository, recordLedgerSigner,
+                transactionManager, properties, serviceMetrics);
+    }
+}
@@ -0,0 +1,96 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 기록 원장(머클 트리) 설정 Properties
+ * application.yml의 app.ledger에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.ledger")
+public class LedgerProperties {
+
+    /**
+     * 원장 추가 작업 사용 여부 (false이면 새 기록의 포함 증명을 만들 수 없음)
+     */
+    private boolean appenderEnabled = true;
+
+    /**
+     * 추가 대기 기록 확인 간격
+     */
+    private Duration appendInterval = Duration.ofSeconds(1);
+
+    /**
+     * 트랜잭션 하나에서 원장에 추가할 기록 수
+     */
+    private int batchSize = 2000;
+
+    /**
+     * 실행 한 번에 처리할 최대 배치 수
+     */
+    private int maxBatchesPerRun = 50;
+
+    /**
+     * 루트 서명 간격 (원장이 커졌을 때만 새 루트에 서명)
+     */
+    private Duration rootInterval = Duration.ofMinutes(1);
+
+    /**
+     * 루트 서명 키 (Ed25519 PKCS#8 DER, Base64)
+     * 비어 있으면 ephemeralKeyAllowed일 때만 시작할 때마다 새 키를 만들고, 아니면 기동에 실패합니다.
+     */
+    private String signingKey;
+
+    /**
+     * 서명 검증 키 (Ed25519 X.509 DER, Base64, signingKey와 한 쌍)
+     */
+    private String verificationKey;
+
+    /**
+     * 서명 키가 없을 때 임시 키 사용 허용 (로컬 개발/테스트 전용)
+     * 재시작하면 keyId가 바뀌어 이전 서명을 이 인스턴스의 키로 검증할 수 없으므로 운영에서는 켜지 않습니다.
+     */
+    private boolean ephemeralKeyAllowed = false;
+
+    /**
+     * 전체 검증 작업 사용 여부
+     */
+    private boolean verifierEnabled = true;
+
+    /**
+     * 진행 중인 검증 재개/새 검증 시작 여부 확인 간격
+     */
+    private Duration verificationCheckInterval = Duration.ofMinutes(10);
+
+    /**
+     * 새 전체 검증을 시작하는 간격 (마지막 검증 시작 시각 기준)
+     */
+    private Duration verificationInterval = Duration.ofDays(1);
+
+    /**
+     * 검증 청크 하나가 덮는 records.id 수 (청크마다 체크포인트를 남김)
+     */
+    private int verificationChunkSize = 10000;
+
+    /**
+     * 동시에 검증할 청크 수 (청크마다 DB 커넥션 하나 사용)
+     */
+    private int verificationParallelism = 2;
+
+    /**
+     * 초당 최대 검증 기록 수 (모든 청크 합계, 0이면 제한 없음)
+     */
+    private int verificationMaxRecordsPerSecond = 20000;
+
+    /**
+     * 커서에서 한 번에 가져올 행 수
+     */
+    private int verificationFetchSize = 1000;
+}
@@ -0,0 +1,31 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerVerificationRepository;
+import com.rstracker.service.ledger.RecordLedgerVerifier;
+import com.rstracker.service.metrics.ServiceMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기록 원장 전체 검증 작업 설정
+ *
+ * app.ledger.verifier-enabled=false이면 검증 작업을 만들지 않습니다. (다시 켜면 중단된 검증부터 이어서 실행)
+ * 검증 실행 스레드는 검증 작업이 직접 소유하므로 스케줄러 스레드를 붙잡지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.ledger.verifier-enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerVerificationConfig {
+
+    @Bean(destroyMethod = "close")
+    public RecordLedgerVerifier recordLedgerVerifier(RecordLedgerRepository recordLedgerRepository,
+                                                     RecordLedgerVerificationRepository verificationRepository,
+                                                     PlatformTransactionManager transactionManager,
+                                                     LedgerProperties properties,
+                                                     ServiceMetrics serviceMetrics) {
+        return new RecordLedgerVerifier(recordLedgerRepository, verificationRepository,
+                transactionManager, properties, serviceMetrics);
+    }
+}
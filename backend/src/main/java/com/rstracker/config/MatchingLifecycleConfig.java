@@ -0,0 +1,31 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.MatchingArchiveRepository;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.service.MatchingSweeper;
+import com.rstracker.service.metrics.ServiceMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 매칭 만료/보관 스위퍼 설정
+ *
+ * app.matching-lifecycle.sweeper-enabled=false이면 스위퍼를 만들지 않습니다.
+ * (만료 상태 검사 등 서비스 동작은 스위퍼와 관계없이 유지)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.matching-lifecycle.sweeper-enabled", havingValue = "true", matchIfMissing = true)
+public class MatchingLifecycleConfig {
+
+    @Bean
+    public MatchingSweeper matchingSweeper(MatchingArchiveRepository matchingArchiveRepository,
+                                           MonthlyPartitionRepository monthlyPartitionRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           MatchingLifecycleProperties properties,
+                                           ServiceMetrics serviceMetrics) {
+        return new MatchingSweeper(matchingArchiveRepository, monthlyPartitionRepository,
+                transactionManager, properties, serviceMetrics);
+    }
+}
@@ -0,0 +1,59 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 매칭 만료/보관 설정 Properties
+ * application.yml의 app.matching-lifecycle에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.matching-lifecycle")
+public class MatchingLifecycleProperties {
+
+    /**
+     * 스위퍼(만료/보관 작업) 사용 여부
+     */
+    private boolean sweeperEnabled = true;
+
+    /**
+     * 스위퍼 실행 간격
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * 생성 후 이 시간이 지나도 종료되지 않은 waiting/established 매칭을 만료
+     */
+    private Duration expireAfter = Duration.ofHours(24);
+
+    /**
+     * 종료 세션 보관(원본 테이블에서 보관 테이블로 이동) 사용 여부
+     */
+    private boolean archiveEnabled = true;
+
+    /**
+     * 완료 후 이 기간이 지난 completed 세션을 보관
+     */
+    private Duration archiveCompletedAfter = Duration.ofDays(90);
+
+    /**
+     * 만료 후 이 기간이 지난 expired 세션을 보관 (그 전까지는 코드로 조회하면 만료 상태가 보임)
+     */
+    private Duration archiveExpiredAfter = Duration.ofDays(7);
+
+    /**
+     * 트랜잭션 하나에서 처리할 매칭 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 실행 한 번에 처리할 최대 배치 수 (남은 대상은 다음 실행에서 처리)
+     */
+    private int maxBatchesPerRun = 20;
+}
@@ -0,0 +1,29 @@
+package com.rstracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서비스 계층 지표 설정
+ *
+ * 서비스 클래스에 선언한 @Timed("rstracker.service")를 TimedAspect가 처리하여
+ * 메서드별(class, method, exception 태그) 타이머와 백분위 히스토그램을 기록합니다.
+ * app.metrics.enabled=false(APP_METRICS_ENABLED)이면 애스펙트가 등록되지 않아 @Timed는 동작하지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = MetricsConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    public static final String ENABLED_PROPERTY = "app.metrics.enabled";
+
+    /** 서비스 메서드 타이머 이름 */
+    public static final String SERVICE_TIMER = "rstracker.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
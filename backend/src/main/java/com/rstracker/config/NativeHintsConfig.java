@@ -0,0 +1,83 @@
+package com.rstracker.config;
+
+import com.rstracker.dto.AnswerSelectionDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.UserDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+/**
+ * GraalVM 네이티브 이미지용 런타임 힌트 (mvn -Pnative native:compile)
+ *
+ * Spring AOT가 빈 정의, JPA 엔티티, 컨트롤러의 요청/응답 타입은 자동으로 처리하므로
+ * 여기서는 AOT가 알 수 없는 부분만 등록합니다.
+ * - DTO: 컨트롤러 시그니처에 직접 드러나지 않는 중첩 DTO까지 Jackson 바인딩 힌트 등록
+ * - 도메인 이벤트: 아웃박스 payload(jsonb)와 이벤트 객체 사이의 Jackson 변환
+ * - 프로젝션 DTO: JPQL 생성자 표현식(SELECT new ...)을 Hibernate가 리플렉션으로 호출
+ * - Record.summary(jsonb, @JdbcTypeCode): Hibernate가 ClassLoader로 Jackson 존재 여부를 확인한 뒤 FormatMapper를 생성
+ * - iText: 폰트 메트릭(AFM), 글리프 목록, CMap을 클래스패스 리소스 이름으로 로드
+ *
+ * bucket4j는 리플렉션을 쓰지 않고 버킷도 @Bean 메서드로 생성되므로 AOT 생성 코드로 충분하며,
+ * ZXing의 문자셋 조회는 힌트 대신 빌드 인자(-H:+AddAllCharsets, pom.xml native 프로필)로 처리합니다.
+ * logback-spring.xml에서 참조하는 클래스(com.rstracker.config.logging)는 Spring Boot가 AOT 처리 중 설정 모델과 함께 힌트를 등록합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static final String DTO_PACKAGE = "com.rstracker.dto";
+    static final String EVENT_PACKAGE = "com.rstracker.event";
+    static final Class<?>[] PROJECTION_TYPES = {
+            RecordDto.class, MatchingDto.class, UserDto.class, AnswerSelectionDto.class
+    };
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerBindingHints(hints, classLoader, DTO_PACKAGE);
+            registerBindingHints(hints, classLoader, EVENT_PACKAGE);
+            registerProjectionHints(hints);
+            registerJsonbHints(hints);
+            registerITextResources(hints);
+        }
+
+        private void registerBindingHints(RuntimeHints hints, ClassLoader classLoader, String basePackage) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+
+        private void registerProjectionHints(RuntimeHints hints) {
+            for (Class<?> type : PROJECTION_TYPES) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+        }
+
+        private void registerJsonbHints(RuntimeHints hints) {
+            // org.hibernate.type.format.jackson.JacksonIntegration이 loadClass로 확인하는 타입
+            hints.reflection().registerType(TypeReference.of("com.fasterxml.jackson.databind.ObjectMapper"));
+        }
+
+        private void registerITextResources(RuntimeHints hints) {
+            hints.resources()
+                    .registerPattern("com/itextpdf/io/font/AdobeGlyphList.txt")
+                    .registerPattern("com/itextpdf/io/font/afm/*")
+                    .registerPattern("com/itextpdf/io/font/cmap/*");
+        }
+    }
+}
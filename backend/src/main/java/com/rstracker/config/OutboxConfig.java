@@ -0,0 +1,30 @@
+package com.rstracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.event.OutboxRelay;
+import com.rstracker.repository.OutboxEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 아웃박스 릴레이 설정
+ *
+ * 이벤트 기록(DomainEventPublisher)은 항상 동작하고, 폴링/발행만 app.outbox.relay-enabled로 켜고 끕니다.
+ * 리스너 실행 풀은 릴레이가 직접 소유하므로 applicationTaskExecutor(@Async)와 분리됩니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   ObjectMapper objectMapper,
+                                   OutboxProperties properties) {
+        return new OutboxRelay(outboxEventRepository, transactionManager, eventPublisher, objectMapper, properties);
+    }
+}
@@ -0,0 +1,60 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 릴레이 설정 Properties
+ * application.yml의 app.outbox에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * 릴레이(폴링/발행) 사용 여부 (false여도 이벤트 기록은 계속됨)
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * 폴링 간격
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * 한 번에 잠그고 발행할 이벤트 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 최대 전달 시도 횟수 (초과한 이벤트는 last_error와 함께 남겨둠)
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * 배치 하나의 리스너 처리 대기 시간 (넘으면 끝나지 않은 전달은 취소하고 다음 폴링에서 재시도)
+     * 이벤트 선점 기한은 이 값의 2배이며, 그 안에 결과를 반영하지 못하면 다른 릴레이가 다시 가져갑니다.
+     */
+    private Duration batchTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 리스너 실행 스레드 수
+     */
+    private int dispatcherThreads = 4;
+
+    /**
+     * 리스너 실행 대기열 크기 (가득 차면 넘치는 이벤트는 미완료로 두고 다음 폴링에서 재시도)
+     */
+    private int dispatcherQueueCapacity = 1000;
+
+    /**
+     * 발행 완료 이벤트 보관 기간
+     */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,25 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.service.RecordPartitionMaintainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 월별 파티션 자동 생성 설정
+ *
+ * app.partitioning.maintenance-enabled=false이면 다음 달 이후 기록 파티션을 직접 만들어야 합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.partitioning.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class PartitioningConfig {
+
+    @Bean
+    public RecordPartitionMaintainer recordPartitionMaintainer(MonthlyPartitionRepository monthlyPartitionRepository,
+                                                               PlatformTransactionManager transactionManager,
+                                                               PartitioningProperties properties) {
+        return new RecordPartitionMaintainer(monthlyPartitionRepository, transactionManager, properties);
+    }
+}
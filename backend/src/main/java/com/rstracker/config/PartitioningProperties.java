@@ -0,0 +1,34 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 월별 파티션 관리 설정 Properties
+ * application.yml의 app.partitioning에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.partitioning")
+public class PartitioningProperties {
+
+    /**
+     * 기록(records) 파티션 자동 생성 사용 여부
+     */
+    private boolean maintenanceEnabled = true;
+
+    /**
+     * 파티션 확인 간격 (애플리케이션 시작 시 한 번 실행 후 이 간격마다 실행)
+     */
+    private Duration maintenanceInterval = Duration.ofHours(6);
+
+    /**
+     * 이번 달 이후 미리 만들어 둘 월 수 (파티션이 없는 달의 기록은 저장할 수 없음)
+     */
+    private int monthsAhead = 3;
+}
@@ -0,0 +1,67 @@
+package com.rstracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 요청 단위 SQL 예산 추적 설정
+ *
+ * QueryBudgetTracker를 Hibernate StatementInspector와 POST_LOAD 이벤트 리스너로 등록하고,
+ * WebConfig가 등록할 QueryBudgetInterceptor를 제공합니다.
+ * app.query-budget.enabled=false이면 Hibernate 설정과 인터셉터 모두 등록하지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    @Bean
+    public QueryBudgetTracker queryBudgetTracker() {
+        return new QueryBudgetTracker();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryBudgetHibernateCustomizer(QueryBudgetTracker tracker) {
+        Integrator postLoadIntegrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                sessionFactory.getServiceRegistry()
+                        .getService(EventListenerRegistry.class)
+                        .appendListeners(EventType.POST_LOAD, tracker);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, tracker);
+            hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(postLoadIntegrator));
+        };
+    }
+
+    @Bean
+    public QueryBudgetInterceptor queryBudgetInterceptor(QueryBudgetProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry,
+                                                         @Value("${app.metrics.enabled:true}") boolean metricsEnabled) {
+        return new QueryBudgetInterceptor(properties, metricsEnabled ? meterRegistry.getIfAvailable() : null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.rstracker.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 예산 인터셉터
+ *
+ * 컨트롤러 메서드 호출 전에 {@link QueryBudgetTracker} 범위를 열고, 응답 작성까지 끝난 뒤
+ * SQL 문 수와 로드 엔티티 수를 핸들러(컨트롤러.메서드) 태그로 기록합니다.
+ * 예산을 넘거나 같은 SQL이 반복되면(N+1 의심) 경고 로그와 카운터를 남깁니다.
+ */
+@Slf4j
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    public static final String STATEMENTS = "rstracker.request.statements";
+    public static final String ENTITIES_LOADED = "rstracker.request.entities.loaded";
+    public static final String BUDGET_EXCEEDED = "rstracker.request.query.budget.exceeded";
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".scope";
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param meterRegistry 지표를 기록하지 않으려면 null
+     */
+    public QueryBudgetInterceptor(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            String tag = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryBudgetTracker.start(tag, false));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryBudgetTracker.Scope scope)) {
+            return;
+        }
+        scope.close();
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        record(scope, request.getRequestURI());
+    }
+
+    void record(QueryBudgetTracker.Scope scope, String uri) {
+        String handler = scope.getTag();
+        int maxStatements = properties.maxStatementsFor(handler);
+        boolean statementsExceeded = scope.getStatementCount() > maxStatements;
+        boolean entitiesExceeded = scope.getEntitiesLoaded() > properties.getMaxEntitiesLoaded();
+
+        if (statementsExceeded || entitiesExceeded) {
+            log.warn("Query budget exceeded: handler={}, uri={}, statements={}/{}, entitiesLoaded={}/{}",
+                    handler, uri, scope.getStatementCount(), maxStatements,
+                    scope.getEntitiesLoaded(), properties.getMaxEntitiesLoaded());
+        }
+        Map.Entry<String, Integer> repeated = scope.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= properties.getRepeatedStatementThreshold()) {
+            log.warn("Possible N+1: handler={}, uri={}, same statement prepared {} times: {}",
+                    handler, uri, repeated.getValue(), repeated.getKey());
+        }
+
+        if (meterRegistry == null) {
+            return;
+        }
+        DistributionSummary.builder(STATEMENTS)
+                .description("SQL statements prepared per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(scope.getStatementCount());
+        DistributionSummary.builder(ENTITIES_LOADED)
+                .description("Entities loaded per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(scope.getEntitiesLoaded());
+        if (statementsExceeded || entitiesExceeded) {
+            Counter.builder(BUDGET_EXCEEDED)
+                    .description("Requests that exceeded the statement or entity budget")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
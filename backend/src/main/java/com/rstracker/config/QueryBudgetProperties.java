@@ -0,0 +1,51 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 예산 설정 Properties
+ * application.yml의 app.query-budget에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    /**
+     * 요청 단위 SQL 추적 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청당 허용 SQL 문 수 (기본값)
+     */
+    private int maxStatements = 15;
+
+    /**
+     * 요청당 허용 로드 엔티티 수
+     */
+    private int maxEntitiesLoaded = 1000;
+
+    /**
+     * 같은 SQL이 이 횟수 이상 반복되면 N+1 의심으로 경고
+     */
+    private int repeatedStatementThreshold = 5;
+
+    /**
+     * 핸들러별 허용 SQL 문 수
+     * Key: 컨트롤러.메서드 (예: "[RecordController.getRecords]")
+     * Value: 허용 SQL 문 수
+     */
+    private Map<String, Integer> handlers = new HashMap<>();
+
+    public int maxStatementsFor(String handler) {
+        return handlers.getOrDefault(handler, maxStatements);
+    }
+}
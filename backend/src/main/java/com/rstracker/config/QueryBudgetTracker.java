@@ -0,0 +1,119 @@
+package com.rstracker.config;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 수 추적기
+ *
+ * Hibernate StatementInspector로 준비(prepare)되는 SQL 문을, POST_LOAD 이벤트로 로드된 엔티티 수(가져온 행 수)를 셉니다.
+ * 집계 범위는 스레드 단위 {@link Scope}이며, HTTP 요청은 {@link QueryBudgetInterceptor}가,
+ * 테스트는 QueryCountAssertions가 범위를 엽니다. 열린 범위가 없으면 아무것도 기록하지 않습니다.
+ */
+public class QueryBudgetTracker implements StatementInspector, PostLoadEventListener {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 집계 범위 시작 (이미 열린 범위가 있으면 닫을 때 복원)
+     *
+     * @param tag 범위 이름 (예: RecordController.createRecord)
+     * @param captureStatements 실행된 SQL 문을 순서대로 보관할지 여부 (진단/테스트용)
+     */
+    public static Scope start(String tag, boolean captureStatements) {
+        Scope scope = new Scope(tag, captureStatements, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statementPrepared(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.entitiesLoaded++;
+        }
+    }
+
+    /**
+     * 스레드 단위 집계 범위
+     */
+    public static class Scope implements AutoCloseable {
+
+        private final String tag;
+        private final Scope previous;
+        private final List<String> statements;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+        private int statementCount;
+        private int entitiesLoaded;
+
+        private Scope(String tag, boolean captureStatements, Scope previous) {
+            this.tag = tag;
+            this.previous = previous;
+            this.statements = captureStatements ? new ArrayList<>() : null;
+        }
+
+        private void statementPrepared(String sql) {
+            statementCount++;
+            // 반복 INSERT/UPDATE(IDENTITY 키 저장 등)는 정상이므로 조회문만 반복 횟수를 셉니다.
+            if (sql.regionMatches(true, 0, "select", 0, 6)) {
+                countsBySql.merge(sql, 1, Integer::sum);
+            }
+            if (statements != null) {
+                statements.add(sql);
+            }
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public int getEntitiesLoaded() {
+            return entitiesLoaded;
+        }
+
+        /**
+         * 실행된 SQL 문 (captureStatements=true일 때만)
+         */
+        public List<String> getStatements() {
+            return statements == null ? Collections.emptyList() : Collections.unmodifiableList(statements);
+        }
+
+        /**
+         * 가장 많이 반복된 조회 SQL과 그 횟수 (N+1 의심 판단용, 없으면 null)
+         */
+        public Map.Entry<String, Integer> mostRepeatedStatement() {
+            return countsBySql.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.rstracker.config;
 
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,17 +10,21 @@ import java.time.Duration;
 
 /**
  * API Rate Limiting 설정
- * 기본적으로 분당 100회 요청 제한
+ * 기본적으로 분당 100회 요청 제한 (app.rate-limit.requests-per-minute)
  */
 @Configuration
+@RequiredArgsConstructor
 public class RateLimitConfig {
     
+    private final RateLimitProperties rateLimitProperties;
+    
     @Bean(name = "apiRateLimitBucket")
     public Bucket apiRateLimitBucket() {
-        // 분당 100회 요청 제한
+        // 분당 요청 제한 (기본 100회)
+        long requestsPerMinute = rateLimitProperties.getRequestsPerMinute();
         Bandwidth limit = Bandwidth.builder()
-                .capacity(100)
-                .refillIntervally(100, Duration.ofMinutes(1))
+                .capacity(requestsPerMinute)
+                .refillIntervally(requestsPerMinute, Duration.ofMinutes(1))
                 .build();
         return Bucket.builder()
                 .addLimit(limit)
@@ -28,10 +33,11 @@ public class RateLimitConfig {
     
     @Bean(name = "matchingCreateRateLimitBucket")
     public Bucket matchingCreateRateLimitBucket() {
-        // 매칭 생성: 분당 10회 제한
+        // 매칭 생성: 분당 제한 (기본 10회)
+        long matchingCreatePerMinute = rateLimitProperties.getMatchingCreatePerMinute();
         Bandwidth limit = Bandwidth.builder()
-                .capacity(10)
-                .refillIntervally(10, Duration.ofMinutes(1))
+                .capacity(matchingCreatePerMinute)
+                .refillIntervally(matchingCreatePerMinute, Duration.ofMinutes(1))
                 .build();
         return Bucket.builder()
                 .addLimit(limit)
@@ -0,0 +1,27 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * API Rate Limiting 설정 Properties
+ * application.yml의 app.rate-limit에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 전체 API 분당 요청 수 (부하 테스트에서는 API_RATE_LIMIT_PER_MINUTE로 크게 설정)
+     */
+    private long requestsPerMinute = 100;
+
+    /**
+     * 매칭 생성 분당 요청 수
+     */
+    private long matchingCreatePerMinute = 10;
+}
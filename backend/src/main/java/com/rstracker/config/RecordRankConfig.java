@@ -0,0 +1,22 @@
+package com.rstracker.config;
+
+import com.rstracker.service.stats.RecordPercentileIndex;
+import com.rstracker.service.stats.RecordRankRefresher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기록 온도 백분위 색인 재구축 작업 설정
+ *
+ * app.record-rank.refresh-enabled=false이면 기동 시 한 번만 만들고 이후에는 이 인스턴스의 변경만 반영합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.record-rank.refresh-enabled", havingValue = "true", matchIfMissing = true)
+public class RecordRankConfig {
+
+    @Bean
+    public RecordRankRefresher recordRankRefresher(RecordPercentileIndex recordPercentileIndex) {
+        return new RecordRankRefresher(recordPercentileIndex);
+    }
+}
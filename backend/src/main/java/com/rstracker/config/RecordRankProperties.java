@@ -0,0 +1,49 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 기록 온도 백분위 순위 설정 Properties
+ * application.yml의 app.record-rank에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.record-rank")
+public class RecordRankProperties {
+
+    /**
+     * 히스토그램 최저 온도 (이보다 낮은 온도는 최저 구간에 포함)
+     */
+    private double minTemperature = 0.0;
+
+    /**
+     * 히스토그램 최고 온도 (이보다 높은 온도는 최고 구간에 포함)
+     */
+    private double maxTemperature = 1.0;
+
+    /**
+     * 구간 수 (해상도 = (최고 - 최저) / 구간 수)
+     */
+    private int bins = 10_000;
+
+    /**
+     * 주기적 재구축 사용 여부 (다른 인스턴스에서 생성/비활성화된 기록 반영)
+     */
+    private boolean refreshEnabled = true;
+
+    /**
+     * 재구축 간격
+     */
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    /**
+     * 재구축 시 커서에서 한 번에 가져올 행 수
+     */
+    private int fetchSize = 5000;
+}
@@ -0,0 +1,22 @@
+package com.rstracker.config;
+
+import com.rstracker.service.similarity.RecordSimilarityIndex;
+import com.rstracker.service.similarity.RecordSimilarityRefresher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 유사 기록 색인 재구축 작업 설정
+ *
+ * app.record-similarity.refresh-enabled=false이면 기동 시 한 번만 만들고 이후에는 이 인스턴스의 변경만 반영합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.record-similarity.refresh-enabled", havingValue = "true", matchIfMissing = true)
+public class RecordSimilarityConfig {
+
+    @Bean
+    public RecordSimilarityRefresher recordSimilarityRefresher(RecordSimilarityIndex recordSimilarityIndex) {
+        return new RecordSimilarityRefresher(recordSimilarityIndex);
+    }
+}
@@ -0,0 +1,40 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 유사 기록 색인 설정 Properties
+ * application.yml의 app.record-similarity에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.record-similarity")
+public class RecordSimilarityProperties {
+
+    /**
+     * 응답 벡터에 넣을 질문 순서 (최대 8개, 질문당 선택지 8개까지)
+     */
+    private List<Integer> questionOrders = List.of(1, 2, 3, 4, 5, 6);
+
+    /**
+     * 주기적 재구축 사용 여부 (다른 인스턴스에서 생성/비활성화된 기록과 질문 카탈로그 변경 반영)
+     */
+    private boolean refreshEnabled = true;
+
+    /**
+     * 재구축 간격
+     */
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    /**
+     * 재구축 시 커서에서 한 번에 가져올 행 수
+     */
+    private int fetchSize = 5000;
+}
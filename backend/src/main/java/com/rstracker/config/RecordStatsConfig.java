@@ -0,0 +1,26 @@
+package com.rstracker.config;
+
+import com.rstracker.repository.RecordStatsRepository;
+import com.rstracker.service.stats.RecordStatsSketcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기록 온도 스케치 갱신 작업 설정
+ *
+ * app.record-stats.sketcher-enabled=false이면 새 기록이 스케치에 반영되지 않습니다.
+ * (백분위 조회는 그대로 동작하며, 다시 켠 뒤 빠진 기간은 재구축으로 채움)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.record-stats.sketcher-enabled", havingValue = "true", matchIfMissing = true)
+public class RecordStatsConfig {
+
+    @Bean
+    public RecordStatsSketcher recordStatsSketcher(RecordStatsRepository recordStatsRepository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   RecordStatsProperties properties) {
+        return new RecordStatsSketcher(recordStatsRepository, transactionManager, properties);
+    }
+}
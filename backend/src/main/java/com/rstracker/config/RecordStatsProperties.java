@@ -0,0 +1,54 @@
+package com.rstracker.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 기록 온도 백분위 스케치 설정 Properties
+ * application.yml의 app.record-stats에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.record-stats")
+public class RecordStatsProperties {
+
+    /**
+     * 스케치 갱신 사용 여부 (false이면 새 기록이 스케치에 반영되지 않음)
+     */
+    private boolean sketcherEnabled = true;
+
+    /**
+     * 반영 대기 기록을 스케치에 합치는 간격
+     */
+    private Duration flushInterval = Duration.ofSeconds(10);
+
+    /**
+     * 트랜잭션 하나에서 반영할 기록 수
+     */
+    private int batchSize = 1000;
+
+    /**
+     * 실행 한 번에 처리할 최대 배치 수
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 반영 완료 기록 보관 기간 (이 기간 안에 다시 전달된 이벤트는 중복 반영되지 않음)
+     */
+    private Duration inboxRetention = Duration.ofDays(1);
+
+    /**
+     * 시작할 때 과거 기록으로 어제까지의 스케치를 다시 만들지 여부
+     */
+    private boolean backfillOnStartup = false;
+
+    /**
+     * 재구축 시 커서에서 한 번에 가져올 행 수
+     */
+    private int backfillFetchSize = 1000;
+}
@@ -0,0 +1,18 @@
+package com.rstracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 설정
+ *
+ * 아웃박스 릴레이, 매칭 스위퍼, 원장 추가/검증, 통계 스케치 반영, 색인 갱신 같은 @Scheduled 작업은
+ * 모두 Spring Boot가 구성하는 taskScheduler 하나에서 실행됩니다. 작업별 사용 여부는 각 작업의 설정 클래스에서 정합니다.
+ * - 기본: spring.task.scheduling.pool.size개 플랫폼 스레드 (Spring Boot 기본값 1이면 오래 걸리는 작업 하나가 나머지를 모두 멈춤)
+ * - spring.threads.virtual.enabled=true (JDK 21+): 실행마다 가상 스레드
+ * 한 번에 오래 실행되는 작업(원장 전체 검증)은 스케줄러 스레드를 잡지 않도록 자체 실행기로 넘깁니다.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -25,6 +25,11 @@ public class TemperatureCalculationProperties {
      */
     private Map<Integer, Double> questionWeights = new HashMap<>();
     
+    /**
+     * 계산 전략 (weighted: 응답마다 가중 평균, lookup: 응답 조합별 온도표)
+     */
+    private String strategy = "weighted";
+    
     public TemperatureCalculationProperties() {
         // 기본값 설정 (질문 세트 v1 기준)
         questionWeights.put(3, 3.0);  // Q3 분위기
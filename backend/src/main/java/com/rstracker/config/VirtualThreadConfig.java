@@ -0,0 +1,48 @@
+package com.rstracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * 가상 스레드 모드 설정 (opt-in)
+ *
+ * spring.threads.virtual.enabled=true이고 JDK 21 이상에서 실행될 때만 활성화됩니다.
+ * 이 경우 Spring Boot가 Tomcat 요청 처리와 applicationTaskExecutor(@Async)를
+ * 가상 스레드로 전환하며, 이 설정은 Hikari 풀 앞에 커넥션 획득 세마포어를 추가합니다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * 동시 커넥션 획득 수 (기본값: Hikari maximum-pool-size)
+     */
+    static final String CONNECTION_PERMITS_PROPERTY = "app.datasource.connection-permits";
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            @NonNull
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+                int permits = environment.getProperty(CONNECTION_PERMITS_PROPERTY, Integer.class,
+                        hikariDataSource.getMaximumPoolSize());
+                long timeoutMillis = hikariDataSource.getConnectionTimeout();
+                log.info("Virtual threads enabled: limiting concurrent connection acquisition to {} (timeout {}ms)",
+                        permits, timeoutMillis);
+                return new ConnectionLimitingDataSource(hikariDataSource, permits, timeoutMillis);
+            }
+        };
+    }
+}
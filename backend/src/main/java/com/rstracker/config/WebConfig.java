@@ -1,6 +1,7 @@
 package com.rstracker.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -14,6 +15,9 @@ public class WebConfig implements WebMvcConfigurer {
     @NonNull
     private final RateLimitInterceptor rateLimitInterceptor;
 
+    @NonNull
+    private final ObjectProvider<QueryBudgetInterceptor> queryBudgetInterceptor;
+
     @Override
     public void addCorsMappings(@NonNull CorsRegistry registry) {
         registry.addMapping("/**")
@@ -29,6 +33,11 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(rateLimitInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns("/actuator/**", "/health");
+
+        // 요청 단위 SQL 예산 추적 (app.query-budget.enabled=false이면 빈이 없음)
+        queryBudgetInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/actuator/**"));
     }
 }
 
@@ -0,0 +1,92 @@
+package com.rstracker.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * 읽기 복제본 라우팅 설정 (opt-in: app.datasource.replica.enabled=true)
+ *
+ * primary(spring.datasource.*)와 복제본(app.datasource.replica.*)에 각각 Hikari 풀을 만들고,
+ * JPA/JdbcTemplate이 쓰는 기본 DataSource를 {@link ReplicaRoutingDataSource}로 교체합니다.
+ * Flyway는 항상 primary 풀을 사용합니다.
+ * 단일 인스턴스로 시험할 때는 복제본 URL을 같은 DB에 읽기 전용 옵션으로 지정합니다. (PRODUCTION_GUIDE 참고)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    public static final String REPLICA_LAG = "rstracker.datasource.replica.lag";
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties, ReadReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(primaryProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replicaProperties.getUsername())
+                ? replicaProperties.getUsername() : primaryProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replicaProperties.getPassword())
+                ? replicaProperties.getPassword() : primaryProperties.determinePassword());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReadReplicaProperties properties) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.getMaxLag(), properties.getLagCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadReplicaProperties properties,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${app.metrics.enabled:true}") boolean metricsEnabled) {
+        MeterRegistry registry = metricsEnabled ? meterRegistry.getIfAvailable() : null;
+        if (registry != null) {
+            Gauge.builder(REPLICA_LAG, lagMonitor, ReplicaLagMonitor::getLagSeconds)
+                    .description("Replication lag of the read replica in seconds (NaN when unreachable)")
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource,
+                lagMonitor, new ReadYourWritesTracker(properties.getStickyWindow()), registry);
+
+        // 트랜잭션 속성(readOnly)이 정해진 뒤 첫 SQL 실행 시점에 라우팅하도록 실제 커넥션 획득을 늦춤
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+}
@@ -0,0 +1,55 @@
+package com.rstracker.config.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 설정 Properties
+ * application.yml의 app.datasource.replica에서 설정합니다.
+ * 복제본 커넥션 풀(Hikari) 설정은 app.datasource.replica.hikari 아래에 둡니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 읽기 복제본 라우팅 사용 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 JDBC URL
+     */
+    private String url;
+
+    /**
+     * 복제본 계정 (비어 있으면 spring.datasource.username)
+     */
+    private String username;
+
+    /**
+     * 복제본 비밀번호 (비어 있으면 spring.datasource.password)
+     */
+    private String password;
+
+    /**
+     * 허용 복제 지연 (초과하면 읽기도 primary로 보냄)
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연 확인 주기
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    /**
+     * 쓰기 후 같은 클라이언트의 읽기를 primary로 고정하는 시간 (read-your-writes)
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+}
@@ -0,0 +1,96 @@
+package com.rstracker.config.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 읽기의 primary 고정 (read-your-writes)
+ *
+ * 쓰기 트랜잭션이 커밋되면 같은 요청의 이후 읽기를 primary로 보내고, 응답에 만료 시각 쿠키를 붙여
+ * 같은 클라이언트(방금 응답을 제출한 참여자 등)의 다음 요청도 stickyWindow 동안 primary에서 읽게 합니다.
+ * 쿠키에 상태를 두므로 인스턴스가 여러 대여도 동작합니다. HTTP 요청 밖(비동기 작업 등)에서는 관여하지 않습니다.
+ */
+public class ReadYourWritesTracker {
+
+    static final String COOKIE_NAME = "RS_READ_PRIMARY_UNTIL";
+
+    private static final String WRITTEN_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".written";
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 primary 고정을 시작하도록 등록
+     */
+    public void registerWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten();
+            }
+        });
+    }
+
+    /**
+     * 현재 요청의 읽기를 primary로 보내야 하는지 여부
+     */
+    public boolean mustReadPrimary() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        if (attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+        return stickyUntil(attributes.getRequest()) > System.currentTimeMillis();
+    }
+
+    void markWritten() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+        attributes.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(System.currentTimeMillis() + stickyWindow.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+        response.addCookie(cookie);
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.rstracker.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제 지연 감시
+ *
+ * 전용 스레드에서 주기적으로 복제본의 재생 지연을 조회해 복제본 사용 가능 여부를 갱신합니다.
+ * 요청 스레드는 마지막 결과만 읽으므로 복제본이 느리거나 내려가도 요청이 막히지 않습니다.
+ * 첫 확인 전, 조회 실패, 허용 지연 초과 시에는 사용 불가로 보고 읽기를 primary로 보냅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    /**
+     * 복제 지연(초) 조회
+     * 복구 모드가 아니면(단일 인스턴스 대체) 0, 받은 WAL을 모두 재생했으면 0,
+     * 그 외에는 마지막으로 재생한 트랜잭션 이후 경과 시간
+     */
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final DataSource replicaDataSource;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService executor;
+
+    private volatile boolean replicaAvailable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkInterval) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * 마지막으로 확인한 복제 지연(초), 확인 실패 시 NaN
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void check() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lag = resultSet.getDouble(1);
+            lagSeconds = lag;
+            update(lag <= maxLagSeconds, "lag " + lag + "s");
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            update(false, e.getMessage());
+        }
+    }
+
+    private void update(boolean available, String detail) {
+        if (available != replicaAvailable) {
+            if (available) {
+                log.info("Read replica available ({}), routing read-only transactions to replica", detail);
+            } else {
+                log.warn("Read replica unavailable ({}), routing read-only transactions to primary", detail);
+            }
+        }
+        replicaAvailable = available;
+    }
+}
@@ -0,0 +1,71 @@
+package com.rstracker.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 트랜잭션 읽기 전용 여부에 따른 primary / 복제본 라우팅
+ *
+ * - 쓰기 트랜잭션과 트랜잭션 밖의 접근(Flyway, Hibernate 초기화 등): primary
+ * - @Transactional(readOnly = true): 복제본 (복제본 사용 불가 또는 read-your-writes 고정 중이면 primary)
+ *
+ * 트랜잭션 속성은 커넥션을 실제로 얻는 시점에 확인하므로 LazyConnectionDataSourceProxy 뒤에서 사용해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String ROUTED = "rstracker.datasource.routed";
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+
+    /**
+     * @param meterRegistry 지표를 기록하지 않으려면 null
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWrites, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.primaryCounter = meterRegistry == null ? null : routedCounter(meterRegistry, Target.PRIMARY);
+        this.replicaCounter = meterRegistry == null ? null : routedCounter(meterRegistry, Target.REPLICA);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Target target = route();
+        Counter counter = target == Target.PRIMARY ? primaryCounter : replicaCounter;
+        if (counter != null) {
+            counter.increment();
+        }
+        return target;
+    }
+
+    Target route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.registerWrite();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.mustReadPrimary() || !lagMonitor.isReplicaAvailable()) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder(ROUTED)
+                .description("Connections routed to the primary or the read replica")
+                .tag("target", target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
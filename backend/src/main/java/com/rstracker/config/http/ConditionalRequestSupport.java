@@ -0,0 +1,214 @@
+package com.rstracker.config.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET 처리
+ *
+ * 컨트롤러가 가벼운 버전 값(질문 카탈로그 해시, 기록 상태)만으로 강한 ETag를 만들고,
+ * If-None-Match가 일치하면 서비스 조회와 JSON 직렬화 없이 304를 응답합니다.
+ * 304 응답에도 같은 ETag와 Cache-Control을 붙입니다. (RFC 9110 15.4.5)
+ *
+ * 응답 JSON 형식이 바뀌는 배포에서는 {@link #REPRESENTATION_VERSION}을 올려 기존 ETag를 무효화합니다.
+ *
+ * 미리 직렬화한 본문({@link SerializedResponse})은 Accept-Encoding에 따라 gzip 변형을 그대로 쓰며,
+ * 강한 ETag는 표현마다 달라야 하므로 gzip 변형의 ETag에는 -gzip을 붙입니다.
+ */
+@Component
+public class ConditionalRequestSupport {
+
+    public static final String CONDITIONAL_REQUESTS = "rstracker.http.conditional";
+
+    public static final String RESULT_NOT_MODIFIED = "not_modified";
+    public static final String RESULT_MODIFIED = "modified";
+
+    static final String REPRESENTATION_VERSION = "v2";
+
+    private final HttpCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean metricsEnabled;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ConditionalRequestSupport(HttpCacheProperties properties, MeterRegistry meterRegistry,
+                                     @Value("${app.metrics.enabled:true}") boolean metricsEnabled) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * 질문 목록 Cache-Control (인증이 필요한 API이므로 private)
+     */
+    public CacheControl questionsCacheControl() {
+        return cacheControl(properties.getQuestionsMaxAge());
+    }
+
+    /**
+     * 기록 Cache-Control (인증이 필요한 API이므로 private)
+     */
+    public CacheControl recordsCacheControl() {
+        return cacheControl(properties.getRecordsMaxAge());
+    }
+
+    /**
+     * 조건부 GET 응답
+     *
+     * @param endpoint 지표 태그용 엔드포인트 이름
+     * @param request 현재 요청 (If-None-Match 확인)
+     * @param version 표현 버전 (null이면 ETag 없이 본문 응답, 예: 대상이 없어 404가 날 경우)
+     * @param cacheControl 200/304 응답에 붙일 Cache-Control
+     * @param body 본문 조회 (304이면 호출하지 않음)
+     */
+    public <T> ResponseEntity<T> respond(String endpoint, WebRequest request, String version,
+                                         CacheControl cacheControl, Supplier<T> body) {
+        if (!properties.isEnabled() || version == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        String etag = etag(version);
+        if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            record(endpoint, RESULT_NOT_MODIFIED);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        record(endpoint, RESULT_MODIFIED);
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * 미리 직렬화한 JSON 본문으로 조건부 GET 응답
+     *
+     * @param endpoint 지표 태그용 엔드포인트 이름
+     * @param request 현재 요청 (If-None-Match, Accept-Encoding 확인)
+     * @param version 표현 버전 (null이면 ETag 없이 본문 응답)
+     * @param cacheControl 200/304 응답에 붙일 Cache-Control
+     * @param body 직렬화된 본문 조회 (304이면 호출하지 않음)
+     */
+    public ResponseEntity<byte[]> respondSerialized(String endpoint, WebRequest request, String version,
+                                                    CacheControl cacheControl, Supplier<SerializedResponse> body) {
+        boolean acceptsGzip = acceptsGzip(request.getHeaderValues(HttpHeaders.ACCEPT_ENCODING));
+        if (!properties.isEnabled() || version == null) {
+            return serializedOk(body.get(), acceptsGzip, null, null);
+        }
+        // gzip 변형이 없어도(본문이 작음) 클라이언트 기준으로 ETag를 나누면 표현이 바뀔 때만 값이 달라짐
+        String etag = etag(acceptsGzip ? version + "-gzip" : version);
+        if (matches(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            record(endpoint, RESULT_NOT_MODIFIED);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        record(endpoint, RESULT_MODIFIED);
+        return serializedOk(body.get(), acceptsGzip, etag, cacheControl);
+    }
+
+    private static ResponseEntity<byte[]> serializedOk(SerializedResponse response, boolean acceptsGzip,
+                                                       String etag, CacheControl cacheControl) {
+        boolean useGzip = acceptsGzip && response.getGzip() != null;
+        byte[] bytes = useGzip ? response.getGzip() : response.getJson();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(bytes.length)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (etag != null) {
+            builder.eTag(etag).cacheControl(cacheControl);
+        }
+        return builder.body(bytes);
+    }
+
+    /**
+     * Accept-Encoding에 gzip(q > 0)이 있는지 확인
+     */
+    static boolean acceptsGzip(String[] acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String header : acceptEncoding) {
+            for (String candidate : header.split(",")) {
+                String[] parts = candidate.trim().split(";");
+                String coding = parts[0].trim();
+                if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                    continue;
+                }
+                boolean rejected = false;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            rejected = Double.parseDouble(param.substring(2)) <= 0;
+                        } catch (NumberFormatException e) {
+                            rejected = true;
+                        }
+                    }
+                }
+                if (!rejected) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static String etag(String version) {
+        return "\"" + REPRESENTATION_VERSION + "-" + version + "\"";
+    }
+
+    /**
+     * If-None-Match 비교 (GET이므로 약한 비교: W/ 접두사는 무시)
+     */
+    static boolean matches(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static CacheControl cacheControl(Duration maxAge) {
+        if (maxAge.isZero() || maxAge.isNegative()) {
+            return CacheControl.noCache().cachePrivate();
+        }
+        return CacheControl.maxAge(maxAge).cachePrivate();
+    }
+
+    private void record(String endpoint, String result) {
+        if (!metricsEnabled) {
+            return;
+        }
+        counters.computeIfAbsent(endpoint + ':' + result, key -> Counter.builder(CONDITIONAL_REQUESTS)
+                .description("Conditional GET responses by endpoint; not_modified / total is the 304 ratio")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry)).increment();
+    }
+}
@@ -0,0 +1,34 @@
+package com.rstracker.config.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * HTTP 조건부 요청(ETag) 캐싱 설정 Properties
+ * application.yml의 app.http-cache에서 설정합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * ETag/If-None-Match 처리 사용 여부 (false이면 항상 본문을 응답하고 캐시 헤더를 붙이지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 질문 목록 Cache-Control max-age (이 시간 동안은 재검증 없이 클라이언트 캐시 사용)
+     */
+    private Duration questionsMaxAge = Duration.ofSeconds(60);
+
+    /**
+     * 기록 Cache-Control max-age (0이면 no-cache: 매번 ETag로 재검증, 비활성화가 바로 반영됨)
+     */
+    private Duration recordsMaxAge = Duration.ZERO;
+}
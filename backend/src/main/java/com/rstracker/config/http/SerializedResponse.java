@@ -0,0 +1,65 @@
+package com.rstracker.config.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화한 JSON 응답 본문 (원본 + gzip)
+ *
+ * 캐시에 DTO 대신 이 값을 두면 요청마다 Jackson 직렬화와 압축이 일어나지 않습니다.
+ * 압축 결과가 원본보다 작지 않으면 gzip 변형은 두지 않습니다.
+ * 바이트 배열은 공유되므로 호출하는 쪽에서 수정하면 안 됩니다.
+ */
+public final class SerializedResponse {
+
+    private final byte[] json;
+    private final byte[] gzip;
+
+    private SerializedResponse(byte[] json, byte[] gzip) {
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * 값을 JSON으로 직렬화하고 gzip 변형을 만듭니다.
+     *
+     * @param objectMapper 애플리케이션 ObjectMapper (컨트롤러 응답과 같은 형식이 되도록)
+     * @param value 응답 본문
+     */
+    public static SerializedResponse of(ObjectMapper objectMapper, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response body", e);
+        }
+        byte[] gzip = gzip(json);
+        return new SerializedResponse(json, gzip.length < json.length ? gzip : null);
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    /**
+     * gzip 변형 (없으면 null)
+     */
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
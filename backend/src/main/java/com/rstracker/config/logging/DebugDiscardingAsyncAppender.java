@@ -0,0 +1,20 @@
+package com.rstracker.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * DEBUG/TRACE만 버리는 비동기 어펜더 (logback-spring.xml에 등록)
+ *
+ * 요청 스레드는 고정 크기 큐에 이벤트를 넣기만 하고, 출력은 어펜더 작업 스레드가 합니다.
+ * 큐 잔여 용량이 discardingThreshold 아래로 떨어지면 DEBUG/TRACE 이벤트를 버립니다.
+ * 기본 AsyncAppender는 INFO까지 버리지만, INFO 이상의 운영 로그는 유지합니다.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,72 @@
+package com.rstracker.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 상관관계 ID / SQL 로그 샘플링 필터
+ *
+ * 요청마다 MDC에 requestId를 넣고 응답 헤더(X-Request-Id)로 돌려줍니다.
+ * 클라이언트가 보낸 X-Request-Id가 형식에 맞으면 그대로 사용합니다.
+ * app.logging.sql-sample-rate=N(N > 0)이면 N개 요청 중 1개에 sqlTrace 표시를 남겨
+ * {@link SampledSqlTurboFilter}가 해당 요청의 SQL과 바인딩 값을 전부 기록하게 합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestCorrelationFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_KEY = "requestId";
+    public static final String SQL_TRACE_KEY = "sqlTrace";
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final int sqlSampleRate;
+    private final AtomicLong requestCounter = new AtomicLong();
+
+    public RequestCorrelationFilter(@Value("${app.logging.sql-sample-rate:0}") int sqlSampleRate) {
+        this.sqlSampleRate = sqlSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+        MDC.put(REQUEST_ID_KEY, requestId);
+        if (isSampled()) {
+            MDC.put(SQL_TRACE_KEY, "true");
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+            MDC.remove(SQL_TRACE_KEY);
+        }
+    }
+
+    private boolean isSampled() {
+        return sqlSampleRate > 0 && requestCounter.getAndIncrement() % sqlSampleRate == 0;
+    }
+
+    private static String resolveRequestId(String header) {
+        if (header != null && VALID_REQUEST_ID.matcher(header).matches()) {
+            return header;
+        }
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+    }
+}
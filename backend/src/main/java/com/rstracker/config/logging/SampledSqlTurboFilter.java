@@ -0,0 +1,32 @@
+package com.rstracker.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 샘플링된 요청의 SQL 로그 허용 필터 (logback-spring.xml에 등록)
+ *
+ * MDC에 sqlTrace=true가 있는 요청에서만 SQL(org.hibernate.SQL)과 바인딩 값(org.hibernate.orm.jdbc.bind)
+ * 로그를 로거 레벨과 무관하게 허용합니다. 그 외 요청과 로거는 평소 레벨 판단을 따릅니다.
+ */
+public class SampledSqlTurboFilter extends TurboFilter {
+
+    static final String SQL_LOGGER = "org.hibernate.SQL";
+    static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || logger == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        if (!SQL_LOGGER.equals(name) && !BIND_LOGGER.equals(name)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "true".equals(MDC.get(RequestCorrelationFilter.SQL_TRACE_KEY)) ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
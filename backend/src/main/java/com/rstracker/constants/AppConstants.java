@@ -13,6 +13,13 @@ public class AppConstants {
     public static final int QUESTION_ORDER_DISTANCE = 5;       // Q5 거리
     public static final int QUESTION_ORDER_COMFORT = 6;        // Q6 편안함
     
+    // 회원 검색 관련 상수
+    public static final int USER_SEARCH_MAX_LIMIT = 100;
+    
+    // 기록 검색 관련 상수
+    public static final int RECORD_SEARCH_MAX_SIZE = 100;
+    public static final int RECORD_SIMILAR_MAX_LIMIT = 50;
+    
     private AppConstants() {
         // 인스턴스화 방지
     }
@@ -1,5 +1,6 @@
 package com.rstracker.controller;
 
+import com.rstracker.config.http.ConditionalRequestSupport;
 import com.rstracker.dto.CreateQuestionDto;
 import com.rstracker.dto.QuestionDto;
 import com.rstracker.dto.UpdateQuestionDto;
@@ -9,10 +10,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 질문 관리 API 컨트롤러
@@ -26,29 +27,38 @@ import java.util.List;
 public class QuestionController {
 
     private final QuestionService questionService;
+    private final ConditionalRequestSupport conditionalRequestSupport;
 
     /**
      * 활성 질문 목록 조회
      * GET /api/questions?category=INITIAL_MATCHING
+     * 
+     * 카탈로그 버전으로 만든 ETag가 If-None-Match와 같으면 목록 조회 없이 304를 응답합니다.
+     * 본문은 카탈로그 버전별로 캐시된 JSON(gzip 변형 포함) 바이트를 그대로 씁니다. ({@code List<QuestionDto>} 형식)
      */
-    @GetMapping
-    public ResponseEntity<List<QuestionDto>> getActiveQuestions(
-            @RequestParam(required = false) String category) {
-        log.info("Received request to get active questions with category: {}", category);
-        if (category != null && !category.isEmpty()) {
-            try {
-                Question.QuestionCategory questionCategory = Question.QuestionCategory.valueOf(category.toUpperCase());
-                List<QuestionDto> questions = questionService.getActiveQuestionsByCategory(questionCategory);
-                return ResponseEntity.ok(questions);
-            } catch (IllegalArgumentException e) {
-                log.warn("Invalid category: {}, returning all active questions", category);
-                // 잘못된 카테고리인 경우 전체 조회
-                List<QuestionDto> questions = questionService.getActiveQuestions();
-                return ResponseEntity.ok(questions);
-            }
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getActiveQuestions(
+            @RequestParam(required = false) String category,
+            WebRequest request) {
+        log.debug("Received request to get active questions with category: {}", category);
+        Question.QuestionCategory questionCategory = parseCategory(category);
+        String catalogVersion = questionService.getCatalogVersion();
+        return conditionalRequestSupport.respondSerialized("questions", request, catalogVersion,
+                conditionalRequestSupport.questionsCacheControl(),
+                () -> questionService.getActiveQuestionsSerialized(questionCategory, catalogVersion));
+    }
+
+    private Question.QuestionCategory parseCategory(String category) {
+        if (category == null || category.isEmpty()) {
+            return null;
+        }
+        try {
+            return Question.QuestionCategory.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid category: {}, returning all active questions", category);
+            // 잘못된 카테고리인 경우 전체 조회
+            return null;
         }
-        List<QuestionDto> questions = questionService.getActiveQuestions();
-        return ResponseEntity.ok(questions);
     }
 
     /**
@@ -57,7 +67,7 @@ public class QuestionController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<QuestionDto> getQuestion(@PathVariable Long id) {
-        log.info("Received request to get question: {}", id);
+        log.debug("Received request to get question: {}", id);
         QuestionDto question = questionService.getQuestion(id);
         return ResponseEntity.ok(question);
     }
@@ -68,7 +78,7 @@ public class QuestionController {
      */
     @PostMapping
     public ResponseEntity<QuestionDto> createQuestion(@Valid @RequestBody CreateQuestionDto createDto) {
-        log.info("Received request to create question with order: {}", createDto.getOrder());
+        log.debug("Received request to create question with order: {}", createDto.getOrder());
         QuestionDto question = questionService.createQuestion(createDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(question);
     }
@@ -81,7 +91,7 @@ public class QuestionController {
     public ResponseEntity<QuestionDto> updateQuestion(
             @PathVariable Long id,
             @Valid @RequestBody UpdateQuestionDto updateDto) {
-        log.info("Received request to update question: {}", id);
+        log.debug("Received request to update question: {}", id);
         QuestionDto question = questionService.updateQuestion(id, updateDto);
         return ResponseEntity.ok(question);
     }
@@ -92,7 +102,7 @@ public class QuestionController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteQuestion(@PathVariable Long id) {
-        log.info("Received request to delete question: {}", id);
+        log.debug("Received request to delete question: {}", id);
         questionService.deleteQuestion(id);
         return ResponseEntity.noContent().build();
     }
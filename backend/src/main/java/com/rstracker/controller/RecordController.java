@@ -1,7 +1,17 @@
 package com.rstracker.controller;
 
+import com.rstracker.config.http.ConditionalRequestSupport;
 import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.RecordProofDto;
+import com.rstracker.dto.RecordQuestionSetDto;
+import com.rstracker.dto.RecordSearchCountDto;
+import com.rstracker.dto.RecordSearchPageDto;
+import com.rstracker.dto.RecordTemperatureStatsDto;
+import com.rstracker.dto.SimilarRecordDto;
 import com.rstracker.service.RecordService;
+import com.rstracker.service.ledger.RecordLedgerService;
+import com.rstracker.service.similarity.RecordSimilarityService;
+import com.rstracker.service.stats.RecordStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,13 +20,16 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 기록 관리 API 컨트롤러
  * 
- * 기록 생성, 조회, 목록 조회, 비활성화 기능을 제공합니다.
+ * 기록 생성, 조회, 목록 조회, 검색, 온도 백분위, 유사 기록, 비활성화, 원장 포함 증명 기능을 제공합니다.
  */
 @Slf4j
 @RestController
@@ -25,6 +38,10 @@ import java.time.LocalDateTime;
 public class RecordController {
 
     private final RecordService recordService;
+    private final RecordLedgerService recordLedgerService;
+    private final RecordStatsService recordStatsService;
+    private final RecordSimilarityService recordSimilarityService;
+    private final ConditionalRequestSupport conditionalRequestSupport;
 
     /**
      * 기록 생성
@@ -32,7 +49,7 @@ public class RecordController {
      */
     @PostMapping("/create/{matchingId}")
     public ResponseEntity<RecordDto> createRecord(@PathVariable Long matchingId) {
-        log.info("Received request to create record for matchingId: {}", matchingId);
+        log.debug("Received request to create record for matchingId: {}", matchingId);
         RecordDto record = recordService.createRecord(matchingId);
         return ResponseEntity.ok(record);
     }
@@ -49,21 +66,125 @@ public class RecordController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        log.info("Received request to get records with filters: minTemp={}, maxTemp={}, isActive={}, startDate={}, endDate={}",
+        log.debug("Received request to get records with filters: minTemp={}, maxTemp={}, isActive={}, startDate={}, endDate={}",
                 minTemp, maxTemp, isActive, startDate, endDate);
         Page<RecordDto> records = recordService.getRecords(minTemp, maxTemp, isActive, startDate, endDate, pageable);
         return ResponseEntity.ok(records);
     }
 
+    /**
+     * 기록 검색 (응답 선택지 조건, 키셋 페이징)
+     * GET /api/records/search?choice=5:closer_ok&choice=3:same&minTemp=0.7&isActive=true&size=20&cursor=...
+     * 
+     * choice는 "질문순서:선택지값" 형식이며 여러 개면 모두 만족하는 기록만 조회합니다.
+     * 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<RecordSearchPageDto> searchRecords(
+            @RequestParam(name = "choice", required = false) List<String> choices,
+            @RequestParam(required = false) Double minTemp,
+            @RequestParam(required = false) Double maxTemp,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Received request to search records: choices={}, minTemp={}, maxTemp={}, isActive={}, size={}",
+                choices, minTemp, maxTemp, isActive, size);
+        RecordSearchPageDto page = recordService.searchRecords(choices, minTemp, maxTemp, isActive, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * 기록 검색 건수
+     * GET /api/records/search/count?choice=5:closer_ok&minTemp=0.7
+     */
+    @GetMapping("/search/count")
+    public ResponseEntity<RecordSearchCountDto> countRecords(
+            @RequestParam(name = "choice", required = false) List<String> choices,
+            @RequestParam(required = false) Double minTemp,
+            @RequestParam(required = false) Double maxTemp,
+            @RequestParam(required = false) Boolean isActive) {
+        log.debug("Received request to count records: choices={}, minTemp={}, maxTemp={}, isActive={}",
+                choices, minTemp, maxTemp, isActive);
+        RecordSearchCountDto count = recordService.countRecords(choices, minTemp, maxTemp, isActive);
+        return ResponseEntity.ok(count);
+    }
+
+    /**
+     * 기간 온도 백분위 (p50/p90/p99)
+     * GET /api/records/stats/temperature?startDate=2024-01-01&endDate=2024-01-31&questionSet=3f2a9c1b7d4e
+     */
+    @GetMapping("/stats/temperature")
+    public ResponseEntity<RecordTemperatureStatsDto> getTemperatureStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String questionSet) {
+        log.debug("Received request to get temperature stats: {}..{}, questionSet={}", startDate, endDate, questionSet);
+        RecordTemperatureStatsDto stats = recordStatsService.getTemperatureStats(startDate, endDate, questionSet);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 날짜별 온도 백분위
+     * GET /api/records/stats/temperature/daily?startDate=2024-01-01&endDate=2024-01-31
+     */
+    @GetMapping("/stats/temperature/daily")
+    public ResponseEntity<List<RecordTemperatureStatsDto>> getDailyTemperatureStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String questionSet) {
+        log.debug("Received request to get daily temperature stats: {}..{}, questionSet={}", startDate, endDate, questionSet);
+        List<RecordTemperatureStatsDto> stats = recordStatsService.getDailyTemperatureStats(startDate, endDate, questionSet);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 질문 세트 버전 목록
+     * GET /api/records/stats/question-sets
+     */
+    @GetMapping("/stats/question-sets")
+    public ResponseEntity<List<RecordQuestionSetDto>> getQuestionSets() {
+        log.debug("Received request to get record question sets");
+        return ResponseEntity.ok(recordStatsService.getQuestionSets());
+    }
+
     /**
      * 기록 상세 조회 (recordId)
      * GET /api/records/{recordId}
+     * 
+     * 기록 상태(recordId, 활성 여부)와 현재 백분위로 만든 ETag가 If-None-Match와 같으면 본문 조회 없이 304를 응답합니다.
      */
     @GetMapping("/{recordId}")
-    public ResponseEntity<RecordDto> getRecord(@PathVariable String recordId) {
-        log.info("Received request to get record: {}", recordId);
-        RecordDto record = recordService.getRecord(recordId);
-        return ResponseEntity.ok(record);
+    public ResponseEntity<RecordDto> getRecord(@PathVariable String recordId, WebRequest request) {
+        log.debug("Received request to get record: {}", recordId);
+        return conditionalRequestSupport.respond("record", request,
+                recordService.getRecordVersion(recordId).orElse(null),
+                conditionalRequestSupport.recordsCacheControl(), () -> recordService.getRecord(recordId));
+    }
+
+    /**
+     * 기록 원장 포함 증명
+     * GET /api/records/{recordId}/proof
+     * 
+     * 기록은 생성 후 원장 추가 작업(app.ledger)이 처리하고 루트가 서명된 뒤부터 증명할 수 있습니다.
+     */
+    @GetMapping("/{recordId}/proof")
+    public ResponseEntity<RecordProofDto> getRecordProof(@PathVariable String recordId) {
+        log.debug("Received request to get ledger proof for record: {}", recordId);
+        RecordProofDto proof = recordLedgerService.getProof(recordId);
+        return ResponseEntity.ok(proof);
+    }
+
+    /**
+     * 응답이 비슷한 기록
+     * GET /api/records/{recordId}/similar?limit=10
+     * 
+     * 두 참여자의 질문별 선택지가 가장 비슷한 활성 기록을 거리 오름차순으로 응답합니다.
+     */
+    @GetMapping("/{recordId}/similar")
+    public ResponseEntity<List<SimilarRecordDto>> getSimilarRecords(@PathVariable String recordId,
+                                                                    @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Received request to get similar records: {}, limit={}", recordId, limit);
+        return ResponseEntity.ok(recordSimilarityService.findSimilarRecords(recordId, limit));
     }
 
     /**
@@ -71,10 +192,11 @@ public class RecordController {
      * GET /api/records/matching/{matchingId}
      */
     @GetMapping("/matching/{matchingId}")
-    public ResponseEntity<RecordDto> getRecordByMatchingId(@PathVariable Long matchingId) {
-        log.info("Received request to get record by matchingId: {}", matchingId);
-        RecordDto record = recordService.getRecordByMatchingId(matchingId);
-        return ResponseEntity.ok(record);
+    public ResponseEntity<RecordDto> getRecordByMatchingId(@PathVariable Long matchingId, WebRequest request) {
+        log.debug("Received request to get record by matchingId: {}", matchingId);
+        return conditionalRequestSupport.respond("record_by_matching", request,
+                recordService.getRecordVersionByMatchingId(matchingId).orElse(null),
+                conditionalRequestSupport.recordsCacheControl(), () -> recordService.getRecordByMatchingId(matchingId));
     }
 
     /**
@@ -83,7 +205,7 @@ public class RecordController {
      */
     @PutMapping("/{recordId}/deactivate")
     public ResponseEntity<Void> deactivateRecord(@PathVariable String recordId) {
-        log.info("Received request to deactivate record: {}", recordId);
+        log.debug("Received request to deactivate record: {}", recordId);
         recordService.deactivateRecord(recordId);
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,52 @@
+package com.rstracker.controller;
+
+import com.rstracker.dto.ActiveMemberCountDto;
+import com.rstracker.dto.ActiveMemberSummaryDto;
+import com.rstracker.service.stats.ActiveMemberMetric;
+import com.rstracker.service.stats.ActiveMemberStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * 대시보드 통계 API 컨트롤러
+ * 
+ * 활동 회원/참여자 수(DAU/WAU/MAU) 조회 기능을 제공합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final ActiveMemberStatsService activeMemberStatsService;
+
+    /**
+     * 기간 활동 멤버 수
+     * GET /api/stats/active-members?metric=USERS&startDate=2024-01-01&endDate=2024-01-31
+     */
+    @GetMapping("/active-members")
+    public ResponseEntity<ActiveMemberCountDto> countActiveMembers(
+            @RequestParam ActiveMemberMetric metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.debug("Received request to count active members: {} {}..{}", metric, startDate, endDate);
+        return ResponseEntity.ok(activeMemberStatsService.countActiveMembers(metric, startDate, endDate));
+    }
+
+    /**
+     * 기준 날짜의 DAU/WAU/MAU
+     * GET /api/stats/active-members/summary?metric=PARTICIPANTS&date=2024-01-31
+     */
+    @GetMapping("/active-members/summary")
+    public ResponseEntity<ActiveMemberSummaryDto> getActiveMemberSummary(
+            @RequestParam ActiveMemberMetric metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.debug("Received request to get active member summary: {} {}", metric, date);
+        return ResponseEntity.ok(activeMemberStatsService.getSummary(metric, date));
+    }
+}
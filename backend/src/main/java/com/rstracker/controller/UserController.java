@@ -4,6 +4,7 @@ import com.rstracker.dto.CreateUserDto;
 import com.rstracker.dto.UpdateUserDto;
 import com.rstracker.dto.UserDto;
 import com.rstracker.dto.UserHistoryDto;
+import com.rstracker.dto.UserSearchResultDto;
 import com.rstracker.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -70,6 +71,18 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * 회원 검색 (아이디, 이름, 전화번호 - 접두어/부분 문자열/유사도)
+     * GET /api/users/search?q=kim&limit=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchResultDto>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<UserSearchResultDto> results = userService.searchUsers(query, limit);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * 회원 목록 조회 (전체)
      * GET /api/users/all
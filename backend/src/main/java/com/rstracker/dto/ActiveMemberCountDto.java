@@ -0,0 +1,39 @@
+package com.rstracker.dto;
+
+import com.rstracker.service.stats.ActiveMemberMetric;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 활동 멤버 수 DTO
+ *
+ * exact가 false이면 HyperLogLog 추정값이며, 실제 값은 약 95% 확률로 [lowerBound, upperBound] 안에 있습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveMemberCountDto {
+
+    private ActiveMemberMetric metric;
+
+    /** 시작 날짜 (포함) */
+    private LocalDate startDate;
+
+    /** 종료 날짜 (포함) */
+    private LocalDate endDate;
+
+    /** 서로 다른 멤버 수 (추정값은 반올림) */
+    private Long count;
+
+    /** 정확한 집계 여부 */
+    private Boolean exact;
+
+    /** 오차 범위 하한 (정확한 집계면 count와 같음) */
+    private Long lowerBound;
+
+    /** 오차 범위 상한 (정확한 집계면 count와 같음) */
+    private Long upperBound;
+}
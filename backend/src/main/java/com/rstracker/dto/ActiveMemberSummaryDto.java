@@ -0,0 +1,31 @@
+package com.rstracker.dto;
+
+import com.rstracker.service.stats.ActiveMemberMetric;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기준 날짜의 DAU/WAU/MAU DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveMemberSummaryDto {
+
+    private ActiveMemberMetric metric;
+
+    /** 기준 날짜 */
+    private LocalDate date;
+
+    /** 기준 날짜 하루 */
+    private ActiveMemberCountDto daily;
+
+    /** 기준 날짜까지 7일 */
+    private ActiveMemberCountDto weekly;
+
+    /** 기준 날짜까지 30일 */
+    private ActiveMemberCountDto monthly;
+}
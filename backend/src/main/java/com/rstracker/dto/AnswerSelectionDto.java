@@ -0,0 +1,29 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 응답 선택 DTO (식별자만 담은 평면 프로젝션)
+ *
+ * 배치 작업, 내보내기, 통계처럼 여러 매칭의 응답을 한 번에 읽는 용도입니다.
+ * 질문/선택지 본문이 필요하면 ID로 캐시나 별도 조회에서 찾습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerSelectionDto {
+
+    /** 매칭 ID */
+    private Long matchingId;
+
+    /** 참여자 ID */
+    private Long participantId;
+
+    /** 질문 ID */
+    private Long questionId;
+
+    /** 선택지 ID */
+    private Long choiceId;
+}
@@ -19,5 +19,18 @@ public class RecordDto {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private Map<String, Object> summary;
+
+    /**
+     * 이 기록보다 온도가 낮은 활성 기록의 비율 (0~100, 백분위 색인이 준비되지 않았으면 null)
+     */
+    private Double percentile;
+
+    /**
+     * JPQL 생성자 프로젝션용 (백분위는 조회 후 채움)
+     */
+    public RecordDto(Long id, String recordId, Long matchingId, Double temperature, Double temperatureDiff,
+                     Boolean isActive, LocalDateTime createdAt, Map<String, Object> summary) {
+        this(id, recordId, matchingId, temperature, temperatureDiff, isActive, createdAt, summary, null);
+    }
 }
 
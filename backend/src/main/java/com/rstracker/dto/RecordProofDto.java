@@ -0,0 +1,55 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기록 원장 포함 증명 DTO
+ *
+ * 검증 순서 (해시는 SHA-256, 잎은 0x00, 내부 노드는 0x01 접두어, RFC 9162)
+ * 1. leafHash = SHA-256(0x00 || UTF-8(canonicalContent))이고 canonicalContent가 기록 내용과 같은지 확인
+ * 2. leafHash, leafIndex, treeSize, auditPath로 루트를 다시 계산해 rootHash와 비교 (RFC 9162 2.1.3.2)
+ * 3. publicKey(keyId가 신뢰하는 키인지 확인)로 treeSize(8바이트 빅엔디언) || rootHash에 대한 signature 검증
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordProofDto {
+
+    /** 기록 ID */
+    private String recordId;
+
+    /** 정규화된 기록 내용 (키 정렬 JSON) */
+    private String canonicalContent;
+
+    /** 원장 잎 번호 (0부터) */
+    private Long leafIndex;
+
+    /** 잎 해시 (hex) */
+    private String leafHash;
+
+    /** 포함 증명 경로 (hex, 잎에서 루트 방향) */
+    private List<String> auditPath;
+
+    /** 서명된 루트의 잎 수 */
+    private Long treeSize;
+
+    /** 루트 해시 (hex) */
+    private String rootHash;
+
+    /** 루트 서명 (Ed25519, Base64) */
+    private String signature;
+
+    /** 검증 키 식별자 */
+    private String keyId;
+
+    /** 검증 키 (X.509 DER, Base64) */
+    private String publicKey;
+
+    /** 루트 서명 시각 */
+    private LocalDateTime signedAt;
+}
@@ -0,0 +1,28 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기록 질문 세트 버전 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordQuestionSetDto {
+
+    /** 질문 세트 버전 (질문 키와 문구의 지문) */
+    private String questionSet;
+
+    /** 이 질문 세트로 만든 첫 기록 날짜 */
+    private LocalDate firstDate;
+
+    /** 이 질문 세트로 만든 마지막 기록 날짜 */
+    private LocalDate lastDate;
+
+    /** 기록 수 */
+    private Long recordCount;
+}
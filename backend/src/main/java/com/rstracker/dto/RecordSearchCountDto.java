@@ -0,0 +1,17 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기록 검색 건수 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordSearchCountDto {
+
+    /** 조건에 맞는 기록 수 */
+    private Long count;
+}
@@ -0,0 +1,24 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기록 검색 결과 페이지 DTO (키셋 페이징)
+ *
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordSearchPageDto {
+
+    /** 기록 목록 (생성 시각 최신순) */
+    private List<RecordDto> records;
+
+    /** 다음 페이지 커서 (마지막 페이지이면 null) */
+    private String nextCursor;
+}
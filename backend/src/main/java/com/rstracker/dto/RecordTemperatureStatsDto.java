@@ -0,0 +1,42 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기록 온도 백분위 DTO
+ *
+ * t-digest 스케치로 계산한 근사값이며, 기간 안에 기록이 없으면 백분위는 null입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordTemperatureStatsDto {
+
+    /** 시작 날짜 (포함) */
+    private LocalDate startDate;
+
+    /** 종료 날짜 (포함) */
+    private LocalDate endDate;
+
+    /** 질문 세트 버전 (null이면 모든 질문 세트) */
+    private String questionSet;
+
+    /** 기록 수 */
+    private Long recordCount;
+
+    private Double temperatureP50;
+
+    private Double temperatureP90;
+
+    private Double temperatureP99;
+
+    private Double temperatureDiffP50;
+
+    private Double temperatureDiffP90;
+
+    private Double temperatureDiffP99;
+}
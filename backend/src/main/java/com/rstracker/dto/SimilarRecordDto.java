@@ -0,0 +1,30 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사 기록 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarRecordDto {
+
+    private String recordId;
+
+    private Double temperature;
+
+    private LocalDateTime createdAt;
+
+    /** 질문 순서("Q3") → 두 참여자가 고른 선택지 값 목록 */
+    private Map<String, List<String>> answerChoices;
+
+    /** 응답 거리 (질문별로 한쪽 커플만 고른 선택지 수의 합, 0이면 같은 응답) */
+    private Integer distance;
+}
@@ -0,0 +1,37 @@
+package com.rstracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 검색 결과 DTO
+ *
+ * 상세 정보는 GET /api/users/{id}로 조회합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResultDto {
+
+    /** 회원 ID */
+    private Long id;
+
+    /** 아이디 */
+    private String userid;
+
+    /** 이름 */
+    private String name;
+
+    /** 전화번호 */
+    private String phoneNumber;
+
+    /** 일치한 필드 (USERID, NAME, PHONE_NUMBER) */
+    private String matchedField;
+
+    /** 일치 유형 (EXACT, PREFIX, SUBSTRING, FUZZY) */
+    private String matchType;
+
+    /** 랭킹 점수 (0.0 ~ 1.0, 높을수록 우선) */
+    private Double score;
+}
@@ -28,7 +28,7 @@ public class Matching {
     private String qrCodePath;
 
     @Column(nullable = false, length = 20)
-    private String status = "waiting"; // waiting, established, completed
+    private String status = "waiting"; // waiting, established, completed, expired
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
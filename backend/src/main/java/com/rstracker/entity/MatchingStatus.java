@@ -3,7 +3,8 @@ package com.rstracker.entity;
 public enum MatchingStatus {
     WAITING("waiting"),
     ESTABLISHED("established"),
-    COMPLETED("completed");
+    COMPLETED("completed"),
+    EXPIRED("expired");
 
     private final String value;
 
@@ -0,0 +1,62 @@
+package com.rstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아웃박스 이벤트 (발행 대기 중인 도메인 이벤트)
+ */
+@Entity
+@Table(name = "outbox_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    /**
+     * 이벤트 순서를 보장하는 단위 (매칭 ID)
+     */
+    private Long aggregateId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private Map<String, Object> payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 이벤트를 선점한 릴레이 배치 (발행/실패 반영 시 자기 선점인지 확인)
+     */
+    private UUID claimToken;
+
+    /**
+     * 선점 기한 (지나면 다른 릴레이가 다시 가져감)
+     */
+    private LocalDateTime claimedUntil;
+}
@@ -9,6 +9,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Entity
@@ -22,11 +23,12 @@ public class Record {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 36)
+    // records는 created_at 월별 파티션 테이블이라 DB UNIQUE 제약 없이 애플리케이션에서 유일성을 보장
+    @Column(nullable = false, length = 36)
     private String recordId;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "matching_id", nullable = false, unique = true)
+    @JoinColumn(name = "matching_id", nullable = false)
     private Matching matching;
 
     private Double temperature;
@@ -43,5 +45,10 @@ public class Record {
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
     private Map<String, Object> summary;
+
+    // 질문 순서("Q5") → 참여자들이 고른 선택지 값 목록 (GIN 인덱스, GET /records/search의 선택지 조건)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, List<String>> answerChoices;
 }
 
@@ -0,0 +1,51 @@
+package com.rstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명된 기록 원장 루트
+ *
+ * 서명 대상은 treeSize(8바이트 빅엔디언) 뒤에 rootHash를 붙인 바이트입니다.
+ */
+@Entity
+@Table(name = "record_ledger_roots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordLedgerRoot {
+
+    /**
+     * 루트가 덮는 잎 수
+     */
+    @Id
+    private Long treeSize;
+
+    @Column(nullable = false)
+    private byte[] rootHash;
+
+    /**
+     * Ed25519 서명
+     */
+    @Column(nullable = false)
+    private byte[] signature;
+
+    /**
+     * 검증 키 식별자 (검증 키 SHA-256의 앞 16자리 hex)
+     */
+    @Column(nullable = false, length = 16)
+    private String keyId;
+
+    /**
+     * 검증 키 (X.509 DER, Base64)
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String publicKey;
+
+    @Column(nullable = false)
+    private LocalDateTime signedAt;
+}
@@ -0,0 +1,79 @@
+package com.rstracker.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 원장 전체 검증 실행
+ *
+ * 시작 시점의 records.id 범위 [minRecordId, maxRecordId]를 chunkSize 단위로 나눠 검증합니다.
+ * 청크별 결과는 record_ledger_verification_chunks에 남고, 완료 시 합계를 기록합니다.
+ */
+@Entity
+@Table(name = "record_ledger_verifications")
+@Data
+@NoArgsConstructor
+public class RecordLedgerVerification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long minRecordId;
+
+    @Column(nullable = false)
+    private Long maxRecordId;
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    /**
+     * 검증한 기록 수 (완료 시 기록)
+     */
+    @Column(nullable = false)
+    private Long verifiedCount = 0L;
+
+    /**
+     * 원장과 일치하지 않는 기록 수 (완료 시 기록)
+     */
+    @Column(nullable = false)
+    private Long mismatchCount = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public RecordLedgerVerification(long minRecordId, long maxRecordId, int chunkSize, LocalDateTime startedAt) {
+        this.minRecordId = minRecordId;
+        this.maxRecordId = maxRecordId;
+        this.chunkSize = chunkSize;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * 검증할 청크 수
+     */
+    public long chunkCount() {
+        return maxRecordId < minRecordId ? 0 : (maxRecordId - minRecordId) / chunkSize + 1;
+    }
+
+    /**
+     * n번째 청크의 시작 ID
+     */
+    public long chunkStart(long chunk) {
+        return minRecordId + chunk * chunkSize;
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED
+    }
+}
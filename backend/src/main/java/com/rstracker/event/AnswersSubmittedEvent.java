@@ -0,0 +1,27 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여자 응답 제출 이벤트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswersSubmittedEvent implements DomainEvent {
+    private Long matchingId;
+    private String participantCode;
+    private int answerCount;
+    private LocalDateTime occurredAt;
+
+    @Override
+    @JsonIgnore
+    public Long getAggregateId() {
+        return matchingId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.rstracker.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트
+ *
+ * {@link DomainEventPublisher}가 아웃박스에 기록하고, 커밋 후 {@link OutboxRelay}가
+ * 애플리케이션 이벤트로 발행합니다. 구독은 @EventListener 메서드로 합니다.
+ * 같은 매칭(aggregateId)의 이벤트는 기록된 순서대로 전달되며, 실패 시 재전달될 수 있으므로
+ * 리스너는 멱등하게 작성해야 합니다.
+ */
+public interface DomainEvent {
+
+    /**
+     * 순서 보장 단위 (매칭 ID)
+     */
+    Long getAggregateId();
+
+    LocalDateTime getOccurredAt();
+}
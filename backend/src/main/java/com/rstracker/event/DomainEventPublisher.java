@@ -0,0 +1,53 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.entity.OutboxEvent;
+import com.rstracker.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 도메인 이벤트 발행 (아웃박스 기록)
+ *
+ * 이벤트를 호출한 서비스의 트랜잭션 안에서 outbox_events에 기록합니다.
+ * 비즈니스 데이터와 함께 커밋되거나 함께 롤백되며, 실제 전달은 {@link OutboxRelay}가 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    /**
+     * 아웃박스에 기록할 수 있는 이벤트 타입 (event_type 컬럼에는 클래스 단순 이름을 저장)
+     */
+    static final List<Class<? extends DomainEvent>> EVENT_TYPES = List.of(
+            MatchingEstablishedEvent.class,
+            AnswersSubmittedEvent.class,
+            RecordCreatedEvent.class);
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() { };
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(event.getClass().getSimpleName());
+        outboxEvent.setAggregateId(event.getAggregateId());
+        outboxEvent.setPayload(objectMapper.convertValue(event, PAYLOAD_TYPE));
+        outboxEventRepository.save(outboxEvent);
+    }
+
+    static Optional<Class<? extends DomainEvent>> resolveType(String eventType) {
+        return EVENT_TYPES.stream()
+                .filter(type -> type.getSimpleName().equals(eventType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매칭 성립 이벤트 (참여자 수가 최대 인원에 도달)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingEstablishedEvent implements DomainEvent {
+    private Long matchingId;
+    private String matchingCode;
+    private LocalDateTime occurredAt;
+
+    @Override
+    @JsonIgnore
+    public Long getAggregateId() {
+        return matchingId;
+    }
+}
@@ -0,0 +1,253 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.config.OutboxProperties;
+import com.rstracker.entity.OutboxEvent;
+import com.rstracker.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 배치 하나를 세 단계로 처리합니다.
+ * 1. 선점: 짧은 트랜잭션에서 발행 대기 이벤트를 FOR UPDATE SKIP LOCKED로 잠가 claim_token과 선점 기한을 기록하고 커밋
+ * 2. 전달: 행 잠금 없이 고정 크기 스레드 풀에서 애플리케이션 이벤트로 발행(@EventListener 호출)
+ * 3. 반영: 짧은 트랜잭션에서 발행 완료/실패/미완료를 기록하고 선점 해제 (선점 기한이 지나 다른 릴레이가 가져간 이벤트는 건드리지 않음)
+ * - 같은 매칭에 앞선 미발행 이벤트가 있는 이벤트는 가져오지 않으므로, 여러 인스턴스가 폴링해도 매칭별로 기록 순서대로 발행됩니다.
+ * - 리스너가 예외를 던지면 attempts를 올리고 재시도하며, maxAttempts에 도달한 이벤트는 last_error와 함께 남습니다.
+ * - batchTimeout 안에 끝나지 않은 전달은 취소(인터럽트)하고 결과를 미완료로 확정해 다음 폴링에서 다시 전달합니다.
+ * - 실행 대기열이 가득 차 넘겨지지 않은 이벤트도 미완료로 두므로, 리스너는 항상 전달 스레드에서만 실행됩니다.
+ */
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final ThreadPoolExecutor dispatchExecutor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper, OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = new ThreadPoolExecutor(
+                properties.getDispatcherThreads(), properties.getDispatcherThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getDispatcherQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 대기열이 가득 차면 거부 (릴레이 스레드는 스케줄러 공용 스레드이므로 대기 시간 없이 리스너를 실행하지 않음)
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    public void relayPending() {
+        // 발행한 이벤트가 있으면 바로 다음 배치를 가져옴 (같은 매칭의 다음 이벤트는 앞 이벤트가 발행된 뒤에야 가져올 수 있음)
+        int published;
+        do {
+            published = relayBatch();
+        } while (published > 0);
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events older than {}", deleted, before);
+        }
+    }
+
+    @Override
+    public void close() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    /**
+     * 배치 하나를 선점해 발행하고 결과를 반영
+     *
+     * @return 발행 완료한 이벤트 수
+     */
+    int relayBatch() {
+        UUID claimToken = UUID.randomUUID();
+        List<OutboxEvent> batch = claim(claimToken);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Outcome> outcomes = new ConcurrentHashMap<>();
+        List<Future<?>> tasks = new ArrayList<>(batch.size());
+        int rejected = 0;
+        for (OutboxEvent event : batch) {
+            try {
+                tasks.add(dispatchExecutor.submit(() -> dispatch(event, outcomes)));
+            } catch (RejectedExecutionException e) {
+                outcomes.putIfAbsent(event.getId(), Outcome.UNFINISHED);
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            log.warn("Outbox dispatch queue full, {} events will be retried", rejected);
+        }
+        awaitDispatch(tasks);
+        // 늦게 끝난 리스너가 결과를 바꾸지 못하도록 남은 이벤트를 미완료로 먼저 확정
+        for (OutboxEvent event : batch) {
+            outcomes.putIfAbsent(event.getId(), Outcome.UNFINISHED);
+        }
+        return settle(batch, outcomes, claimToken);
+    }
+
+    /**
+     * 이벤트를 잠가 선점하고 커밋 (행 잠금은 이 트랜잭션 동안만 유지)
+     */
+    private List<OutboxEvent> claim(UUID claimToken) {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.lockClaimable(properties.getMaxAttempts(), now, properties.getBatchSize());
+            // 전달 대기 시간 뒤 결과 반영까지 여유를 두고, 그 뒤에는 릴레이가 중단된 것으로 보고 다른 릴레이가 가져감
+            LocalDateTime claimedUntil = now.plus(properties.getBatchTimeout().multipliedBy(2));
+            for (OutboxEvent event : events) {
+                event.setClaimToken(claimToken);
+                event.setClaimedUntil(claimedUntil);
+            }
+            return events;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    private void dispatch(OutboxEvent event, Map<Long, Outcome> outcomes) {
+        if (outcomes.containsKey(event.getId())) {
+            // 시작하기 전에 배치 대기 시간이 끝나 미완료로 확정됨
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(toDomainEvent(event));
+            outcomes.putIfAbsent(event.getId(), Outcome.PUBLISHED);
+        } catch (RuntimeException e) {
+            log.warn("Outbox event {} ({}) failed on attempt {}: {}",
+                    event.getId(), event.getEventType(), event.getAttempts() + 1, e.toString());
+            outcomes.putIfAbsent(event.getId(), Outcome.failed(truncate(e.toString())));
+        }
+    }
+
+    /**
+     * 모든 전달이 끝나거나 batchTimeout이 지날 때까지 대기 (남은 전달은 취소하고 대기열에서 제거)
+     */
+    private void awaitDispatch(List<Future<?>> tasks) {
+        long deadline = System.nanoTime() + properties.getBatchTimeout().toNanos();
+        try {
+            for (Future<?> task : tasks) {
+                task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            log.warn("Outbox dispatch did not finish within {}, unfinished events will be retried", properties.getBatchTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // dispatch가 예외를 결과로 기록하므로 여기까지 오지 않음
+            log.error("Unexpected outbox dispatch failure", e);
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+            // 취소한 작업이 대기열 자리를 차지해 다음 배치가 거부되지 않도록 바로 비움
+            dispatchExecutor.purge();
+        }
+    }
+
+    /**
+     * 확정된 결과를 반영하고 선점 해제
+     *
+     * @return 발행 완료로 반영한 이벤트 수
+     */
+    private int settle(List<OutboxEvent> batch, Map<Long, Outcome> outcomes, UUID claimToken) {
+        List<Long> published = new ArrayList<>();
+        List<Long> unfinished = new ArrayList<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            Outcome outcome = outcomes.get(event.getId());
+            switch (outcome.type()) {
+                case PUBLISHED -> published.add(event.getId());
+                case FAILED -> failures.put(event.getId(), outcome.error());
+                case UNFINISHED -> unfinished.add(event.getId());
+            }
+        }
+
+        Integer settled = transactionTemplate.execute(status -> {
+            int updated = 0;
+            if (!published.isEmpty()) {
+                updated += outboxEventRepository.markPublished(published, claimToken, LocalDateTime.now());
+            }
+            for (Map.Entry<Long, String> failure : failures.entrySet()) {
+                updated += outboxEventRepository.markFailed(failure.getKey(), claimToken, failure.getValue());
+            }
+            if (!unfinished.isEmpty()) {
+                updated += outboxEventRepository.releaseClaims(unfinished, claimToken);
+            }
+            return updated;
+        });
+        if (settled != null && settled < batch.size()) {
+            log.warn("Outbox claim expired before settling: claimed={}, settled={}", batch.size(), settled);
+        }
+        log.debug("Relayed outbox batch: fetched={}, published={}, failed={}, unfinished={}",
+                batch.size(), published.size(), failures.size(), unfinished.size());
+        return published.size();
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) {
+        Class<? extends DomainEvent> type = DomainEventPublisher.resolveType(event.getEventType())
+                .orElseThrow(() -> new IllegalStateException("Unknown outbox event type: " + event.getEventType()));
+        return objectMapper.convertValue(event.getPayload(), type);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * 이벤트 하나의 전달 결과 (먼저 기록된 결과가 최종)
+     */
+    private record Outcome(Type type, String error) {
+
+        static final Outcome PUBLISHED = new Outcome(Type.PUBLISHED, null);
+        static final Outcome UNFINISHED = new Outcome(Type.UNFINISHED, null);
+
+        static Outcome failed(String error) {
+            return new Outcome(Type.FAILED, error);
+        }
+
+        enum Type {
+            PUBLISHED, FAILED, UNFINISHED
+        }
+    }
+}
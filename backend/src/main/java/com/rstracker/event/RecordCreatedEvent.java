@@ -0,0 +1,31 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 생성 이벤트
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordCreatedEvent implements DomainEvent {
+    private Long matchingId;
+    private String recordId;
+    private Double temperature;
+    private Double temperatureDiff;
+    private LocalDateTime occurredAt;
+
+    /** 질문 세트 버전 (QuestionSetFingerprint, 이 필드가 추가되기 전 이벤트는 null) */
+    private String questionSet;
+
+    @Override
+    @JsonIgnore
+    public Long getAggregateId() {
+        return matchingId;
+    }
+}
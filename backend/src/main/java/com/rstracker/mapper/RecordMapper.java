@@ -2,11 +2,17 @@ package com.rstracker.mapper;
 
 import com.rstracker.dto.RecordDto;
 import com.rstracker.entity.Record;
+import com.rstracker.repository.DtoProjectionRepository.RecordState;
+import com.rstracker.service.stats.RecordPercentileIndex;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class RecordMapper {
 
+    private final RecordPercentileIndex recordPercentileIndex;
+
     public RecordDto toDto(Record record) {
         if (record == null) {
             return null;
@@ -21,7 +27,25 @@ public class RecordMapper {
         dto.setIsActive(record.getIsActive());
         dto.setCreatedAt(record.getCreatedAt());
         dto.setSummary(record.getSummary());
+        return withPercentile(dto);
+    }
+
+    /**
+     * 현재 백분위 색인 기준 온도 백분위 채우기 (프로젝션으로 조회한 DTO용)
+     */
+    public RecordDto withPercentile(RecordDto dto) {
+        dto.setPercentile(recordPercentileIndex.percentileOf(dto.getTemperature()));
         return dto;
     }
+
+    /**
+     * 기록 표현 버전 (HTTP ETag용)
+     * 백분위는 다른 기록이 생성/비활성화되거나 색인이 재구축될 때 바뀌므로 응답에 담기는 백분위 값까지 포함합니다.
+     */
+    public String toVersion(RecordState state) {
+        Double percentile = recordPercentileIndex.percentileOf(state.temperature());
+        return state.recordId() + (Boolean.TRUE.equals(state.isActive()) ? "-active" : "-inactive")
+                + "-p" + (percentile == null ? "none" : percentile);
+    }
 }
 
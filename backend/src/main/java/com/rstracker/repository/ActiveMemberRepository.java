@@ -0,0 +1,209 @@
+package com.rstracker.repository;
+
+import com.rstracker.service.stats.ActiveMemberMetric;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 활동 멤버 스케치 Repository
+ *
+ * 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class ActiveMemberRepository {
+
+    /** 스케치 갱신 잠금 키 (원본을 읽고 스케치를 갱신하는 트랜잭션은 하나만 실행) */
+    private static final long SKETCH_LOCK_KEY = 0x7374_6174_7300_0002L;
+
+    public static final String SOURCE_PARTICIPANTS = "participants.joined_at";
+    public static final String SOURCE_USERS = "users.last_login_at";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 참여 또는 로그인 한 건 (로그인이면 participantCode가 null)
+     */
+    public record Activity(LocalDateTime at, Long userId, String participantCode) {
+    }
+
+    /**
+     * 스케치 갱신 잠금 시도 (트랜잭션 종료 시 해제)
+     */
+    public boolean tryLockSketches() {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", SKETCH_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    /**
+     * 스케치 갱신 잠금 (다른 트랜잭션이 잡고 있으면 기다림, 트랜잭션 종료 시 해제)
+     */
+    public void lockSketches() {
+        entityManager.createNativeQuery("SELECT pg_advisory_xact_lock(:key)")
+                .setParameter("key", SKETCH_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    public Optional<LocalDateTime> findScannedUntil(String source) {
+        List<?> rows = entityManager.createNativeQuery("SELECT scanned_until FROM active_member_scans WHERE source = :source")
+                .setParameter("source", source)
+                .getResultList();
+        return rows.stream().findFirst().map(ActiveMemberRepository::toLocalDateTime);
+    }
+
+    public void saveScannedUntil(String source, LocalDateTime scannedUntil) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO active_member_scans (source, scanned_until) VALUES (:source, :scannedUntil) "
+                                + "ON CONFLICT (source) DO UPDATE SET scanned_until = EXCLUDED.scanned_until")
+                .setParameter("source", source)
+                .setParameter("scannedUntil", scannedUntil)
+                .executeUpdate();
+    }
+
+    /**
+     * 참여 시각이 [from, to)인 참여자를 전방향 커서로 읽음
+     *
+     * @param includeArchive 보관된 참여자(participants_archive)도 읽을지 여부 (재구축)
+     */
+    public void streamParticipantJoins(LocalDateTime from, LocalDateTime to, boolean includeArchive, int fetchSize,
+                                       Consumer<Activity> consumer) {
+        // 참여는 매칭 생성 뒤에만 가능하므로 보관 테이블은 matching_created_at < to로 미래 파티션을 건너뜀
+        String sql = "SELECT joined_at, user_id, participant_code FROM participants WHERE joined_at >= ? AND joined_at < ?"
+                + (includeArchive ? " UNION ALL SELECT joined_at, user_id, participant_code FROM participants_archive "
+                + "WHERE joined_at >= ? AND joined_at < ? AND matching_created_at < ?" : "");
+        stream(sql, fetchSize, includeArchive ? new LocalDateTime[]{from, to, from, to, to} : new LocalDateTime[]{from, to},
+                rs -> new Activity(rs.getObject(1, LocalDateTime.class), rs.getObject(2, Long.class), rs.getString(3)),
+                consumer);
+    }
+
+    /**
+     * 마지막 로그인 시각이 [from, to)인 사용자를 전방향 커서로 읽음
+     */
+    public void streamUserLogins(LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<Activity> consumer) {
+        stream("SELECT last_login_at, id FROM users WHERE last_login_at >= ? AND last_login_at < ?", fetchSize,
+                new LocalDateTime[]{from, to},
+                rs -> new Activity(rs.getObject(1, LocalDateTime.class), rs.getLong(2), null),
+                consumer);
+    }
+
+    /**
+     * 가장 이른 참여 또는 로그인 날짜 (보관된 참여자 포함)
+     */
+    public Optional<LocalDate> findFirstActivityDate() {
+        Object first = entityManager.createNativeQuery(
+                        "SELECT CAST(least((SELECT min(joined_at) FROM participants), (SELECT min(joined_at) FROM participants_archive), "
+                                + "(SELECT min(last_login_at) FROM users)) AS date)")
+                .getSingleResult();
+        return Optional.ofNullable(first).map(value -> value instanceof Date date ? date.toLocalDate() : (LocalDate) value);
+    }
+
+    public Optional<byte[]> findSketch(LocalDate date, ActiveMemberMetric metric) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT sketch FROM active_member_sketches WHERE bucket_date = :date AND metric = :metric")
+                .setParameter("date", date)
+                .setParameter("metric", metric.name())
+                .getResultList();
+        return rows.stream().findFirst().map(byte[].class::cast);
+    }
+
+    /**
+     * 기간 [from, to]의 날짜별 스케치
+     */
+    @SuppressWarnings("unchecked")
+    public List<byte[]> findSketchesBetween(ActiveMemberMetric metric, LocalDate from, LocalDate to) {
+        return entityManager.createNativeQuery(
+                        "SELECT sketch FROM active_member_sketches WHERE metric = :metric "
+                                + "AND bucket_date >= :from AND bucket_date <= :to")
+                .setParameter("metric", metric.name())
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getResultList();
+    }
+
+    public void upsertSketch(LocalDate date, ActiveMemberMetric metric, byte[] sketch, LocalDateTime updatedAt) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO active_member_sketches (bucket_date, metric, sketch, updated_at) "
+                                + "VALUES (:date, :metric, :sketch, :updatedAt) "
+                                + "ON CONFLICT (bucket_date, metric) DO UPDATE SET sketch = EXCLUDED.sketch, updated_at = EXCLUDED.updated_at")
+                .setParameter("date", date)
+                .setParameter("metric", metric.name())
+                .setParameter("sketch", sketch)
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+    }
+
+    /**
+     * 날짜별 활동 멤버 추가 (이미 있으면 무시)
+     */
+    public void insertDailyMembers(LocalDate date, ActiveMemberMetric metric, Collection<String> memberKeys) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO active_member_days (activity_date, metric, member_key) "
+                            + "SELECT ?, ?, member_key FROM unnest(?::varchar[]) AS v(member_key) ON CONFLICT DO NOTHING")) {
+                statement.setObject(1, date);
+                statement.setString(2, metric.name());
+                statement.setArray(3, connection.createArrayOf("varchar", memberKeys.toArray()));
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * 기간 [from, to]의 서로 다른 활동 멤버 수 (정확한 값)
+     */
+    public long countDailyMembers(ActiveMemberMetric metric, LocalDate from, LocalDate to) {
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(DISTINCT member_key) FROM active_member_days "
+                                + "WHERE activity_date >= :from AND activity_date <= :to AND metric = :metric")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setParameter("metric", metric.name())
+                .getSingleResult()).longValue();
+    }
+
+    public int deleteDailyMembersBefore(LocalDate before) {
+        return entityManager.createNativeQuery("DELETE FROM active_member_days WHERE activity_date < :before")
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+
+    private interface RowMapper {
+        Activity map(ResultSet rs) throws SQLException;
+    }
+
+    private void stream(String sql, int fetchSize, LocalDateTime[] parameters, RowMapper mapper, Consumer<Activity> consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setTimestamp(i + 1, Timestamp.valueOf(parameters[i]));
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(mapper.map(rs));
+                    }
+                }
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
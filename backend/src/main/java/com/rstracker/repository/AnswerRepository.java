@@ -1,11 +1,13 @@
 package com.rstracker.repository;
 
+import com.rstracker.dto.AnswerSelectionDto;
 import com.rstracker.entity.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -51,6 +53,16 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     @Query("SELECT a FROM Answer a WHERE a.participant.matching.id = :matchingId")
     List<Answer> findByMatchingId(@Param("matchingId") Long matchingId);
     
+    /**
+     * 매칭 ID 목록으로 응답 선택 일괄 조회 (엔티티 대신 ID 프로젝션)
+     * answers와 participants만 조인하며 질문/선택지는 외래 키 값을 그대로 사용
+     */
+    @Query("SELECT new com.rstracker.dto.AnswerSelectionDto(p.matching.id, p.id, a.question.id, a.choice.id) " +
+           "FROM Answer a JOIN a.participant p " +
+           "WHERE p.matching.id IN :matchingIds " +
+           "ORDER BY p.matching.id ASC, p.id ASC, a.question.id ASC")
+    List<AnswerSelectionDto> findSelectionsByMatchingIds(@Param("matchingIds") Collection<Long> matchingIds);
+    
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Answer a WHERE a.participant.id = :participantId AND a.question.id = :questionId")
     boolean existsByParticipantIdAndQuestionId(@Param("participantId") Long participantId, @Param("questionId") Long questionId);
 }
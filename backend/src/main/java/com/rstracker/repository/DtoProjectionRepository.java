@@ -0,0 +1,108 @@
+package com.rstracker.repository;
+
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.UserDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조회 전용 DTO 프로젝션 Repository
+ * 
+ * 생성자 표현식(SELECT new ...)으로 필요한 컬럼만 DTO로 바로 조회합니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 더티 체킹 스냅샷과 지연 로딩 프록시가 생기지 않습니다.
+ * 
+ * 같은 JPQL이라도 Spring Data @Query 메서드로 실행하면 호출당 할당이 약 3배여서
+ * (기록 단건 조회 기준 약 65KB → 20KB) 호출 빈도가 높은 단건 조회는 EntityManager로 직접 실행합니다.
+ * 반환된 DTO는 수정해도 DB에 반영되지 않습니다.
+ */
+@Repository
+public class DtoProjectionRepository {
+
+    private static final String RECORD_SELECT =
+            "SELECT new com.rstracker.dto.RecordDto(r.id, r.recordId, r.matching.id, r.temperature, " +
+            "r.temperatureDiff, r.isActive, r.createdAt, r.summary) FROM Record r ";
+
+    private static final String RECORD_VERSION_SELECT =
+            "SELECT new com.rstracker.repository.DtoProjectionRepository$RecordState(r.recordId, r.isActive, r.temperature) " +
+            "FROM Record r ";
+
+    private static final String MATCHING_SELECT =
+            "SELECT new com.rstracker.dto.MatchingDto(m.id, m.code, m.qrCodePath, m.status, m.createdAt) " +
+            "FROM Matching m ";
+
+    private static final String USER_SELECT =
+            "SELECT new com.rstracker.dto.UserDto(u.id, u.userid, u.email, u.phoneNumber, u.name, u.birthDate, " +
+            "u.gender, u.status, u.verificationStatus, u.phoneVerifiedAt, u.emailVerifiedAt, u.lastLoginAt, " +
+            "u.createdAt, u.updatedAt) FROM User u ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * recordId로 기록 DTO 조회
+     */
+    public Optional<RecordDto> findRecordByRecordId(String recordId) {
+        return single(entityManager.createQuery(RECORD_SELECT + "WHERE r.recordId = :recordId", RecordDto.class)
+                .setParameter("recordId", recordId));
+    }
+
+    /**
+     * matchingId로 기록 DTO 조회
+     */
+    public Optional<RecordDto> findRecordByMatchingId(Long matchingId) {
+        return single(entityManager.createQuery(RECORD_SELECT + "WHERE r.matching.id = :matchingId", RecordDto.class)
+                .setParameter("matchingId", matchingId));
+    }
+
+    /**
+     * recordId로 기록 표현 버전 계산에 필요한 상태 조회 (HTTP ETag용)
+     * 기록은 생성 후 활성 여부만 바뀌고, 온도는 백분위를 다시 계산하는 데 씁니다.
+     */
+    public Optional<RecordState> findRecordStateByRecordId(String recordId) {
+        return single(entityManager.createQuery(RECORD_VERSION_SELECT + "WHERE r.recordId = :recordId", RecordState.class)
+                .setParameter("recordId", recordId));
+    }
+
+    /**
+     * matchingId로 기록 표현 버전 계산에 필요한 상태 조회 (HTTP ETag용)
+     */
+    public Optional<RecordState> findRecordStateByMatchingId(Long matchingId) {
+        return single(entityManager.createQuery(RECORD_VERSION_SELECT + "WHERE r.matching.id = :matchingId", RecordState.class)
+                .setParameter("matchingId", matchingId));
+    }
+
+    /**
+     * 코드로 매칭 DTO 조회
+     */
+    public Optional<MatchingDto> findMatchingByCode(String code) {
+        return single(entityManager.createQuery(MATCHING_SELECT + "WHERE m.code = :code", MatchingDto.class)
+                .setParameter("code", code));
+    }
+
+    /**
+     * ID로 회원 DTO 조회
+     */
+    public Optional<UserDto> findUserById(Long id) {
+        return single(entityManager.createQuery(USER_SELECT + "WHERE u.id = :id", UserDto.class)
+                .setParameter("id", id));
+    }
+
+    private static <T> Optional<T> single(TypedQuery<T> query) {
+        // 매칭 코드와 회원 ID는 UNIQUE, 기록의 record_id와 matching_id는 V9 파티셔닝 이후 UNIQUE 제약이 없고
+        // RecordService.createRecord가 매칭 행을 잠근 뒤 중복을 확인해 보장하므로 최대 1건
+        List<T> results = query.setMaxResults(1).getResultList();
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * 기록 표현 버전 계산용 상태
+     */
+    public record RecordState(String recordId, Boolean isActive, Double temperature) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.rstracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 매칭 만료/보관 Repository
+ *
+ * 여러 행을 한 번에 옮기는 작업이라 엔티티를 읽지 않고 네이티브 SQL로 실행합니다.
+ * 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ *
+ * 보관 테이블(matchings_archive, participants_archive, answers_archive)은 매칭 생성 시각 기준
+ * 월별 RANGE 파티션이며, 행을 옮기기 전에 {@link MonthlyPartitionRepository}로 파티션을 만듭니다.
+ */
+@Repository
+public class MatchingArchiveRepository {
+
+    /** 보관 테이블 (모두 매칭 생성 시각으로 파티션) */
+    public static final List<String> ARCHIVE_TABLES = List.of("matchings_archive", "participants_archive", "answers_archive");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * cutoff 이전에 생성된 진행 중 매칭을 만료 상태로 변경 (최대 limit건, 다른 트랜잭션이 잠근 행은 건너뜀)
+     *
+     * @return 만료된 매칭 수
+     */
+    public int expireCreatedBefore(Collection<String> openStatuses, String expiredStatus, LocalDateTime cutoff, int limit) {
+        return entityManager.createNativeQuery(
+                        "UPDATE matchings SET status = :expired WHERE id IN ("
+                                + "SELECT id FROM matchings WHERE status IN (:statuses) AND created_at < :cutoff "
+                                + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)")
+                .setParameter("expired", expiredStatus)
+                .setParameter("statuses", openStatuses)
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    /**
+     * 보관 대상 매칭 ID를 잠그고 조회 (최대 limit건)
+     *
+     * - completed: completedBefore 이전에 완료
+     * - expired: expiredCreatedBefore 이전에 생성
+     * 회원이 참여한 세션은 회원 히스토리에서 조회하므로 제외합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> lockArchivable(String completedStatus, LocalDateTime completedBefore,
+                                     String expiredStatus, LocalDateTime expiredCreatedBefore, int limit) {
+        List<Number> ids = entityManager.createNativeQuery(
+                        "SELECT m.id FROM matchings m "
+                                + "WHERE ((m.status = :completed AND m.completed_at < :completedBefore) "
+                                + "OR (m.status = :expired AND m.created_at < :expiredCreatedBefore)) "
+                                + "AND NOT EXISTS (SELECT 1 FROM participants p WHERE p.matching_id = m.id AND p.user_id IS NOT NULL) "
+                                + "ORDER BY m.id LIMIT :limit FOR UPDATE SKIP LOCKED")
+                .setParameter("completed", completedStatus)
+                .setParameter("completedBefore", completedBefore)
+                .setParameter("expired", expiredStatus)
+                .setParameter("expiredCreatedBefore", expiredCreatedBefore)
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    /**
+     * 매칭들의 생성 월 목록 (파티션 생성용)
+     */
+    @SuppressWarnings("unchecked")
+    public List<YearMonth> findCreatedMonths(Collection<Long> matchingIds) {
+        List<String> months = entityManager.createNativeQuery(
+                        "SELECT DISTINCT to_char(created_at, 'YYYY-MM') FROM matchings WHERE id IN (:ids)")
+                .setParameter("ids", matchingIds)
+                .getResultList();
+        return months.stream().map(YearMonth::parse).toList();
+    }
+
+    /**
+     * 매칭과 참여자/응답을 보관 테이블로 복사한 뒤 원본에서 삭제 (참여자/응답은 CASCADE로 삭제)
+     *
+     * 기록(records)은 원본에 그대로 남습니다.
+     *
+     * @return 보관된 매칭 수
+     */
+    public int archive(Collection<Long> matchingIds, LocalDateTime archivedAt) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO answers_archive "
+                                + "(id, participant_id, question_id, choice_id, answered_at, matching_id, matching_created_at) "
+                                + "SELECT a.id, a.participant_id, a.question_id, a.choice_id, a.answered_at, m.id, m.created_at "
+                                + "FROM answers a JOIN participants p ON p.id = a.participant_id "
+                                + "JOIN matchings m ON m.id = p.matching_id WHERE m.id IN (:ids)")
+                .setParameter("ids", matchingIds)
+                .executeUpdate();
+        entityManager.createNativeQuery(
+                        "INSERT INTO participants_archive "
+                                + "(id, matching_id, participant_code, joined_at, user_id, matching_created_at) "
+                                + "SELECT p.id, p.matching_id, p.participant_code, p.joined_at, p.user_id, m.created_at "
+                                + "FROM participants p JOIN matchings m ON m.id = p.matching_id WHERE m.id IN (:ids)")
+                .setParameter("ids", matchingIds)
+                .executeUpdate();
+        entityManager.createNativeQuery(
+                        "INSERT INTO matchings_archive "
+                                + "(id, code, status, qr_code_path, created_at, completed_at, archived_at) "
+                                + "SELECT id, code, status, qr_code_path, created_at, completed_at, :archivedAt "
+                                + "FROM matchings WHERE id IN (:ids)")
+                .setParameter("archivedAt", archivedAt)
+                .setParameter("ids", matchingIds)
+                .executeUpdate();
+        return entityManager.createNativeQuery("DELETE FROM matchings WHERE id IN (:ids)")
+                .setParameter("ids", matchingIds)
+                .executeUpdate();
+    }
+}
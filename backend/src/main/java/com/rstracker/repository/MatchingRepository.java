@@ -1,14 +1,38 @@
 package com.rstracker.repository;
 
 import com.rstracker.entity.Matching;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatchingRepository extends JpaRepository<Matching, Long> {
     Optional<Matching> findByCode(String code);
     boolean existsByCode(String code);
-}
 
+    /**
+     * ID로 조회하며 행 잠금 (같은 매칭에 대한 기록 생성을 직렬화)
+     * 기록(mappedBy 쪽 OneToOne)은 잠금을 얻은 뒤 별도 조회로 채워집니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Matching m WHERE m.id = :id")
+    Optional<Matching> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 상태별 매칭 수 (모니터링 게이지용, 한 번의 GROUP BY로 조회)
+     */
+    @Query("SELECT m.status AS status, COUNT(m) AS count FROM Matching m WHERE m.status IN :statuses GROUP BY m.status")
+    List<StatusCount> countByStatusIn(@Param("statuses") Collection<String> statuses);
+
+    interface StatusCount {
+        String getStatus();
+        long getCount();
+    }
+}
@@ -0,0 +1,53 @@
+package com.rstracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+
+/**
+ * 월별 RANGE 파티션 관리 Repository
+ *
+ * 파티션 이름은 {테이블}_y{연}m{월} (예: records_y2026m01)이고 범위는 해당 월 1일 이상 다음 달 1일 미만입니다.
+ * 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class MonthlyPartitionRepository {
+
+    /** 파티션 생성 직렬화용 advisory lock 키 (여러 인스턴스가 같은 파티션을 동시에 만들지 않도록) */
+    private static final long PARTITION_LOCK_KEY = 0x6d61_7463_6861_7263L;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 해당 월 파티션이 없으면 생성
+     *
+     * 트랜잭션 advisory lock으로 파티션 생성을 직렬화하며, 잠금은 트랜잭션이 끝날 때 풀립니다.
+     *
+     * @return 새로 만들었으면 true
+     */
+    public boolean createIfMissing(String table, YearMonth month) {
+        entityManager.createNativeQuery("SELECT 1 FROM pg_advisory_xact_lock(:key)")
+                .setParameter("key", PARTITION_LOCK_KEY)
+                .getSingleResult();
+        String partition = partitionName(table, month);
+        Object existing = entityManager.createNativeQuery("SELECT CAST(to_regclass(:name) AS text)")
+                .setParameter("name", partition)
+                .getSingleResult();
+        if (existing != null) {
+            return false;
+        }
+        // 테이블 이름은 코드 상수, 파티션 이름과 경계는 YearMonth에서만 만들어지므로 문자열 조합이 안전함
+        entityManager.createNativeQuery(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                        partition, table, month.atDay(1), month.plusMonths(1).atDay(1)))
+                .executeUpdate();
+        return true;
+    }
+
+    public static String partitionName(String table, YearMonth month) {
+        return String.format("%s_y%dm%02d", table, month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,65 @@
+package com.rstracker.repository;
+
+import com.rstracker.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 선점할 수 있는 발행 대기 이벤트를 잠그고 가져오기 (다른 릴레이가 잠근 행은 건너뜀)
+     * - 선점되지 않았거나 선점 기한이 지난 이벤트만 가져옵니다.
+     * - 같은 매칭에 아직 발행되지 않은(재시도 가능한) 앞선 이벤트가 있으면 가져오지 않습니다.
+     *   앞선 이벤트를 다른 릴레이가 잠갔거나 선점했어도 뒤 이벤트를 먼저 발행하지 않으므로 인스턴스가 여러 개여도 매칭별 순서가 지켜집니다.
+     * 호출한 트랜잭션이 끝날 때까지 행 잠금이 유지됩니다.
+     */
+    @Query(value = "SELECT * FROM outbox_events e "
+            + "WHERE e.published_at IS NULL AND e.attempts < :maxAttempts "
+            + "AND (e.claimed_until IS NULL OR e.claimed_until < :now) "
+            + "AND NOT EXISTS (SELECT 1 FROM outbox_events earlier WHERE earlier.aggregate_id = e.aggregate_id "
+            + "AND earlier.published_at IS NULL AND earlier.attempts < :maxAttempts AND earlier.id < e.id) "
+            + "ORDER BY e.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockClaimable(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now,
+                                    @Param("limit") int limit);
+
+    /**
+     * 발행 완료로 표시 (아직 이 배치가 선점하고 있는 이벤트만)
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET published_at = :publishedAt, claim_token = NULL, claimed_until = NULL "
+            + "WHERE id IN (:ids) AND claim_token = :claimToken", nativeQuery = true)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("claimToken") UUID claimToken,
+                      @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 전달 실패 기록 후 선점 해제 (아직 이 배치가 선점하고 있는 이벤트만)
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET attempts = attempts + 1, last_error = :lastError, "
+            + "claim_token = NULL, claimed_until = NULL WHERE id = :id AND claim_token = :claimToken", nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("claimToken") UUID claimToken, @Param("lastError") String lastError);
+
+    /**
+     * 결과 없이 선점 해제 (처리 시간 초과, 다음 폴링에서 다시 전달)
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET claim_token = NULL, claimed_until = NULL "
+            + "WHERE id IN (:ids) AND claim_token = :claimToken", nativeQuery = true)
+    int releaseClaims(@Param("ids") Collection<Long> ids, @Param("claimToken") UUID claimToken);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -13,6 +13,14 @@ import java.util.Optional;
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
     List<Participant> findByMatchingId(Long matchingId);
     Optional<Participant> findByParticipantCode(String participantCode);
+
+    /**
+     * 참여 코드로 참여자와 매칭 상태 조회 (답변 제출 시 만료 확인용)
+     * 매칭 엔티티를 읽으면 기록(OneToOne)까지 조회하므로 상태 값만 같은 쿼리로 가져옵니다.
+     */
+    @Query("SELECT new com.rstracker.repository.ParticipantRepository$ParticipantWithMatchingStatus(p, m.status) "
+            + "FROM Participant p JOIN p.matching m WHERE p.participantCode = :participantCode")
+    Optional<ParticipantWithMatchingStatus> findWithMatchingStatusByParticipantCode(@Param("participantCode") String participantCode);
     long countByMatchingId(Long matchingId);
     
     /**
@@ -36,5 +44,8 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      * 회원 ID로 참여 횟수 조회
      */
     long countByUserId(Long userId);
+
+    record ParticipantWithMatchingStatus(Participant participant, String matchingStatus) {
+    }
 }
 
@@ -29,5 +29,18 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     
     @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.choices WHERE q.id = :id")
     Optional<Question> findByIdWithChoices(Long id);
+    
+    /**
+     * 질문 카탈로그 상태 요약 (HTTP ETag 계산용)
+     * 질문 추가/수정/삭제와 선택지 교체(삭제 후 재생성) 중 하나라도 일어나면 값이 바뀝니다.
+     */
+    @Query(value = "SELECT (SELECT COUNT(*) FROM questions) || ':' " +
+                   "|| (SELECT COALESCE(SUM(version), 0) FROM questions) || ':' " +
+                   "|| (SELECT COUNT(*) FILTER (WHERE is_active) FROM questions) || ':' " +
+                   "|| COALESCE(CAST((SELECT MAX(updated_at) FROM questions) AS text), '') || ':' " +
+                   "|| (SELECT COUNT(*) FROM question_choices) || ':' " +
+                   "|| (SELECT COALESCE(MAX(id), 0) FROM question_choices)",
+           nativeQuery = true)
+    String findCatalogState();
 }
 
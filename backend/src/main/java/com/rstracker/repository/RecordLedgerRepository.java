@@ -0,0 +1,255 @@
+package com.rstracker.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.entity.Matching;
+import com.rstracker.entity.Record;
+import com.rstracker.service.ledger.MerkleTree.NodeId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 기록 원장(머클 트리 노드) Repository
+ *
+ * 노드와 잎 번호는 배치마다 수천 행을 쓰므로 엔티티 대신 배열 파라미터(unnest)로 문장 하나에 저장합니다.
+ * 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class RecordLedgerRepository {
+
+    /** 원장 추가 작업 잠금 키 (트리 크기를 읽고 잎을 추가하는 동안 한 트랜잭션만 실행) */
+    private static final long APPEND_LOCK_KEY = 0x6c65_6467_6572_0001L;
+
+    /** 전체 검증 시작 잠금 키 (여러 인스턴스가 동시에 새 검증을 만들지 않도록) */
+    private static final long VERIFICATION_START_LOCK_KEY = 0x6c65_6467_6572_0002L;
+
+    /** 검증용 조회에서 jsonb 열을 엔티티 매핑(Hibernate Jackson 형식)과 같은 타입으로 읽기 위한 매퍼 */
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> SUMMARY_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, List<String>>> ANSWER_CHOICES_TYPE = new TypeReference<>() {
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 원장에 추가된 기록과 그 잎 해시
+     *
+     * @param leafHash 원장의 잎 해시 (ledgerIndex의 잎이 없으면 null)
+     */
+    public record AppendedRecord(Record record, long ledgerIndex, byte[] leafHash) {
+    }
+
+    /**
+     * 원장 추가 잠금 시도 (트랜잭션 종료 시 해제, 다른 인스턴스가 잡고 있으면 false)
+     */
+    public boolean tryLockForAppend() {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", APPEND_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    /**
+     * 전체 검증 시작 잠금 시도 (트랜잭션 종료 시 해제)
+     */
+    public boolean tryLockForVerificationStart() {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", VERIFICATION_START_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    /**
+     * 현재 잎 수
+     */
+    public long treeSize() {
+        Number maxIndex = (Number) entityManager.createNativeQuery(
+                        "SELECT max(node_index) FROM record_ledger_nodes WHERE level = 0")
+                .getSingleResult();
+        return maxIndex == null ? 0 : maxIndex.longValue() + 1;
+    }
+
+    /**
+     * 원장에 추가되지 않은 기록 (afterId보다 큰 ID 순, 최대 limit건, 읽기 전용)
+     *
+     * 한 번의 실행에서 앞 배치의 마지막 ID부터 이어 읽어, 이미 추가한 행을 인덱스에서 다시 건너뛰지 않게 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Record> findPending(long afterId, int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT r.* FROM records r WHERE r.ledger_index IS NULL AND r.id > :afterId ORDER BY r.id LIMIT :limit",
+                        Record.class)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * 기록의 원장 잎 번호 (아직 추가되지 않았으면 빈 값)
+     */
+    public Optional<Long> findLedgerIndex(Record record) {
+        Object ledgerIndex = entityManager.createNativeQuery(
+                        "SELECT ledger_index FROM records WHERE id = :id AND created_at = :createdAt")
+                .setParameter("id", record.getId())
+                .setParameter("createdAt", record.getCreatedAt())
+                .getSingleResult();
+        return Optional.ofNullable(ledgerIndex).map(value -> ((Number) value).longValue());
+    }
+
+    /**
+     * 노드 해시 일괄 조회 (없는 노드는 결과에서 빠짐)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<NodeId, byte[]> findNodes(Collection<NodeId> ids) {
+        Map<NodeId, byte[]> nodes = new HashMap<>();
+        if (ids.isEmpty()) {
+            return nodes;
+        }
+        StringBuilder sql = new StringBuilder("SELECT level, node_index, hash FROM record_ledger_nodes WHERE (level, node_index) IN (");
+        int i = 0;
+        for (NodeId ignored : ids) {
+            sql.append(i == 0 ? "" : ", ").append("(:level").append(i).append(", :index").append(i).append(")");
+            i++;
+        }
+        Query query = entityManager.createNativeQuery(sql.append(")").toString());
+        i = 0;
+        for (NodeId id : ids) {
+            query.setParameter("level" + i, (short) id.level());
+            query.setParameter("index" + i, id.index());
+            i++;
+        }
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            nodes.put(new NodeId(((Number) row[0]).intValue(), ((Number) row[1]).longValue()), (byte[]) row[2]);
+        }
+        return nodes;
+    }
+
+    /**
+     * 노드 일괄 저장 (배열 파라미터로 문장 하나에 저장)
+     */
+    public void insertNodes(Map<NodeId, byte[]> nodes) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO record_ledger_nodes (level, node_index, hash)"
+                            + " SELECT * FROM unnest(?::smallint[], ?::bigint[], ?::bytea[])")) {
+                Short[] levels = new Short[nodes.size()];
+                Long[] indexes = new Long[nodes.size()];
+                byte[][] hashes = new byte[nodes.size()][];
+                int i = 0;
+                for (Map.Entry<NodeId, byte[]> node : nodes.entrySet()) {
+                    levels[i] = (short) node.getKey().level();
+                    indexes[i] = node.getKey().index();
+                    hashes[i] = node.getValue();
+                    i++;
+                }
+                statement.setArray(1, connection.createArrayOf("smallint", levels));
+                statement.setArray(2, connection.createArrayOf("bigint", indexes));
+                statement.setArray(3, connection.createArrayOf("bytea", hashes));
+                statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * 기록에 잎 번호 기록 (records[i] → firstIndex + i, 문장 하나로 갱신)
+     */
+    public void assignLedgerIndexes(List<Record> records, long firstIndex) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE records r SET ledger_index = ? + v.ord - 1"
+                            + " FROM unnest(?::bigint[], ?::timestamp[]) WITH ORDINALITY AS v(id, created_at, ord)"
+                            + " WHERE r.id = v.id AND r.created_at = v.created_at AND r.ledger_index IS NULL")) {
+                Long[] ids = new Long[records.size()];
+                Timestamp[] createdAts = new Timestamp[records.size()];
+                for (int i = 0; i < records.size(); i++) {
+                    ids[i] = records.get(i).getId();
+                    createdAts[i] = Timestamp.valueOf(records.get(i).getCreatedAt());
+                }
+                statement.setLong(1, firstIndex);
+                statement.setArray(2, connection.createArrayOf("bigint", ids));
+                statement.setArray(3, connection.createArrayOf("timestamp", createdAts));
+                if (statement.executeUpdate() != records.size()) {
+                    throw new IllegalStateException("Record already appended to the ledger or missing");
+                }
+            }
+        });
+    }
+
+    /**
+     * 기록 ID 범위 [최소, 최대] (기록이 없으면 빈 값)
+     */
+    public Optional<long[]> findRecordIdRange() {
+        Object[] range = (Object[]) entityManager.createNativeQuery("SELECT min(id), max(id) FROM records")
+                .getSingleResult();
+        if (range[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new long[]{((Number) range[0]).longValue(), ((Number) range[1]).longValue()});
+    }
+
+    /**
+     * ID가 [fromId, toId)인 원장 추가 기록을 전방향 커서로 읽어 하나씩 전달 (ID 순서는 보장하지 않음)
+     *
+     * 영속성 컨텍스트를 거치지 않고 fetchSize건씩 가져오므로 청크가 커도 메모리 사용량이 일정합니다.
+     * 커서는 트랜잭션 안에서만 유지되므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    public void streamAppended(long fromId, long toId, int fetchSize, Consumer<AppendedRecord> consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT r.id, r.record_id, r.matching_id, r.temperature, r.temperature_diff, r.created_at,"
+                            + " r.summary::text, r.answer_choices::text, r.ledger_index, n.hash"
+                            + " FROM records r"
+                            + " LEFT JOIN record_ledger_nodes n ON n.level = 0 AND n.node_index = r.ledger_index"
+                            + " WHERE r.id >= ? AND r.id < ? AND r.ledger_index IS NOT NULL",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, fromId);
+                statement.setLong(2, toId);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(new AppendedRecord(toRecord(rs), rs.getLong(9), rs.getBytes(10)));
+                    }
+                }
+            }
+        });
+    }
+
+    private static Record toRecord(ResultSet rs) throws SQLException {
+        Matching matching = new Matching();
+        matching.setId(rs.getLong(3));
+        Record record = new Record();
+        record.setId(rs.getLong(1));
+        record.setRecordId(rs.getString(2));
+        record.setMatching(matching);
+        record.setTemperature(rs.getObject(4, Double.class));
+        record.setTemperatureDiff(rs.getObject(5, Double.class));
+        record.setCreatedAt(rs.getObject(6, LocalDateTime.class));
+        try {
+            String summary = rs.getString(7);
+            String answerChoices = rs.getString(8);
+            record.setSummary(summary == null ? null : JSON.readValue(summary, SUMMARY_TYPE));
+            record.setAnswerChoices(answerChoices == null ? null : JSON.readValue(answerChoices, ANSWER_CHOICES_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable jsonb in record " + record.getRecordId(), e);
+        }
+        return record;
+    }
+}
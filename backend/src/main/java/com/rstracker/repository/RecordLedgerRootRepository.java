@@ -0,0 +1,16 @@
+package com.rstracker.repository;
+
+import com.rstracker.entity.RecordLedgerRoot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RecordLedgerRootRepository extends JpaRepository<RecordLedgerRoot, Long> {
+
+    /**
+     * 가장 최근(가장 큰) 서명 루트
+     */
+    Optional<RecordLedgerRoot> findFirstByOrderByTreeSizeDesc();
+}
@@ -0,0 +1,81 @@
+package com.rstracker.repository;
+
+import com.rstracker.entity.RecordLedgerVerification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecordLedgerVerificationRepository extends JpaRepository<RecordLedgerVerification, Long> {
+
+    /**
+     * 가장 먼저 시작한 진행 중 검증 (중단된 검증 재개용)
+     */
+    Optional<RecordLedgerVerification> findFirstByStatusOrderByIdAsc(RecordLedgerVerification.Status status);
+
+    /**
+     * 가장 최근에 시작한 검증
+     */
+    Optional<RecordLedgerVerification> findFirstByOrderByIdDesc();
+
+    /**
+     * 완료한 청크의 시작 ID
+     */
+    @Query(value = "SELECT chunk_start FROM record_ledger_verification_chunks WHERE verification_id = :verificationId",
+           nativeQuery = true)
+    List<Long> findCompletedChunkStarts(@Param("verificationId") Long verificationId);
+
+    /**
+     * 청크 체크포인트 저장 (다른 인스턴스가 같은 청크를 먼저 끝냈으면 무시)
+     *
+     * @return 저장한 행 수 (0이면 이미 완료된 청크)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO record_ledger_verification_chunks " +
+                   "(verification_id, chunk_start, verified_count, mismatch_count, completed_at) " +
+                   "VALUES (:verificationId, :chunkStart, :verifiedCount, :mismatchCount, :completedAt) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int saveChunk(@Param("verificationId") Long verificationId,
+                  @Param("chunkStart") long chunkStart,
+                  @Param("verifiedCount") int verifiedCount,
+                  @Param("mismatchCount") int mismatchCount,
+                  @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * 불일치 기록 저장
+     */
+    @Modifying
+    @Query(value = "INSERT INTO record_ledger_mismatches " +
+                   "(verification_id, record_key, record_id, ledger_index, reason, detected_at) " +
+                   "VALUES (:verificationId, :recordKey, :recordId, :ledgerIndex, :reason, :detectedAt) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int saveMismatch(@Param("verificationId") Long verificationId,
+                     @Param("recordKey") long recordKey,
+                     @Param("recordId") String recordId,
+                     @Param("ledgerIndex") long ledgerIndex,
+                     @Param("reason") String reason,
+                     @Param("detectedAt") LocalDateTime detectedAt);
+
+    /**
+     * 청크 결과 합계 [검증한 기록 수, 불일치 수]
+     */
+    @Query(value = "SELECT COALESCE(SUM(verified_count), 0), COALESCE(SUM(mismatch_count), 0) " +
+                   "FROM record_ledger_verification_chunks WHERE verification_id = :verificationId",
+           nativeQuery = true)
+    List<Object[]> sumChunkResults(@Param("verificationId") Long verificationId);
+
+    /**
+     * 검증에서 찾은 불일치 기록의 recordId
+     */
+    @Query(value = "SELECT record_id FROM record_ledger_mismatches WHERE verification_id = :verificationId ORDER BY record_key",
+           nativeQuery = true)
+    List<String> findMismatchedRecordIds(@Param("verificationId") Long verificationId);
+}
@@ -0,0 +1,71 @@
+package com.rstracker.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기록 온도 백분위 순위 Repository
+ *
+ * 메모리 히스토그램 재구축용 조회만 제공하며, 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class RecordRankRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 활성 기록 한 건의 ID와 온도
+     */
+    @FunctionalInterface
+    public interface ActiveTemperatureConsumer {
+        void accept(long id, double temperature);
+    }
+
+    /**
+     * 온도가 있는 활성 기록을 전방향 커서로 읽어 ID와 온도를 전달
+     *
+     * 영속성 컨텍스트와 박싱을 거치지 않고 fetchSize건씩 가져옵니다.
+     * 커서는 트랜잭션 안에서만 유지되므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    public void streamActiveTemperatures(int fetchSize, ActiveTemperatureConsumer consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, temperature FROM records WHERE is_active AND temperature IS NOT NULL",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getLong(1), rs.getDouble(2));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 주어진 ID 중 온도가 있는 활성 기록의 ID
+     */
+    public Set<Long> findActiveIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(
+                        "SELECT id FROM records WHERE id IN (:ids) AND is_active AND temperature IS NOT NULL")
+                .setParameter("ids", ids)
+                .getResultList();
+        Set<Long> active = new HashSet<>();
+        rows.forEach(id -> active.add(id.longValue()));
+        return active;
+    }
+}
@@ -0,0 +1,93 @@
+package com.rstracker.repository;
+
+import com.rstracker.entity.Record;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기록 검색 Repository (응답 선택지 조건 + 키셋 페이징)
+ *
+ * 선택지 조건은 records.answer_choices에 대한 포함 연산자(@>)로 GIN 인덱스(jsonb_path_ops)를 사용합니다.
+ * JPQL에는 jsonb 연산자가 없어 네이티브 SQL로 실행하며, RecordSpecifications처럼 지정된 조건만 WHERE 절에 넣습니다.
+ * 정렬은 (created_at DESC, id DESC) 고정이고, 다음 페이지는 OFFSET 대신 마지막 행의 (created_at, id) 이후부터 읽습니다.
+ */
+@Repository
+public class RecordSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 기록 목록 (최신순, 최대 limit건)
+     *
+     * @param answerChoices  선택지 조건 JSON (예: {"Q5": ["closer_ok"]}, 선택)
+     * @param afterCreatedAt 이전 페이지 마지막 기록의 생성 시각 (첫 페이지는 null)
+     * @param afterId        이전 페이지 마지막 기록의 ID (첫 페이지는 null)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Record> search(String answerChoices, Double minTemp, Double maxTemp, Boolean isActive,
+                               LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        List<String> predicates = predicates(answerChoices, minTemp, maxTemp, isActive, parameters);
+        if (afterCreatedAt != null && afterId != null) {
+            // 첫 조건은 파티션 프루닝과 created_at 인덱스 범위용, 행 비교는 같은 시각의 기록을 id로 이어서 읽기 위함
+            predicates.add("r.created_at <= :afterCreatedAt");
+            predicates.add("(r.created_at, r.id) < (:afterCreatedAt, :afterId)");
+            parameters.put("afterCreatedAt", afterCreatedAt);
+            parameters.put("afterId", afterId);
+        }
+
+        Query query = entityManager.createNativeQuery(
+                "SELECT r.* FROM records r" + where(predicates) + " ORDER BY r.created_at DESC, r.id DESC LIMIT :limit",
+                Record.class);
+        parameters.forEach(query::setParameter);
+        query.setParameter("limit", limit);
+        return query.getResultList();
+    }
+
+    /**
+     * 조건에 맞는 기록 수
+     */
+    public long count(String answerChoices, Double minTemp, Double maxTemp, Boolean isActive) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        List<String> predicates = predicates(answerChoices, minTemp, maxTemp, isActive, parameters);
+
+        Query query = entityManager.createNativeQuery("SELECT count(*) FROM records r" + where(predicates));
+        parameters.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static List<String> predicates(String answerChoices, Double minTemp, Double maxTemp, Boolean isActive,
+                                           Map<String, Object> parameters) {
+        List<String> predicates = new ArrayList<>();
+        if (answerChoices != null) {
+            predicates.add("r.answer_choices @> CAST(:answerChoices AS jsonb)");
+            parameters.put("answerChoices", answerChoices);
+        }
+        if (minTemp != null) {
+            predicates.add("r.temperature >= :minTemp");
+            parameters.put("minTemp", minTemp);
+        }
+        if (maxTemp != null) {
+            predicates.add("r.temperature <= :maxTemp");
+            parameters.put("maxTemp", maxTemp);
+        }
+        if (isActive != null) {
+            predicates.add("r.is_active = :isActive");
+            parameters.put("isActive", isActive);
+        }
+        return predicates;
+    }
+
+    private static String where(List<String> predicates) {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+}
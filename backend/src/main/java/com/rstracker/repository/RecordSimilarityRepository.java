@@ -0,0 +1,88 @@
+package com.rstracker.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 유사 기록 색인 Repository
+ *
+ * 메모리 색인 재구축용 조회만 제공하며, 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class RecordSimilarityRepository {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<Map<String, List<String>>> ANSWER_CHOICES_TYPE = new TypeReference<>() {
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 활성 기록 한 건의 ID와 선택지 (질문 순서 "Q3" → 선택지 값 목록)
+     */
+    @FunctionalInterface
+    public interface AnswerChoicesConsumer {
+        void accept(long id, Map<String, List<String>> answerChoices);
+    }
+
+    /**
+     * 선택지가 있는 활성 기록을 전방향 커서로 읽어 ID와 선택지를 전달
+     *
+     * answer_choices는 기록 생성 시 응답(answers)으로 채운 질문별 선택지 집합이므로
+     * 응답/보관 테이블을 조인하지 않고 기록당 한 행만 읽습니다.
+     * 커서는 트랜잭션 안에서만 유지되므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    public void streamActiveAnswerChoices(int fetchSize, AnswerChoicesConsumer consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, answer_choices::text FROM records WHERE is_active AND answer_choices IS NOT NULL",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(rs.getLong(1), answerChoices(rs.getString(2)));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 주어진 ID 중 선택지가 있는 활성 기록의 ID
+     */
+    public Set<Long> findActiveIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(
+                        "SELECT id FROM records WHERE id IN (:ids) AND is_active AND answer_choices IS NOT NULL")
+                .setParameter("ids", ids)
+                .getResultList();
+        Set<Long> active = new HashSet<>();
+        rows.forEach(id -> active.add(id.longValue()));
+        return active;
+    }
+
+    private static Map<String, List<String>> answerChoices(String json) {
+        try {
+            return JSON.readValue(json, ANSWER_CHOICES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable record answer choices", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.rstracker.repository;
+
+import com.rstracker.entity.Record;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록 목록 필터 Specification
+ *
+ * 값이 지정된 조건만 WHERE 절에 넣습니다. `(:param IS NULL OR ...)` 형태와 달리
+ * 조건 조합마다 맞는 인덱스(V10)와 records 월별 파티션 프루닝을 쓸 수 있습니다.
+ * 매칭은 조인하지 않습니다. (DTO에는 matching_id만 필요하고, 보관된 세션의 매칭은 원본 테이블에 없음)
+ */
+public final class RecordSpecifications {
+
+    private RecordSpecifications() {
+    }
+
+    /**
+     * 온도 범위, 활성 여부, 생성일 범위 필터 (null인 조건은 제외, 모두 null이면 전체)
+     */
+    public static Specification<Record> filter(Double minTemp, Double maxTemp, Boolean isActive,
+                                               LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (minTemp != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("temperature"), minTemp));
+            }
+            if (maxTemp != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("temperature"), maxTemp));
+            }
+            if (isActive != null) {
+                predicates.add(cb.equal(root.get("isActive"), isActive));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), endDate));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,298 @@
+package com.rstracker.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.service.stats.QuestionSetFingerprint;
+import com.rstracker.service.stats.SketchBucket;
+import com.rstracker.service.stats.TemperatureSketch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 기록 온도 스케치 Repository
+ *
+ * 스케치(t-digest)는 직렬화한 바이트로 저장하며, 모든 메서드는 호출한 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Repository
+public class RecordStatsRepository {
+
+    /** 스케치 갱신 잠금 키 (반영과 재구축이 같은 버킷을 동시에 쓰지 않도록 한 트랜잭션만 실행) */
+    private static final long SKETCH_LOCK_KEY = 0x7374_6174_7300_0001L;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> SUMMARY_TYPE = new TypeReference<>() {
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 스케치 반영 대기 기록
+     */
+    public record InboxEntry(String recordId, SketchBucket bucket, Double temperature, Double temperatureDiff) {
+    }
+
+    /**
+     * 저장된 버킷 스케치
+     */
+    public record StoredSketch(SketchBucket bucket, TemperatureSketch sketch) {
+    }
+
+    /**
+     * 질문 세트별 스케치 범위
+     */
+    public record QuestionSetRange(String questionSet, LocalDate firstDate, LocalDate lastDate, long recordCount) {
+    }
+
+    /**
+     * 스케치 갱신 잠금 시도 (트랜잭션 종료 시 해제)
+     */
+    public boolean tryLockSketches() {
+        return (Boolean) entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", SKETCH_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    /**
+     * 스케치 갱신 잠금 (다른 트랜잭션이 잡고 있으면 기다림, 트랜잭션 종료 시 해제)
+     */
+    public void lockSketches() {
+        entityManager.createNativeQuery("SELECT pg_advisory_xact_lock(:key)")
+                .setParameter("key", SKETCH_LOCK_KEY)
+                .getSingleResult();
+    }
+
+    /**
+     * 반영 대기 기록 추가 (이미 받은 기록이면 무시)
+     *
+     * @return 추가한 행 수
+     */
+    public int insertInbox(InboxEntry entry, LocalDateTime receivedAt) {
+        return entityManager.createNativeQuery(
+                        "INSERT INTO record_stat_inbox (record_id, bucket_date, question_set, temperature, temperature_diff, received_at) "
+                                + "VALUES (:recordId, :bucketDate, :questionSet, :temperature, :temperatureDiff, :receivedAt) "
+                                + "ON CONFLICT DO NOTHING")
+                .setParameter("recordId", entry.recordId())
+                .setParameter("bucketDate", entry.bucket().date())
+                .setParameter("questionSet", entry.bucket().questionSet())
+                .setParameter("temperature", entry.temperature())
+                .setParameter("temperatureDiff", entry.temperatureDiff())
+                .setParameter("receivedAt", receivedAt)
+                .executeUpdate();
+    }
+
+    /**
+     * 반영 대기 기록 (받은 순서, 최대 limit건)
+     */
+    @SuppressWarnings("unchecked")
+    public List<InboxEntry> findUnapplied(int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT record_id, bucket_date, question_set, temperature, temperature_diff FROM record_stat_inbox "
+                                + "WHERE applied_at IS NULL ORDER BY received_at LIMIT :limit")
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new InboxEntry((String) row[0], new SketchBucket(toLocalDate(row[1]), (String) row[2]),
+                        (Double) row[3], (Double) row[4]))
+                .toList();
+    }
+
+    /**
+     * 반영 완료 표시
+     */
+    public void markApplied(Collection<String> recordIds, LocalDateTime appliedAt) {
+        entityManager.createNativeQuery(
+                        "UPDATE record_stat_inbox SET applied_at = :appliedAt WHERE record_id IN (:recordIds)")
+                .setParameter("appliedAt", appliedAt)
+                .setParameter("recordIds", recordIds)
+                .executeUpdate();
+    }
+
+    /**
+     * 기간 [from, to)의 반영 대기 기록을 반영 완료로 표시 (재구축한 날짜)
+     */
+    public int markAppliedBetween(LocalDate from, LocalDate to, LocalDateTime appliedAt) {
+        return entityManager.createNativeQuery(
+                        "UPDATE record_stat_inbox SET applied_at = :appliedAt "
+                                + "WHERE applied_at IS NULL AND bucket_date >= :from AND bucket_date < :to")
+                .setParameter("appliedAt", appliedAt)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    /**
+     * 보관 기간이 지난 반영 완료 기록 삭제
+     */
+    public int deleteAppliedBefore(LocalDateTime before) {
+        return entityManager.createNativeQuery("DELETE FROM record_stat_inbox WHERE applied_at < :before")
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+
+    /**
+     * 버킷 스케치 일괄 조회 (없는 버킷은 결과에서 빠짐)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<SketchBucket, TemperatureSketch> findSketches(Collection<SketchBucket> buckets) {
+        Map<SketchBucket, TemperatureSketch> sketches = new HashMap<>();
+        if (buckets.isEmpty()) {
+            return sketches;
+        }
+        StringBuilder sql = new StringBuilder("SELECT bucket_date, question_set, temperature_digest, temperature_diff_digest "
+                + "FROM record_stat_sketches WHERE (bucket_date, question_set) IN (");
+        int i = 0;
+        for (SketchBucket ignored : buckets) {
+            sql.append(i == 0 ? "" : ", ").append("(:date").append(i).append(", :questionSet").append(i).append(")");
+            i++;
+        }
+        Query query = entityManager.createNativeQuery(sql.append(")").toString());
+        i = 0;
+        for (SketchBucket bucket : buckets) {
+            query.setParameter("date" + i, bucket.date());
+            query.setParameter("questionSet" + i, bucket.questionSet());
+            i++;
+        }
+        for (StoredSketch stored : toStoredSketches((List<Object[]>) query.getResultList())) {
+            sketches.put(stored.bucket(), stored.sketch());
+        }
+        return sketches;
+    }
+
+    /**
+     * 기간 [from, to)의 버킷 스케치 (questionSet이 null이면 모든 질문 세트, 날짜순)
+     */
+    @SuppressWarnings("unchecked")
+    public List<StoredSketch> findSketchesBetween(LocalDate from, LocalDate to, String questionSet) {
+        Query query = entityManager.createNativeQuery(
+                        "SELECT bucket_date, question_set, temperature_digest, temperature_diff_digest FROM record_stat_sketches "
+                                + "WHERE bucket_date >= :from AND bucket_date < :to"
+                                + (questionSet != null ? " AND question_set = :questionSet" : "")
+                                + " ORDER BY bucket_date, question_set")
+                .setParameter("from", from)
+                .setParameter("to", to);
+        if (questionSet != null) {
+            query.setParameter("questionSet", questionSet);
+        }
+        return toStoredSketches((List<Object[]>) query.getResultList());
+    }
+
+    /**
+     * 질문 세트별 스케치 범위 (최근에 쓰인 질문 세트 순)
+     */
+    @SuppressWarnings("unchecked")
+    public List<QuestionSetRange> findQuestionSetRanges() {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT question_set, min(bucket_date), max(bucket_date), sum(record_count) FROM record_stat_sketches "
+                                + "GROUP BY question_set ORDER BY max(bucket_date) DESC, question_set")
+                .getResultList();
+        return rows.stream()
+                .map(row -> new QuestionSetRange((String) row[0], toLocalDate(row[1]), toLocalDate(row[2]),
+                        ((Number) row[3]).longValue()))
+                .toList();
+    }
+
+    /**
+     * 버킷 스케치 저장 (있으면 교체)
+     */
+    public void upsertSketch(SketchBucket bucket, TemperatureSketch sketch, LocalDateTime updatedAt) {
+        entityManager.createNativeQuery(
+                        "INSERT INTO record_stat_sketches "
+                                + "(bucket_date, question_set, record_count, temperature_digest, temperature_diff_digest, updated_at) "
+                                + "VALUES (:bucketDate, :questionSet, :recordCount, :temperatureDigest, :temperatureDiffDigest, :updatedAt) "
+                                + "ON CONFLICT (bucket_date, question_set) DO UPDATE SET record_count = EXCLUDED.record_count, "
+                                + "temperature_digest = EXCLUDED.temperature_digest, "
+                                + "temperature_diff_digest = EXCLUDED.temperature_diff_digest, updated_at = EXCLUDED.updated_at")
+                .setParameter("bucketDate", bucket.date())
+                .setParameter("questionSet", bucket.questionSet())
+                .setParameter("recordCount", sketch.count())
+                .setParameter("temperatureDigest", sketch.temperatureBytes())
+                .setParameter("temperatureDiffDigest", sketch.temperatureDiffBytes())
+                .setParameter("updatedAt", updatedAt)
+                .executeUpdate();
+    }
+
+    /**
+     * 기간 [from, to)의 스케치 삭제 (재구축 전)
+     */
+    public int deleteSketchesBetween(LocalDate from, LocalDate to) {
+        return entityManager.createNativeQuery(
+                        "DELETE FROM record_stat_sketches WHERE bucket_date >= :from AND bucket_date < :to")
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+    }
+
+    /**
+     * 가장 오래된 기록의 생성 날짜
+     */
+    public Optional<LocalDate> findFirstRecordDate() {
+        Object first = entityManager.createNativeQuery("SELECT CAST(min(created_at) AS date) FROM records")
+                .getSingleResult();
+        return Optional.ofNullable(first).map(RecordStatsRepository::toLocalDate);
+    }
+
+    /**
+     * 생성 시각이 [from, to)인 기록을 전방향 커서로 읽어 버킷과 온도를 전달
+     *
+     * 영속성 컨텍스트를 거치지 않고 fetchSize건씩 가져오며, 날짜 조건으로 해당 월 파티션만 읽습니다.
+     * 커서는 트랜잭션 안에서만 유지되므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    public void streamRecordTemperatures(LocalDateTime from, LocalDateTime to, int fetchSize, Consumer<InboxEntry> consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT record_id, created_at, summary::text, temperature, temperature_diff FROM records "
+                            + "WHERE created_at >= ? AND created_at < ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, Timestamp.valueOf(from));
+                statement.setTimestamp(2, Timestamp.valueOf(to));
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        String summary = rs.getString(3);
+                        SketchBucket bucket = new SketchBucket(rs.getObject(2, LocalDateTime.class).toLocalDate(),
+                                questionSet(summary));
+                        consumer.accept(new InboxEntry(rs.getString(1), bucket,
+                                rs.getObject(4, Double.class), rs.getObject(5, Double.class)));
+                    }
+                }
+            }
+        });
+    }
+
+    private static String questionSet(String summary) {
+        try {
+            return QuestionSetFingerprint.of(summary == null ? null : JSON.readValue(summary, SUMMARY_TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable record summary", e);
+        }
+    }
+
+    private static List<StoredSketch> toStoredSketches(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new StoredSketch(new SketchBucket(toLocalDate(row[0]), (String) row[1]),
+                        TemperatureSketch.fromBytes((byte[]) row[2], (byte[]) row[3])))
+                .toList();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
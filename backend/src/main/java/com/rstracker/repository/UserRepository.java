@@ -1,10 +1,17 @@
 package com.rstracker.repository;
 
 import com.rstracker.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 회원 Repository
@@ -41,5 +48,62 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 휴대폰 번호 존재 여부 확인
      */
     boolean existsByPhoneNumber(String phoneNumber);
+
+    /**
+     * 검색 색인 구축용 스트리밍 조회
+     * 엔티티 대신 검색 필드만 조회하여 영속성 컨텍스트에 쌓이지 않도록 합니다.
+     * 트랜잭션 안에서 호출해야 fetch size가 적용됩니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.id AS id, u.userid AS userid, u.name AS name, u.phoneNumber AS phoneNumber " +
+           "FROM User u WHERE u.status <> :excludedStatus ORDER BY u.id")
+    Stream<UserSearchView> streamSearchViews(@Param("excludedStatus") User.UserStatus excludedStatus);
+
+    /**
+     * pg_trgm 기반 회원 검색 (메모리 색인이 준비되기 전 대체 경로)
+     * V6 마이그레이션의 GIN 트라이그램 인덱스로 후보를 찾고, 메모리 색인의 랭킹과 같은 우선순위
+     * (정확히 일치 > 접두어 > 부분 문자열 > 유사도)로 정렬한 뒤 자릅니다.
+     * 일치 유형은 공백을 제거하고 소문자로 바꾼 아이디/이름(:text)과 숫자만 남긴 전화번호(:digits)로 판단합니다.
+     *
+     * @param digits 전화번호 검색어 (숫자 검색어가 아니면 null)
+     */
+    @Query(value = "SELECT c.id AS id, c.userid AS userid, c.name AS name, c.phone_number AS phoneNumber " +
+                   "FROM (SELECT u.id, u.userid, u.name, u.phone_number, " +
+                   "             lower(regexp_replace(u.userid, '\\s', '', 'g')) AS normalized_userid, " +
+                   "             lower(regexp_replace(u.name, '\\s', '', 'g')) AS normalized_name, " +
+                   "             regexp_replace(u.phone_number, '[^0-9]', '', 'g') AS normalized_phone " +
+                   "      FROM users u " +
+                   "      WHERE u.status <> 'DELETED' " +
+                   "      AND (u.userid ILIKE :pattern OR u.name ILIKE :pattern OR u.phone_number LIKE :pattern " +
+                   "           OR u.userid % :query OR u.name % :query)) c " +
+                   "ORDER BY CASE " +
+                   "    WHEN c.normalized_userid = :text OR c.normalized_name = :text " +
+                   "         OR c.normalized_phone = CAST(:digits AS text) THEN 0 " +
+                   "    WHEN starts_with(c.normalized_userid, :text) OR starts_with(c.normalized_name, :text) " +
+                   "         OR starts_with(c.normalized_phone, CAST(:digits AS text)) THEN 1 " +
+                   "    WHEN strpos(c.normalized_userid, :text) > 0 OR strpos(c.normalized_name, :text) > 0 " +
+                   "         OR strpos(c.normalized_phone, CAST(:digits AS text)) > 0 THEN 2 " +
+                   "    ELSE 3 END, " +
+                   "GREATEST(similarity(c.userid, :query), similarity(c.name, :query), similarity(c.phone_number, :query)) DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<UserSearchView> searchByTrigram(@Param("query") String query,
+                                         @Param("pattern") String pattern,
+                                         @Param("text") String text,
+                                         @Param("digits") String digits,
+                                         @Param("limit") int limit);
+
+    /**
+     * 회원 검색용 프로젝션
+     */
+    interface UserSearchView {
+        Long getId();
+
+        String getUserid();
+
+        String getName();
+
+        String getPhoneNumber();
+    }
 }
 
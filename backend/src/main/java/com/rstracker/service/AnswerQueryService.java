@@ -1,7 +1,9 @@
 package com.rstracker.service;
 
+import com.rstracker.dto.AnswerSelectionDto;
 import com.rstracker.entity.Answer;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -23,5 +25,16 @@ public interface AnswerQueryService {
      * @return 응답 목록
      */
     List<Answer> getAnswersByMatching(Long matchingId);
+    
+    /**
+     * 여러 매칭의 응답 선택을 일괄 조회
+     * 
+     * 매칭 수와 무관하게 한 번의 쿼리로 조회합니다. (ID 목록이 매우 크면 나누어 조회)
+     * 결과는 매칭 ID, 참여자 ID, 질문 ID 순으로 정렬됩니다.
+     * 
+     * @param matchingIds 매칭 ID 목록
+     * @return 응답 선택 목록 (매칭 ID가 없으면 빈 목록)
+     */
+    List<AnswerSelectionDto> getAnswersByMatchings(Collection<Long> matchingIds);
 }
 
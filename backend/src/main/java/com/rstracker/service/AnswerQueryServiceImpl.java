@@ -1,12 +1,16 @@
 package com.rstracker.service;
 
+import com.rstracker.dto.AnswerSelectionDto;
 import com.rstracker.entity.Answer;
 import com.rstracker.repository.AnswerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * 응답 조회 서비스 구현체
@@ -22,6 +26,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AnswerQueryServiceImpl implements AnswerQueryService {
     
+    /**
+     * 한 쿼리의 IN 목록 최대 크기 (드라이버 바인드 파라미터 한도 32767보다 충분히 작게)
+     */
+    static final int MATCHING_ID_CHUNK_SIZE = 1000;
+    
     private final AnswerRepository answerRepository;
     
     @Override
@@ -31,5 +40,24 @@ public class AnswerQueryServiceImpl implements AnswerQueryService {
         // 향후: Answer Service API 호출로 변경 예정
         return answerRepository.findByMatchingId(matchingId);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<AnswerSelectionDto> getAnswersByMatchings(Collection<Long> matchingIds) {
+        List<Long> ids = matchingIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() <= MATCHING_ID_CHUNK_SIZE) {
+            return answerRepository.findSelectionsByMatchingIds(ids);
+        }
+        // ID를 정렬한 뒤 나누므로 청크 결과를 이어 붙여도 전체 정렬이 유지됨
+        List<AnswerSelectionDto> selections = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MATCHING_ID_CHUNK_SIZE) {
+            int to = Math.min(from + MATCHING_ID_CHUNK_SIZE, ids.size());
+            selections.addAll(answerRepository.findSelectionsByMatchingIds(ids.subList(from, to)));
+        }
+        return selections;
+    }
 }
 
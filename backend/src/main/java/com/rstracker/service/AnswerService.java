@@ -1,20 +1,28 @@
 package com.rstracker.service;
 
+import com.rstracker.config.MetricsConfig;
 import com.rstracker.dto.AnswerCreateDto;
 import com.rstracker.entity.Answer;
+import com.rstracker.entity.MatchingStatus;
 import com.rstracker.entity.Participant;
 import com.rstracker.entity.Question;
 import com.rstracker.entity.QuestionChoice;
+import com.rstracker.event.AnswersSubmittedEvent;
+import com.rstracker.event.DomainEventPublisher;
+import com.rstracker.exception.BusinessException;
 import com.rstracker.exception.ResourceNotFoundException;
 import com.rstracker.repository.AnswerRepository;
 import com.rstracker.repository.ParticipantRepository;
+import com.rstracker.repository.ParticipantRepository.ParticipantWithMatchingStatus;
 import com.rstracker.repository.QuestionRepository;
 import com.rstracker.repository.QuestionChoiceRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,19 +30,27 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class AnswerService {
 
     private final AnswerRepository answerRepository;
     private final ParticipantRepository participantRepository;
     private final QuestionRepository questionRepository;
     private final QuestionChoiceRepository questionChoiceRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public void submitAnswers(String participantCode, List<AnswerCreateDto> answerDtos) {
         log.debug("Submitting answers for participant: {}", participantCode);
         
-        Participant participant = participantRepository.findByParticipantCode(participantCode)
+        ParticipantWithMatchingStatus found = participantRepository.findWithMatchingStatusByParticipantCode(participantCode)
                 .orElseThrow(() -> new ResourceNotFoundException("참여자를 찾을 수 없습니다: " + participantCode));
+        Participant participant = found.participant();
+
+        // 스위퍼가 만료시킨 매칭 (MatchingSweeper)
+        if (MatchingStatus.EXPIRED.getValue().equals(found.matchingStatus())) {
+            throw new BusinessException("만료된 매칭입니다");
+        }
 
         // 기존 응답 삭제 (중간 저장 불가, 완료 시만 저장)
         List<Answer> existingAnswers = answerRepository.findByParticipantId(participant.getId());
@@ -79,6 +95,8 @@ public class AnswerService {
         
         // 배치 저장
         answerRepository.saveAll(answersToSave);
+        domainEventPublisher.publish(new AnswersSubmittedEvent(
+                participant.getMatching().getId(), participantCode, answersToSave.size(), LocalDateTime.now()));
         
         log.info("Answers submitted for participant: {}, count: {}", participantCode, answerDtos.size());
     }
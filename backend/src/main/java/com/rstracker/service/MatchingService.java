@@ -1,5 +1,6 @@
 package com.rstracker.service;
 
+import com.rstracker.config.MetricsConfig;
 import com.rstracker.constants.AppConstants;
 import com.rstracker.dto.MatchingDto;
 import com.rstracker.dto.MatchingStatusDto;
@@ -7,26 +8,37 @@ import com.rstracker.dto.ParticipantDto;
 import com.rstracker.entity.Matching;
 import com.rstracker.entity.MatchingStatus;
 import com.rstracker.entity.Participant;
+import com.rstracker.event.DomainEventPublisher;
+import com.rstracker.event.MatchingEstablishedEvent;
 import com.rstracker.exception.BusinessException;
 import com.rstracker.exception.ResourceNotFoundException;
 import com.rstracker.mapper.MatchingMapper;
+import com.rstracker.repository.DtoProjectionRepository;
 import com.rstracker.repository.MatchingRepository;
 import com.rstracker.repository.ParticipantRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
 import com.rstracker.util.MatchingCodeGenerator;
 import com.rstracker.util.ParticipantCodeGenerator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class MatchingService implements MatchingServiceInterface {
 
     private final MatchingRepository matchingRepository;
     private final ParticipantRepository participantRepository;
+    private final DtoProjectionRepository dtoProjectionRepository;
     private final MatchingMapper matchingMapper;
+    private final ServiceMetrics serviceMetrics;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public MatchingDto createMatching() {
@@ -41,6 +53,7 @@ public class MatchingService implements MatchingServiceInterface {
                 break;
             }
             attempts++;
+            serviceMetrics.codeGenerationRetried();
         } while (attempts < AppConstants.MAX_MATCHING_CODE_GENERATION_ATTEMPTS);
 
         if (attempts >= AppConstants.MAX_MATCHING_CODE_GENERATION_ATTEMPTS) {
@@ -65,11 +78,13 @@ public class MatchingService implements MatchingServiceInterface {
                 .orElseThrow(() -> new ResourceNotFoundException("매칭을 찾을 수 없습니다: " + code));
 
         if (!MatchingStatus.WAITING.getValue().equals(matching.getStatus())) {
+            serviceMetrics.joinRejected(ServiceMetrics.REASON_CLOSED);
             throw new BusinessException("이미 종료된 매칭입니다");
         }
 
         long participantCount = participantRepository.countByMatchingId(matching.getId());
         if (participantCount >= AppConstants.MAX_PARTICIPANTS_PER_MATCHING) {
+            serviceMetrics.joinRejected(ServiceMetrics.REASON_FULL);
             throw new BusinessException("이미 " + AppConstants.MAX_PARTICIPANTS_PER_MATCHING + "명이 참여했습니다");
         }
 
@@ -83,6 +98,7 @@ public class MatchingService implements MatchingServiceInterface {
         if (participantCount == AppConstants.MAX_PARTICIPANTS_PER_MATCHING) {
             matching.setStatus(MatchingStatus.ESTABLISHED.getValue());
             matchingRepository.save(matching);
+            domainEventPublisher.publish(new MatchingEstablishedEvent(matching.getId(), code, LocalDateTime.now()));
             log.info("Matching {} status changed to ESTABLISHED", code);
         }
 
@@ -92,9 +108,8 @@ public class MatchingService implements MatchingServiceInterface {
 
     @Transactional(readOnly = true)
     public MatchingDto getMatching(String code) {
-        Matching matching = matchingRepository.findByCode(code)
+        return dtoProjectionRepository.findMatchingByCode(code)
                 .orElseThrow(() -> new ResourceNotFoundException("매칭을 찾을 수 없습니다: " + code));
-        return matchingMapper.toDto(matching);
     }
 
     @Transactional(readOnly = true)
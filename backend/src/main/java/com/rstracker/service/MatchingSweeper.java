@@ -0,0 +1,138 @@
+package com.rstracker.service;
+
+import com.rstracker.config.MatchingLifecycleProperties;
+import com.rstracker.entity.MatchingStatus;
+import com.rstracker.repository.MatchingArchiveRepository;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매칭 만료/보관 스위퍼
+ *
+ * 주기적으로 두 작업을 배치 단위(트랜잭션 하나에 batchSize건)로 실행합니다.
+ * 1. 만료: expireAfter가 지나도록 종료되지 않은 waiting/established 매칭을 expired로 변경
+ *    (이후 참여, 답변 제출, 기록 생성이 거절됨)
+ * 2. 보관: 완료 후 archiveCompletedAfter, 만료 후 archiveExpiredAfter가 지난 세션의 매칭/참여자/응답을
+ *    월별 파티션 보관 테이블로 옮기고 원본에서 삭제 (기록은 남고, 매칭 코드는 다시 발급될 수 있음)
+ * 실행 한 번에 최대 maxBatchesPerRun 배치만 처리하고, 여러 인스턴스가 동시에 실행해도 서로 다른 행을 가져갑니다.
+ */
+@Slf4j
+public class MatchingSweeper {
+
+    private static final List<String> OPEN_STATUSES =
+            List.of(MatchingStatus.WAITING.getValue(), MatchingStatus.ESTABLISHED.getValue());
+
+    private final MatchingArchiveRepository matchingArchiveRepository;
+    private final MonthlyPartitionRepository monthlyPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MatchingLifecycleProperties properties;
+    private final ServiceMetrics serviceMetrics;
+
+    /** 이미 만든 보관 파티션 (매 배치마다 카탈로그를 조회하지 않도록) */
+    private final Set<YearMonth> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public MatchingSweeper(MatchingArchiveRepository matchingArchiveRepository,
+                           MonthlyPartitionRepository monthlyPartitionRepository,
+                           PlatformTransactionManager transactionManager,
+                           MatchingLifecycleProperties properties,
+                           ServiceMetrics serviceMetrics) {
+        this.matchingArchiveRepository = matchingArchiveRepository;
+        this.monthlyPartitionRepository = monthlyPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    @Scheduled(fixedDelayString = "#{@matchingLifecycleProperties.sweepInterval.toMillis()}",
+            initialDelayString = "#{@matchingLifecycleProperties.sweepInterval.toMillis()}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = expireStale(now);
+        int archived = 0;
+        if (properties.isArchiveEnabled()) {
+            try {
+                archived = archiveClosed(now);
+            } catch (RuntimeException e) {
+                // 파티션을 수동으로 지운 경우 등을 대비해 다음 실행에서 파티션을 다시 확인
+                knownPartitions.clear();
+                log.error("Matching archive failed, will retry on next sweep", e);
+            }
+        }
+        if (expired > 0 || archived > 0) {
+            log.info("Matching sweep finished: expired={}, archived={}", expired, archived);
+        }
+    }
+
+    /**
+     * 생성 후 expireAfter가 지난 진행 중 매칭 만료
+     *
+     * @return 만료된 매칭 수
+     */
+    int expireStale(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(properties.getExpireAfter());
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer expired = transactionTemplate.execute(status -> matchingArchiveRepository.expireCreatedBefore(
+                    OPEN_STATUSES, MatchingStatus.EXPIRED.getValue(), cutoff, properties.getBatchSize()));
+            int count = expired == null ? 0 : expired;
+            total += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        serviceMetrics.matchingsExpired(total);
+        return total;
+    }
+
+    /**
+     * 보관 기간이 지난 종료 세션을 보관 테이블로 이동
+     *
+     * @return 보관된 매칭 수
+     */
+    int archiveClosed(LocalDateTime now) {
+        LocalDateTime completedBefore = now.minus(properties.getArchiveCompletedAfter());
+        // 만료 시각은 따로 저장하지 않으므로 생성 시각 + expireAfter로 계산
+        LocalDateTime expiredCreatedBefore = now.minus(properties.getExpireAfter()).minus(properties.getArchiveExpiredAfter());
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<YearMonth> createdPartitions = new ArrayList<>();
+            Integer archived = transactionTemplate.execute(status -> {
+                List<Long> ids = matchingArchiveRepository.lockArchivable(
+                        MatchingStatus.COMPLETED.getValue(), completedBefore,
+                        MatchingStatus.EXPIRED.getValue(), expiredCreatedBefore, properties.getBatchSize());
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                for (YearMonth month : matchingArchiveRepository.findCreatedMonths(ids)) {
+                    if (!knownPartitions.contains(month)) {
+                        for (String table : MatchingArchiveRepository.ARCHIVE_TABLES) {
+                            monthlyPartitionRepository.createIfMissing(table, month);
+                        }
+                        createdPartitions.add(month);
+                    }
+                }
+                return matchingArchiveRepository.archive(ids, now);
+            });
+            // 커밋된 뒤에만 캐시 (롤백되면 파티션 생성도 취소됨)
+            knownPartitions.addAll(createdPartitions);
+            int count = archived == null ? 0 : archived;
+            total += count;
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        serviceMetrics.matchingsArchived(total);
+        return total;
+    }
+}
@@ -1,5 +1,8 @@
 package com.rstracker.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.config.http.SerializedResponse;
 import com.rstracker.dto.CreateQuestionDto;
 import com.rstracker.dto.QuestionDto;
 import com.rstracker.dto.QuestionChoiceDto;
@@ -9,6 +12,7 @@ import com.rstracker.entity.QuestionChoice;
 import com.rstracker.exception.BusinessException;
 import com.rstracker.exception.ResourceNotFoundException;
 import com.rstracker.repository.QuestionRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -16,6 +20,10 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,9 +36,11 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class QuestionService {
 
     private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
 
     @Cacheable(value = "questions", key = "'active'")
     public List<QuestionDto> getActiveQuestions() {
@@ -58,6 +68,44 @@ public class QuestionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 활성 질문 목록의 직렬화된 응답 본문 (JSON + gzip)
+     * 
+     * 컨트롤러가 캐시된 바이트를 그대로 쓰므로 요청마다 Jackson 직렬화와 압축이 일어나지 않습니다.
+     * 키에 카탈로그 버전을 포함하며, 질문 생성/수정/삭제 시 다른 질문 캐시와 함께 무효화됩니다.
+     * 
+     * @param category 질문 카테고리 (null이면 전체 활성 질문)
+     * @param catalogVersion {@link #getCatalogVersion()} 값
+     * @return 직렬화된 질문 목록
+     */
+    @Cacheable(value = "questions", key = "'serialized-' + #category + '-' + #catalogVersion")
+    public SerializedResponse getActiveQuestionsSerialized(Question.QuestionCategory category, String catalogVersion) {
+        log.debug("Serializing active questions: category={}, catalogVersion={}", category, catalogVersion);
+        List<Question> questions = category == null
+                ? questionRepository.findActiveWithChoices()
+                : questionRepository.findActiveByCategoryWithChoices(category);
+        return SerializedResponse.of(objectMapper, questions.stream().map(this::toDto).toList());
+    }
+
+    /**
+     * 질문 카탈로그 버전 (HTTP ETag용)
+     * 
+     * 카탈로그 상태 요약의 SHA-256 앞 16바이트입니다.
+     * 질문 목록과 같은 캐시에 두므로 질문 생성/수정/삭제 시 함께 무효화됩니다.
+     * 
+     * @return 카탈로그 버전 (16진수 32자)
+     */
+    @Cacheable(value = "questions", key = "'catalog-version'")
+    public String getCatalogVersion() {
+        String state = questionRepository.findCatalogState();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(state.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     public QuestionDto getQuestion(Long id) {
         Question question = questionRepository.findByIdWithChoices(id)
                 .orElseThrow(() -> new ResourceNotFoundException("질문을 찾을 수 없습니다: " + id));
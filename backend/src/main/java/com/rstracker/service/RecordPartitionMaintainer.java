@@ -0,0 +1,67 @@
+package com.rstracker.service;
+
+import com.rstracker.config.PartitioningProperties;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록(records) 월별 파티션 사전 생성
+ *
+ * records는 created_at 기준 월별 RANGE 파티션이고 기본(DEFAULT) 파티션이 없으므로,
+ * 이번 달부터 monthsAhead개월 뒤까지의 파티션을 미리 만들어 둡니다.
+ * 애플리케이션 시작 시 한 번, 이후 maintenanceInterval마다 실행되며 이미 있는 파티션은 건너뜁니다.
+ */
+@Slf4j
+public class RecordPartitionMaintainer {
+
+    static final String RECORDS_TABLE = "records";
+
+    private final MonthlyPartitionRepository monthlyPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitioningProperties properties;
+
+    public RecordPartitionMaintainer(MonthlyPartitionRepository monthlyPartitionRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     PartitioningProperties properties) {
+        this.monthlyPartitionRepository = monthlyPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "#{@partitioningProperties.maintenanceInterval.toMillis()}")
+    public void maintain() {
+        try {
+            List<YearMonth> created = createUpcomingPartitions(YearMonth.now());
+            if (!created.isEmpty()) {
+                log.info("Created record partitions for {}", created);
+            }
+        } catch (RuntimeException e) {
+            log.error("Record partition maintenance failed, will retry in {}", properties.getMaintenanceInterval(), e);
+        }
+    }
+
+    /**
+     * from부터 monthsAhead개월 뒤까지 없는 파티션 생성
+     *
+     * @return 새로 만든 월 목록
+     */
+    List<YearMonth> createUpcomingPartitions(YearMonth from) {
+        List<YearMonth> created = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+                YearMonth month = from.plusMonths(i);
+                if (monthlyPartitionRepository.createIfMissing(RECORDS_TABLE, month)) {
+                    created.add(month);
+                }
+            }
+        });
+        return created;
+    }
+}
@@ -1,21 +1,37 @@
 package com.rstracker.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.constants.AppConstants;
 import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.RecordSearchCountDto;
+import com.rstracker.dto.RecordSearchPageDto;
 import com.rstracker.entity.Answer;
 import com.rstracker.entity.Matching;
 import com.rstracker.entity.MatchingStatus;
 import com.rstracker.entity.Question;
 import com.rstracker.entity.QuestionChoice;
 import com.rstracker.entity.Record;
+import com.rstracker.event.DomainEventPublisher;
+import com.rstracker.event.RecordCreatedEvent;
 import com.rstracker.exception.BusinessException;
 import com.rstracker.exception.ResourceNotFoundException;
 import com.rstracker.mapper.RecordMapper;
+import com.rstracker.repository.DtoProjectionRepository;
 import com.rstracker.repository.MatchingRepository;
 import com.rstracker.repository.QuestionChoiceRepository;
 import com.rstracker.repository.QuestionRepository;
 import com.rstracker.repository.RecordRepository;
+import com.rstracker.repository.RecordSearchRepository;
+import com.rstracker.repository.RecordSpecifications;
+import com.rstracker.service.metrics.ServiceMetrics;
+import com.rstracker.service.similarity.RecordSimilarityIndex;
+import com.rstracker.service.stats.QuestionSetFingerprint;
+import com.rstracker.service.stats.RecordPercentileIndex;
 import com.rstracker.service.temperature.TemperatureCalculationStrategy;
 import com.rstracker.util.RecordIdGenerator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,33 +39,64 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class RecordService {
 
     private final RecordRepository recordRepository;
+    private final DtoProjectionRepository dtoProjectionRepository;
     private final MatchingRepository matchingRepository;
     private final AnswerQueryService answerQueryService; // 인터페이스를 통한 의존 (마이크로서비스 전환 준비)
     private final QuestionRepository questionRepository;
     private final QuestionChoiceRepository questionChoiceRepository;
     private final RecordMapper recordMapper;
     private final TemperatureCalculationStrategy temperatureCalculationStrategy;
+    private final ServiceMetrics serviceMetrics;
+    private final DomainEventPublisher domainEventPublisher;
+    private final RecordSearchRepository recordSearchRepository;
+    private final ObjectMapper objectMapper;
+    private final RecordPercentileIndex recordPercentileIndex;
+    private final RecordSimilarityIndex recordSimilarityIndex;
 
     @Transactional
     public RecordDto createRecord(Long matchingId) {
+        try {
+            return doCreateRecord(matchingId);
+        } catch (RuntimeException e) {
+            serviceMetrics.recordCreationFailed(e);
+            throw e;
+        }
+    }
+
+    private RecordDto doCreateRecord(Long matchingId) {
         log.debug("Creating record for matching: {}", matchingId);
         
-        Matching matching = matchingRepository.findById(matchingId)
+        // 매칭 행을 잠가 같은 매칭의 기록 생성을 직렬화 (파티션 테이블이라 matching_id UNIQUE 제약이 없음)
+        Matching matching = matchingRepository.findByIdForUpdate(matchingId)
                 .orElseThrow(() -> new ResourceNotFoundException("매칭을 찾을 수 없습니다: " + matchingId));
 
-        if (recordRepository.findByMatchingId(matchingId).isPresent()) {
+        // 스위퍼가 만료시킨 매칭 (MatchingSweeper)
+        if (MatchingStatus.EXPIRED.getValue().equals(matching.getStatus())) {
+            throw new BusinessException("만료된 매칭입니다");
+        }
+
+        if (matching.getRecord() != null) {
             throw new BusinessException("이미 기록이 생성되었습니다");
         }
 
@@ -82,38 +129,67 @@ public class RecordService {
         record.setTemperatureDiff(result.getTemperatureDiff());
         record.setIsActive(true);
         record.setSummary(summary);
+        record.setAnswerChoices(createAnswerChoices(answers, questionOrderMap));
 
         record = recordRepository.save(record);
+        serviceMetrics.temperatureComputed(result.getAverageTemperature());
 
         // 매칭 상태 변경
         matching.setStatus(MatchingStatus.COMPLETED.getValue());
         matching.setCompletedAt(java.time.LocalDateTime.now());
         matchingRepository.save(matching);
 
+        domainEventPublisher.publish(new RecordCreatedEvent(matchingId, record.getRecordId(),
+                record.getTemperature(), record.getTemperatureDiff(), record.getCreatedAt(),
+                QuestionSetFingerprint.of(summary)));
+        recordPercentileIndex.addAfterCommit(record.getId(), record.getTemperature());
+        recordSimilarityIndex.addAfterCommit(record.getId(), record.getAnswerChoices());
+
         log.info("Record created for matching: {}, recordId: {}", matchingId, record.getRecordId());
         return recordMapper.toDto(record);
     }
 
     @Transactional(readOnly = true)
     public RecordDto getRecord(String recordId) {
-        Record record = recordRepository.findByRecordId(recordId)
+        return dtoProjectionRepository.findRecordByRecordId(recordId)
+                .map(recordMapper::withPercentile)
                 .orElseThrow(() -> new ResourceNotFoundException("기록을 찾을 수 없습니다: " + recordId));
-        return recordMapper.toDto(record);
     }
 
     @Transactional(readOnly = true)
     public RecordDto getRecordByMatchingId(Long matchingId) {
-        Record record = recordRepository.findByMatchingId(matchingId)
+        return dtoProjectionRepository.findRecordByMatchingId(matchingId)
+                .map(recordMapper::withPercentile)
                 .orElseThrow(() -> new ResourceNotFoundException("기록을 찾을 수 없습니다: " + matchingId));
-        return recordMapper.toDto(record);
+    }
+
+    /**
+     * 기록 표현 버전 조회 (HTTP ETag용, 기록이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getRecordVersion(String recordId) {
+        return dtoProjectionRepository.findRecordStateByRecordId(recordId).map(recordMapper::toVersion);
+    }
+
+    /**
+     * 매칭 ID로 기록 표현 버전 조회 (HTTP ETag용, 기록이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getRecordVersionByMatchingId(Long matchingId) {
+        return dtoProjectionRepository.findRecordStateByMatchingId(matchingId).map(recordMapper::toVersion);
     }
 
     @Transactional
     public void deactivateRecord(String recordId) {
         Record record = recordRepository.findByRecordId(recordId)
                 .orElseThrow(() -> new ResourceNotFoundException("기록을 찾을 수 없습니다: " + recordId));
+        boolean wasActive = Boolean.TRUE.equals(record.getIsActive());
         record.setIsActive(false);
         recordRepository.save(record);
+        if (wasActive) {
+            recordPercentileIndex.removeAfterCommit(record.getId(), record.getTemperature());
+            recordSimilarityIndex.removeAfterCommit(record.getId());
+        }
         log.info("Record deactivated: {}", recordId);
     }
 
@@ -139,18 +215,111 @@ public class RecordService {
         log.debug("Fetching records with filters: minTemp={}, maxTemp={}, isActive={}, startDate={}, endDate={}, pageable={}",
                 minTemp, maxTemp, isActive, startDate, endDate, pageable);
         
-        // 필터 조건이 모두 없는 경우 전체 조회
-        if (minTemp == null && maxTemp == null && isActive == null && startDate == null && endDate == null) {
-            Page<Record> records = recordRepository.findAllWithMatching(pageable);
-            return records.map(recordMapper::toDto);
-        }
-        
-        // 필터 조건이 있는 경우 필터링 조회
-        Page<Record> records = recordRepository.findByFiltersWithMatching(
-                minTemp, maxTemp, isActive, startDate, endDate, pageable);
+        // 지정된 조건만 WHERE 절에 포함 (조건 조합별 인덱스, 날짜 조건은 파티션 프루닝)
+        Page<Record> records = recordRepository.findAll(
+                RecordSpecifications.filter(minTemp, maxTemp, isActive, startDate, endDate), pageable);
         return records.map(recordMapper::toDto);
     }
 
+    /**
+     * 기록 검색 (응답 선택지 조건, 키셋 페이징)
+     * 
+     * @param choices 선택지 조건 목록 ("질문순서:선택지값", 모두 만족, 선택)
+     * @param minTemp 최소 온도 (선택)
+     * @param maxTemp 최대 온도 (선택)
+     * @param isActive 활성 여부 (선택)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@link AppConstants#RECORD_SEARCH_MAX_SIZE})
+     * @return 기록 목록 (생성 시각 최신순)과 다음 페이지 커서
+     * @throws BusinessException 선택지 조건이나 커서 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public RecordSearchPageDto searchRecords(List<String> choices, Double minTemp, Double maxTemp, Boolean isActive,
+                                             String cursor, int size) {
+        int boundedSize = Math.max(1, Math.min(size, AppConstants.RECORD_SEARCH_MAX_SIZE));
+        String answerChoices = toAnswerChoicesJson(choices);
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterCreatedAt = LocalDateTime.parse(position[0]);
+            afterId = Long.valueOf(position[1]);
+        }
+        log.debug("Searching records: choices={}, minTemp={}, maxTemp={}, isActive={}, after=({}, {}), size={}",
+                answerChoices, minTemp, maxTemp, isActive, afterCreatedAt, afterId, boundedSize);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 확인
+        List<Record> records = recordSearchRepository.search(
+                answerChoices, minTemp, maxTemp, isActive, afterCreatedAt, afterId, boundedSize + 1);
+        String nextCursor = null;
+        if (records.size() > boundedSize) {
+            records = records.subList(0, boundedSize);
+            Record last = records.get(boundedSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return new RecordSearchPageDto(records.stream().map(recordMapper::toDto).toList(), nextCursor);
+    }
+
+    /**
+     * 기록 검색 건수
+     * 
+     * @param choices 선택지 조건 목록 ("질문순서:선택지값", 모두 만족, 선택)
+     * @throws BusinessException 선택지 조건 형식이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public RecordSearchCountDto countRecords(List<String> choices, Double minTemp, Double maxTemp, Boolean isActive) {
+        long count = recordSearchRepository.count(toAnswerChoicesJson(choices), minTemp, maxTemp, isActive);
+        return new RecordSearchCountDto(count);
+    }
+
+    /**
+     * 선택지 조건을 answer_choices 포함 조건 JSON으로 변환 (예: ["5:closer_ok"] → {"Q5":["closer_ok"]})
+     */
+    private String toAnswerChoicesJson(List<String> choices) {
+        if (choices == null || choices.isEmpty()) {
+            return null;
+        }
+        Map<String, Set<String>> containment = new TreeMap<>();
+        for (String choice : choices) {
+            int separator = choice.indexOf(':');
+            String value = separator < 0 ? "" : choice.substring(separator + 1).trim();
+            if (separator < 0 || value.isEmpty()) {
+                throw new BusinessException("선택지 조건 형식이 올바르지 않습니다 (질문순서:선택지값): " + choice);
+            }
+            int order;
+            try {
+                order = Integer.parseInt(choice.substring(0, separator).trim());
+            } catch (NumberFormatException e) {
+                throw new BusinessException("선택지 조건 형식이 올바르지 않습니다 (질문순서:선택지값): " + choice);
+            }
+            containment.computeIfAbsent("Q" + order, key -> new TreeSet<>()).add(value);
+        }
+        try {
+            return objectMapper.writeValueAsString(containment);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize answer choice filter", e);
+        }
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "," + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (position.length != 2) {
+                throw new IllegalArgumentException(cursor);
+            }
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("잘못된 커서입니다");
+        }
+    }
+
     private Map<String, Object> createSummary(List<Answer> answers, Map<Long, Integer> questionOrderMap) {
         Map<String, Object> summary = new HashMap<>();
 
@@ -169,5 +338,23 @@ public class RecordService {
         return summary;
     }
 
+    /**
+     * 질문 순서별 선택지 값 목록 (검색 인덱스용, 두 참여자의 선택을 중복 없이 정렬)
+     */
+    private Map<String, List<String>> createAnswerChoices(List<Answer> answers, Map<Long, Integer> questionOrderMap) {
+        Map<String, TreeSet<String>> choices = new TreeMap<>();
+
+        for (Answer answer : answers) {
+            Integer order = questionOrderMap.get(answer.getQuestion().getId());
+            if (order != null) {
+                choices.computeIfAbsent("Q" + order, key -> new TreeSet<>()).add(answer.getChoice().getChoiceValue());
+            }
+        }
+
+        Map<String, List<String>> answerChoices = new LinkedHashMap<>();
+        choices.forEach((key, values) -> answerChoices.put(key, List.copyOf(values)));
+        return answerChoices;
+    }
+
 }
 
@@ -1,16 +1,22 @@
 package com.rstracker.service;
 
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.constants.AppConstants;
 import com.rstracker.dto.CreateUserDto;
 import com.rstracker.dto.UpdateUserDto;
 import com.rstracker.dto.UserDto;
 import com.rstracker.dto.UserHistoryDto;
+import com.rstracker.dto.UserSearchResultDto;
 import com.rstracker.entity.User;
 import com.rstracker.exception.BusinessException;
 import com.rstracker.exception.ResourceNotFoundException;
 import com.rstracker.mapper.UserMapper;
 import com.rstracker.repository.UserRepository;
+import com.rstracker.repository.DtoProjectionRepository;
 import com.rstracker.repository.ParticipantRepository;
 import com.rstracker.repository.AnswerRepository;
+import com.rstracker.service.search.UserSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,12 +37,15 @@ import java.util.stream.Collectors;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
+    private final DtoProjectionRepository dtoProjectionRepository;
     private final ParticipantRepository participantRepository;
     private final AnswerRepository answerRepository;
     private final UserMapper userMapper;
+    private final UserSearchIndex userSearchIndex;
 
     /**
      * 회원 생성
@@ -72,6 +81,7 @@ public class UserService {
         User user = userMapper.toEntity(createDto);
         @SuppressWarnings("null") // Spring Data JPA의 save()는 항상 non-null을 반환
         User savedUser = userRepository.save(user);
+        userSearchIndex.indexAfterCommit(savedUser);
 
         log.info("User created successfully: userid={}, id={}", savedUser.getUserid(), savedUser.getId());
         return userMapper.toDto(savedUser);
@@ -86,10 +96,8 @@ public class UserService {
      */
     public UserDto getUserById(Long id) {
         log.debug("Fetching user by id: {}", id);
-        @SuppressWarnings("null")
-        User user = userRepository.findById(id)
+        return dtoProjectionRepository.findUserById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("회원을 찾을 수 없습니다: " + id));
-        return userMapper.toDto(user);
     }
 
     /**
@@ -130,6 +138,31 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 회원 검색 (아이디, 이름, 전화번호)
+     * 
+     * 접두어, 부분 문자열, 유사도 일치를 점수 순으로 반환합니다.
+     * 메모리 색인이 준비되기 전에는 pg_trgm 인덱스를 사용하는 쿼리로 대체합니다.
+     * 
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (점수 내림차순)
+     * @throws BusinessException 검색어가 비어있는 경우
+     */
+    public List<UserSearchResultDto> searchUsers(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("검색어를 입력해주세요");
+        }
+        int boundedLimit = Math.max(1, Math.min(limit, AppConstants.USER_SEARCH_MAX_LIMIT));
+
+        if (userSearchIndex.isReady()) {
+            return userSearchIndex.search(query, boundedLimit);
+        }
+
+        log.debug("User search index not ready, falling back to trigram query: {}", query);
+        return userSearchIndex.searchByTrigram(query, boundedLimit);
+    }
+
     /**
      * 회원 수정
      * 
@@ -172,6 +205,7 @@ public class UserService {
 
         @SuppressWarnings("null") // Spring Data JPA의 save()는 항상 non-null을 반환
         User updatedUser = userRepository.save(user);
+        userSearchIndex.indexAfterCommit(updatedUser);
         log.info("User updated successfully: id={}, userid={}", updatedUser.getId(), updatedUser.getUserid());
         return userMapper.toDto(updatedUser);
     }
@@ -194,6 +228,7 @@ public class UserService {
         user.setStatus(User.UserStatus.DELETED);
         @SuppressWarnings("null") // Spring Data JPA의 save()는 항상 non-null을 반환
         User deletedUser = userRepository.save(user);
+        userSearchIndex.removeAfterCommit(deletedUser.getId());
         log.debug("User soft deleted: id={}", deletedUser.getId());
 
         log.info("User deleted (soft delete) successfully: id={}, userid={}", user.getId(), user.getUserid());
@@ -0,0 +1,158 @@
+package com.rstracker.service.index;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 활성 기록으로 다시 만드는 메모리 색인의 공통 상태 관리
+ *
+ * 색인 상태(S)를 읽기/쓰기 잠금으로 보호하고, 커밋된 생성/비활성화를 {@link Mutation}으로 바로 반영합니다.
+ * 재구축은 REPEATABLE READ 읽기 전용 트랜잭션 하나에서 새 상태를 만든 뒤, 구축 중 들어온 변경이 같은 스냅샷에
+ * 포함됐는지 확인해 다시 적용하고 교체하므로 구축 중에 생성/비활성화된 기록도 두 번 넣거나 빠뜨리지 않습니다.
+ * 재구축은 한 번에 하나만 실행되고, 진행 중에 요청된 재구축(기동 시 구축과 주기적 재구축이 겹침 등)은 건너뜁니다.
+ *
+ * @param <S> 색인 상태
+ */
+public class RebuildableIndex<S> {
+
+    private final TransactionTemplate snapshotTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private S state;
+    private List<Mutation<S>> pendingMutations;
+    private volatile boolean ready;
+
+    public RebuildableIndex(S initialState, PlatformTransactionManager transactionManager) {
+        this.state = initialState;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * 전체 재구축
+     *
+     * @param builder          스냅샷 트랜잭션 안에서 새 상태를 만듦
+     * @param activeInSnapshot 주어진 기록 ID 중 같은 스냅샷에서 활성인 ID
+     * @return 교체한 새 상태 (다른 재구축이 진행 중이라 건너뛰었으면 null)
+     */
+    public S rebuild(Supplier<S> builder, Function<Collection<Long>, Set<Long>> activeInSnapshot) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            withWriteLock(() -> pendingMutations = new ArrayList<>());
+            return snapshotTransaction.execute(status -> {
+                S rebuilt = builder.get();
+                // 스냅샷을 쥔 채로 교체해야 교체 직전까지 들어온 변경을 같은 스냅샷과 비교할 수 있음
+                withWriteLock(() -> {
+                    Set<Long> changedIds = new LinkedHashSet<>();
+                    pendingMutations.forEach(mutation -> changedIds.add(mutation.recordId()));
+                    replay(pendingMutations, activeInSnapshot.apply(changedIds), rebuilt);
+                    pendingMutations = null;
+                    state = rebuilt;
+                    ready = true;
+                });
+                return rebuilt;
+            });
+        } finally {
+            withWriteLock(() -> pendingMutations = null);
+            rebuilding.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 읽기 잠금을 쥐고 현재 상태 조회
+     */
+    public <R> R read(Function<S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 변경 반영 (트랜잭션이 없으면 즉시)
+     * 롤백된 기록이 색인에 남지 않도록 합니다.
+     */
+    public void mutateAfterCommit(Mutation<S> mutation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mutate(mutation);
+                }
+            });
+        } else {
+            mutate(mutation);
+        }
+    }
+
+    /**
+     * 구축 중 변경을 새 상태에 적용
+     * 기록마다 스냅샷에서 활성이었는지(스트림에 포함됐는지)에서 시작해 상태가 실제로 바뀌는 변경만 적용합니다.
+     */
+    static <S> void replay(List<? extends Mutation<S>> mutations, Set<Long> activeInSnapshot, S target) {
+        Set<Long> present = new HashSet<>(activeInSnapshot);
+        for (Mutation<S> mutation : mutations) {
+            if (mutation.added() ? present.add(mutation.recordId()) : present.remove(mutation.recordId())) {
+                mutation.applyTo(target);
+            }
+        }
+    }
+
+    private void mutate(Mutation<S> mutation) {
+        withWriteLock(() -> {
+            mutation.applyTo(state);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기록 하나의 활성 기록 추가(added=true) 또는 제거
+     *
+     * @param <S> 색인 상태
+     */
+    public interface Mutation<S> {
+
+        long recordId();
+
+        boolean added();
+
+        /**
+         * 색인 상태에 추가 또는 제거를 적용
+         */
+        void applyTo(S target);
+    }
+}
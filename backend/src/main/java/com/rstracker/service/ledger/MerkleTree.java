@@ -0,0 +1,198 @@
+package com.rstracker.service.ledger;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 추가 전용 머클 트리 (RFC 9162, Certificate Transparency와 같은 구성)
+ *
+ * - 잎 해시: SHA-256(0x00 || 데이터), 내부 노드: SHA-256(0x01 || 왼쪽 || 오른쪽)
+ * - 크기 n인 트리는 n보다 작은 가장 큰 2의 거듭제곱 k에서 왼쪽 [0, k)와 오른쪽 [k, n)으로 나눕니다.
+ * - 저장 노드 (level, index)는 잎 [index * 2^level, (index + 1) * 2^level)을 덮는 완전 부분 트리이며,
+ *   한 번 완성되면 바뀌지 않습니다. 오른쪽 가장자리의 불완전 부분 트리는 저장 노드 O(log n)개로 계산합니다.
+ */
+public final class MerkleTree {
+
+    /** 해시 길이 (SHA-256) */
+    public static final int HASH_LENGTH = 32;
+
+    private static final byte LEAF_PREFIX = 0x00;
+    private static final byte NODE_PREFIX = 0x01;
+
+    private MerkleTree() {
+    }
+
+    /**
+     * 저장 노드 좌표
+     */
+    public record NodeId(int level, long index) {
+    }
+
+    /**
+     * 잎 범위 [start, start + size)
+     */
+    public record Range(long start, long size) {
+    }
+
+    public static byte[] leafHash(byte[] data) {
+        MessageDigest digest = sha256();
+        digest.update(LEAF_PREFIX);
+        return digest.digest(data);
+    }
+
+    public static byte[] nodeHash(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        return digest.digest(right);
+    }
+
+    /**
+     * 잎 leafIndex의 포함 증명 경로 범위 (잎에서 루트 방향 순서, 최대 ⌈log2 n⌉개)
+     */
+    public static List<Range> inclusionPath(long leafIndex, long treeSize) {
+        if (leafIndex < 0 || leafIndex >= treeSize) {
+            throw new IllegalArgumentException("Leaf " + leafIndex + " is outside tree of size " + treeSize);
+        }
+        List<Range> path = new ArrayList<>();
+        collectPath(leafIndex, 0, treeSize, path);
+        return path;
+    }
+
+    /**
+     * 잎 범위를 덮는 저장 노드 (왼쪽부터, 범위가 2의 거듭제곱 경계에서 시작해야 함)
+     */
+    public static List<NodeId> coveringNodes(Range range) {
+        List<NodeId> nodes = new ArrayList<>();
+        long start = range.start();
+        long size = range.size();
+        while (size > 0) {
+            long k = Long.highestOneBit(size);
+            int level = Long.numberOfTrailingZeros(k);
+            nodes.add(new NodeId(level, start >> level));
+            start += k;
+            size -= k;
+        }
+        return nodes;
+    }
+
+    /**
+     * 잎 범위의 해시 (RFC 9162의 MTH)
+     *
+     * @param nodes 저장 노드 조회 ({@link #coveringNodes}가 돌려준 좌표를 모두 포함해야 함)
+     */
+    public static byte[] rangeHash(Range range, Function<NodeId, byte[]> nodes) {
+        // 덮는 노드를 오른쪽부터 합침 (크기가 큰 왼쪽 노드가 분할 지점의 왼쪽 부분 트리)
+        List<NodeId> covering = coveringNodes(range);
+        byte[] hash = require(nodes, covering.get(covering.size() - 1));
+        for (int i = covering.size() - 2; i >= 0; i--) {
+            hash = nodeHash(require(nodes, covering.get(i)), hash);
+        }
+        return hash;
+    }
+
+    /**
+     * 포함 증명 검증 (RFC 9162 2.1.3.2, O(log n))
+     */
+    public static boolean verifyInclusion(byte[] leafHash, long leafIndex, long treeSize, List<byte[]> path, byte[] rootHash) {
+        if (leafIndex < 0 || leafIndex >= treeSize) {
+            return false;
+        }
+        long fn = leafIndex;
+        long sn = treeSize - 1;
+        byte[] hash = leafHash;
+        for (byte[] sibling : path) {
+            if (sn == 0) {
+                return false;
+            }
+            if ((fn & 1) == 1 || fn == sn) {
+                hash = nodeHash(sibling, hash);
+                while ((fn & 1) == 0 && fn != 0) {
+                    fn >>= 1;
+                    sn >>= 1;
+                }
+            } else {
+                hash = nodeHash(hash, sibling);
+            }
+            fn >>= 1;
+            sn >>= 1;
+        }
+        return sn == 0 && Arrays.equals(hash, rootHash);
+    }
+
+    /**
+     * 잎 추가 후 새로 완성되는 내부 노드 계산
+     *
+     * 잎 oldSize..(oldSize + 잎 수 - 1)을 추가하면 각 레벨에서 [oldSize >> level, newSize >> level) 노드가 새로 완성됩니다.
+     * 자식 중 이번에 만들어지지 않은 것은 이전에 완성된 노드이며 {@link #existingChildren}로 미리 조회합니다.
+     *
+     * @param created  추가한 잎 노드 (level 0), 새로 완성된 노드가 레벨 순서로 추가됨
+     * @param existing 이미 저장된 자식 노드
+     */
+    public static void completeParents(long oldSize, long newSize, Map<NodeId, byte[]> created, Map<NodeId, byte[]> existing) {
+        for (int level = 1; (newSize >> level) > 0; level++) {
+            for (long index = oldSize >> level; index < newSize >> level; index++) {
+                NodeId left = new NodeId(level - 1, index * 2);
+                NodeId right = new NodeId(level - 1, index * 2 + 1);
+                created.put(new NodeId(level, index), nodeHash(child(left, created, existing), child(right, created, existing)));
+            }
+        }
+    }
+
+    /**
+     * {@link #completeParents}에 필요한 이미 저장된 자식 노드 좌표 (레벨마다 최대 1개)
+     */
+    public static List<NodeId> existingChildren(long oldSize, long newSize) {
+        List<NodeId> children = new ArrayList<>();
+        for (int level = 1; (newSize >> level) > 0; level++) {
+            long first = oldSize >> level;
+            if (first < newSize >> level) {
+                long child = first * 2;
+                if (child < oldSize >> (level - 1)) {
+                    children.add(new NodeId(level - 1, child));
+                }
+            }
+        }
+        return children;
+    }
+
+    private static void collectPath(long leafIndex, long start, long size, List<Range> path) {
+        if (size == 1) {
+            return;
+        }
+        long k = Long.highestOneBit(size - 1);
+        if (leafIndex < k) {
+            collectPath(leafIndex, start, k, path);
+            path.add(new Range(start + k, size - k));
+        } else {
+            collectPath(leafIndex - k, start + k, size - k, path);
+            path.add(new Range(start, k));
+        }
+    }
+
+    private static byte[] child(NodeId id, Map<NodeId, byte[]> created, Map<NodeId, byte[]> existing) {
+        byte[] hash = created.get(id);
+        return hash != null ? hash : require(existing::get, id);
+    }
+
+    private static byte[] require(Function<NodeId, byte[]> nodes, NodeId id) {
+        byte[] hash = nodes.apply(id);
+        if (hash == null) {
+            throw new IllegalStateException("Missing ledger node " + id);
+        }
+        return hash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
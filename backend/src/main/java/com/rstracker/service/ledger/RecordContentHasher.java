@@ -0,0 +1,64 @@
+package com.rstracker.service.ledger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.rstracker.entity.Record;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기록의 정규화된 내용과 원장 잎 해시
+ *
+ * 정규화 내용은 키를 정렬한 JSON이며, 같은 기록이면 항상 같은 바이트가 나와야 합니다.
+ * - 포함: recordId, matchingId, temperature, temperatureDiff, createdAt, summary, answerChoices
+ * - 제외: id(DB 내부 키), isActive(비활성화는 정상적인 상태 변경)
+ * - 실수와 시각은 JSON 숫자 표현 차이가 없도록 문자열(Double.toString, ISO-8601)로 넣습니다.
+ * 형식을 바꾸면 기존 잎을 검증할 수 없으므로 VERSION을 올리고 이전 형식도 계속 지원해야 합니다.
+ */
+public final class RecordContentHasher {
+
+    /** 정규화 형식 버전 */
+    public static final int VERSION = 1;
+
+    private static final ObjectMapper CANONICAL_MAPPER = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private RecordContentHasher() {
+    }
+
+    /**
+     * 정규화된 내용 (UTF-8 JSON 문자열)
+     */
+    public static String canonicalContent(Record record) {
+        Map<String, Object> content = new TreeMap<>();
+        content.put("v", VERSION);
+        content.put("recordId", record.getRecordId());
+        content.put("matchingId", record.getMatching().getId());
+        content.put("temperature", toText(record.getTemperature()));
+        content.put("temperatureDiff", toText(record.getTemperatureDiff()));
+        content.put("createdAt", record.getCreatedAt().toString());
+        content.put("summary", record.getSummary());
+        content.put("answerChoices", record.getAnswerChoices());
+        try {
+            return CANONICAL_MAPPER.writeValueAsString(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize record " + record.getRecordId(), e);
+        }
+    }
+
+    /**
+     * 원장 잎 해시 (SHA-256(0x00 || 정규화 내용))
+     */
+    public static byte[] leafHash(Record record) {
+        return MerkleTree.leafHash(canonicalContent(record).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toText(Double value) {
+        return value == null ? null : Double.toString(value);
+    }
+}
@@ -0,0 +1,144 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import com.rstracker.entity.Record;
+import com.rstracker.entity.RecordLedgerRoot;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRootRepository;
+import com.rstracker.service.ledger.MerkleTree.NodeId;
+import com.rstracker.service.ledger.MerkleTree.Range;
+import com.rstracker.service.metrics.ServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 기록 원장 추가 작업
+ *
+ * 기록 생성 요청은 원장을 건드리지 않고, 이 작업이 커밋된 기록을 주기적으로 배치 단위로 처리합니다.
+ * 1. 추가: 원장에 없는 기록을 ID 순으로 읽어 정규화 내용을 해시하고, 잎과 새로 완성된 내부 노드를 저장한 뒤
+ *    records.ledger_index에 잎 번호를 기록 (트랜잭션 하나에 batchSize건)
+ * 2. 서명: 마지막 서명 후 rootInterval이 지났고 원장이 커졌으면 현재 루트에 서명해 저장
+ * 트리 크기를 읽고 잎을 추가하는 동안 advisory 잠금을 잡으므로 여러 인스턴스 중 한 곳에서만 추가합니다.
+ */
+@Slf4j
+public class RecordLedgerAppender {
+
+    private final RecordLedgerRepository recordLedgerRepository;
+    private final RecordLedgerRootRepository recordLedgerRootRepository;
+    private final RecordLedgerSigner recordLedgerSigner;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerProperties properties;
+    private final ServiceMetrics serviceMetrics;
+
+    public RecordLedgerAppender(RecordLedgerRepository recordLedgerRepository,
+                                RecordLedgerRootRepository recordLedgerRootRepository,
+                                RecordLedgerSigner recordLedgerSigner,
+                                PlatformTransactionManager transactionManager,
+                                LedgerProperties properties,
+                                ServiceMetrics serviceMetrics) {
+        this.recordLedgerRepository = recordLedgerRepository;
+        this.recordLedgerRootRepository = recordLedgerRootRepository;
+        this.recordLedgerSigner = recordLedgerSigner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    @Scheduled(fixedDelayString = "#{@ledgerProperties.appendInterval.toMillis()}")
+    public void run() {
+        try {
+            int appended = appendPending();
+            Optional<RecordLedgerRoot> root = signRootIfDue(LocalDateTime.now());
+            if (appended > 0 || root.isPresent()) {
+                log.info("Ledger append finished: appended={}, signedTreeSize={}",
+                        appended, root.map(RecordLedgerRoot::getTreeSize).orElse(null));
+            }
+        } catch (RuntimeException e) {
+            log.error("Ledger append failed, will retry on next run", e);
+        }
+    }
+
+    /**
+     * 원장에 없는 기록 추가 (최대 maxBatchesPerRun 배치)
+     *
+     * @return 추가한 기록 수
+     */
+    public int appendPending() {
+        int total = 0;
+        // 늦게 커밋되어 앞 번호로 남은 기록은 다음 실행에서 처음부터 다시 읽을 때 추가됨
+        long afterId = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            long from = afterId;
+            List<Record> appended = transactionTemplate.execute(status -> appendBatch(from));
+            if (appended == null || appended.isEmpty()) {
+                break;
+            }
+            total += appended.size();
+            serviceMetrics.ledgerAppended(appended.size());
+            if (appended.size() < properties.getBatchSize()) {
+                break;
+            }
+            afterId = appended.get(appended.size() - 1).getId();
+        }
+        return total;
+    }
+
+    /**
+     * 서명 간격이 지났고 원장이 커졌으면 현재 루트에 서명
+     *
+     * @return 새로 서명한 루트
+     */
+    public Optional<RecordLedgerRoot> signRootIfDue(LocalDateTime now) {
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            if (!recordLedgerRepository.tryLockForAppend()) {
+                return null;
+            }
+            long treeSize = recordLedgerRepository.treeSize();
+            Optional<RecordLedgerRoot> latest = recordLedgerRootRepository.findFirstByOrderByTreeSizeDesc();
+            if (treeSize == 0 || latest.filter(root -> root.getTreeSize() >= treeSize
+                    || root.getSignedAt().plus(properties.getRootInterval()).isAfter(now)).isPresent()) {
+                return null;
+            }
+            return recordLedgerRootRepository.save(signedRoot(treeSize, now));
+        }));
+    }
+
+    private List<Record> appendBatch(long afterId) {
+        if (!recordLedgerRepository.tryLockForAppend()) {
+            return List.of();
+        }
+        List<Record> records = recordLedgerRepository.findPending(afterId, properties.getBatchSize());
+        if (records.isEmpty()) {
+            return records;
+        }
+        long oldSize = recordLedgerRepository.treeSize();
+        long newSize = oldSize + records.size();
+
+        Map<NodeId, byte[]> created = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            created.put(new NodeId(0, oldSize + i), RecordContentHasher.leafHash(records.get(i)));
+        }
+        Map<NodeId, byte[]> existing = recordLedgerRepository.findNodes(MerkleTree.existingChildren(oldSize, newSize));
+        MerkleTree.completeParents(oldSize, newSize, created, existing);
+
+        recordLedgerRepository.insertNodes(created);
+        recordLedgerRepository.assignLedgerIndexes(records, oldSize);
+        log.debug("Appended {} records to ledger: leaves {}..{}, nodes={}", records.size(), oldSize, newSize - 1, created.size());
+        return records;
+    }
+
+    private RecordLedgerRoot signedRoot(long treeSize, LocalDateTime now) {
+        Range all = new Range(0, treeSize);
+        byte[] rootHash = MerkleTree.rangeHash(all, recordLedgerRepository.findNodes(MerkleTree.coveringNodes(all))::get);
+        return new RecordLedgerRoot(treeSize, rootHash, recordLedgerSigner.sign(treeSize, rootHash),
+                recordLedgerSigner.getKeyId(), recordLedgerSigner.getPublicKey(), now);
+    }
+}
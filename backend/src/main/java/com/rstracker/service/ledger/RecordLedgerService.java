@@ -0,0 +1,80 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.dto.RecordProofDto;
+import com.rstracker.entity.Record;
+import com.rstracker.entity.RecordLedgerRoot;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.exception.ResourceNotFoundException;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRootRepository;
+import com.rstracker.repository.RecordRepository;
+import com.rstracker.service.ledger.MerkleTree.NodeId;
+import com.rstracker.service.ledger.MerkleTree.Range;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기록 원장 조회 (포함 증명)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RecordLedgerService {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final RecordRepository recordRepository;
+    private final RecordLedgerRepository recordLedgerRepository;
+    private final RecordLedgerRootRepository recordLedgerRootRepository;
+
+    /**
+     * 최근 서명 루트에 대한 기록의 포함 증명
+     *
+     * 증명 경로는 최대 ⌈log2 n⌉개이며, 필요한 저장 노드를 한 번의 SQL로 읽습니다.
+     *
+     * @throws ResourceNotFoundException 기록이 없는 경우
+     * @throws BusinessException 아직 원장에 추가되지 않았거나 서명된 루트에 포함되지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public RecordProofDto getProof(String recordId) {
+        Record record = recordRepository.findByRecordId(recordId)
+                .orElseThrow(() -> new ResourceNotFoundException("기록을 찾을 수 없습니다: " + recordId));
+        long leafIndex = recordLedgerRepository.findLedgerIndex(record)
+                .orElseThrow(() -> new BusinessException("아직 원장에 추가되지 않은 기록입니다"));
+        RecordLedgerRoot root = recordLedgerRootRepository.findFirstByOrderByTreeSizeDesc()
+                .filter(latest -> latest.getTreeSize() > leafIndex)
+                .orElseThrow(() -> new BusinessException("아직 서명된 원장 루트에 포함되지 않은 기록입니다"));
+
+        NodeId leaf = new NodeId(0, leafIndex);
+        List<Range> path = MerkleTree.inclusionPath(leafIndex, root.getTreeSize());
+        Set<NodeId> needed = new LinkedHashSet<>();
+        needed.add(leaf);
+        path.forEach(range -> needed.addAll(MerkleTree.coveringNodes(range)));
+        Map<NodeId, byte[]> nodes = recordLedgerRepository.findNodes(needed);
+
+        List<String> auditPath = new ArrayList<>(path.size());
+        for (Range range : path) {
+            auditPath.add(HEX.formatHex(MerkleTree.rangeHash(range, nodes::get)));
+        }
+        log.debug("Built ledger proof for record {}: leaf={}, treeSize={}, pathLength={}",
+                recordId, leafIndex, root.getTreeSize(), path.size());
+
+        return new RecordProofDto(recordId, RecordContentHasher.canonicalContent(record), leafIndex,
+                HEX.formatHex(nodes.get(leaf)), auditPath, root.getTreeSize(), HEX.formatHex(root.getRootHash()),
+                Base64.getEncoder().encodeToString(root.getSignature()), root.getKeyId(), root.getPublicKey(),
+                root.getSignedAt());
+    }
+}
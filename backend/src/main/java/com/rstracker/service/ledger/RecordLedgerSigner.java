@@ -0,0 +1,110 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 원장 루트 서명 (Ed25519)
+ *
+ * 서명 대상은 트리 크기(8바이트 빅엔디언) 뒤에 루트 해시를 붙인 40바이트입니다.
+ * 키를 설정하지 않으면 기동에 실패합니다. (app.ledger.ephemeral-key-allowed=true일 때만 시작할 때 임시 키를 만듦)
+ * 검증하는 쪽은 keyId로 신뢰하는 키인지 확인해야 합니다.
+ */
+@Slf4j
+@Component
+public class RecordLedgerSigner {
+
+    private static final String ALGORITHM = "Ed25519";
+
+    private final PrivateKey signingKey;
+    private final String publicKey;
+    private final String keyId;
+
+    public RecordLedgerSigner(LedgerProperties properties) {
+        boolean configured = !isBlank(properties.getSigningKey()) || !isBlank(properties.getVerificationKey());
+        if (configured && (isBlank(properties.getSigningKey()) || isBlank(properties.getVerificationKey()))) {
+            throw new IllegalStateException("Ledger signing key and verification key must be configured together "
+                    + "(app.ledger.signing-key / verification-key)");
+        }
+        if (!configured && !properties.isEphemeralKeyAllowed()) {
+            throw new IllegalStateException("Ledger signing key not configured: set LEDGER_SIGNING_KEY and LEDGER_VERIFICATION_KEY "
+                    + "(app.ledger.signing-key / verification-key), or app.ledger.ephemeral-key-allowed=true for local development");
+        }
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+            PublicKey verificationKey;
+            if (!configured) {
+                KeyPair keyPair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+                signingKey = keyPair.getPrivate();
+                verificationKey = keyPair.getPublic();
+            } else {
+                signingKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(properties.getSigningKey())));
+                verificationKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(properties.getVerificationKey())));
+            }
+            publicKey = Base64.getEncoder().encodeToString(verificationKey.getEncoded());
+            keyId = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(verificationKey.getEncoded())).substring(0, 16);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid ledger signing key (app.ledger.signing-key / verification-key)", e);
+        }
+        if (!configured) {
+            log.warn("Ledger signing key not configured, using ephemeral key {}", keyId);
+        }
+    }
+
+    public byte[] sign(long treeSize, byte[] rootHash) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(signingKey);
+            signature.update(signedMessage(treeSize, rootHash));
+            return signature.sign();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign ledger root", e);
+        }
+    }
+
+    /**
+     * 서명 검증 (검증 키는 X.509 DER Base64)
+     */
+    public static boolean verify(String publicKey, long treeSize, byte[] rootHash, byte[] signatureBytes) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initVerify(KeyFactory.getInstance(ALGORITHM)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey))));
+            signature.update(signedMessage(treeSize, rootHash));
+            return signature.verify(signatureBytes);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    private static byte[] signedMessage(long treeSize, byte[] rootHash) {
+        return ByteBuffer.allocate(Long.BYTES + rootHash.length).putLong(treeSize).put(rootHash).array();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
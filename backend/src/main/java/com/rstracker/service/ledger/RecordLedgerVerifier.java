@@ -0,0 +1,297 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import com.rstracker.entity.RecordLedgerVerification;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRepository.AppendedRecord;
+import com.rstracker.repository.RecordLedgerVerificationRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기록 원장 전체 검증 작업
+ *
+ * 원장에 추가된 모든 기록의 현재 내용을 다시 해시해 원장 잎(level 0 노드)과 비교합니다.
+ * 1. 시작: 마지막 검증 시작 후 verificationInterval이 지났으면 현재 records.id 범위로 새 검증을 만듦
+ * 2. 검증: ID 범위를 verificationChunkSize 단위 청크로 나눠 ForkJoinPool(verificationParallelism)에서 병렬로 확인
+ *    - 청크는 읽기 전용 트랜잭션에서 전방향 커서로 읽음 (읽기 복제본을 켜면 복제본에서 읽음)
+ *    - 청크가 끝나면 불일치 기록과 체크포인트를 한 트랜잭션에 저장하고, 중단되면 다음 실행에서 남은 청크부터 이어서 검증
+ *    - 모든 청크 합계가 초당 verificationMaxRecordsPerSecond건을 넘지 않도록 쉬어 가며 읽음
+ * 3. 완료: 청크 결과 합계를 기록
+ * 원장 추가 전 기록과 검증 시작 후 생성된 기록은 다음 검증에서 확인합니다.
+ * 여러 인스턴스가 같은 검증을 이어서 실행하면 청크를 중복으로 읽을 수 있지만 결과는 한 번만 저장됩니다.
+ * 검증은 몇 시간씩 걸릴 수 있으므로 스케줄러 스레드가 아닌 자체 실행기 스레드에서 돌고, 이전 검증이 끝나지 않았으면 새로 넘기지 않습니다.
+ */
+@Slf4j
+public class RecordLedgerVerifier implements AutoCloseable {
+
+    /** 현재 내용의 해시가 원장 잎과 다름 (원장 추가 후 내용이 바뀜) */
+    public static final String REASON_HASH_MISMATCH = "HASH_MISMATCH";
+
+    /** ledger_index가 가리키는 잎이 원장에 없음 */
+    public static final String REASON_LEAF_MISSING = "LEAF_MISSING";
+
+    private final RecordLedgerRepository recordLedgerRepository;
+    private final RecordLedgerVerificationRepository verificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LedgerProperties properties;
+    private final ServiceMetrics serviceMetrics;
+    private final ExecutorService passExecutor;
+    private final AtomicBoolean passRunning = new AtomicBoolean();
+
+    public RecordLedgerVerifier(RecordLedgerRepository recordLedgerRepository,
+                                RecordLedgerVerificationRepository verificationRepository,
+                                PlatformTransactionManager transactionManager,
+                                LedgerProperties properties,
+                                ServiceMetrics serviceMetrics) {
+        this.recordLedgerRepository = recordLedgerRepository;
+        this.verificationRepository = verificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.serviceMetrics = serviceMetrics;
+        this.passExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-verifier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "#{@ledgerProperties.verificationCheckInterval.toMillis()}",
+            initialDelayString = "#{@ledgerProperties.verificationCheckInterval.toMillis()}")
+    public void run() {
+        if (!passRunning.compareAndSet(false, true)) {
+            log.debug("Ledger verification still running, skipping this check");
+            return;
+        }
+        try {
+            passExecutor.execute(this::runPass);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            passRunning.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        // 진행 중인 검증은 중단되고 다음 기동에서 체크포인트부터 이어서 실행
+        passExecutor.shutdownNow();
+    }
+
+    private void runPass() {
+        try {
+            verifyIfDue(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Ledger verification failed, will resume from checkpoint on next run", e);
+        } finally {
+            passRunning.set(false);
+        }
+    }
+
+    /**
+     * 진행 중인 검증을 이어서 실행하거나, 간격이 지났으면 새 검증을 시작해 끝까지 실행
+     *
+     * @return 완료한 검증 (진행 중인 검증이 없고 아직 시작할 때가 아니면 빈 값)
+     */
+    public Optional<RecordLedgerVerification> verifyIfDue(LocalDateTime now) {
+        RecordLedgerVerification verification = transactionTemplate.execute(status ->
+                verificationRepository.findFirstByStatusOrderByIdAsc(RecordLedgerVerification.Status.RUNNING)
+                        .or(() -> startIfDue(now))
+                        .orElse(null));
+        return Optional.ofNullable(verification).map(this::resume);
+    }
+
+    /**
+     * 체크포인트가 없는 청크를 병렬로 검증하고 검증을 완료 처리
+     */
+    public RecordLedgerVerification resume(RecordLedgerVerification verification) {
+        long startedAt = System.nanoTime();
+        Set<Long> completed = new HashSet<>(verificationRepository.findCompletedChunkStarts(verification.getId()));
+        long chunkCount = verification.chunkCount();
+        AtomicLong completedChunks = new AtomicLong(completed.size());
+        Throttle throttle = new Throttle(properties.getVerificationMaxRecordsPerSecond());
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (long chunk = 0; chunk < chunkCount; chunk++) {
+            long chunkStart = verification.chunkStart(chunk);
+            if (!completed.contains(chunkStart)) {
+                tasks.add(() -> {
+                    int verified = verifyChunk(verification, chunkStart, throttle);
+                    serviceMetrics.ledgerVerificationProgress((double) completedChunks.incrementAndGet() / chunkCount);
+                    return verified;
+                });
+            }
+        }
+        log.info("Ledger verification {} running: ids {}..{}, chunks remaining={}/{}",
+                verification.getId(), verification.getMinRecordId(), verification.getMaxRecordId(), tasks.size(), chunkCount);
+
+        long verified = 0;
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, properties.getVerificationParallelism()));
+        try {
+            // 실패한 청크가 있어도 나머지 청크는 끝까지 실행해 체크포인트를 남김
+            for (Future<Integer> result : pool.invokeAll(tasks)) {
+                verified += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ledger verification interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Ledger verification chunk failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            serviceMetrics.ledgerVerificationProgress(0);
+        }
+
+        RecordLedgerVerification result = transactionTemplate.execute(status -> complete(verification.getId()));
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("Ledger verification {} completed: verified={}, mismatches={}, elapsed={}ms, rate={}/s",
+                result.getId(), result.getVerifiedCount(), result.getMismatchCount(), elapsedMillis,
+                verified * 1000 / elapsedMillis);
+        return result;
+    }
+
+    private Optional<RecordLedgerVerification> startIfDue(LocalDateTime now) {
+        if (!recordLedgerRepository.tryLockForVerificationStart()) {
+            return Optional.empty();
+        }
+        boolean due = verificationRepository.findFirstByOrderByIdDesc()
+                .map(latest -> !latest.getStartedAt().plus(properties.getVerificationInterval()).isAfter(now))
+                .orElse(true);
+        if (!due) {
+            return Optional.empty();
+        }
+        return recordLedgerRepository.findRecordIdRange()
+                .map(range -> verificationRepository.save(new RecordLedgerVerification(
+                        range[0], range[1], properties.getVerificationChunkSize(), now)));
+    }
+
+    /**
+     * 청크 하나 검증 후 불일치 기록과 체크포인트 저장
+     *
+     * @return 검증한 기록 수
+     */
+    private int verifyChunk(RecordLedgerVerification verification, long chunkStart, Throttle throttle) {
+        long chunkEnd = Math.min(chunkStart + verification.getChunkSize(), verification.getMaxRecordId() + 1);
+        int fetchSize = properties.getVerificationFetchSize();
+        List<Mismatch> mismatches = new ArrayList<>();
+        int[] verified = {0};
+        readOnlyTransaction.executeWithoutResult(status ->
+                recordLedgerRepository.streamAppended(chunkStart, chunkEnd, fetchSize, appended -> {
+                    if (verified[0] % fetchSize == 0) {
+                        throttle.acquire(fetchSize);
+                    }
+                    verified[0]++;
+                    String reason = mismatchReason(appended);
+                    if (reason != null) {
+                        mismatches.add(new Mismatch(appended, reason));
+                    }
+                }));
+
+        LocalDateTime now = LocalDateTime.now();
+        Boolean saved = transactionTemplate.execute(status -> {
+            if (verificationRepository.saveChunk(verification.getId(), chunkStart, verified[0], mismatches.size(), now) == 0) {
+                return false;
+            }
+            for (Mismatch mismatch : mismatches) {
+                AppendedRecord appended = mismatch.appended();
+                verificationRepository.saveMismatch(verification.getId(), appended.record().getId(),
+                        appended.record().getRecordId(), appended.ledgerIndex(), mismatch.reason(), now);
+            }
+            return true;
+        });
+        if (Boolean.TRUE.equals(saved)) {
+            for (Mismatch mismatch : mismatches) {
+                AppendedRecord appended = mismatch.appended();
+                log.warn("Ledger mismatch: recordId={}, id={}, ledgerIndex={}, reason={}",
+                        appended.record().getRecordId(), appended.record().getId(), appended.ledgerIndex(), mismatch.reason());
+                serviceMetrics.ledgerMismatchFound(mismatch.reason());
+            }
+            serviceMetrics.ledgerVerified(verified[0]);
+        }
+        return verified[0];
+    }
+
+    private static String mismatchReason(AppendedRecord appended) {
+        if (appended.leafHash() == null) {
+            return REASON_LEAF_MISSING;
+        }
+        if (!Arrays.equals(RecordContentHasher.leafHash(appended.record()), appended.leafHash())) {
+            return REASON_HASH_MISMATCH;
+        }
+        return null;
+    }
+
+    private RecordLedgerVerification complete(Long verificationId) {
+        RecordLedgerVerification verification = verificationRepository.findById(verificationId)
+                .orElseThrow(() -> new IllegalStateException("Ledger verification " + verificationId + " disappeared"));
+        Object[] totals = verificationRepository.sumChunkResults(verificationId).get(0);
+        verification.setVerifiedCount(((Number) totals[0]).longValue());
+        verification.setMismatchCount(((Number) totals[1]).longValue());
+        verification.setStatus(RecordLedgerVerification.Status.COMPLETED);
+        if (verification.getFinishedAt() == null) {
+            verification.setFinishedAt(LocalDateTime.now());
+        }
+        return verificationRepository.save(verification);
+    }
+
+    private record Mismatch(AppendedRecord appended, String reason) {
+    }
+
+    /**
+     * 초당 처리량 제한 (모든 청크가 공유)
+     * 요청한 양만큼 다음 허용 시각을 미리 예약하고, 자기 차례가 올 때까지 기다립니다.
+     */
+    static final class Throttle {
+
+        private final long nanosPerPermit;
+        private long nextFreeAt = System.nanoTime();
+
+        Throttle(int permitsPerSecond) {
+            this.nanosPerPermit = permitsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        }
+
+        void acquire(int permits) {
+            if (nanosPerPermit == 0) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(nextFreeAt, now);
+                nextFreeAt = start + permits * nanosPerPermit;
+                waitNanos = start - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Ledger verification interrupted", e);
+                }
+            }
+        }
+    }
+}
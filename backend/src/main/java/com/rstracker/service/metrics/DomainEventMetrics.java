@@ -0,0 +1,48 @@
+package com.rstracker.service.metrics;
+
+import com.rstracker.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 지표 (아웃박스 구독자)
+ *
+ * 이벤트 타입별 처리 건수와, 이벤트 발생부터 리스너 도달까지의 지연(아웃박스 릴레이 지연)을 기록합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventMetrics {
+
+    public static final String DOMAIN_EVENTS = "rstracker.domain.events";
+    public static final String DELIVERY_LAG = "rstracker.domain.events.delivery.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    public DomainEventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void on(DomainEvent event) {
+        String type = event.getClass().getSimpleName();
+        Counter.builder(DOMAIN_EVENTS)
+                .description("Domain events delivered from the outbox")
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+        if (event.getOccurredAt() != null) {
+            Timer.builder(DELIVERY_LAG)
+                    .description("Time from event occurrence to listener delivery")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(Duration.between(event.getOccurredAt(), LocalDateTime.now()));
+        }
+    }
+}
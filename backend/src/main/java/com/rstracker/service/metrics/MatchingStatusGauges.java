@@ -0,0 +1,77 @@
+package com.rstracker.service.metrics;
+
+import com.rstracker.entity.MatchingStatus;
+import com.rstracker.repository.MatchingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 진행 중인 매칭 수 게이지 (상태별)
+ *
+ * 게이지 값은 스크레이프 시점에 읽히므로, 상태마다 쿼리하지 않고 GROUP BY 한 번으로 얻은 스냅샷을
+ * {@link #REFRESH_INTERVAL_MILLIS} 동안 재사용합니다. 조회에 실패하면 직전 값을 유지합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MatchingStatusGauges implements MeterBinder {
+
+    public static final String ACTIVE_MATCHINGS = "rstracker.matchings.active";
+
+    /** 진행 중(종료 전) 상태 */
+    static final List<MatchingStatus> ACTIVE_STATUSES = List.of(MatchingStatus.WAITING, MatchingStatus.ESTABLISHED);
+
+    static final long REFRESH_INTERVAL_MILLIS = 10_000;
+
+    private final MatchingRepository matchingRepository;
+    private final List<String> statusValues;
+
+    private volatile Map<MatchingStatus, Long> snapshot = new EnumMap<>(MatchingStatus.class);
+    private volatile long refreshedAt;
+
+    public MatchingStatusGauges(MatchingRepository matchingRepository) {
+        this.matchingRepository = matchingRepository;
+        this.statusValues = ACTIVE_STATUSES.stream().map(MatchingStatus::getValue).toList();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (MatchingStatus status : ACTIVE_STATUSES) {
+            Gauge.builder(ACTIVE_MATCHINGS, this, gauges -> gauges.count(status))
+                    .description("Matchings that have not completed yet, by status")
+                    .tag("status", status.getValue())
+                    .register(registry);
+        }
+    }
+
+    double count(MatchingStatus status) {
+        refreshIfStale();
+        return snapshot.getOrDefault(status, 0L);
+    }
+
+    private synchronized void refreshIfStale() {
+        long now = System.currentTimeMillis();
+        if (now - refreshedAt < REFRESH_INTERVAL_MILLIS) {
+            return;
+        }
+        refreshedAt = now;
+        try {
+            Map<MatchingStatus, Long> counts = new EnumMap<>(MatchingStatus.class);
+            for (MatchingRepository.StatusCount row : matchingRepository.countByStatusIn(statusValues)) {
+                counts.put(MatchingStatus.fromValue(row.getStatus()), row.getCount());
+            }
+            snapshot = counts;
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh matching status gauges, keeping previous values: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.rstracker.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서비스 계층 비즈니스 지표
+ *
+ * 서비스 메서드 실행 시간은 클래스에 선언한 @Timed(TimedAspect)로 수집하고,
+ * 여기서는 실행 시간으로 드러나지 않는 이벤트 수와 계산 결과 분포를 기록합니다.
+ * 핫패스에서 레지스트리 조회가 일어나지 않도록 미터는 생성 시 한 번만 등록하며,
+ * app.metrics.enabled=false이면 미터를 등록하지 않고 모든 기록이 무시됩니다.
+ */
+@Component
+public class ServiceMetrics {
+
+    public static final String CODE_GENERATION_RETRIES = "rstracker.matching.code.retries";
+    public static final String JOIN_REJECTIONS = "rstracker.matching.join.rejections";
+    public static final String RECORD_CREATION_FAILURES = "rstracker.record.creation.failures";
+    public static final String TEMPERATURE = "rstracker.record.temperature";
+    public static final String MATCHINGS_EXPIRED = "rstracker.matching.expired";
+    public static final String MATCHINGS_ARCHIVED = "rstracker.matching.archived";
+    public static final String LEDGER_APPENDED = "rstracker.ledger.appended";
+    public static final String LEDGER_VERIFIED = "rstracker.ledger.verification.records";
+    public static final String LEDGER_MISMATCHES = "rstracker.ledger.verification.mismatches";
+    public static final String LEDGER_VERIFICATION_PROGRESS = "rstracker.ledger.verification.progress";
+
+    public static final String REASON_FULL = "full";
+    public static final String REASON_CLOSED = "closed";
+
+    /** 온도는 0.0 ~ 1.0 범위이므로 기본 히스토그램 버킷 대신 0.1 단위 버킷을 사용 */
+    private static final double[] TEMPERATURE_BUCKETS = {0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private Counter codeGenerationRetries;
+    private Counter joinRejectedFull;
+    private Counter joinRejectedClosed;
+    private DistributionSummary temperature;
+    private Counter matchingsExpired;
+    private Counter matchingsArchived;
+    private Counter ledgerAppended;
+    private Counter ledgerVerified;
+
+    /** 진행 중인 검증의 완료 청크 비율 (double 비트, 진행 중인 검증이 없으면 0) */
+    private final AtomicLong ledgerVerificationProgress = new AtomicLong(Double.doubleToLongBits(0));
+
+    public ServiceMetrics(MeterRegistry meterRegistry, @Value("${app.metrics.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        if (!enabled) {
+            return;
+        }
+        this.codeGenerationRetries = Counter.builder(CODE_GENERATION_RETRIES)
+                .description("Matching code collisions that required another generation attempt")
+                .register(meterRegistry);
+        this.joinRejectedFull = joinRejections(REASON_FULL);
+        this.joinRejectedClosed = joinRejections(REASON_CLOSED);
+        this.temperature = DistributionSummary.builder(TEMPERATURE)
+                .description("Average temperature of created records")
+                .serviceLevelObjectives(TEMPERATURE_BUCKETS)
+                .register(meterRegistry);
+        this.matchingsExpired = Counter.builder(MATCHINGS_EXPIRED)
+                .description("Waiting or established matchings expired by the sweeper")
+                .register(meterRegistry);
+        this.matchingsArchived = Counter.builder(MATCHINGS_ARCHIVED)
+                .description("Closed matchings moved to the archive tables by the sweeper")
+                .register(meterRegistry);
+        this.ledgerAppended = Counter.builder(LEDGER_APPENDED)
+                .description("Records hashed and appended to the ledger Merkle tree")
+                .register(meterRegistry);
+        this.ledgerVerified = Counter.builder(LEDGER_VERIFIED)
+                .description("Records re-hashed and compared with their ledger leaf by the verifier")
+                .register(meterRegistry);
+        Gauge.builder(LEDGER_VERIFICATION_PROGRESS, ledgerVerificationProgress, value -> Double.longBitsToDouble(value.get()))
+                .description("Completed chunk ratio of the running ledger verification")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 매칭 코드 중복으로 재생성
+     */
+    public void codeGenerationRetried() {
+        if (enabled) {
+            codeGenerationRetries.increment();
+        }
+    }
+
+    /**
+     * 참여 거절 (정원 초과 또는 이미 종료된 매칭)
+     */
+    public void joinRejected(String reason) {
+        if (!enabled) {
+            return;
+        }
+        if (REASON_FULL.equals(reason)) {
+            joinRejectedFull.increment();
+        } else {
+            joinRejectedClosed.increment();
+        }
+    }
+
+    /**
+     * 기록 생성 실패 (예외 타입별)
+     */
+    public void recordCreationFailed(Throwable cause) {
+        if (enabled) {
+            Counter.builder(RECORD_CREATION_FAILURES)
+                    .description("Record creation attempts that ended with an exception")
+                    .tag("exception", cause.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 계산된 기록 온도
+     */
+    public void temperatureComputed(double value) {
+        if (enabled) {
+            temperature.record(value);
+        }
+    }
+
+    /**
+     * 스위퍼가 만료시킨 매칭 수
+     */
+    public void matchingsExpired(int count) {
+        if (enabled && count > 0) {
+            matchingsExpired.increment(count);
+        }
+    }
+
+    /**
+     * 스위퍼가 보관 테이블로 옮긴 매칭 수
+     */
+    public void matchingsArchived(int count) {
+        if (enabled && count > 0) {
+            matchingsArchived.increment(count);
+        }
+    }
+
+    /**
+     * 원장에 추가된 기록 수
+     */
+    public void ledgerAppended(int count) {
+        if (enabled && count > 0) {
+            ledgerAppended.increment(count);
+        }
+    }
+
+    /**
+     * 검증한 기록 수
+     */
+    public void ledgerVerified(int count) {
+        if (enabled && count > 0) {
+            ledgerVerified.increment(count);
+        }
+    }
+
+    /**
+     * 원장 잎과 일치하지 않는 기록 (사유별)
+     */
+    public void ledgerMismatchFound(String reason) {
+        if (enabled) {
+            Counter.builder(LEDGER_MISMATCHES)
+                    .description("Records whose content no longer matches their ledger leaf")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    /**
+     * 진행 중인 검증의 완료 청크 비율 (0.0 ~ 1.0)
+     */
+    public void ledgerVerificationProgress(double ratio) {
+        ledgerVerificationProgress.set(Double.doubleToLongBits(ratio));
+    }
+
+    private Counter joinRejections(String reason) {
+        return Counter.builder(JOIN_REJECTIONS)
+                .description("Join attempts rejected because the matching was full or no longer waiting")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
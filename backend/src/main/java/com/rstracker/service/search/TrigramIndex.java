@@ -0,0 +1,291 @@
+package com.rstracker.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문자열 필드 하나에 대한 트라이그램 역색인
+ *
+ * pg_trgm과 같이 앞쪽에 공백 두 칸을 붙여 트라이그램을 만들기 때문에
+ * 1~2글자 접두어 검색도 같은 포스팅 리스트로 처리할 수 있습니다.
+ * 문서 ID는 항상 증가하는 순서로 추가되어야 하며, 포스팅 리스트는 정렬된 int 배열로 유지됩니다.
+ * 삭제된 문서는 포스팅에서 제거하지 않으므로 호출 측에서 후보를 다시 검증해야 합니다.
+ */
+class TrigramIndex {
+
+    private static final String PADDING = "  ";
+
+    /** 후보 선별 시 구분하는 길이 차이 상한 (이보다 멀면 같은 순위) */
+    private static final int MAX_LENGTH_RANK = 64;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /** 문서별 값 길이 (후보 선별용, char 범위로 제한) */
+    private char[] lengths = new char[1024];
+
+    void add(int docId, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (docId >= lengths.length) {
+            lengths = Arrays.copyOf(lengths, Math.max(lengths.length * 2, docId + 1));
+        }
+        lengths[docId] = (char) Math.min(value.length(), Character.MAX_VALUE);
+        for (long gram : paddedGrams(value)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(docId);
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        lengths = new char[1024];
+    }
+
+    /**
+     * 후보가 limit개를 넘으면 값 길이가 검색어 길이에 가까운 문서부터 limit개를 고름
+     * 길이가 같은 정확 일치와 점수가 높은 짧은 접두어/부분 문자열 일치가 문서 ID와 관계없이 남습니다.
+     * 검색어보다 짧은 값은 일치할 수 없으므로 가장 뒤로 보냅니다. 결과는 문서 ID 순입니다.
+     */
+    int[] closestByLength(int[] docIds, int queryLength, int limit) {
+        if (docIds.length <= limit) {
+            return docIds;
+        }
+        int[] counts = new int[MAX_LENGTH_RANK + 1];
+        for (int docId : docIds) {
+            counts[lengthRank(docId, queryLength)]++;
+        }
+        // threshold 미만 순위는 모두 포함하고, threshold 순위는 남은 자리만큼 문서 ID 순으로 포함
+        int threshold = 0;
+        int below = 0;
+        while (below + counts[threshold] < limit) {
+            below += counts[threshold++];
+        }
+        int[] selected = new int[limit];
+        int count = 0;
+        int tieSlots = limit - below;
+        for (int docId : docIds) {
+            int rank = lengthRank(docId, queryLength);
+            if (rank < threshold || (rank == threshold && tieSlots-- > 0)) {
+                selected[count++] = docId;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 접두어 후보 조회 (모든 문서 값이 query로 시작한다는 보장은 없음)
+     */
+    int[] prefixCandidates(String query) {
+        return intersect(paddedGrams(query));
+    }
+
+    /**
+     * 부분 문자열 후보 조회 (3글자 이상만 지원)
+     */
+    int[] substringCandidates(String query) {
+        if (query.length() < 3) {
+            return new int[0];
+        }
+        return intersect(innerGrams(query));
+    }
+
+    /**
+     * 유사도 후보 조회
+     * 공유 트라이그램 수가 minShared 이상인 문서만 반환합니다.
+     * 포스팅이 maxPostingSize보다 큰 트라이그램(예: 전화번호의 "010")은 변별력이 없으므로 건너뜁니다.
+     */
+    int[] fuzzyCandidates(String query, int minShared, int maxPostingSize) {
+        List<PostingList> lists = new ArrayList<>();
+        for (long gram : paddedGrams(query)) {
+            PostingList list = postings.get(gram);
+            if (list != null && list.size <= maxPostingSize) {
+                lists.add(list);
+            }
+        }
+        // 공유할 수 있는 트라이그램이 minShared개보다 적으면 후보 없음 (char 범위를 넘는 minShared도 여기서 걸러짐)
+        if (lists.size() < minShared || minShared > Character.MAX_VALUE) {
+            return new int[0];
+        }
+        // 문서 ID로 바로 찾는 공유 수 배열 (minShared에 도달한 순간 한 번만 후보로 추가)
+        char[] sharedCounts = new char[lengths.length];
+        int[] candidates = new int[64];
+        int count = 0;
+        for (PostingList list : lists) {
+            for (int i = 0; i < list.size; i++) {
+                int docId = list.ids[i];
+                if (sharedCounts[docId] < minShared && ++sharedCounts[docId] == minShared) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, count * 2);
+                    }
+                    candidates[count++] = docId;
+                }
+            }
+        }
+        int[] result = Arrays.copyOf(candidates, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int lengthRank(int docId, int queryLength) {
+        int length = lengths[docId];
+        return length < queryLength ? MAX_LENGTH_RANK : Math.min(length - queryLength, MAX_LENGTH_RANK - 1);
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    /**
+     * 두 문자열의 트라이그램 유사도 (pg_trgm similarity와 같은 Jaccard 계수)
+     */
+    static double similarity(String a, String b) {
+        if (a == null || b == null || a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        return similarity(a, paddedGrams(b));
+    }
+
+    /**
+     * 검색어 트라이그램을 미리 계산해 둔 유사도 (후보마다 검색어를 다시 나누지 않음)
+     */
+    static double similarity(String value, long[] queryGrams) {
+        if (value == null || value.isEmpty() || queryGrams.length == 0) {
+            return 0.0;
+        }
+        long[] valueGrams = paddedGrams(value);
+        int shared = 0;
+        for (int i = 0, j = 0; i < valueGrams.length && j < queryGrams.length; ) {
+            if (valueGrams[i] == queryGrams[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (valueGrams[i] < queryGrams[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / (valueGrams.length + queryGrams.length - shared);
+    }
+
+    /**
+     * 앞에 공백 두 칸을 붙인 트라이그램 (정렬, 중복 제거)
+     */
+    static long[] paddedGrams(String value) {
+        return grams(PADDING + value);
+    }
+
+    static long[] innerGrams(String value) {
+        return grams(value);
+    }
+
+    private static long[] grams(String text) {
+        int count = Math.max(0, text.length() - 2);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || grams[unique - 1] != grams[i]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return unique == count ? grams : Arrays.copyOf(grams, unique);
+    }
+
+    private int[] intersect(long[] grams) {
+        if (grams.length == 0) {
+            return new int[0];
+        }
+        List<PostingList> lists = new ArrayList<>(grams.length);
+        for (long gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 포스팅부터 교집합을 구해 비교 횟수를 최소화
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists.get(0).ids, lists.get(0).size);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    /**
+     * 정렬된 문서 ID 목록
+     */
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size > 0 && ids[size - 1] == docId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = docId;
+        }
+
+        /**
+         * 정렬된 후보 중 이 목록에 있는 문서만 남김
+         * 목록이 후보보다 훨씬 길면 직전 위치부터 간격을 두 배씩 넓혀 범위를 찾은 뒤 그 안에서만 이진 탐색하고,
+         * 크기가 비슷하면 두 목록을 병합하듯 한 번씩 읽습니다.
+         */
+        int[] retainAll(int[] sortedCandidates) {
+            if (size <= sortedCandidates.length * 4) {
+                return merge(sortedCandidates);
+            }
+            int[] result = new int[Math.min(size, sortedCandidates.length)];
+            int count = 0;
+            int from = 0;
+            for (int candidate : sortedCandidates) {
+                if (from >= size) {
+                    break;
+                }
+                int bound = 1;
+                while (from + bound < size && ids[from + bound] < candidate) {
+                    bound <<= 1;
+                }
+                int index = Arrays.binarySearch(ids, from + (bound >> 1), Math.min(from + bound + 1, size), candidate);
+                if (index >= 0) {
+                    result[count++] = candidate;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        /**
+         * 크기가 비슷할 때의 교집합 (두 목록을 한 번씩 순서대로 읽음)
+         */
+        private int[] merge(int[] sortedCandidates) {
+            int[] result = new int[Math.min(size, sortedCandidates.length)];
+            int count = 0;
+            for (int i = 0, j = 0; i < size && j < sortedCandidates.length; ) {
+                if (ids[i] == sortedCandidates[j]) {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                } else if (ids[i] < sortedCandidates[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package com.rstracker.service.search;
+
+import com.rstracker.dto.UserSearchResultDto;
+import com.rstracker.entity.User;
+import com.rstracker.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 회원 검색용 메모리 색인
+ *
+ * 아이디, 이름, 전화번호에 대해 접두어/부분 문자열/유사도(fuzzy) 검색을 제공합니다.
+ * 애플리케이션 기동 후 users 테이블을 스트리밍으로 읽어 색인을 만들고,
+ * 이후에는 UserService의 생성/수정/삭제가 커밋될 때마다 갱신됩니다.
+ * 색인이 준비되기 전에는 {@link #isReady()}가 false이며, 호출 측은 pg_trgm 쿼리로 대체합니다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    static final String FIELD_USERID = "USERID";
+    static final String FIELD_NAME = "NAME";
+    static final String FIELD_PHONE_NUMBER = "PHONE_NUMBER";
+
+    static final String MATCH_EXACT = "EXACT";
+    static final String MATCH_PREFIX = "PREFIX";
+    static final String MATCH_SUBSTRING = "SUBSTRING";
+    static final String MATCH_FUZZY = "FUZZY";
+
+    /** pg_trgm 기본 임계값과 동일 */
+    static final double FUZZY_THRESHOLD = 0.3;
+
+    /**
+     * 필드/검색 유형별로 검증할 최대 후보 수 (지연 시간 상한)
+     * 넘으면 값 길이가 검색어에 가까운(점수가 높을) 후보부터 남기므로 최대 결과 수(100)의 몇 배면 충분합니다.
+     */
+    private static final int MAX_CANDIDATES_PER_FIELD = 2_000;
+
+    /** 대체 검색에서 랭킹 전에 DB에서 가져올 후보 수 (limit의 배수) */
+    private static final int TRIGRAM_CANDIDATE_FACTOR = 20;
+
+    /** 유사도 후보 계산 시 무시할 트라이그램의 포스팅 크기 */
+    private static final int MAX_FUZZY_POSTING_SIZE = 50_000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingMutations;
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 전체 색인 재구축
+     * 구축 중에 들어온 변경은 모아 두었다가 새 색인에 반영한 뒤 교체합니다.
+     * 기동 스레드를 막지 않도록 applicationTaskExecutor에서 실행됩니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        withWriteLock(() -> pendingMutations = new ArrayList<>());
+        try {
+            Segment rebuilt = new Segment();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserRepository.UserSearchView> views = userRepository.streamSearchViews(User.UserStatus.DELETED)) {
+                    views.forEach(view -> rebuilt.upsert(view.getId(), view.getUserid(), view.getName(), view.getPhoneNumber()));
+                }
+            });
+            withWriteLock(() -> {
+                pendingMutations.forEach(mutation -> mutation.accept(rebuilt));
+                pendingMutations = null;
+                segment = rebuilt;
+                ready = true;
+            });
+            log.info("User search index built: users={}, elapsed={}ms",
+                    rebuilt.liveCount, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            withWriteLock(() -> pendingMutations = null);
+            log.error("Failed to build user search index, falling back to database search", e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원 색인 (삭제 상태면 색인에서 제거)
+     */
+    public void index(User user) {
+        if (user.getStatus() == User.UserStatus.DELETED) {
+            remove(user.getId());
+            return;
+        }
+        Long id = user.getId();
+        String userid = user.getUserid();
+        String name = user.getName();
+        String phoneNumber = user.getPhoneNumber();
+        mutate(target -> target.upsert(id, userid, name, phoneNumber));
+    }
+
+    public void remove(Long userId) {
+        mutate(target -> target.remove(userId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 색인 (트랜잭션이 없으면 즉시)
+     * 롤백된 변경이 색인에 남지 않도록 합니다.
+     */
+    public void indexAfterCommit(User user) {
+        runAfterCommit(() -> index(user));
+    }
+
+    public void removeAfterCommit(Long userId) {
+        runAfterCommit(() -> remove(userId));
+    }
+
+    /**
+     * 색인 검색
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 검색 결과
+     */
+    public List<UserSearchResultDto> search(String query, int limit) {
+        SearchQuery searchQuery = SearchQuery.of(query);
+        if (searchQuery.text.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<int[]> candidates = new ArrayList<>();
+            collectCandidates(segment.useridIndex, searchQuery.text, candidates);
+            collectCandidates(segment.nameIndex, searchQuery.text, candidates);
+            if (searchQuery.digits != null) {
+                collectCandidates(segment.phoneIndex, searchQuery.digits, candidates);
+            }
+
+            TopResults results = new TopResults(limit);
+            for (int docId : union(candidates)) {
+                IndexedUser user = segment.docs[docId];
+                if (user != null) {
+                    results.add(user, match(user, searchQuery));
+                }
+            }
+            return results.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인이 준비되기 전 pg_trgm 쿼리로 대체 검색
+     * 쿼리가 정확히 일치 > 접두어 > 부분 문자열 > 유사도 순으로 정렬해 자르고, limit의 몇 배로 넓힌 후보에
+     * 색인 검색과 같은 랭킹 규칙을 적용하므로 짧은 필드의 유사도 일치가 긴 필드의 접두어 일치를 밀어내지 않습니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 검색 결과
+     */
+    public List<UserSearchResultDto> searchByTrigram(String query, int limit) {
+        SearchQuery searchQuery = SearchQuery.of(query);
+        if (searchQuery.text.isEmpty()) {
+            return List.of();
+        }
+        String trimmed = query.trim();
+        String pattern = "%" + trimmed.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        List<UserRepository.UserSearchView> views = userRepository.searchByTrigram(
+                trimmed, pattern, searchQuery.text, searchQuery.digits, limit * TRIGRAM_CANDIDATE_FACTOR);
+        return rank(views, searchQuery, limit);
+    }
+
+    /**
+     * 색인 밖(DB 대체 검색)에서 조회한 결과에 같은 랭킹 규칙을 적용합니다.
+     */
+    private static List<UserSearchResultDto> rank(List<UserRepository.UserSearchView> views, SearchQuery searchQuery, int limit) {
+        TopResults results = new TopResults(limit);
+        for (UserRepository.UserSearchView view : views) {
+            IndexedUser user = new IndexedUser(view.getId(), view.getUserid(), view.getName(), view.getPhoneNumber());
+            results.add(user, match(user, searchQuery));
+        }
+        return results.toList();
+    }
+
+    /**
+     * 회원 한 명과 정규화된 검색어의 일치 여부 및 점수 계산
+     * 정확히 일치 > 접두어 > 부분 문자열 > 유사도 순으로 점수가 높고,
+     * 같은 유형에서는 필드 길이에 가까울수록 높습니다.
+     *
+     * @return 가장 점수가 높은 필드 (일치하지 않으면 null)
+     */
+    private static FieldMatch match(IndexedUser user, SearchQuery query) {
+        FieldMatch best = FieldMatch.better(null, score(FIELD_USERID, user.normalizedUserid, query.text, query.textGrams));
+        best = FieldMatch.better(best, score(FIELD_NAME, user.normalizedName, query.text, query.textGrams));
+        if (query.digits != null) {
+            best = FieldMatch.better(best, score(FIELD_PHONE_NUMBER, user.normalizedPhoneNumber, query.digits, query.digitGrams));
+        }
+        return best;
+    }
+
+    private static FieldMatch score(String field, String value, String query, long[] queryGrams) {
+        if (value.isEmpty() || query.isEmpty()) {
+            return null;
+        }
+        double closeness = (double) query.length() / Math.max(value.length(), query.length());
+        if (value.equals(query)) {
+            return new FieldMatch(field, MATCH_EXACT, 1.0);
+        }
+        if (value.startsWith(query)) {
+            return new FieldMatch(field, MATCH_PREFIX, 0.8 + 0.1 * closeness);
+        }
+        if (value.contains(query)) {
+            return new FieldMatch(field, MATCH_SUBSTRING, 0.6 + 0.1 * closeness);
+        }
+        if (query.length() >= 3) {
+            double similarity = TrigramIndex.similarity(value, queryGrams);
+            if (similarity >= FUZZY_THRESHOLD) {
+                return new FieldMatch(field, MATCH_FUZZY, 0.5 * similarity);
+            }
+        }
+        return null;
+    }
+
+    private static void collectCandidates(TrigramIndex index, String query, List<int[]> candidates) {
+        addCandidates(index, index.prefixCandidates(query), query, candidates);
+        if (query.length() >= 3) {
+            addCandidates(index, index.substringCandidates(query), query, candidates);
+            int queryGrams = TrigramIndex.paddedGrams(query).length;
+            int minShared = Math.max(1, (int) Math.ceil(queryGrams * FUZZY_THRESHOLD));
+            addCandidates(index, index.fuzzyCandidates(query, minShared, MAX_FUZZY_POSTING_SIZE), query, candidates);
+        }
+    }
+
+    /**
+     * 후보 추가 (상한을 넘으면 점수가 높을 후보부터 남김)
+     * 같은 유형에서는 값이 짧을수록 점수가 높으므로 문서 ID가 아니라 값 길이로 잘라야
+     * 오래전에 가입한 회원이 많아도 정확 일치와 가까운 접두어 일치가 빠지지 않습니다.
+     */
+    private static void addCandidates(TrigramIndex index, int[] docIds, String query, List<int[]> candidates) {
+        candidates.add(index.closestByLength(docIds, query.length(), MAX_CANDIDATES_PER_FIELD));
+    }
+
+    /**
+     * 필드/검색 유형별 후보 목록의 합집합 (문서 ID 순, 중복 제거)
+     */
+    private static int[] union(List<int[]> candidates) {
+        int total = 0;
+        for (int[] docIds : candidates) {
+            total += docIds.length;
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (int[] docIds : candidates) {
+            System.arraycopy(docIds, 0, merged, offset, docIds.length);
+            offset += docIds.length;
+        }
+        Arrays.sort(merged);
+        int unique = 0;
+        for (int i = 0; i < total; i++) {
+            if (unique == 0 || merged[unique - 1] != merged[i]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return Arrays.copyOf(merged, unique);
+    }
+
+    static String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+
+    static String normalizePhone(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * 숫자, 하이픈, 공백으로만 이루어진 검색어만 전화번호 검색에 사용
+     */
+    private static String normalizePhoneQuery(String query) {
+        if (query == null || !query.matches("[0-9\\-\\s]+")) {
+            return null;
+        }
+        String digits = normalizePhone(query);
+        return digits.isEmpty() ? null : digits;
+    }
+
+    private void mutate(Consumer<Segment> mutation) {
+        withWriteLock(() -> {
+            mutation.accept(segment);
+            if (pendingMutations != null) {
+                pendingMutations.add(mutation);
+            }
+            if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 색인 데이터 묶음
+     * 문서 ID는 추가될 때마다 증가하며, 수정된 회원은 새 문서 ID를 받고 이전 문서는 비워둡니다.
+     */
+    private static final class Segment {
+        private final TrigramIndex useridIndex = new TrigramIndex();
+        private final TrigramIndex nameIndex = new TrigramIndex();
+        private final TrigramIndex phoneIndex = new TrigramIndex();
+        private final Map<Long, Integer> docIdByUserId = new HashMap<>();
+        private IndexedUser[] docs = new IndexedUser[1024];
+        private int nextDocId;
+        private int liveCount;
+
+        void upsert(Long id, String userid, String name, String phoneNumber) {
+            remove(id);
+            int docId = nextDocId++;
+            if (docId == docs.length) {
+                docs = Arrays.copyOf(docs, docs.length * 2);
+            }
+            IndexedUser user = new IndexedUser(id, userid, name, phoneNumber);
+            docs[docId] = user;
+            docIdByUserId.put(id, docId);
+            useridIndex.add(docId, user.normalizedUserid);
+            nameIndex.add(docId, user.normalizedName);
+            phoneIndex.add(docId, user.normalizedPhoneNumber);
+            liveCount++;
+        }
+
+        void remove(Long id) {
+            Integer docId = docIdByUserId.remove(id);
+            if (docId != null) {
+                docs[docId] = null;
+                liveCount--;
+            }
+        }
+
+        /**
+         * 비워진 문서가 살아있는 문서보다 많아지면 포스팅을 다시 만듭니다.
+         */
+        boolean needsCompaction() {
+            int removed = nextDocId - liveCount;
+            return removed > 1024 && removed > liveCount;
+        }
+
+        Segment compact() {
+            Segment compacted = new Segment();
+            for (int docId = 0; docId < nextDocId; docId++) {
+                IndexedUser user = docs[docId];
+                if (user != null) {
+                    compacted.upsert(user.id, user.userid, user.name, user.phoneNumber);
+                }
+            }
+            return compacted;
+        }
+    }
+
+    private static final class IndexedUser {
+        private final Long id;
+        private final String userid;
+        private final String name;
+        private final String phoneNumber;
+        private final String normalizedUserid;
+        private final String normalizedName;
+        private final String normalizedPhoneNumber;
+
+        IndexedUser(Long id, String userid, String name, String phoneNumber) {
+            this.id = id;
+            this.userid = userid;
+            this.name = name;
+            this.phoneNumber = phoneNumber;
+            this.normalizedUserid = normalizeText(userid);
+            this.normalizedName = normalizeText(name);
+            this.normalizedPhoneNumber = normalizePhone(phoneNumber);
+        }
+    }
+
+    /**
+     * 정규화한 검색어 (유사도 계산용 트라이그램은 검색마다 한 번만 계산)
+     */
+    private static final class SearchQuery {
+        private final String text;
+        private final long[] textGrams;
+        private final String digits;
+        private final long[] digitGrams;
+
+        private SearchQuery(String text, String digits) {
+            this.text = text;
+            this.textGrams = TrigramIndex.paddedGrams(text);
+            this.digits = digits;
+            this.digitGrams = digits == null ? null : TrigramIndex.paddedGrams(digits);
+        }
+
+        static SearchQuery of(String query) {
+            return new SearchQuery(normalizeText(query), normalizePhoneQuery(query));
+        }
+    }
+
+    /**
+     * 점수 내림차순 상위 limit개만 유지 (후보 전체를 정렬하지 않음)
+     * 힙의 머리는 지금까지의 상위 결과 중 가장 낮은 결과이며, 그보다 낮은 일치는 결과 객체를 만들지 않습니다.
+     */
+    private static final class TopResults {
+        private static final Comparator<UserSearchResultDto> RANKING =
+                Comparator.comparing(UserSearchResultDto::getScore).reversed()
+                        .thenComparing(UserSearchResultDto::getId);
+
+        private final int limit;
+        private final PriorityQueue<UserSearchResultDto> heap;
+
+        TopResults(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(RANKING.reversed());
+        }
+
+        void add(IndexedUser user, FieldMatch match) {
+            if (match == null || limit <= 0) {
+                return;
+            }
+            if (heap.size() == limit) {
+                UserSearchResultDto lowest = heap.peek();
+                if (match.score < lowest.getScore() || (match.score == lowest.getScore() && user.id > lowest.getId())) {
+                    return;
+                }
+                heap.poll();
+            }
+            heap.add(new UserSearchResultDto(user.id, user.userid, user.name, user.phoneNumber,
+                    match.field, match.type, match.score));
+        }
+
+        List<UserSearchResultDto> toList() {
+            List<UserSearchResultDto> results = new ArrayList<>(heap);
+            results.sort(RANKING);
+            return results;
+        }
+    }
+
+    private static final class FieldMatch {
+        private final String field;
+        private final String type;
+        private final double score;
+
+        FieldMatch(String field, String type, double score) {
+            this.field = field;
+            this.type = type;
+            this.score = score;
+        }
+
+        static FieldMatch better(FieldMatch current, FieldMatch candidate) {
+            if (candidate == null) {
+                return current;
+            }
+            if (current == null || candidate.score > current.score) {
+                return candidate;
+            }
+            return current;
+        }
+    }
+}
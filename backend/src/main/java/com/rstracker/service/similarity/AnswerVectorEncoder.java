@@ -0,0 +1,79 @@
+package com.rstracker.service.similarity;
+
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기록 응답 벡터 인코더
+ *
+ * 두 참여자가 질문 순서별로 고른 선택지 집합(records.answer_choices)을 long 하나로 인코딩합니다.
+ * 질문 하나가 8비트를 차지하고 선택지 순서(1~8)가 비트 위치이므로, 두 기록의 해밍 거리는
+ * 질문별로 한쪽 커플만 고른 선택지 수의 합입니다. (같은 답이면 0, 한 명만 다르게 답하면 2)
+ * 카탈로그에 없는 질문/선택지와 9번째 이후 선택지는 무시합니다.
+ */
+public final class AnswerVectorEncoder {
+
+    public static final int BITS_PER_QUESTION = 8;
+    public static final int MAX_QUESTIONS = Long.SIZE / BITS_PER_QUESTION;
+
+    /** "Q3" → 선택지 값 → 비트 */
+    private final Map<String, Map<String, Long>> bitsByQuestionKey;
+
+    private AnswerVectorEncoder(Map<String, Map<String, Long>> bitsByQuestionKey) {
+        this.bitsByQuestionKey = bitsByQuestionKey;
+    }
+
+    /**
+     * @param questionOrders 벡터에 넣을 질문 순서 (최대 {@link #MAX_QUESTIONS}개)
+     * @param questions      선택지를 포함한 질문 카탈로그 (같은 순서의 여러 버전은 먼저 나온 선택지 순서를 사용)
+     */
+    public static AnswerVectorEncoder of(List<Integer> questionOrders, Collection<Question> questions) {
+        if (questionOrders.size() > MAX_QUESTIONS) {
+            throw new IllegalArgumentException("At most " + MAX_QUESTIONS + " question orders fit in a vector: " + questionOrders);
+        }
+        Map<String, Map<String, Long>> bitsByQuestionKey = new HashMap<>();
+        for (Question question : questions) {
+            int slot = questionOrders.indexOf(question.getOrder());
+            if (slot < 0) {
+                continue;
+            }
+            Map<String, Long> bits = bitsByQuestionKey.computeIfAbsent("Q" + question.getOrder(), key -> new HashMap<>());
+            for (QuestionChoice choice : question.getChoices()) {
+                Integer order = choice.getOrder();
+                if (order != null && order >= 1 && order <= BITS_PER_QUESTION) {
+                    bits.putIfAbsent(choice.getChoiceValue(), 1L << (slot * BITS_PER_QUESTION + order - 1));
+                }
+            }
+        }
+        return new AnswerVectorEncoder(bitsByQuestionKey);
+    }
+
+    /**
+     * @param answerChoices 질문 순서("Q3") → 선택지 값 목록 (null이면 0)
+     */
+    public long encode(Map<String, List<String>> answerChoices) {
+        if (answerChoices == null) {
+            return 0L;
+        }
+        long vector = 0L;
+        for (Map.Entry<String, List<String>> entry : answerChoices.entrySet()) {
+            Map<String, Long> bits = bitsByQuestionKey.get(entry.getKey());
+            if (bits == null || entry.getValue() == null) {
+                continue;
+            }
+            for (String value : entry.getValue()) {
+                vector |= bits.getOrDefault(value, 0L);
+            }
+        }
+        return vector;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
@@ -0,0 +1,141 @@
+package com.rstracker.service.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기록 응답 벡터 배열
+ *
+ * 기록 ID와 응답 벡터를 원시 배열 두 개에 나란히 저장하고, 질의 벡터와의 해밍 거리(XOR + popcount)를
+ * 전체 배열에 대해 계산해 가장 가까운 k개를 찾습니다. 벡터 배열만 순서대로 읽으므로 캐시 친화적이며,
+ * 거리는 0~64뿐이라 거리별 버킷으로 상위 k개를 모아 정렬 없이 끝납니다.
+ * 거리가 같으면 나중에 추가된(최근) 기록이 앞섭니다. 스레드 안전하지 않습니다.
+ */
+public class AnswerVectorTable {
+
+    /** 제거된 칸의 기록 ID (기록 ID는 양수) */
+    private static final long REMOVED = -1L;
+
+    private long[] recordIds;
+    private long[] vectors;
+    private int length;
+    private int removed;
+
+    /**
+     * 유사 기록 (거리 = 한쪽 커플만 고른 선택지 수)
+     */
+    public record Neighbor(long recordId, int distance) {
+    }
+
+    public AnswerVectorTable() {
+        this(1024);
+    }
+
+    public AnswerVectorTable(int initialCapacity) {
+        recordIds = new long[Math.max(16, initialCapacity)];
+        vectors = new long[recordIds.length];
+    }
+
+    public void add(long recordId, long vector) {
+        if (length == recordIds.length) {
+            int capacity = length + (length >> 1);
+            recordIds = Arrays.copyOf(recordIds, capacity);
+            vectors = Arrays.copyOf(vectors, capacity);
+        }
+        recordIds[length] = recordId;
+        vectors[length] = vector;
+        length++;
+    }
+
+    /**
+     * 기록 제거 (최근 기록부터 찾음)
+     *
+     * @return 제거했으면 true
+     */
+    public boolean remove(long recordId) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (recordIds[i] == recordId) {
+                recordIds[i] = REMOVED;
+                removed++;
+                if (needsCompaction()) {
+                    compact();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return length - removed;
+    }
+
+    /**
+     * 질의 벡터와 해밍 거리가 가장 가까운 기록
+     *
+     * @param excludeRecordId 결과에서 뺄 기록 (질의 기록 자신)
+     * @param limit           최대 결과 수
+     * @return 거리 오름차순 (같은 거리는 최근 기록 먼저)
+     */
+    public List<Neighbor> nearest(long vector, long excludeRecordId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        int[][] buckets = new int[Long.SIZE + 1][];
+        int[] counts = new int[Long.SIZE + 1];
+        int threshold = Long.SIZE;
+        int collected = 0;
+        long[] ids = recordIds;
+        long[] values = vectors;
+        for (int i = length - 1; i >= 0; i--) {
+            int distance = Long.bitCount(vector ^ values[i]);
+            if (distance > threshold || counts[distance] == limit) {
+                continue;
+            }
+            long recordId = ids[i];
+            if (recordId == REMOVED || recordId == excludeRecordId) {
+                continue;
+            }
+            if (buckets[distance] == null) {
+                buckets[distance] = new int[limit];
+            }
+            buckets[distance][counts[distance]++] = i;
+            collected++;
+            // 더 가까운 거리만으로 limit개가 차면 가장 먼 버킷은 필요 없음
+            while (collected - counts[threshold] >= limit) {
+                collected -= counts[threshold];
+                counts[threshold] = 0;
+                threshold--;
+            }
+        }
+
+        List<Neighbor> neighbors = new ArrayList<>(Math.min(limit, collected));
+        for (int distance = 0; distance <= threshold && neighbors.size() < limit; distance++) {
+            for (int j = 0; j < counts[distance] && neighbors.size() < limit; j++) {
+                neighbors.add(new Neighbor(ids[buckets[distance][j]], distance));
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * 제거된 칸이 살아있는 칸보다 많아지면 배열을 다시 채웁니다.
+     */
+    private boolean needsCompaction() {
+        return removed > 1024 && removed > size();
+    }
+
+    private void compact() {
+        int live = 0;
+        for (int i = 0; i < length; i++) {
+            if (recordIds[i] != REMOVED) {
+                recordIds[live] = recordIds[i];
+                vectors[live] = vectors[i];
+                live++;
+            }
+        }
+        length = live;
+        removed = 0;
+    }
+}
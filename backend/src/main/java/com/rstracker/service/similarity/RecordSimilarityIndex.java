@@ -0,0 +1,139 @@
+package com.rstracker.service.similarity;
+
+import com.rstracker.config.RecordSimilarityProperties;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordSimilarityRepository;
+import com.rstracker.service.index.RebuildableIndex;
+import com.rstracker.service.similarity.AnswerVectorTable.Neighbor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유사 기록 검색용 메모리 색인
+ *
+ * 활성 기록의 응답을 {@link AnswerVectorEncoder}로 long 하나씩 인코딩해 {@link AnswerVectorTable}에 담고,
+ * 해밍 거리 전체 스캔으로 응답이 가장 비슷한 기록을 찾습니다.
+ * 애플리케이션 기동 후 records 테이블을 스트리밍으로 읽어 만들고, 이후에는 RecordService의 생성/비활성화가
+ * 커밋될 때마다 갱신됩니다. 다른 인스턴스의 변경과 질문 카탈로그 변경은 주기적 재구축(RecordSimilarityRefresher)으로 반영됩니다.
+ * 색인이 준비되기 전에는 {@link #isReady()}가 false입니다.
+ */
+@Slf4j
+@Component
+public class RecordSimilarityIndex {
+
+    private final RecordSimilarityRepository recordSimilarityRepository;
+    private final QuestionRepository questionRepository;
+    private final RecordSimilarityProperties properties;
+    private final RebuildableIndex<Snapshot> index;
+
+    public RecordSimilarityIndex(RecordSimilarityRepository recordSimilarityRepository,
+                                 QuestionRepository questionRepository,
+                                 RecordSimilarityProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.recordSimilarityRepository = recordSimilarityRepository;
+        this.questionRepository = questionRepository;
+        this.properties = properties;
+        this.index = new RebuildableIndex<>(new Snapshot(AnswerVectorEncoder.of(properties.getQuestionOrders(), List.of()),
+                new AnswerVectorTable()), transactionManager);
+    }
+
+    /**
+     * 전체 색인 재구축 (질문 카탈로그도 다시 읽음, 구축 중 변경 처리와 중복 실행 방지는 {@link RebuildableIndex} 참고)
+     * 기동 스레드를 막지 않도록 applicationTaskExecutor에서 실행됩니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int expectedSize = Math.max(1024, size());
+            Snapshot rebuilt = index.rebuild(() -> {
+                AnswerVectorEncoder encoder = AnswerVectorEncoder.of(properties.getQuestionOrders(),
+                        questionRepository.findAllWithChoices());
+                AnswerVectorTable table = new AnswerVectorTable(expectedSize);
+                recordSimilarityRepository.streamActiveAnswerChoices(properties.getFetchSize(),
+                        (id, answerChoices) -> table.add(id, encoder.encode(answerChoices)));
+                return new Snapshot(encoder, table);
+            }, recordSimilarityRepository::findActiveIds);
+            if (rebuilt == null) {
+                log.info("Record similarity index rebuild already running, skipped");
+                return;
+            }
+            log.info("Record similarity index built: records={}, elapsed={}ms",
+                    rebuilt.table().size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Failed to build record similarity index, similar records stay {}", isReady() ? "stale" : "unavailable", e);
+        }
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    public int size() {
+        return index.read(snapshot -> snapshot.table().size());
+    }
+
+    /**
+     * 응답이 가장 비슷한 활성 기록
+     *
+     * @param recordId      질의 기록 ID (결과에서 제외)
+     * @param answerChoices 질의 기록의 선택지
+     * @param limit         최대 결과 수
+     * @return 거리 오름차순 (같은 거리는 최근 기록 먼저)
+     */
+    public List<Neighbor> findSimilar(Long recordId, Map<String, List<String>> answerChoices, int limit) {
+        return index.read(snapshot -> snapshot.table()
+                .nearest(snapshot.encoder().encode(answerChoices), recordId == null ? 0L : recordId, limit));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 활성 기록 추가 (트랜잭션이 없으면 즉시)
+     * 롤백된 기록이 색인에 남지 않도록 합니다.
+     */
+    public void addAfterCommit(Long recordId, Map<String, List<String>> answerChoices) {
+        if (answerChoices != null) {
+            index.mutateAfterCommit(new Mutation(recordId, answerChoices));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 비활성화된 기록 제거 (트랜잭션이 없으면 즉시)
+     */
+    public void removeAfterCommit(Long recordId) {
+        index.mutateAfterCommit(new Mutation(recordId, null));
+    }
+
+    /**
+     * 함께 교체되는 인코더와 벡터 배열 (인코더는 재구축 때 읽은 질문 카탈로그 기준)
+     */
+    record Snapshot(AnswerVectorEncoder encoder, AnswerVectorTable table) {
+    }
+
+    /**
+     * 활성 기록 추가(선택지 있음) 또는 제거(선택지 null)
+     */
+    record Mutation(long recordId, Map<String, List<String>> answerChoices) implements RebuildableIndex.Mutation<Snapshot> {
+
+        @Override
+        public boolean added() {
+            return answerChoices != null;
+        }
+
+        @Override
+        public void applyTo(Snapshot target) {
+            if (added()) {
+                target.table().add(recordId, target.encoder().encode(answerChoices));
+            } else {
+                target.table().remove(recordId);
+            }
+        }
+    }
+}
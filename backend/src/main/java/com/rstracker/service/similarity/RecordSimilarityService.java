@@ -0,0 +1,72 @@
+package com.rstracker.service.similarity;
+
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.constants.AppConstants;
+import com.rstracker.dto.SimilarRecordDto;
+import com.rstracker.entity.Record;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.exception.ResourceNotFoundException;
+import com.rstracker.repository.RecordRepository;
+import com.rstracker.service.similarity.AnswerVectorTable.Neighbor;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 유사 기록 조회
+ *
+ * 응답이 비슷한 기록을 메모리 색인({@link RecordSimilarityIndex})에서 찾고, 결과 기록만 DB에서 읽습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RecordSimilarityService {
+
+    private final RecordRepository recordRepository;
+    private final RecordSimilarityIndex recordSimilarityIndex;
+
+    /**
+     * 응답이 가장 비슷한 활성 기록
+     *
+     * @param limit 최대 결과 수 (최대 {@link AppConstants#RECORD_SIMILAR_MAX_LIMIT})
+     * @return 거리 오름차순 (같은 거리는 최근 기록 먼저)
+     * @throws ResourceNotFoundException 기록이 없는 경우
+     * @throws BusinessException 색인이 준비되지 않았거나 기록에 선택지가 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarRecordDto> findSimilarRecords(String recordId, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, AppConstants.RECORD_SIMILAR_MAX_LIMIT));
+        Record record = recordRepository.findByRecordId(recordId)
+                .orElseThrow(() -> new ResourceNotFoundException("기록을 찾을 수 없습니다: " + recordId));
+        if (record.getAnswerChoices() == null) {
+            throw new BusinessException("선택지가 저장되지 않은 기록입니다: " + recordId);
+        }
+        if (!recordSimilarityIndex.isReady()) {
+            throw new BusinessException("유사 기록 색인을 준비하고 있습니다. 잠시 후 다시 시도해 주세요");
+        }
+
+        List<Neighbor> neighbors = recordSimilarityIndex.findSimilar(record.getId(), record.getAnswerChoices(), boundedLimit);
+        Map<Long, Record> records = recordRepository.findAllById(neighbors.stream().map(Neighbor::recordId).toList()).stream()
+                .collect(Collectors.toMap(Record::getId, Function.identity()));
+        log.debug("Found {} similar records for {}", neighbors.size(), recordId);
+
+        // 색인 조회 후 비활성화된 기록은 제외
+        return neighbors.stream()
+                .filter(neighbor -> records.containsKey(neighbor.recordId())
+                        && Boolean.TRUE.equals(records.get(neighbor.recordId()).getIsActive()))
+                .map(neighbor -> {
+                    Record similar = records.get(neighbor.recordId());
+                    return new SimilarRecordDto(similar.getRecordId(), similar.getTemperature(), similar.getCreatedAt(),
+                            similar.getAnswerChoices(), neighbor.distance());
+                })
+                .toList();
+    }
+}
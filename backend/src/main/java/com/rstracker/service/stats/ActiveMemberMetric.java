@@ -0,0 +1,13 @@
+package com.rstracker.service.stats;
+
+/**
+ * 활동 멤버 지표
+ */
+public enum ActiveMemberMetric {
+
+    /** 활동 회원 (로그인하거나 회원으로 매칭에 참여한 사용자) */
+    USERS,
+
+    /** 참여자 (회원은 사용자 ID, 비회원은 참여 코드로 구분) */
+    PARTICIPANTS
+}
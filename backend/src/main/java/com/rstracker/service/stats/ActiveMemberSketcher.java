@@ -0,0 +1,184 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.ActiveMemberStatsProperties;
+import com.rstracker.repository.ActiveMemberRepository;
+import com.rstracker.repository.ActiveMemberRepository.Activity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활동 멤버 스케치 갱신 작업
+ *
+ * 1. 반영: scanInterval마다 지난 실행 이후(scanOverlap만큼 겹쳐서) 참여한 참여자와 로그인한 사용자를 읽어
+ *    날짜/지표별 HLL 스케치에 합치고, 최근 날짜는 정확한 집계용 멤버도 남김
+ * 2. 재구축: 날짜별로 참여자(보관 포함)와 사용자 테이블을 읽어 스케치에 합침 (기능 도입 전 기간 채우기)
+ * HLL 합집합은 같은 멤버를 다시 넣어도 값이 같으므로 겹쳐 읽거나 재구축을 반복해도 중복으로 세지 않습니다.
+ * 사용자는 마지막 로그인 시각만 남으므로, 같은 사용자가 한 실행 간격 안에 여러 날짜에 로그인하면 마지막 날짜만 반영됩니다.
+ */
+@Slf4j
+public class ActiveMemberSketcher {
+
+    private final ActiveMemberRepository activeMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ActiveMemberStatsProperties properties;
+
+    public ActiveMemberSketcher(ActiveMemberRepository activeMemberRepository,
+                                PlatformTransactionManager transactionManager,
+                                ActiveMemberStatsProperties properties) {
+        this.activeMemberRepository = activeMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "#{@activeMemberStatsProperties.scanInterval.toMillis()}")
+    public void run() {
+        try {
+            long scanned = scan(LocalDateTime.now());
+            if (scanned > 0) {
+                log.debug("Active member scan finished: activities={}", scanned);
+            }
+        } catch (RuntimeException e) {
+            log.error("Active member scan failed, will retry on next run", e);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (properties.isBackfillOnStartup()) {
+            transactionTemplate.execute(status -> activeMemberRepository.findFirstActivityDate())
+                    .ifPresent(first -> rebuild(first, LocalDate.now().plusDays(1)));
+        }
+    }
+
+    /**
+     * 지난 실행 이후의 참여/로그인을 스케치에 반영 (다른 인스턴스가 실행 중이면 건너뜀)
+     *
+     * @return 읽은 참여/로그인 수
+     */
+    public long scan(LocalDateTime now) {
+        Long scanned = transactionTemplate.execute(status -> {
+            if (!activeMemberRepository.tryLockSketches()) {
+                return 0L;
+            }
+            LocalDateTime participantsFrom = scanFrom(ActiveMemberRepository.SOURCE_PARTICIPANTS, now);
+            LocalDateTime usersFrom = scanFrom(ActiveMemberRepository.SOURCE_USERS, now);
+            Accumulator accumulator = new Accumulator(exactFrom(now.toLocalDate()));
+            activeMemberRepository.streamParticipantJoins(participantsFrom, now, false, properties.getFetchSize(),
+                    accumulator::addJoin);
+            activeMemberRepository.streamUserLogins(usersFrom, now, properties.getFetchSize(), accumulator::addLogin);
+            apply(accumulator, now);
+            activeMemberRepository.saveScannedUntil(ActiveMemberRepository.SOURCE_PARTICIPANTS, now);
+            activeMemberRepository.saveScannedUntil(ActiveMemberRepository.SOURCE_USERS, now);
+            activeMemberRepository.deleteDailyMembersBefore(exactFrom(now.toLocalDate()));
+            return accumulator.count;
+        });
+        return scanned == null ? 0 : scanned;
+    }
+
+    /**
+     * 기간 [from, to)의 참여/로그인을 원본 테이블에서 다시 읽어 스케치에 합침 (날짜마다 트랜잭션 하나)
+     *
+     * @return 읽은 참여/로그인 수
+     */
+    public long rebuild(LocalDate from, LocalDate to) {
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            LocalDate day = date;
+            Long rebuilt = transactionTemplate.execute(status -> {
+                activeMemberRepository.lockSketches();
+                LocalDateTime now = LocalDateTime.now();
+                Accumulator accumulator = new Accumulator(exactFrom(now.toLocalDate()));
+                activeMemberRepository.streamParticipantJoins(day.atStartOfDay(), day.plusDays(1).atStartOfDay(), true,
+                        properties.getFetchSize(), accumulator::addJoin);
+                activeMemberRepository.streamUserLogins(day.atStartOfDay(), day.plusDays(1).atStartOfDay(),
+                        properties.getFetchSize(), accumulator::addLogin);
+                apply(accumulator, now);
+                return accumulator.count;
+            });
+            total += rebuilt == null ? 0 : rebuilt;
+        }
+        log.info("Active member sketches rebuilt: {}..{} (exclusive), activities={}, elapsed={}ms",
+                from, to, total, System.currentTimeMillis() - startedAt);
+        return total;
+    }
+
+    private LocalDateTime scanFrom(String source, LocalDateTime now) {
+        return activeMemberRepository.findScannedUntil(source).orElse(now).minus(properties.getScanOverlap());
+    }
+
+    private LocalDate exactFrom(LocalDate today) {
+        return today.minusDays(properties.getExactRetention().toDays());
+    }
+
+    private void apply(Accumulator accumulator, LocalDateTime now) {
+        accumulator.sketches.forEach((bucket, sketch) -> {
+            ActiveMemberSketch merged = activeMemberRepository.findSketch(bucket.date(), bucket.metric())
+                    .map(ActiveMemberSketch::fromBytes)
+                    .orElseGet(ActiveMemberSketch::new);
+            merged.union(sketch);
+            activeMemberRepository.upsertSketch(bucket.date(), bucket.metric(), merged.toBytes(), now);
+        });
+        accumulator.members.forEach((bucket, keys) ->
+                activeMemberRepository.insertDailyMembers(bucket.date(), bucket.metric(), keys));
+    }
+
+    private record Bucket(LocalDate date, ActiveMemberMetric metric) {
+    }
+
+    /**
+     * 날짜/지표별 스케치와 (최근 날짜의) 멤버 목록
+     */
+    private static class Accumulator {
+
+        private final LocalDate exactFrom;
+        private final Map<Bucket, ActiveMemberSketch> sketches = new HashMap<>();
+        private final Map<Bucket, Set<String>> members = new HashMap<>();
+        private long count;
+
+        Accumulator(LocalDate exactFrom) {
+            this.exactFrom = exactFrom;
+        }
+
+        void addJoin(Activity activity) {
+            LocalDate date = activity.at().toLocalDate();
+            if (activity.userId() != null) {
+                add(date, ActiveMemberMetric.PARTICIPANTS, userKey(activity.userId()));
+                add(date, ActiveMemberMetric.USERS, userKey(activity.userId()));
+            } else {
+                add(date, ActiveMemberMetric.PARTICIPANTS, "p:" + activity.participantCode());
+            }
+            count++;
+        }
+
+        void addLogin(Activity activity) {
+            add(activity.at().toLocalDate(), ActiveMemberMetric.USERS, userKey(activity.userId()));
+            count++;
+        }
+
+        private void add(LocalDate date, ActiveMemberMetric metric, String memberKey) {
+            Bucket bucket = new Bucket(date, metric);
+            sketches.computeIfAbsent(bucket, key -> new ActiveMemberSketch()).add(memberKey);
+            if (!date.isBefore(exactFrom)) {
+                members.computeIfAbsent(bucket, key -> new HashSet<>()).add(memberKey);
+            }
+        }
+
+        private static String userKey(Long userId) {
+            return "u:" + userId;
+        }
+    }
+}
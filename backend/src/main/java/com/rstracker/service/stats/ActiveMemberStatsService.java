@@ -0,0 +1,79 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.ActiveMemberStatsProperties;
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.dto.ActiveMemberCountDto;
+import com.rstracker.dto.ActiveMemberSummaryDto;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.ActiveMemberRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 활동 멤버 수(DAU/WAU/MAU) 조회
+ *
+ * 기간이 exactMaxDays 이하이고 정확한 집계용 멤버 보관 기간 안이면 COUNT(DISTINCT)로 정확히 세고,
+ * 그 밖에는 날짜별 HLL 스케치의 합집합으로 추정합니다 (비용은 기간의 일수에 비례).
+ * 스케치는 갱신 작업(app.active-members)이 주기적으로 반영하므로 최근 활동은 scanInterval만큼 늦게 보입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class ActiveMemberStatsService {
+
+    /** 한 번에 조회할 수 있는 최대 기간 (일) */
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private static final int WEEK_DAYS = 7;
+    private static final int MONTH_DAYS = 30;
+
+    private final ActiveMemberRepository activeMemberRepository;
+    private final ActiveMemberStatsProperties properties;
+
+    /**
+     * 기간 [startDate, endDate]의 서로 다른 활동 멤버 수
+     *
+     * @throws BusinessException 기간이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public ActiveMemberCountDto countActiveMembers(ActiveMemberMetric metric, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new BusinessException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+        if (days <= properties.getExactMaxDays()
+                && !startDate.isBefore(LocalDate.now().minusDays(properties.getExactRetention().toDays()))) {
+            long count = activeMemberRepository.countDailyMembers(metric, startDate, endDate);
+            return new ActiveMemberCountDto(metric, startDate, endDate, count, true, count, count);
+        }
+
+        List<byte[]> stored = activeMemberRepository.findSketchesBetween(metric, startDate, endDate);
+        ActiveMemberSketch union = new ActiveMemberSketch();
+        stored.forEach(bytes -> union.union(ActiveMemberSketch.fromBytes(bytes)));
+        log.debug("Unioned {} active member sketches for {} {}..{}", stored.size(), metric, startDate, endDate);
+        return new ActiveMemberCountDto(metric, startDate, endDate, Math.round(union.estimate()), false,
+                (long) Math.floor(union.lowerBound()), (long) Math.ceil(union.upperBound()));
+    }
+
+    /**
+     * 기준 날짜의 DAU, WAU(7일), MAU(30일)
+     */
+    @Transactional(readOnly = true)
+    public ActiveMemberSummaryDto getSummary(ActiveMemberMetric metric, LocalDate date) {
+        return new ActiveMemberSummaryDto(metric, date,
+                countActiveMembers(metric, date, date),
+                countActiveMembers(metric, date.minusDays(WEEK_DAYS - 1), date),
+                countActiveMembers(metric, date.minusDays(MONTH_DAYS - 1), date));
+    }
+}
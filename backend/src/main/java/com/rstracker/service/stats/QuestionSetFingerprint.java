@@ -0,0 +1,42 @@
+package com.rstracker.service.stats;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 질문 세트 버전 (기록이 답한 질문 구성의 지문)
+ *
+ * 기록 요약(summary)의 질문 키(Q순서)와 질문 문구로 계산하므로 질문을 추가/삭제하거나 문구를 바꾸면 값이 달라집니다.
+ * 기록에 저장된 요약만 사용하므로 과거 기록도 생성 당시와 같은 값으로 다시 계산할 수 있습니다.
+ */
+public final class QuestionSetFingerprint {
+
+    /** 요약이 없는 기록 */
+    public static final String UNKNOWN = "unknown";
+
+    private static final int LENGTH = 12;
+
+    private QuestionSetFingerprint() {
+    }
+
+    public static String of(Map<String, Object> summary) {
+        if (summary == null || summary.isEmpty()) {
+            return UNKNOWN;
+        }
+        StringBuilder canonical = new StringBuilder();
+        for (Map.Entry<String, Object> entry : new TreeMap<>(summary).entrySet()) {
+            Object questionText = entry.getValue() instanceof Map<?, ?> answer ? answer.get("question_text") : null;
+            canonical.append(entry.getKey()).append('\u001f').append(questionText).append('\u001e');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash).substring(0, LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.RecordRankProperties;
+import com.rstracker.repository.RecordRankRepository;
+import com.rstracker.service.index.RebuildableIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기록 온도 백분위 순위용 메모리 색인
+ *
+ * 활성 기록의 온도를 {@link TemperatureHistogram}에 담아 "이 온도보다 낮은 활성 기록의 비율"을 O(log bins)로 계산합니다.
+ * 애플리케이션 기동 후 records 테이블을 스트리밍으로 읽어 만들고, 이후에는 RecordService의 생성/비활성화가
+ * 커밋될 때마다 갱신됩니다. 다른 인스턴스의 변경은 주기적 재구축(RecordRankRefresher)으로 반영됩니다.
+ * 색인이 준비되기 전에는 {@link #percentileOf(Double)}가 null을 반환합니다.
+ */
+@Slf4j
+@Component
+public class RecordPercentileIndex {
+
+    private final RecordRankRepository recordRankRepository;
+    private final RecordRankProperties properties;
+    private final RebuildableIndex<TemperatureHistogram> index;
+
+    public RecordPercentileIndex(RecordRankRepository recordRankRepository,
+                                 RecordRankProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.recordRankRepository = recordRankRepository;
+        this.properties = properties;
+        this.index = new RebuildableIndex<>(newHistogram(), transactionManager);
+    }
+
+    /**
+     * 전체 색인 재구축 (구축 중 변경 처리와 중복 실행 방지는 {@link RebuildableIndex} 참고)
+     * 기동 스레드를 막지 않도록 applicationTaskExecutor에서 실행됩니다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            TemperatureHistogram rebuilt = index.rebuild(() -> {
+                TemperatureHistogram histogram = newHistogram();
+                recordRankRepository.streamActiveTemperatures(properties.getFetchSize(),
+                        (id, temperature) -> histogram.add(temperature));
+                return histogram;
+            }, recordRankRepository::findActiveIds);
+            if (rebuilt == null) {
+                log.info("Record percentile index rebuild already running, skipped");
+                return;
+            }
+            log.info("Record percentile index built: records={}, elapsed={}ms",
+                    rebuilt.total(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Failed to build record percentile index, percentiles stay {}", isReady() ? "stale" : "unavailable", e);
+        }
+    }
+
+    public boolean isReady() {
+        return index.isReady();
+    }
+
+    public long size() {
+        return index.read(TemperatureHistogram::total);
+    }
+
+    /**
+     * 주어진 온도보다 낮은 활성 기록의 비율 (0~100, 소수 첫째 자리)
+     *
+     * @return 색인이 준비되지 않았거나 비어 있거나 온도가 없으면 null
+     */
+    public Double percentileOf(Double temperature) {
+        if (!isReady() || temperature == null) {
+            return null;
+        }
+        return index.read(histogram -> {
+            long total = histogram.total();
+            if (total <= 0) {
+                return null;
+            }
+            return Math.round(histogram.countBelow(temperature) * 1000.0 / total) / 10.0;
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 활성 기록 추가 (트랜잭션이 없으면 즉시)
+     * 롤백된 기록이 색인에 남지 않도록 합니다.
+     */
+    public void addAfterCommit(Long recordId, Double temperature) {
+        if (temperature != null) {
+            index.mutateAfterCommit(new Mutation(recordId, temperature, true));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 비활성화된 기록 제거 (트랜잭션이 없으면 즉시)
+     * 호출 측은 활성에서 비활성으로 바뀐 기록만 전달해야 합니다.
+     */
+    public void removeAfterCommit(Long recordId, Double temperature) {
+        if (temperature != null) {
+            index.mutateAfterCommit(new Mutation(recordId, temperature, false));
+        }
+    }
+
+    private TemperatureHistogram newHistogram() {
+        return new TemperatureHistogram(properties.getMinTemperature(), properties.getMaxTemperature(), properties.getBins());
+    }
+
+    /**
+     * 활성 기록 추가(added=true) 또는 제거
+     */
+    record Mutation(long recordId, double temperature, boolean added) implements RebuildableIndex.Mutation<TemperatureHistogram> {
+
+        @Override
+        public void applyTo(TemperatureHistogram target) {
+            if (added) {
+                target.add(temperature);
+            } else {
+                target.remove(temperature);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.rstracker.service.stats;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 기록 온도 백분위 색인 주기적 재구축 작업
+ *
+ * 각 인스턴스의 색인은 자기 인스턴스에서 커밋된 생성/비활성화만 바로 반영하므로,
+ * refreshInterval마다 다시 만들어 다른 인스턴스의 변경과 직접 수정된 행을 반영합니다.
+ */
+public class RecordRankRefresher {
+
+    private final RecordPercentileIndex recordPercentileIndex;
+
+    public RecordRankRefresher(RecordPercentileIndex recordPercentileIndex) {
+        this.recordPercentileIndex = recordPercentileIndex;
+    }
+
+    @Scheduled(initialDelayString = "#{@recordRankProperties.refreshInterval.toMillis()}",
+            fixedDelayString = "#{@recordRankProperties.refreshInterval.toMillis()}")
+    public void run() {
+        // 실패는 rebuild 안에서 기록하고 이전 색인을 유지함
+        recordPercentileIndex.rebuild();
+    }
+}
@@ -0,0 +1,105 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.MetricsConfig;
+import com.rstracker.dto.RecordQuestionSetDto;
+import com.rstracker.dto.RecordTemperatureStatsDto;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.RecordStatsRepository;
+import com.rstracker.repository.RecordStatsRepository.StoredSketch;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기록 온도 백분위 조회
+ *
+ * 날짜/질문 세트 버킷마다 저장된 스케치를 병합하므로 비용은 기간 안의 버킷 수에 비례합니다.
+ * 스케치는 반영 작업(app.record-stats)이 주기적으로 갱신하므로 최근 기록은 flushInterval만큼 늦게 반영되며,
+ * 생성 후 비활성화된 기록도 포함됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class RecordStatsService {
+
+    /** 한 번에 조회할 수 있는 최대 기간 (일) */
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final RecordStatsRepository recordStatsRepository;
+
+    /**
+     * 기간 [startDate, endDate]의 온도 백분위
+     *
+     * @param questionSet 질문 세트 버전 (null이면 모든 질문 세트)
+     * @throws BusinessException 기간이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public RecordTemperatureStatsDto getTemperatureStats(LocalDate startDate, LocalDate endDate, String questionSet) {
+        validateRange(startDate, endDate);
+        List<StoredSketch> stored = recordStatsRepository.findSketchesBetween(startDate, endDate.plusDays(1), questionSet);
+        TemperatureSketch merged = new TemperatureSketch();
+        stored.forEach(bucket -> merged.merge(bucket.sketch()));
+        log.debug("Merged {} stat sketches for {}..{} (questionSet={})", stored.size(), startDate, endDate, questionSet);
+        return toDto(startDate, endDate, questionSet, merged);
+    }
+
+    /**
+     * 기간 [startDate, endDate]의 날짜별 온도 백분위 (기록이 없는 날짜는 빠짐)
+     *
+     * @param questionSet 질문 세트 버전 (null이면 모든 질문 세트)
+     * @throws BusinessException 기간이 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public List<RecordTemperatureStatsDto> getDailyTemperatureStats(LocalDate startDate, LocalDate endDate, String questionSet) {
+        validateRange(startDate, endDate);
+        Map<LocalDate, TemperatureSketch> daily = new TreeMap<>();
+        for (StoredSketch stored : recordStatsRepository.findSketchesBetween(startDate, endDate.plusDays(1), questionSet)) {
+            daily.computeIfAbsent(stored.bucket().date(), date -> new TemperatureSketch()).merge(stored.sketch());
+        }
+        List<RecordTemperatureStatsDto> result = new ArrayList<>(daily.size());
+        daily.forEach((date, sketch) -> result.add(toDto(date, date, questionSet, sketch)));
+        return result;
+    }
+
+    /**
+     * 스케치가 있는 질문 세트 버전 목록 (최근에 쓰인 순)
+     */
+    @Transactional(readOnly = true)
+    public List<RecordQuestionSetDto> getQuestionSets() {
+        return recordStatsRepository.findQuestionSetRanges().stream()
+                .map(range -> new RecordQuestionSetDto(range.questionSet(), range.firstDate(), range.lastDate(),
+                        range.recordCount()))
+                .toList();
+    }
+
+    private static void validateRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BusinessException("시작 날짜가 종료 날짜보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+            throw new BusinessException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+    }
+
+    private static RecordTemperatureStatsDto toDto(LocalDate startDate, LocalDate endDate, String questionSet,
+                                                   TemperatureSketch sketch) {
+        return new RecordTemperatureStatsDto(startDate, endDate, questionSet, sketch.count(),
+                quantile(sketch.temperatureQuantile(0.5)), quantile(sketch.temperatureQuantile(0.9)),
+                quantile(sketch.temperatureQuantile(0.99)), quantile(sketch.temperatureDiffQuantile(0.5)),
+                quantile(sketch.temperatureDiffQuantile(0.9)), quantile(sketch.temperatureDiffQuantile(0.99)));
+    }
+
+    private static Double quantile(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
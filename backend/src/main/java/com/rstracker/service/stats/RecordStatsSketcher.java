@@ -0,0 +1,165 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.RecordStatsProperties;
+import com.rstracker.event.RecordCreatedEvent;
+import com.rstracker.repository.RecordStatsRepository;
+import com.rstracker.repository.RecordStatsRepository.InboxEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기록 온도 스케치 갱신 작업
+ *
+ * 1. 수신: 기록 생성이 커밋된 뒤 아웃박스로 전달된 RecordCreatedEvent를 record_stat_inbox에 남김 (recordId로 중복 제거)
+ * 2. 반영: flushInterval마다 반영 대기 기록을 버킷(날짜, 질문 세트)별로 모아 저장된 스케치와 병합 (트랜잭션 하나에 batchSize건)
+ * 3. 재구축: 기간 안의 기록을 날짜별로 스트리밍해 스케치를 새로 만들고 교체 (과거 기록 채우기, 스케치 형식 변경 시)
+ * 반영과 재구축은 advisory 잠금으로 한 트랜잭션만 실행하므로 여러 인스턴스에서 실행해도 같은 기록이 두 번 반영되지 않습니다.
+ */
+@Slf4j
+public class RecordStatsSketcher {
+
+    private final RecordStatsRepository recordStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RecordStatsProperties properties;
+
+    public RecordStatsSketcher(RecordStatsRepository recordStatsRepository,
+                               PlatformTransactionManager transactionManager,
+                               RecordStatsProperties properties) {
+        this.recordStatsRepository = recordStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void on(RecordCreatedEvent event) {
+        LocalDateTime createdAt = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+        String questionSet = event.getQuestionSet() != null ? event.getQuestionSet() : QuestionSetFingerprint.UNKNOWN;
+        InboxEntry entry = new InboxEntry(event.getRecordId(), new SketchBucket(createdAt.toLocalDate(), questionSet),
+                event.getTemperature(), event.getTemperatureDiff());
+        transactionTemplate.executeWithoutResult(status -> recordStatsRepository.insertInbox(entry, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "#{@recordStatsProperties.flushInterval.toMillis()}")
+    public void run() {
+        try {
+            int applied = flushPending();
+            if (applied > 0) {
+                log.debug("Record stats flush finished: applied={}", applied);
+            }
+        } catch (RuntimeException e) {
+            log.error("Record stats flush failed, will retry on next run", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgeApplied() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getInboxRetention());
+        Integer deleted = transactionTemplate.execute(status -> recordStatsRepository.deleteAppliedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} applied record stats inbox entries older than {}", deleted, before);
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (properties.isBackfillOnStartup()) {
+            transactionTemplate.execute(status -> recordStatsRepository.findFirstRecordDate())
+                    .ifPresent(first -> rebuild(first, LocalDate.now()));
+        }
+    }
+
+    /**
+     * 반영 대기 기록을 스케치에 병합 (최대 maxBatchesPerRun 배치)
+     *
+     * @return 반영한 기록 수
+     */
+    public int flushPending() {
+        int total = 0;
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            Integer applied = transactionTemplate.execute(status -> flushBatch());
+            if (applied == null || applied == 0) {
+                break;
+            }
+            total += applied;
+            if (applied < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 기간 [from, to)의 스케치를 기록에서 다시 만듦 (오늘 이후는 제외, 날짜마다 트랜잭션 하나)
+     *
+     * 오늘 기록은 아직 전달 중인 이벤트가 있을 수 있으므로 반영 작업에 맡깁니다.
+     * 재구축한 날짜의 반영 대기 기록은 이미 스케치에 포함되었으므로 반영 완료로 표시합니다.
+     *
+     * @return 스케치에 넣은 기록 수
+     */
+    public long rebuild(LocalDate from, LocalDate to) {
+        LocalDate end = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+        for (LocalDate date = from; date.isBefore(end); date = date.plusDays(1)) {
+            LocalDate day = date;
+            Long rebuilt = transactionTemplate.execute(status -> rebuildDay(day));
+            total += rebuilt == null ? 0 : rebuilt;
+        }
+        log.info("Record stats rebuilt: {}..{} (exclusive), records={}, elapsed={}ms",
+                from, end, total, System.currentTimeMillis() - startedAt);
+        return total;
+    }
+
+    private int flushBatch() {
+        if (!recordStatsRepository.tryLockSketches()) {
+            return 0;
+        }
+        List<InboxEntry> entries = recordStatsRepository.findUnapplied(properties.getBatchSize());
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<SketchBucket, TemperatureSketch> sketches = new HashMap<>();
+        for (InboxEntry entry : entries) {
+            sketches.computeIfAbsent(entry.bucket(), bucket -> new TemperatureSketch())
+                    .add(entry.temperature(), entry.temperatureDiff());
+        }
+        Map<SketchBucket, TemperatureSketch> stored = recordStatsRepository.findSketches(sketches.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        sketches.forEach((bucket, sketch) -> {
+            TemperatureSketch merged = stored.getOrDefault(bucket, new TemperatureSketch());
+            merged.merge(sketch);
+            recordStatsRepository.upsertSketch(bucket, merged, now);
+        });
+        recordStatsRepository.markApplied(entries.stream().map(InboxEntry::recordId).toList(), now);
+        return entries.size();
+    }
+
+    private long rebuildDay(LocalDate day) {
+        recordStatsRepository.lockSketches();
+        Map<SketchBucket, TemperatureSketch> sketches = new HashMap<>();
+        long[] count = {0};
+        recordStatsRepository.streamRecordTemperatures(day.atStartOfDay(), day.plusDays(1).atStartOfDay(),
+                properties.getBackfillFetchSize(), entry -> {
+                    sketches.computeIfAbsent(entry.bucket(), bucket -> new TemperatureSketch())
+                            .add(entry.temperature(), entry.temperatureDiff());
+                    count[0]++;
+                });
+        LocalDateTime now = LocalDateTime.now();
+        recordStatsRepository.deleteSketchesBetween(day, day.plusDays(1));
+        sketches.forEach((bucket, sketch) -> recordStatsRepository.upsertSketch(bucket, sketch, now));
+        recordStatsRepository.markAppliedBetween(day, day.plusDays(1), now);
+        return count[0];
+    }
+}
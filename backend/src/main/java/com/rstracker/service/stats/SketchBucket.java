@@ -0,0 +1,9 @@
+package com.rstracker.service.stats;
+
+import java.time.LocalDate;
+
+/**
+ * 스케치 버킷 (기록 생성 날짜, 질문 세트)
+ */
+public record SketchBucket(LocalDate date, String questionSet) {
+}
@@ -0,0 +1,67 @@
+package com.rstracker.service.stats;
+
+/**
+ * 고정 해상도 온도 히스토그램 (Fenwick 트리)
+ *
+ * [min, max]를 bins개 구간으로 나누어 구간별 기록 수를 Fenwick 트리로 저장하므로
+ * 추가/삭제와 "이 온도보다 낮은 기록 수" 조회가 모두 O(log bins)입니다.
+ * 범위 밖의 값은 양 끝 구간에 넣으며, 같은 구간 안의 값은 같은 온도로 봅니다. 스레드 안전하지 않습니다.
+ */
+public class TemperatureHistogram {
+
+    private final double min;
+    private final double max;
+    private final int bins;
+    private final long[] tree;
+    private long total;
+
+    public TemperatureHistogram(double min, double max, int bins) {
+        if (!(max > min) || bins < 1) {
+            throw new IllegalArgumentException("Invalid histogram range: [" + min + ", " + max + "], bins=" + bins);
+        }
+        this.min = min;
+        this.max = max;
+        this.bins = bins;
+        this.tree = new long[bins + 1];
+    }
+
+    public void add(double temperature) {
+        update(bin(temperature), 1);
+    }
+
+    public void remove(double temperature) {
+        update(bin(temperature), -1);
+    }
+
+    /**
+     * temperature가 속한 구간보다 낮은 구간의 기록 수
+     */
+    public long countBelow(double temperature) {
+        long count = 0;
+        for (int i = bin(temperature); i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    int bin(double temperature) {
+        if (Double.isNaN(temperature) || temperature <= min) {
+            return 0;
+        }
+        if (temperature >= max) {
+            return bins - 1;
+        }
+        return Math.min(bins - 1, (int) ((temperature - min) / (max - min) * bins));
+    }
+
+    private void update(int bin, long delta) {
+        for (int i = bin + 1; i <= bins; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+}
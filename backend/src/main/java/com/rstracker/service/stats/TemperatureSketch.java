@@ -0,0 +1,98 @@
+package com.rstracker.service.stats;
+
+import com.tdunning.math.stats.MergingDigest;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 버킷 하나의 temperature / temperatureDiff 분위수 스케치 (t-digest)
+ *
+ * 크기는 기록 수와 관계없이 압축 계수에 비례(버킷당 수 KB)하며, 여러 버킷을 병합해 기간 백분위를 구합니다.
+ * 꼬리(p1, p99) 쪽 오차가 가운데보다 작습니다. 스레드 안전하지 않습니다.
+ */
+public class TemperatureSketch {
+
+    /** t-digest 압축 계수 (클수록 정확하고 큼) */
+    public static final double COMPRESSION = 100;
+
+    private final MergingDigest temperature;
+    private final MergingDigest temperatureDiff;
+
+    public TemperatureSketch() {
+        this(new MergingDigest(COMPRESSION), new MergingDigest(COMPRESSION));
+    }
+
+    private TemperatureSketch(MergingDigest temperature, MergingDigest temperatureDiff) {
+        this.temperature = temperature;
+        this.temperatureDiff = temperatureDiff;
+    }
+
+    public static TemperatureSketch fromBytes(byte[] temperature, byte[] temperatureDiff) {
+        return new TemperatureSketch(MergingDigest.fromBytes(ByteBuffer.wrap(temperature)),
+                MergingDigest.fromBytes(ByteBuffer.wrap(temperatureDiff)));
+    }
+
+    /**
+     * 기록 하나 추가 (값이 없으면 건너뜀)
+     */
+    public void add(Double temperatureValue, Double temperatureDiffValue) {
+        if (temperatureValue != null) {
+            temperature.add(temperatureValue);
+        }
+        if (temperatureDiffValue != null) {
+            temperatureDiff.add(temperatureDiffValue);
+        }
+    }
+
+    public void merge(TemperatureSketch other) {
+        merge(temperature, other.temperature);
+        merge(temperatureDiff, other.temperatureDiff);
+    }
+
+    /**
+     * 반영한 기록 수
+     */
+    public long count() {
+        return temperature.size();
+    }
+
+    /**
+     * temperature 분위수 (q: 0.0 ~ 1.0, 비어 있으면 NaN)
+     */
+    public double temperatureQuantile(double q) {
+        return temperature.size() == 0 ? Double.NaN : temperature.quantile(q);
+    }
+
+    /**
+     * temperatureDiff 분위수 (q: 0.0 ~ 1.0, 비어 있으면 NaN)
+     */
+    public double temperatureDiffQuantile(double q) {
+        return temperatureDiff.size() == 0 ? Double.NaN : temperatureDiff.quantile(q);
+    }
+
+    public byte[] temperatureBytes() {
+        return toBytes(temperature);
+    }
+
+    public byte[] temperatureDiffBytes() {
+        return toBytes(temperatureDiff);
+    }
+
+    private static void merge(MergingDigest target, MergingDigest other) {
+        // t-digest 3.3은 빈 다이제스트를 병합하면 예외가 발생함
+        if (other.size() > 0) {
+            target.add(List.of(other));
+        }
+    }
+
+    /**
+     * 직렬화 (double 인코딩, 읽었을 때 백분위가 저장 전과 같음)
+     */
+    private static byte[] toBytes(MergingDigest digest) {
+        digest.compress();
+        ByteBuffer buffer = ByteBuffer.allocate(digest.byteSize());
+        digest.asBytes(buffer);
+        return buffer.array();
+    }
+}
@@ -0,0 +1,130 @@
+package com.rstracker.service.temperature;
+
+import com.rstracker.config.TemperatureCalculationProperties;
+import com.rstracker.entity.Answer;
+import com.rstracker.entity.QuestionChoice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 온도표 기반 온도 계산 전략
+ *
+ * 참여자 응답 조합별 온도를 미리 계산한 {@link TemperatureLookupTable}에서 찾으므로,
+ * 참여자마다 응답별 오프셋을 더한 칸 하나를 읽습니다. 결과는 {@link WeightedTemperatureCalculationStrategy}와 같습니다.
+ * 응답의 선택지가 표와 다르면(질문 카탈로그 변경) 전달된 카탈로그로 표를 다시 만들고, 가중치가 바뀌어도 다시 만듭니다.
+ * 표로 나타낼 수 없는 경우(한 질문에 두 번 응답, 참여자 3명 이상, 표 크기 초과)는 가중치 전략으로 계산합니다.
+ * app.temperature-calculation.strategy=lookup일 때만 사용합니다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "app.temperature-calculation.strategy", havingValue = "lookup")
+public class LookupTemperatureCalculationStrategy implements TemperatureCalculationStrategy {
+
+    /** 표가 카탈로그와 달라 다시 만들어야 함 */
+    private static final TemperatureResult STALE = new TemperatureResult(null, null);
+
+    private final TemperatureCalculationProperties properties;
+    private final WeightedTemperatureCalculationStrategy fallback;
+    private volatile TemperatureLookupTable table;
+    private volatile boolean unavailableLogged;
+
+    public LookupTemperatureCalculationStrategy(TemperatureCalculationProperties properties,
+                                                WeightedTemperatureCalculationStrategy fallback) {
+        this.properties = properties;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public TemperatureResult calculate(
+            List<Answer> answers,
+            Map<Long, QuestionChoice> choiceMap,
+            Map<Long, Integer> questionOrderMap) {
+
+        TemperatureLookupTable current = table;
+        if (current == null || !current.builtWith(properties.getQuestionWeights())) {
+            current = rebuild(choiceMap, questionOrderMap);
+        }
+        TemperatureResult result = current == null ? null : lookup(current, answers, choiceMap, questionOrderMap);
+        if (result == STALE) {
+            // 표를 만든 뒤 카탈로그가 바뀌었으므로 전달된 카탈로그로 다시 만듦
+            current = rebuild(choiceMap, questionOrderMap);
+            result = current == null ? null : lookup(current, answers, choiceMap, questionOrderMap);
+        }
+        return result != null && result != STALE ? result : fallback.calculate(answers, choiceMap, questionOrderMap);
+    }
+
+    /**
+     * 참여자별 표 번호를 모아 온도 계산
+     *
+     * @return 표로 나타낼 수 없으면 null, 표가 카탈로그와 다르면 {@link #STALE}
+     */
+    private TemperatureResult lookup(TemperatureLookupTable current, List<Answer> answers,
+                                     Map<Long, QuestionChoice> choiceMap, Map<Long, Integer> questionOrderMap) {
+        Map<Integer, Double> questionWeights = properties.getQuestionWeights();
+        Long[] participants = new Long[2];
+        int[] indexes = new int[2];
+        long[] answeredSlots = new long[2];
+        int participantCount = 0;
+
+        for (Answer answer : answers) {
+            Long participantId = answer.getParticipant().getId();
+            int participant = participantId.equals(participants[0]) ? 0 : participantId.equals(participants[1]) ? 1 : -1;
+            if (participant < 0) {
+                if (participantCount == 2) {
+                    return null;
+                }
+                participant = participantCount++;
+                participants[participant] = participantId;
+            }
+
+            QuestionChoice choice = choiceMap.get(answer.getChoice().getId());
+            Integer order = questionOrderMap.get(answer.getQuestion().getId());
+            Double weight = order == null ? null : questionWeights.get(order);
+            if (choice == null || weight == null || weight <= 0) {
+                continue;
+            }
+            int position = current.position(choice.getId(), order, choice.getTemperatureWeight());
+            if (position < 0) {
+                return STALE;
+            }
+            long slotBit = 1L << current.slot(position);
+            if ((answeredSlots[participant] & slotBit) != 0) {
+                return null;
+            }
+            answeredSlots[participant] |= slotBit;
+            indexes[participant] += current.offset(position);
+        }
+
+        if (participantCount == 2) {
+            double first = current.temperature(indexes[0]);
+            double second = current.temperature(indexes[1]);
+            return new TemperatureResult((first + second) / 2.0, Math.abs(first - second));
+        } else if (participantCount == 1) {
+            return new TemperatureResult(current.temperature(indexes[0]), 0.0);
+        }
+        return null;
+    }
+
+    private TemperatureLookupTable rebuild(Map<Long, QuestionChoice> choiceMap, Map<Long, Integer> questionOrderMap) {
+        try {
+            TemperatureLookupTable rebuilt = TemperatureLookupTable.build(choiceMap, questionOrderMap, properties.getQuestionWeights());
+            table = rebuilt;
+            unavailableLogged = false;
+            log.info("Temperature lookup table built: entries={}", rebuilt.size());
+            return rebuilt;
+        } catch (IllegalArgumentException e) {
+            table = null;
+            if (!unavailableLogged) {
+                unavailableLogged = true;
+                log.warn("Temperature lookup table unavailable, using weighted calculation: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+}
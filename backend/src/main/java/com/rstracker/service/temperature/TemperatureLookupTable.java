@@ -0,0 +1,182 @@
+package com.rstracker.service.temperature;
+
+import com.rstracker.entity.QuestionChoice;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 참여자 응답 조합별 온도표
+ *
+ * 가중치가 있는 질문(슬롯)마다 "응답 없음 + 선택지 수"를 자릿수로 하는 혼합 기수(mixed-radix)로
+ * 한 참여자의 응답 조합 전체를 번호 매기고, 번호마다 온도를 미리 계산해 double[]에 담습니다.
+ * 선택지마다 "자릿값 × 선택지 위치"를 미리 저장하므로 온도는 응답별 오프셋의 합으로 찾은 칸 하나입니다.
+ * 질문 세트 v1(가중치 질문 4개, 선택지 4/4/4/3개)이면 5 × 5 × 5 × 4 = 500칸입니다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 읽을 수 있습니다.
+ */
+public final class TemperatureLookupTable {
+
+    /** 표 크기 상한 (넘으면 만들지 않음) */
+    static final int MAX_ENTRIES = 1 << 16;
+
+    /** 선택지 ID 범위 상한 (선택지 ID로 배열을 직접 인덱싱) */
+    static final int MAX_CHOICE_ID_RANGE = 1 << 16;
+
+    private final Map<Integer, Double> questionWeights;
+    private final long minChoiceId;
+    private final int[] orderByChoice;
+    private final double[] temperatureWeightByChoice;
+    private final int[] slotByChoice;
+    private final int[] offsetByChoice;
+    private final double[] temperatures;
+
+    private TemperatureLookupTable(Map<Integer, Double> questionWeights, long minChoiceId, int[] orderByChoice,
+                                   double[] temperatureWeightByChoice, int[] slotByChoice, int[] offsetByChoice,
+                                   double[] temperatures) {
+        this.questionWeights = questionWeights;
+        this.minChoiceId = minChoiceId;
+        this.orderByChoice = orderByChoice;
+        this.temperatureWeightByChoice = temperatureWeightByChoice;
+        this.slotByChoice = slotByChoice;
+        this.offsetByChoice = offsetByChoice;
+        this.temperatures = temperatures;
+    }
+
+    /**
+     * 질문 카탈로그와 가중치로 온도표 생성
+     *
+     * @param choiceMap        선택지 ID → 선택지 (질문 포함)
+     * @param questionOrderMap 질문 ID → 질문 순서
+     * @param questionWeights  질문 순서 → 가중치 (0 이하는 계산에서 제외)
+     * @throws IllegalArgumentException 조합 수나 선택지 ID 범위가 상한을 넘는 경우
+     */
+    public static TemperatureLookupTable build(Map<Long, QuestionChoice> choiceMap,
+                                               Map<Long, Integer> questionOrderMap,
+                                               Map<Integer, Double> questionWeights) {
+        // 가중치 질문 순서 → 선택지 (ID 순)
+        TreeMap<Integer, List<QuestionChoice>> choicesByOrder = new TreeMap<>();
+        for (QuestionChoice choice : choiceMap.values()) {
+            Integer order = choice.getQuestion() == null ? null : questionOrderMap.get(choice.getQuestion().getId());
+            Double weight = order == null ? null : questionWeights.get(order);
+            if (weight != null && weight > 0 && choice.getId() != null && choice.getTemperatureWeight() != null) {
+                choicesByOrder.computeIfAbsent(order, key -> new ArrayList<>()).add(choice);
+            }
+        }
+        choicesByOrder.values().forEach(choices -> choices.sort(Comparator.comparing(QuestionChoice::getId)));
+
+        int slots = choicesByOrder.size();
+        double[] slotWeights = new double[slots];
+        double[][] digitWeights = new double[slots][];
+        long size = 1;
+        long minChoiceId = Long.MAX_VALUE;
+        long maxChoiceId = Long.MIN_VALUE;
+        int slot = 0;
+        for (Map.Entry<Integer, List<QuestionChoice>> entry : choicesByOrder.entrySet()) {
+            slotWeights[slot] = questionWeights.get(entry.getKey());
+            digitWeights[slot] = new double[entry.getValue().size() + 1];
+            for (int digit = 1; digit <= entry.getValue().size(); digit++) {
+                QuestionChoice choice = entry.getValue().get(digit - 1);
+                digitWeights[slot][digit] = choice.getTemperatureWeight();
+                minChoiceId = Math.min(minChoiceId, choice.getId());
+                maxChoiceId = Math.max(maxChoiceId, choice.getId());
+            }
+            size *= digitWeights[slot].length;
+            if (size > MAX_ENTRIES) {
+                throw new IllegalArgumentException("Too many answer combinations for a lookup table: > " + MAX_ENTRIES);
+            }
+            slot++;
+        }
+        if (slots > 0 && maxChoiceId - minChoiceId >= MAX_CHOICE_ID_RANGE) {
+            throw new IllegalArgumentException("Choice id range too wide for a lookup table: " + minChoiceId + ".." + maxChoiceId);
+        }
+
+        int range = slots == 0 ? 0 : (int) (maxChoiceId - minChoiceId + 1);
+        int[] orderByChoice = new int[range];
+        double[] temperatureWeightByChoice = new double[range];
+        int[] slotByChoice = new int[range];
+        int[] offsetByChoice = new int[range];
+        Arrays.fill(slotByChoice, -1);
+        int stride = 1;
+        slot = 0;
+        for (Map.Entry<Integer, List<QuestionChoice>> entry : choicesByOrder.entrySet()) {
+            for (int digit = 1; digit <= entry.getValue().size(); digit++) {
+                QuestionChoice choice = entry.getValue().get(digit - 1);
+                int position = (int) (choice.getId() - minChoiceId);
+                orderByChoice[position] = entry.getKey();
+                temperatureWeightByChoice[position] = choice.getTemperatureWeight();
+                slotByChoice[position] = slot;
+                offsetByChoice[position] = digit * stride;
+            }
+            stride *= digitWeights[slot].length;
+            slot++;
+        }
+
+        return new TemperatureLookupTable(new HashMap<>(questionWeights), minChoiceId, orderByChoice,
+                temperatureWeightByChoice, slotByChoice, offsetByChoice,
+                enumerate(slotWeights, digitWeights, (int) size));
+    }
+
+    /**
+     * 모든 조합의 온도 (WeightedTemperatureCalculationStrategy와 같은 식, 슬롯 순서로 합산)
+     */
+    private static double[] enumerate(double[] slotWeights, double[][] digitWeights, int size) {
+        double[] temperatures = new double[size];
+        int[] digits = new int[slotWeights.length];
+        for (int index = 0; index < size; index++) {
+            double total = 0.0;
+            double weightSum = 0.0;
+            for (int slot = 0; slot < digits.length; slot++) {
+                if (digits[slot] > 0) {
+                    total += digitWeights[slot][digits[slot]] * slotWeights[slot];
+                    weightSum += slotWeights[slot];
+                }
+            }
+            temperatures[index] = weightSum > 0 ? total / weightSum : 0.0;
+            // 다음 조합 (첫 슬롯이 가장 낮은 자리)
+            for (int slot = 0; slot < digits.length && ++digits[slot] == digitWeights[slot].length; slot++) {
+                digits[slot] = 0;
+            }
+        }
+        return temperatures;
+    }
+
+    /**
+     * 가중치 선택지의 표 안 위치
+     *
+     * @return 표를 만들 때와 질문 순서, 온도 가중치가 모두 같으면 0 이상, 아니면 -1 (카탈로그가 바뀜)
+     */
+    int position(long choiceId, int order, double temperatureWeight) {
+        long position = choiceId - minChoiceId;
+        if (position < 0 || position >= slotByChoice.length || slotByChoice[(int) position] < 0
+                || orderByChoice[(int) position] != order
+                || temperatureWeightByChoice[(int) position] != temperatureWeight) {
+            return -1;
+        }
+        return (int) position;
+    }
+
+    int slot(int position) {
+        return slotByChoice[position];
+    }
+
+    int offset(int position) {
+        return offsetByChoice[position];
+    }
+
+    double temperature(int index) {
+        return temperatures[index];
+    }
+
+    boolean builtWith(Map<Integer, Double> questionWeights) {
+        return this.questionWeights.equals(questionWeights);
+    }
+
+    public int size() {
+        return temperatures.length;
+    }
+}
@@ -0,0 +1,15 @@
+-- 기록 목록 필터(RecordSpecifications) 조합별 인덱스
+-- records는 월별 파티션 테이블이므로 각 인덱스는 파티션마다 만들어집니다.
+-- 목록 기본 정렬이 created_at DESC이므로 활성 여부 인덱스는 created_at을 뒤에 둡니다.
+
+-- 불리언 단일 인덱스는 (is_active, created_at)이 대신함
+DROP INDEX idx_records_is_active;
+
+-- isActive [+ 날짜 범위], 정렬
+CREATE INDEX idx_records_active_created_at ON records(is_active, created_at);
+
+-- 온도 범위
+CREATE INDEX idx_records_temperature ON records(temperature);
+
+-- isActive + 온도 범위
+CREATE INDEX idx_records_active_temperature ON records(is_active, temperature);
@@ -0,0 +1,37 @@
+-- 기록별 선택지 인덱스 컬럼 (GET /records/search의 선택지 조건)
+-- 형식: 질문 순서 → 두 참여자가 고른 선택지 값 목록 (중복 제거, 정렬)
+--   예: {"Q3": ["same"], "Q5": ["closer_ok", "same"]}
+-- 선택지 조건은 포함 연산자(answer_choices @> '{"Q5": ["closer_ok"]}')로 GIN 인덱스를 사용합니다.
+-- 새 기록은 RecordService.createRecord가 이미 읽은 응답으로 채웁니다.
+
+ALTER TABLE records ADD COLUMN answer_choices JSONB;
+
+-- 기존 기록 채우기 (보관된 세션은 answers_archive에서 읽음)
+UPDATE records r
+SET answer_choices = c.choices
+FROM (
+    SELECT per_question.matching_id,
+           jsonb_object_agg('Q' || per_question.question_order, per_question.choice_values) AS choices
+    FROM (
+        SELECT s.matching_id, s.question_order,
+               jsonb_agg(DISTINCT s.choice_value ORDER BY s.choice_value) AS choice_values
+        FROM (
+            SELECT p.matching_id, q."order" AS question_order, qc.choice_value
+            FROM answers a
+            JOIN participants p ON p.id = a.participant_id
+            JOIN questions q ON q.id = a.question_id
+            JOIN question_choices qc ON qc.id = a.choice_id
+            UNION ALL
+            SELECT aa.matching_id, q."order", qc.choice_value
+            FROM answers_archive aa
+            JOIN questions q ON q.id = aa.question_id
+            JOIN question_choices qc ON qc.id = aa.choice_id
+        ) s
+        GROUP BY s.matching_id, s.question_order
+    ) per_question
+    GROUP BY per_question.matching_id
+) c
+WHERE r.matching_id = c.matching_id;
+
+-- jsonb_path_ops: @> 전용이라 기본 연산자 클래스보다 작고 빠름
+CREATE INDEX idx_records_answer_choices ON records USING GIN (answer_choices jsonb_path_ops);
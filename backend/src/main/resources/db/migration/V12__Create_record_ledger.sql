@@ -0,0 +1,30 @@
+-- 기록 원장 (추가 전용 머클 트리, RFC 9162 구성)
+--
+-- 기록 생성 트랜잭션은 원장을 건드리지 않고, RecordLedgerAppender가 커밋된 기록을 배치로 해시해 잎으로 추가합니다.
+-- 원장 테이블은 추가만 하며 UPDATE/DELETE하지 않습니다.
+
+-- 원장 잎 번호 (NULL: 아직 원장에 추가되지 않음)
+ALTER TABLE records ADD COLUMN ledger_index BIGINT;
+
+-- 추가 대기 기록만 담는 부분 인덱스 (추가가 따라잡으면 거의 비어 있음)
+CREATE INDEX idx_records_ledger_pending ON records(id) WHERE ledger_index IS NULL;
+
+-- 완성된 부분 트리 해시: (level, node_index)는 잎 [node_index * 2^level, (node_index + 1) * 2^level)을 덮음
+-- level 0은 잎 해시 SHA-256(0x00 || 정규화 내용)이고 node_index가 records.ledger_index와 같음
+CREATE TABLE record_ledger_nodes (
+    level SMALLINT NOT NULL,
+    node_index BIGINT NOT NULL,
+    hash BYTEA NOT NULL,
+    CONSTRAINT pk_record_ledger_nodes PRIMARY KEY (level, node_index)
+);
+
+-- 서명된 루트 (tree_size개 잎의 루트 해시, Ed25519 서명 대상: tree_size 8바이트 빅엔디언 || root_hash)
+CREATE TABLE record_ledger_roots (
+    tree_size BIGINT NOT NULL,
+    root_hash BYTEA NOT NULL,
+    signature BYTEA NOT NULL,
+    key_id VARCHAR(16) NOT NULL,
+    public_key TEXT NOT NULL,
+    signed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_record_ledger_roots PRIMARY KEY (tree_size)
+);
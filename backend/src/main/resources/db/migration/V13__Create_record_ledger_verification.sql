@@ -0,0 +1,40 @@
+-- 기록 원장 전체 검증 (RecordLedgerVerifier)
+--
+-- 검증 한 번은 시작 시점의 records.id 범위를 chunk_size 단위 청크로 나눠 병렬로 확인합니다.
+-- 청크가 끝날 때마다 결과를 체크포인트로 남기므로, 중단된 검증은 남은 청크부터 이어서 실행됩니다.
+
+CREATE TABLE record_ledger_verifications (
+    id BIGSERIAL PRIMARY KEY,
+    min_record_id BIGINT NOT NULL,
+    max_record_id BIGINT NOT NULL,
+    chunk_size INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,   -- RUNNING, COMPLETED
+    verified_count BIGINT NOT NULL DEFAULT 0,
+    mismatch_count BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_record_ledger_verifications_running ON record_ledger_verifications(id) WHERE status = 'RUNNING';
+
+-- 완료한 청크 (records.id [chunk_start, chunk_start + chunk_size))
+CREATE TABLE record_ledger_verification_chunks (
+    verification_id BIGINT NOT NULL REFERENCES record_ledger_verifications(id) ON DELETE CASCADE,
+    chunk_start BIGINT NOT NULL,
+    verified_count INTEGER NOT NULL,
+    mismatch_count INTEGER NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_record_ledger_verification_chunks PRIMARY KEY (verification_id, chunk_start)
+);
+
+-- 원장 잎과 일치하지 않는 기록
+-- HASH_MISMATCH: 현재 내용의 해시가 잎과 다름, LEAF_MISSING: ledger_index의 잎이 원장에 없음
+CREATE TABLE record_ledger_mismatches (
+    verification_id BIGINT NOT NULL REFERENCES record_ledger_verifications(id) ON DELETE CASCADE,
+    record_key BIGINT NOT NULL,    -- records.id
+    record_id VARCHAR(36) NOT NULL,
+    ledger_index BIGINT NOT NULL,
+    reason VARCHAR(20) NOT NULL,
+    detected_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_record_ledger_mismatches PRIMARY KEY (verification_id, record_key)
+);
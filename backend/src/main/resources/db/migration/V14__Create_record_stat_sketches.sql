@@ -0,0 +1,28 @@
+-- 기록 온도 백분위 스케치 (t-digest)
+--
+-- 날짜(created_at 기준)와 질문 세트별로 temperature / temperature_diff의 t-digest를 저장하고,
+-- 조회할 때 기간 안의 버킷을 병합해 백분위를 계산합니다. (RecordStatsSketcher, RecordStatsService)
+
+CREATE TABLE record_stat_sketches (
+    bucket_date DATE NOT NULL,
+    question_set VARCHAR(16) NOT NULL,
+    record_count BIGINT NOT NULL,
+    temperature_digest BYTEA NOT NULL,
+    temperature_diff_digest BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_record_stat_sketches PRIMARY KEY (bucket_date, question_set)
+);
+
+-- 스케치에 반영할 기록 (RecordCreatedEvent 수신 시 추가, record_id로 중복 전달을 걸러냄)
+-- 반영 후에도 보관 기간 동안 남겨 두어 늦게 다시 전달된 이벤트가 두 번 반영되지 않게 합니다.
+CREATE TABLE record_stat_inbox (
+    record_id VARCHAR(36) PRIMARY KEY,
+    bucket_date DATE NOT NULL,
+    question_set VARCHAR(16) NOT NULL,
+    temperature DOUBLE PRECISION,
+    temperature_diff DOUBLE PRECISION,
+    received_at TIMESTAMP NOT NULL,
+    applied_at TIMESTAMP
+);
+
+CREATE INDEX idx_record_stat_inbox_pending ON record_stat_inbox(received_at) WHERE applied_at IS NULL;
@@ -0,0 +1,30 @@
+-- 활동 회원/참여자 수 스케치 (HyperLogLog)
+--
+-- 날짜와 지표(USERS: 활동 회원, PARTICIPANTS: 참여자)별로 HLL 스케치를 저장하고,
+-- 조회할 때 기간 안의 스케치를 합집합해 DAU/WAU/MAU를 추정합니다. (ActiveMemberSketcher, ActiveMemberStatsService)
+
+CREATE TABLE active_member_sketches (
+    bucket_date DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    sketch BYTEA NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_active_member_sketches PRIMARY KEY (bucket_date, metric)
+);
+
+-- 최근 날짜의 활동 멤버 (짧은 기간 정확한 집계용, 보관 기간이 지나면 삭제)
+CREATE TABLE active_member_days (
+    activity_date DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    member_key VARCHAR(64) NOT NULL,
+    CONSTRAINT pk_active_member_days PRIMARY KEY (activity_date, metric, member_key)
+);
+
+-- 원본 테이블을 어디까지 읽었는지 (다음 실행은 겹침 구간을 두고 이어서 읽음)
+CREATE TABLE active_member_scans (
+    source VARCHAR(30) PRIMARY KEY,
+    scanned_until TIMESTAMP NOT NULL
+);
+
+-- 참여/로그인 시각 범위 탐색용
+CREATE INDEX idx_participants_joined_at ON participants(joined_at);
+CREATE INDEX idx_users_last_login_at ON users(last_login_at) WHERE last_login_at IS NOT NULL;
@@ -0,0 +1,9 @@
+-- 아웃박스 이벤트 선점
+-- OutboxRelay는 짧은 트랜잭션에서 이벤트를 선점(claim_token, claimed_until)하고 커밋한 뒤 행 잠금 없이 리스너를 호출합니다.
+-- 릴레이가 중단되어 선점 기한이 지난 이벤트는 다른 릴레이가 다시 가져갑니다.
+
+ALTER TABLE outbox_events ADD COLUMN claim_token UUID;
+ALTER TABLE outbox_events ADD COLUMN claimed_until TIMESTAMP;
+
+-- 같은 매칭에 앞선 미발행 이벤트가 있는지 확인용 (매칭별 발행 순서 보장)
+CREATE INDEX idx_outbox_events_unpublished_aggregate ON outbox_events(aggregate_id, id) WHERE published_at IS NULL;
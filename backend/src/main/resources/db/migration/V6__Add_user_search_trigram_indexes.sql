@@ -0,0 +1,9 @@
+-- 회원 검색용 트라이그램 인덱스
+-- 메모리 검색 색인(UserSearchIndex)이 준비되기 전(콜드 스타트)의 대체 경로에서 사용
+-- ILIKE '%...%' 와 pg_trgm 유사도 연산자(%)가 인덱스를 사용할 수 있도록 GIN 인덱스 생성
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_userid_trgm ON users USING gin (userid gin_trgm_ops);
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops);
+CREATE INDEX idx_users_phone_number_trgm ON users USING gin (phone_number gin_trgm_ops);
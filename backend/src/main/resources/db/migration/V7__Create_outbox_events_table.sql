@@ -0,0 +1,20 @@
+-- 트랜잭셔널 아웃박스
+-- 도메인 이벤트를 비즈니스 데이터와 같은 트랜잭션에 기록하고, OutboxRelay가 커밋 후 비동기로 발행
+-- 여러 인스턴스의 릴레이가 FOR UPDATE SKIP LOCKED로 서로 다른 행을 가져감
+
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+-- 미발행 이벤트 폴링용 부분 인덱스 (발행된 행은 인덱스에서 제외)
+CREATE INDEX idx_outbox_events_unpublished ON outbox_events(id) WHERE published_at IS NULL;
+
+-- 발행 완료 이벤트 정리용
+CREATE INDEX idx_outbox_events_published_at ON outbox_events(published_at) WHERE published_at IS NOT NULL;
@@ -0,0 +1,53 @@
+-- 매칭 만료와 종료 세션 보관
+-- MatchingSweeper가 오래된 waiting/established 매칭을 'expired'로 바꾸고,
+-- 보관 기간이 지난 종료 세션(completed/expired)을 월별 파티션 보관 테이블로 옮긴 뒤 원본에서 삭제합니다.
+-- 원본에서 삭제된 매칭의 코드는 다시 발급될 수 있습니다.
+
+-- 기록은 매칭이 보관된 뒤에도 남아야 하므로 CASCADE 외래키를 제거 (matching_id는 보관된 매칭을 가리킬 수 있음)
+ALTER TABLE records DROP CONSTRAINT fk_records_matching;
+
+-- 만료 대상(waiting/established) 및 보관 대상(expired) 탐색용
+CREATE INDEX idx_matchings_status_created_at ON matchings(status, created_at);
+
+-- 보관 대상(completed) 탐색용
+CREATE INDEX idx_matchings_completed_at ON matchings(completed_at) WHERE status = 'completed';
+
+-- 보관 테이블: 매칭 생성 시각 기준 월별 RANGE 파티션 (세 테이블의 파티션 경계가 같아 같은 달을 함께 DROP 가능)
+-- 월 파티션은 MatchingSweeper가 행을 옮기기 전에 생성합니다. (예: matchings_archive_y2026m01)
+CREATE TABLE matchings_archive (
+    id BIGINT NOT NULL,
+    code VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    qr_code_path VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_matchings_archive_code ON matchings_archive(code);
+
+CREATE TABLE participants_archive (
+    id BIGINT NOT NULL,
+    matching_id BIGINT NOT NULL,
+    participant_code VARCHAR(36) NOT NULL,
+    joined_at TIMESTAMP NOT NULL,
+    user_id BIGINT,
+    matching_created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, matching_created_at)
+) PARTITION BY RANGE (matching_created_at);
+
+CREATE INDEX idx_participants_archive_matching_id ON participants_archive(matching_id);
+
+CREATE TABLE answers_archive (
+    id BIGINT NOT NULL,
+    participant_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    choice_id BIGINT NOT NULL,
+    answered_at TIMESTAMP NOT NULL,
+    matching_id BIGINT NOT NULL,
+    matching_created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, matching_created_at)
+) PARTITION BY RANGE (matching_created_at);
+
+CREATE INDEX idx_answers_archive_matching_id ON answers_archive(matching_id);
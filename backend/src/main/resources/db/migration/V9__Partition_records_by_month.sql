@@ -0,0 +1,46 @@
+-- 관계 기록(records)을 생성 월(created_at) 기준 RANGE 파티션 테이블로 전환
+--
+-- 날짜 조건이 있는 기록 목록 조회는 해당 월 파티션만 읽습니다. (파티션 프루닝)
+-- 파티션 키를 포함하지 않는 전역 UNIQUE 제약은 만들 수 없으므로
+-- record_id(UUID)와 matching_id의 유일성은 애플리케이션에서 보장합니다. (RecordService.createRecord: 매칭 행 잠금 후 중복 확인)
+-- 다음 달 이후 파티션은 RecordPartitionMaintainer가 미리 만듭니다. (app.partitioning.months-ahead)
+
+CREATE TABLE records_partitioned (
+    id BIGINT NOT NULL DEFAULT nextval('records_id_seq'),
+    record_id VARCHAR(36) NOT NULL,
+    matching_id BIGINT NOT NULL,
+    temperature DOUBLE PRECISION,
+    temperature_diff DOUBLE PRECISION,
+    summary JSONB,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_records PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 데이터의 첫 달부터 이번 달 + 3개월까지 월별 파티션 생성 (이름: records_y2026m01)
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE + INTERVAL '3 months')::date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(created_at), CURRENT_TIMESTAMP))::date INTO month_start FROM records;
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF records_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       'records_' || to_char(month_start, '"y"YYYY"m"MM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO records_partitioned (id, record_id, matching_id, temperature, temperature_diff, summary, is_active, created_at)
+SELECT id, record_id, matching_id, temperature, temperature_diff, summary, is_active, created_at FROM records;
+
+ALTER SEQUENCE records_id_seq OWNED BY records_partitioned.id;
+DROP TABLE records;
+ALTER TABLE records_partitioned RENAME TO records;
+
+-- 파티션마다 만들어지는 인덱스 (record_id/matching_id 조회는 파티션별 인덱스를 차례로 탐색)
+CREATE INDEX idx_records_record_id ON records(record_id);
+CREATE INDEX idx_records_matching_id ON records(matching_id);
+CREATE INDEX idx_records_is_active ON records(is_active);
+CREATE INDEX idx_records_created_at ON records(created_at);
@@ -0,0 +1,150 @@
+package com.rstracker.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.rstracker.config.logging.DebugDiscardingAsyncAppender;
+import com.rstracker.config.logging.RequestCorrelationFilter;
+import com.rstracker.config.logging.SampledSqlTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 로깅 비용 벤치마크
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="LoggingBenchmark"
+ *
+ * 한 번의 호출은 SQL 1건(문장 DEBUG + 바인딩 3개 TRACE)과 요청 로그 1줄(INFO)을 흉내냅니다.
+ * 출력은 파일(immediateFlush)로 보내 콘솔/파이프 쓰기 비용을 근사합니다.
+ * - previousDefaults: 이전 기본값 (com.rstracker DEBUG, SQL DEBUG, 바인딩 TRACE, 동기 출력)
+ * - currentDefaults: 현재 기본값 (INFO, SQL 로그 꺼짐, 비동기 출력) - 샘플링되지 않은 요청
+ * - sampledRequest: 현재 기본값에서 샘플링된 요청 (SQL/바인딩 전부 기록, 비동기 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String SQL = "select r1_0.id,r1_0.created_at,r1_0.record_id,r1_0.temperature from records r1_0 where r1_0.record_id=?";
+
+    private LoggerContext syncContext;
+    private LoggerContext asyncContext;
+    private Logger previousSql;
+    private Logger previousBind;
+    private Logger previousApp;
+    private Logger currentSql;
+    private Logger currentBind;
+    private Logger currentApp;
+    private File syncFile;
+    private File asyncFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        syncFile = File.createTempFile("logging-benchmark-sync", ".log");
+        asyncFile = File.createTempFile("logging-benchmark-async", ".log");
+
+        syncContext = new LoggerContext();
+        syncContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(fileAppender(syncContext, syncFile));
+        previousSql = syncContext.getLogger("org.hibernate.SQL");
+        previousSql.setLevel(Level.DEBUG);
+        previousBind = syncContext.getLogger("org.hibernate.orm.jdbc.bind");
+        previousBind.setLevel(Level.TRACE);
+        previousApp = syncContext.getLogger("com.rstracker.controller.RecordController");
+        previousApp.setLevel(Level.DEBUG);
+
+        asyncContext = new LoggerContext();
+        SampledSqlTurboFilter turboFilter = new SampledSqlTurboFilter();
+        turboFilter.setContext(asyncContext);
+        turboFilter.start();
+        asyncContext.addTurboFilter(turboFilter);
+        DebugDiscardingAsyncAppender asyncAppender = new DebugDiscardingAsyncAppender();
+        asyncAppender.setContext(asyncContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.addAppender(fileAppender(asyncContext, asyncFile));
+        asyncAppender.start();
+        asyncContext.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(asyncAppender);
+        currentSql = asyncContext.getLogger("org.hibernate.SQL");
+        currentSql.setLevel(Level.INFO);
+        currentBind = asyncContext.getLogger("org.hibernate.orm.jdbc.bind");
+        currentBind.setLevel(Level.INFO);
+        currentApp = asyncContext.getLogger("com.rstracker.controller.RecordController");
+        currentApp.setLevel(Level.INFO);
+
+        MDC.put(RequestCorrelationFilter.REQUEST_ID_KEY, "3f2a9c1d7e6b5a40");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        MDC.clear();
+        syncContext.stop();
+        asyncContext.stop();
+        Files.deleteIfExists(syncFile.toPath());
+        Files.deleteIfExists(asyncFile.toPath());
+    }
+
+    @Benchmark
+    public void previousDefaults() {
+        simulateRequest(previousSql, previousBind, previousApp);
+    }
+
+    @Benchmark
+    public void currentDefaults() {
+        simulateRequest(currentSql, currentBind, currentApp);
+    }
+
+    @Benchmark
+    public void sampledRequest() {
+        MDC.put(RequestCorrelationFilter.SQL_TRACE_KEY, "true");
+        try {
+            simulateRequest(currentSql, currentBind, currentApp);
+        } finally {
+            MDC.remove(RequestCorrelationFilter.SQL_TRACE_KEY);
+        }
+    }
+
+    private static void simulateRequest(Logger sql, Logger bind, Logger app) {
+        app.debug("Received request to get record: {}", "b5f971ba-7aaf-46d7-b14d-6d2a6dccb49d");
+        sql.debug(SQL);
+        bind.trace("binding parameter (1:VARCHAR) <- [{}]", "b5f971ba-7aaf-46d7-b14d-6d2a6dccb49d");
+        bind.trace("binding parameter (2:BOOLEAN) <- [{}]", Boolean.TRUE);
+        bind.trace("binding parameter (3:INTEGER) <- [{}]", 20);
+        app.info("Record fetched: {}", "b5f971ba-7aaf-46d7-b14d-6d2a6dccb49d");
+    }
+
+    private static Appender<ILoggingEvent> fileAppender(LoggerContext context, File file) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] [%X{requestId:-}] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.getAbsolutePath());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+}
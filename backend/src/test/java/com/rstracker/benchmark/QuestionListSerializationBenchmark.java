@@ -0,0 +1,92 @@
+package com.rstracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.config.http.SerializedResponse;
+import com.rstracker.dto.QuestionChoiceDto;
+import com.rstracker.dto.QuestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 활성 질문 목록 응답 본문 생성 비용 벤치마크
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="QuestionListSerializationBenchmark"
+ *
+ * - jacksonPerRequest: 캐시된 {@code List<QuestionDto>}를 요청마다 직렬화 (이전 방식)
+ * - jacksonAndGzipPerRequest: 직렬화 후 서버 압축까지 요청마다 수행
+ * - preSerialized / preSerializedGzip: 캐시된 SerializedResponse의 바이트를 그대로 사용 (현재 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionListSerializationBenchmark {
+
+    private static final int QUESTION_COUNT = 12;
+    private static final int CHOICES_PER_QUESTION = 5;
+
+    private ObjectMapper objectMapper;
+    private List<QuestionDto> questions;
+    private SerializedResponse serialized;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        questions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            List<QuestionChoiceDto> choices = new ArrayList<>();
+            for (int j = 0; j < CHOICES_PER_QUESTION; j++) {
+                choices.add(new QuestionChoiceDto((long) (i * 10 + j), "상대와 함께 있을 때 편안함을 느끼는 정도 " + j,
+                        "choice_" + j, j + 1, j * 0.25));
+            }
+            questions.add(new QuestionDto((long) i, "지금 두 사람의 관계를 가장 잘 설명하는 문장을 골라 주세요 " + i,
+                    "context", "INITIAL_MATCHING", i + 1, true, 1, now, now, choices));
+        }
+        serialized = SerializedResponse.of(objectMapper, questions);
+    }
+
+    @Benchmark
+    public byte[] jacksonPerRequest() throws IOException {
+        return objectMapper.writeValueAsBytes(questions);
+    }
+
+    @Benchmark
+    public byte[] jacksonAndGzipPerRequest() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(questions);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] preSerialized() {
+        return serialized.getJson();
+    }
+
+    @Benchmark
+    public byte[] preSerializedGzip() {
+        return serialized.getGzip();
+    }
+}
@@ -0,0 +1,111 @@
+package com.rstracker.benchmark;
+
+import com.rstracker.entity.Matching;
+import com.rstracker.entity.Record;
+import com.rstracker.service.ledger.MerkleTree;
+import com.rstracker.service.ledger.MerkleTree.NodeId;
+import com.rstracker.service.ledger.RecordContentHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 원장 추가 CPU 비용 벤치마크 (DB 제외)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RecordLedgerBenchmark"
+ *
+ * - hashRecords: 기록 정규화(JSON) + 잎 해시
+ * - appendBatch: 잎 해시 + 새로 완성되는 내부 노드 계산 (RecordLedgerAppender 배치 하나와 같은 계산)
+ * 결과는 기록 1건당 처리량(ops/s)입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordLedgerBenchmark {
+
+    private static final int BATCH_SIZE = 2000;
+
+    /** 이미 원장에 있는 잎 수 (1,000만 건 근처에서 배치 하나를 추가) */
+    private static final long TREE_SIZE = 10_000_000L + 123;
+
+    private List<Record> records;
+    private Map<NodeId, byte[]> existing;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            records.add(sampleRecord(i));
+        }
+        existing = new HashMap<>();
+        for (NodeId id : MerkleTree.existingChildren(TREE_SIZE, TREE_SIZE + BATCH_SIZE)) {
+            existing.put(id, MerkleTree.leafHash(new byte[]{(byte) id.level()}));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int hashRecords() {
+        int sum = 0;
+        for (Record record : records) {
+            sum += RecordContentHasher.leafHash(record)[0];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<NodeId, byte[]> appendBatch() {
+        Map<NodeId, byte[]> created = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            created.put(new NodeId(0, TREE_SIZE + i), RecordContentHasher.leafHash(records.get(i)));
+        }
+        MerkleTree.completeParents(TREE_SIZE, TREE_SIZE + BATCH_SIZE, created, existing);
+        return created;
+    }
+
+    private static Record sampleRecord(int i) {
+        Matching matching = new Matching();
+        matching.setId((long) i);
+        Map<String, Object> summary = new HashMap<>();
+        Map<String, List<String>> answerChoices = new LinkedHashMap<>();
+        for (int order = 1; order <= 6; order++) {
+            summary.put("Q" + order, Map.of(
+                    "question_text", "오늘 만남에서 느낀 분위기는 어땠나요? " + order,
+                    "choice_text", "편안했어요",
+                    "question_type", "context"));
+            answerChoices.put("Q" + order, List.of("comfortable", "excited"));
+        }
+        Record record = new Record();
+        record.setId((long) i);
+        record.setRecordId(UUID.randomUUID().toString());
+        record.setMatching(matching);
+        record.setTemperature(0.42 + i * 1e-6);
+        record.setTemperatureDiff(0.1);
+        record.setIsActive(true);
+        record.setCreatedAt(LocalDateTime.of(2026, 10, 1, 12, 0).plusNanos(i * 1000L));
+        record.setSummary(summary);
+        record.setAnswerChoices(answerChoices);
+        return record;
+    }
+}
@@ -0,0 +1,76 @@
+package com.rstracker.benchmark;
+
+import com.rstracker.service.similarity.AnswerVectorTable;
+import com.rstracker.service.similarity.AnswerVectorTable.Neighbor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 기록 검색 벤치마크 (메모리 색인만, DB 제외)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RecordSimilarityBenchmark"
+ *
+ * - nearest: 기록 records건에 대한 해밍 거리 전체 스캔 + 상위 limit개 (RecordSimilarityIndex.findSimilar와 같은 계산)
+ * 벡터는 질문 6개에 두 참여자가 선택지 4개 중 하나씩 고른 것처럼 만들며, 결과는 질의 1건의 평균 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class RecordSimilarityBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000000", "10000000"})
+    private int records;
+
+    @Param({"10"})
+    private int limit;
+
+    private AnswerVectorTable table;
+    private long[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        table = new AnswerVectorTable(records);
+        for (int i = 0; i < records; i++) {
+            table.add(i + 1L, randomVector(random));
+        }
+        queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = randomVector(random);
+        }
+    }
+
+    @Benchmark
+    public List<Neighbor> nearest() {
+        long query = queries[next++ & (QUERIES - 1)];
+        return table.nearest(query, 0L, limit);
+    }
+
+    private static long randomVector(SplittableRandom random) {
+        long vector = 0;
+        for (int slot = 0; slot < 6; slot++) {
+            vector |= 1L << (slot * 8 + random.nextInt(4));
+            vector |= 1L << (slot * 8 + random.nextInt(4));
+        }
+        return vector;
+    }
+}
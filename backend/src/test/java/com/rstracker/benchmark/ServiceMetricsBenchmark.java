@@ -0,0 +1,95 @@
+package com.rstracker.benchmark;
+
+import com.rstracker.service.metrics.ServiceMetrics;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 지표 수집 오버헤드 벤치마크
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ServiceMetricsBenchmark"
+ *
+ * - plainCall / timedCall: 같은 메서드를 직접 호출한 경우와 @Timed(히스토그램) 프록시를 거친 경우의 차이
+ * - counter*: 지표 활성/비활성 상태에서 ServiceMetrics 카운터 기록 비용
+ * - temperatureSummary: 온도 분포(SLO 버킷) 기록 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceMetricsBenchmark {
+
+    private SampleService plainService;
+    private SampleService timedService;
+    private ServiceMetrics enabledMetrics;
+    private ServiceMetrics disabledMetrics;
+    private int input;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        plainService = new SampleService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new TimedAspect(registry));
+        timedService = proxyFactory.getProxy();
+
+        enabledMetrics = new ServiceMetrics(registry, true);
+        disabledMetrics = new ServiceMetrics(registry, false);
+        input = 42;
+    }
+
+    @Benchmark
+    public int plainCall() {
+        return plainService.work(input);
+    }
+
+    @Benchmark
+    public int timedCall() {
+        return timedService.work(input);
+    }
+
+    @Benchmark
+    public void counterEnabled() {
+        enabledMetrics.joinRejected(ServiceMetrics.REASON_FULL);
+    }
+
+    @Benchmark
+    public void counterDisabled() {
+        disabledMetrics.joinRejected(ServiceMetrics.REASON_FULL);
+    }
+
+    @Benchmark
+    public void temperatureSummary() {
+        enabledMetrics.temperatureComputed(0.42);
+    }
+
+    /**
+     * 서비스 클래스와 같은 방식(클래스 레벨 @Timed)으로 계측되는 대상
+     */
+    @Timed(value = "rstracker.benchmark", histogram = true)
+    public static class SampleService {
+
+        public int work(int value) {
+            return Integer.rotateLeft(value, 3) ^ value;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.rstracker.benchmark;
+
+import com.rstracker.config.TemperatureCalculationProperties;
+import com.rstracker.entity.Answer;
+import com.rstracker.entity.Participant;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.service.temperature.LookupTemperatureCalculationStrategy;
+import com.rstracker.service.temperature.TemperatureCalculationStrategy;
+import com.rstracker.service.temperature.TemperatureCalculationStrategy.TemperatureResult;
+import com.rstracker.service.temperature.WeightedTemperatureCalculationStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 온도 계산 전략 벤치마크 (기록 생성 시 매칭 한 건의 온도 계산, DB 제외)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TemperatureCalculationBenchmark"
+ *
+ * - weighted: WeightedTemperatureCalculationStrategy (참여자별로 묶은 뒤 응답마다 가중 합)
+ * - lookup: LookupTemperatureCalculationStrategy (참여자별 온도표 칸 하나)
+ * 카탈로그는 질문 세트 v1과 같고, 두 참여자가 질문 6개에 모두 응답한 매칭을 돌아가며 계산합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemperatureCalculationBenchmark {
+
+    private static final int MATCHINGS = 1024;
+
+    private static final double[][] CHOICE_WEIGHTS = {
+            {0.0, 0.0, 0.0, 0.0, 0.0},
+            {0.0, 0.0, 0.0, 0.0, 0.0},
+            {0.2, 0.5, 0.7, 0.9},
+            {0.2, 0.4, 0.6, 0.5},
+            {0.1, 0.4, 0.6, 0.9},
+            {0.7, 0.3, 0.5}};
+
+    private TemperatureCalculationStrategy weighted;
+    private TemperatureCalculationStrategy lookup;
+    private Map<Long, QuestionChoice> choiceMap;
+    private Map<Long, Integer> questionOrderMap;
+    private List<List<Answer>> matchings;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        TemperatureCalculationProperties properties = new TemperatureCalculationProperties();
+        WeightedTemperatureCalculationStrategy weightedStrategy = new WeightedTemperatureCalculationStrategy(properties);
+        weighted = weightedStrategy;
+        lookup = new LookupTemperatureCalculationStrategy(properties, weightedStrategy);
+
+        choiceMap = new HashMap<>();
+        questionOrderMap = new HashMap<>();
+        List<Question> questions = new ArrayList<>();
+        long choiceId = 1;
+        for (int order = 1; order <= CHOICE_WEIGHTS.length; order++) {
+            Question question = new Question();
+            question.setId((long) order);
+            question.setOrder(order);
+            for (double weight : CHOICE_WEIGHTS[order - 1]) {
+                QuestionChoice choice = new QuestionChoice();
+                choice.setId(choiceId++);
+                choice.setQuestion(question);
+                choice.setTemperatureWeight(weight);
+                question.getChoices().add(choice);
+                choiceMap.put(choice.getId(), choice);
+            }
+            questions.add(question);
+            questionOrderMap.put(question.getId(), order);
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        matchings = new ArrayList<>();
+        for (int i = 0; i < MATCHINGS; i++) {
+            List<Answer> answers = new ArrayList<>();
+            for (long participantId = 2L * i; participantId < 2L * i + 2; participantId++) {
+                Participant participant = new Participant();
+                participant.setId(participantId);
+                for (Question question : questions) {
+                    Answer answer = new Answer();
+                    answer.setParticipant(participant);
+                    answer.setQuestion(question);
+                    answer.setChoice(question.getChoices().get(random.nextInt(question.getChoices().size())));
+                    answers.add(answer);
+                }
+            }
+            matchings.add(answers);
+        }
+        lookup.calculate(matchings.get(0), choiceMap, questionOrderMap);
+    }
+
+    @Benchmark
+    public TemperatureResult weighted() {
+        return weighted.calculate(nextMatching(), choiceMap, questionOrderMap);
+    }
+
+    @Benchmark
+    public TemperatureResult lookup() {
+        return lookup.calculate(nextMatching(), choiceMap, questionOrderMap);
+    }
+
+    private List<Answer> nextMatching() {
+        return matchings.get(next++ & (MATCHINGS - 1));
+    }
+}
@@ -0,0 +1,109 @@
+package com.rstracker.benchmark;
+
+import com.rstracker.dto.UserSearchResultDto;
+import com.rstracker.entity.User;
+import com.rstracker.service.search.UserSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 검색 색인 지연 시간 벤치마크 (메모리 색인만, DB 제외)
+ *
+ * 실행: mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserSearchBenchmark"
+ *
+ * - search: 회원 users명 색인에 대한 검색 1건 (UserSearchIndex.search, limit 20)
+ * 결과는 SampleTime 분포이므로 p0.99 줄이 검색 p99 지연 시간입니다.
+ * 검색어 유형(queryType)
+ * - PREFIX: 흔한 성씨 아이디 접두어 ("kim" 등, 후보 수 상한에 걸리는 경우)
+ * - NAME: 한글 이름 두 글자 접두어
+ * - PHONE: 전화번호 가운데 4자리
+ * - FUZZY: 실제 아이디에서 한 글자를 바꾼 오타
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserSearchBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final int LIMIT = 20;
+
+    private static final String[] ROMAN_SURNAMES = {"kim", "lee", "park", "choi", "jung", "kang", "cho", "yoon", "jang", "lim"};
+    private static final String[] ROMAN_GIVEN = {"minsu", "jihoon", "seoyeon", "jiwoo", "hyun", "yuna", "dohyun", "sora", "jun", "hana"};
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN = {"민", "지", "서", "현", "우", "연", "준", "하", "윤", "수", "도", "예"};
+
+    @Param({"1000000"})
+    private int users;
+
+    @Param({"PREFIX", "NAME", "PHONE", "FUZZY"})
+    private String queryType;
+
+    private UserSearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new UserSearchIndex(null, null);
+        String[] userids = new String[users];
+        String[] names = new String[users];
+        String[] phoneNumbers = new String[users];
+        for (int i = 0; i < users; i++) {
+            userids[i] = ROMAN_SURNAMES[random.nextInt(ROMAN_SURNAMES.length)]
+                    + ROMAN_GIVEN[random.nextInt(ROMAN_GIVEN.length)] + random.nextInt(10_000);
+            names[i] = SURNAMES[random.nextInt(SURNAMES.length)]
+                    + GIVEN[random.nextInt(GIVEN.length)] + GIVEN[random.nextInt(GIVEN.length)];
+            phoneNumbers[i] = String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+            index.index(user(i + 1L, userids[i], names[i], phoneNumbers[i]));
+        }
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            int target = random.nextInt(users);
+            queries[i] = switch (queryType) {
+                case "PREFIX" -> ROMAN_SURNAMES[random.nextInt(ROMAN_SURNAMES.length)];
+                case "NAME" -> names[target].substring(0, 2);
+                case "PHONE" -> phoneNumbers[target].substring(4, 8);
+                case "FUZZY" -> typo(userids[target], random);
+                default -> throw new IllegalArgumentException(queryType);
+            };
+        }
+    }
+
+    @Benchmark
+    public List<UserSearchResultDto> search() {
+        return index.search(queries[next++ & (QUERIES - 1)], LIMIT);
+    }
+
+    private static String typo(String value, SplittableRandom random) {
+        char[] chars = value.toCharArray();
+        chars[1 + random.nextInt(chars.length - 1)] = 'q';
+        return new String(chars);
+    }
+
+    private static User user(Long id, String userid, String name, String phoneNumber) {
+        User user = new User();
+        user.setId(id);
+        user.setUserid(userid);
+        user.setName(name);
+        user.setPhoneNumber(phoneNumber);
+        return user;
+    }
+}
@@ -0,0 +1,95 @@
+package com.rstracker.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * ConnectionLimitingDataSource 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionLimitingDataSource 테스트")
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 2, 50);
+    }
+
+    @Test
+    @DisplayName("허가 수를 넘으면 타임아웃 후 예외 발생")
+    void getConnection_ExceedsPermits_TimesOut() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("close 시 허가를 한 번만 반환")
+    void close_ReleasesPermitOnce() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("커넥션 획득 실패 시 허가 반환")
+    void getConnection_TargetFails_ReleasesPermit() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("close 외의 호출은 실제 커넥션으로 위임")
+    void delegatesOtherCalls() throws SQLException {
+        // given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.getAutoCommit()).thenReturn(false);
+
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertThat(connection.getAutoCommit()).isFalse();
+        verify(targetConnection).getAutoCommit();
+    }
+}
@@ -0,0 +1,77 @@
+package com.rstracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.AnswerSelectionDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.UserDto;
+import com.rstracker.dto.UserSearchResultDto;
+import com.rstracker.event.RecordCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NativeHintsConfig 런타임 힌트 테스트
+ */
+@DisplayName("NativeHintsConfig 테스트")
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("DTO의 Lombok 접근자에 대한 바인딩 힌트 등록")
+    void registersDtoBindingHints() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(AnswerCreateDto.class.getMethod("setChoiceId", Long.class)))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(RecordDto.class.getMethod("getSummary")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(UserSearchResultDto.class.getMethod("getScore")))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("JPQL 생성자 표현식 프로젝션 DTO의 생성자 힌트 등록")
+    void registersProjectionConstructorHints() {
+        for (Class<?> type : new Class<?>[] {RecordDto.class, MatchingDto.class, UserDto.class, AnswerSelectionDto.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type).withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                    .as(type.getSimpleName())
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("아웃박스 도메인 이벤트에 대한 바인딩 힌트 등록")
+    void registersDomainEventBindingHints() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(RecordCreatedEvent.class.getMethod("setRecordId", String.class)))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("jsonb 매핑을 위한 Jackson 타입 힌트 등록")
+    void registersJsonbHints() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ObjectMapper.class))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("iText 폰트 리소스 힌트 등록")
+    void registersITextResources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("com/itextpdf/io/font/afm/Helvetica.afm"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("com/itextpdf/io/font/AdobeGlyphList.txt"))
+                .accepts(hints);
+    }
+}
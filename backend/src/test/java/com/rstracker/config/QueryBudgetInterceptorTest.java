@@ -0,0 +1,92 @@
+package com.rstracker.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * QueryBudgetInterceptor / QueryBudgetTracker 단위 테스트
+ */
+@DisplayName("QueryBudgetInterceptor 테스트")
+class QueryBudgetInterceptorTest {
+
+    private final QueryBudgetTracker tracker = new QueryBudgetTracker();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QueryBudgetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        QueryBudgetProperties properties = new QueryBudgetProperties();
+        properties.setMaxStatements(3);
+        properties.setHandlers(Map.of("UserController.getUserHistory", 5));
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new QueryBudgetInterceptor(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("예산 초과 시 핸들러 태그로 카운터 증가")
+    void record_ExceedsBudget_IncrementsCounter() {
+        // given
+        QueryBudgetTracker.Scope scope = QueryBudgetTracker.start("RecordController.getRecords", false);
+        for (int i = 0; i < 4; i++) {
+            tracker.inspect("select * from records where id=?");
+        }
+        scope.close();
+
+        // when
+        interceptor.record(scope, "/api/records");
+
+        // then
+        assertThat(meterRegistry.get(QueryBudgetInterceptor.BUDGET_EXCEEDED)
+                .tag("handler", "RecordController.getRecords").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(QueryBudgetInterceptor.STATEMENTS)
+                .tag("handler", "RecordController.getRecords").summary().totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("핸들러별 예산이 기본 예산보다 우선")
+    void record_HandlerOverride_WithinBudget() {
+        // given
+        QueryBudgetTracker.Scope scope = QueryBudgetTracker.start("UserController.getUserHistory", false);
+        for (int i = 0; i < 4; i++) {
+            tracker.inspect("select * from answers where participant_id=" + i);
+        }
+        scope.close();
+
+        // when
+        interceptor.record(scope, "/api/users/1/history");
+
+        // then
+        assertThat(meterRegistry.find(QueryBudgetInterceptor.BUDGET_EXCEEDED).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("반복 SQL은 조회문만 집계하고 범위 종료 시 이전 범위 복원")
+    void scope_CountsRepeatedSelectsAndRestoresPrevious() {
+        // given
+        QueryBudgetTracker.Scope outer = QueryBudgetTracker.start("outer", false);
+        QueryBudgetTracker.Scope inner = QueryBudgetTracker.start("inner", true);
+
+        // when
+        tracker.inspect("insert into answers values (?)");
+        tracker.inspect("insert into answers values (?)");
+        tracker.inspect("select * from questions where id=?");
+        inner.close();
+        tracker.inspect("select 1");
+        outer.close();
+        tracker.inspect("select 2");
+
+        // then
+        assertThat(inner.getStatementCount()).isEqualTo(3);
+        assertThat(inner.getStatements()).hasSize(3);
+        assertThat(inner.mostRepeatedStatement().getKey()).startsWith("select");
+        assertThat(outer.getStatementCount()).isEqualTo(1);
+    }
+}
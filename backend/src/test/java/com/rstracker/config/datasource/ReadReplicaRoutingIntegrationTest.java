@@ -0,0 +1,91 @@
+package com.rstracker.config.datasource;
+
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.MatchingStatusDto;
+import com.rstracker.service.MatchingService;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 통합 테스트 (단일 인스턴스 대체)
+ *
+ * 복제본 풀을 같은 DB에 default_transaction_read_only=on 옵션으로 연결해,
+ * 읽기 전용 트랜잭션이 복제본 풀로 가고 쓰기는 primary로 가는지 확인합니다.
+ */
+@DisplayName("읽기 복제본 라우팅 통합 테스트")
+class ReadReplicaRoutingIntegrationTest extends IntegrationTestSupport {
+
+    private static final String READ_ONLY_CHECK = "SHOW default_transaction_read_only";
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.enabled", () -> "true");
+        registry.add("app.datasource.replica.url", () -> readOnlyStandIn(jdbcUrl()));
+        registry.add("app.datasource.replica.lag-check-interval", () -> "200ms");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @BeforeEach
+    void waitForReplica() throws InterruptedException {
+        for (int i = 0; i < 50 && !lagMonitor.isReplicaAvailable(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(lagMonitor.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 primary로 라우팅")
+    void routesByTransactionReadOnlyFlag() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        String readOnlySession = readOnly.execute(status -> jdbcTemplate.queryForObject(READ_ONLY_CHECK, String.class));
+        String readWriteSession = readWrite.execute(status -> jdbcTemplate.queryForObject(READ_ONLY_CHECK, String.class));
+
+        // then
+        assertThat(readOnlySession).isEqualTo("on");
+        assertThat(readWriteSession).isEqualTo("off");
+    }
+
+    @Test
+    @DisplayName("서비스 쓰기 후 읽기 전용 조회가 정상 동작")
+    void serviceWritesAndReads() {
+        // given
+        MatchingDto matching = matchingService.createMatching();
+        matchingService.joinMatching(matching.getCode());
+
+        // when
+        MatchingStatusDto status = matchingService.getMatchingStatus(matching.getCode());
+
+        // then
+        assertThat(status.getParticipantCount()).isEqualTo(1);
+    }
+
+    private static String readOnlyStandIn(String url) {
+        return url + (url.contains("?") ? "&" : "?") + "options=-c%20default_transaction_read_only=on";
+    }
+}
@@ -0,0 +1,163 @@
+package com.rstracker.config.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReplicaRoutingDataSource / ReadYourWritesTracker / ReplicaLagMonitor 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(5)), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로 라우팅")
+    void readOnly_RoutesToReplica() {
+        // given
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+        beginTransaction(true);
+
+        // when & then
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제본을 쓸 수 없으면 읽기도 primary로 라우팅")
+    void readOnly_ReplicaUnavailable_RoutesToPrimary() {
+        // given
+        when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+        beginTransaction(true);
+
+        // when & then
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 같은 요청의 읽기는 primary, 응답에 고정 쿠키 추가")
+    void write_Commit_StickToPrimary() {
+        // given
+        beginTransaction(false);
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+
+        // when
+        commit();
+        beginTransaction(true);
+
+        // then
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+        assertThat(response.getCookie(ReadYourWritesTracker.COOKIE_NAME)).isNotNull();
+        verifyNoInteractions(lagMonitor);
+    }
+
+    @Test
+    @DisplayName("고정 쿠키가 유효하면 primary, 만료되면 복제본")
+    void stickyCookie_ExpiresBackToReplica() {
+        // given
+        when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+        beginTransaction(true);
+
+        // when & then
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(System.currentTimeMillis() + 5_000)));
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+        assertThat(routingDataSource.route()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 조회에 실패하면 복제본 사용 불가")
+    void lagMonitor_DetectsLagAndFailure() throws Exception {
+        // given
+        DataSource replicaDataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replicaDataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaLagMonitor.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(0.2, 12.0);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+        // when & then
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(12.0);
+
+        when(replicaDataSource.getConnection()).thenThrow(new java.sql.SQLException("connection refused"));
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isNaN();
+        monitor.close();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
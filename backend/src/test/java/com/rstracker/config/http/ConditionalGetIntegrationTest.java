@@ -0,0 +1,224 @@
+package com.rstracker.config.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.CreateQuestionDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.QuestionDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.entity.Question;
+import com.rstracker.service.AnswerService;
+import com.rstracker.service.MatchingService;
+import com.rstracker.service.QuestionService;
+import com.rstracker.service.RecordService;
+import com.rstracker.service.stats.RecordPercentileIndex;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조건부 GET(ETag/If-None-Match) 통합 테스트
+ */
+@AutoConfigureMockMvc
+@DisplayName("조건부 GET 통합 테스트")
+class ConditionalGetIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private RecordPercentileIndex recordPercentileIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("질문 목록: 같은 ETag면 304, 카탈로그가 바뀌면 새 ETag로 200")
+    void questions_NotModifiedUntilCatalogChanges() throws Exception {
+        // given
+        String etag = etagOf("/questions");
+
+        // when & then
+        mockMvc.perform(get("/questions").with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, private"))
+                .andExpect(content().string(""));
+
+        QuestionDto question = questionService.createQuestion(newQuestion());
+        try {
+            String changed = mockMvc.perform(get("/questions").with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(changed).isNotEqualTo(etag);
+        } finally {
+            questionService.deleteQuestion(question.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("질문 목록: 캐시된 JSON은 Jackson 직렬화 결과와 같고 gzip 변형을 제공")
+    void questions_SerializedBodyMatchesJackson() throws Exception {
+        // given
+        byte[] expected = objectMapper.writeValueAsBytes(questionService.getActiveQuestions());
+
+        // when
+        MockHttpServletResponse identity = mockMvc.perform(get("/questions").with(user("admin")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/json"))
+                .andReturn().getResponse();
+        MockHttpServletResponse gzip = mockMvc.perform(get("/questions").with(user("admin"))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+
+        // then
+        assertThat(identity.getContentAsByteArray()).isEqualTo(expected);
+        String etag = identity.getHeader(HttpHeaders.ETAG);
+        assertThat(gzip.getHeader(HttpHeaders.ETAG)).isEqualTo(etag.substring(0, etag.length() - 1) + "-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("기록: 같은 ETag면 304, 비활성화되면 새 ETag로 200")
+    void record_NotModifiedUntilDeactivated() throws Exception {
+        // given
+        RecordDto record = recordService.createRecord(completedMatching().getId());
+        String path = "/records/" + record.getRecordId();
+        String etag = etagOf(path);
+        assertThat(etagOf("/records/matching/" + record.getMatchingId())).isEqualTo(etag);
+
+        // when & then
+        mockMvc.perform(get(path).with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+        recordService.deactivateRecord(record.getRecordId());
+        mockMvc.perform(get(path).with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("기록: 다른 기록 때문에 백분위가 바뀌면 새 ETag로 200")
+    void record_PercentileChanged_NewEtag() throws Exception {
+        // given: 색인에 0.0으로 들어간 자기 자신보다 높은 온도로 바꾼 기록 (백분위가 0보다 큼)
+        awaitPercentileIndex();
+        RecordDto record = recordService.createRecord(completedMatching().getId());
+        jdbcTemplate.update("UPDATE records SET temperature = 0.5 WHERE record_id = ?", record.getRecordId());
+        String path = "/records/" + record.getRecordId();
+        String etag = etagOf(path);
+        Double before = recordService.getRecord(record.getRecordId()).getPercentile();
+        assertThat(before).isPositive();
+        // 색인 전체 수의 3배가 넘는 높은 온도 기록이 생기면 백분위가 1/4 아래로 줄어듦
+        long added = 3 * (recordPercentileIndex.size() + 1);
+        long fakeIdBase = -1_000_000_000L;
+
+        try {
+            for (long i = 0; i < added; i++) {
+                recordPercentileIndex.addAfterCommit(fakeIdBase - i, 0.9);
+            }
+
+            // when & then
+            MockHttpServletResponse response = mockMvc.perform(get(path).with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                    .andReturn().getResponse();
+            RecordDto body = objectMapper.readValue(response.getContentAsByteArray(), RecordDto.class);
+            assertThat(body.getPercentile()).isLessThan(before);
+        } finally {
+            for (long i = 0; i < added; i++) {
+                recordPercentileIndex.removeAfterCommit(fakeIdBase - i, 0.9);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 ETag 없이 404")
+    void record_Missing_NotFound() throws Exception {
+        mockMvc.perform(get("/records/missing-record").with(user("admin")).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etagOf(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).with(user("admin")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"v2-");
+        return etag;
+    }
+
+    private void awaitPercentileIndex() throws InterruptedException {
+        // 기동 후 비동기로 만들어지므로 준비될 때까지 기다림
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!recordPercentileIndex.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(recordPercentileIndex.isReady()).isTrue();
+    }
+
+    private CreateQuestionDto newQuestion() {
+        CreateQuestionDto.CreateQuestionChoiceDto choice = new CreateQuestionDto.CreateQuestionChoiceDto();
+        choice.setChoiceText("선택지");
+        choice.setChoiceValue("choice");
+        choice.setOrder(1);
+        choice.setTemperatureWeight(0.5);
+        CreateQuestionDto dto = new CreateQuestionDto();
+        dto.setQuestionText("ETag 테스트 질문");
+        dto.setQuestionType("context");
+        dto.setQuestionCategory(Question.QuestionCategory.TEMPERATURE_REFINE);
+        dto.setOrder(10_000 + ThreadLocalRandom.current().nextInt(10_000));
+        dto.setChoices(List.of(choice));
+        return dto;
+    }
+
+    private MatchingDto completedMatching() {
+        QuestionDto question = questionService.getActiveQuestions().get(0);
+        MatchingDto matching = matchingService.createMatching();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(),
+                    List.of(new AnswerCreateDto(question.getId(), question.getChoices().get(0).getId())));
+        }
+        return matching;
+    }
+}
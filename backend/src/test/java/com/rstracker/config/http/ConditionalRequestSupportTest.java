@@ -0,0 +1,201 @@
+package com.rstracker.config.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConditionalRequestSupport 단위 테스트
+ */
+@DisplayName("ConditionalRequestSupport 테스트")
+class ConditionalRequestSupportTest {
+
+    private HttpCacheProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ConditionalRequestSupport support;
+    private AtomicInteger bodyCalls;
+    private Supplier<String> body;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HttpCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        support = new ConditionalRequestSupport(properties, meterRegistry, true);
+        bodyCalls = new AtomicInteger();
+        body = () -> {
+            bodyCalls.incrementAndGet();
+            return "body";
+        };
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 없으면 ETag와 함께 본문 응답")
+    void respond_NoCondition_ReturnsBodyWithEtag() {
+        // when
+        ResponseEntity<String> response = support.respond("questions", request(null), "abc",
+                support.questionsCacheControl(), body);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v2-abc\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, private");
+        assertThat(bodyCalls).hasValue(1);
+        assertThat(count("modified")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 본문 조회 없이 304")
+    void respond_Matching_NotModified() {
+        // when
+        ResponseEntity<String> response = support.respond("questions", request("\"other\", W/\"v2-abc\""), "abc",
+                support.questionsCacheControl(), body);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v2-abc\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=60, private");
+        assertThat(response.getBody()).isNull();
+        assertThat(bodyCalls).hasValue(0);
+        assertThat(count("not_modified")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 이전 ETag로는 304가 아님")
+    void respond_StaleEtag_ReturnsBody() {
+        // when
+        ResponseEntity<String> response = support.respond("record", request("\"v2-abc\""), "abd",
+                support.recordsCacheControl(), body);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(bodyCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비활성화되었거나 버전이 없으면 캐시 헤더 없이 본문 응답")
+    void respond_DisabledOrNoVersion_PlainBody() {
+        // when
+        ResponseEntity<String> noVersion = support.respond("record", request("*"), null,
+                support.recordsCacheControl(), body);
+        properties.setEnabled(false);
+        ResponseEntity<String> disabled = support.respond("record", request("*"), "abc",
+                support.recordsCacheControl(), body);
+
+        // then
+        assertThat(noVersion.getHeaders().getETag()).isNull();
+        assertThat(disabled.getHeaders().getETag()).isNull();
+        assertThat(disabled.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(bodyCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("max-age 설정을 Cache-Control에 반영")
+    void cacheControl_FromProperties() {
+        // given
+        properties.setQuestionsMaxAge(Duration.ofMinutes(5));
+        properties.setRecordsMaxAge(Duration.ofSeconds(10));
+
+        // when & then
+        assertThat(support.questionsCacheControl().getHeaderValue()).isEqualTo("max-age=300, private");
+        assertThat(support.recordsCacheControl().getHeaderValue()).isEqualTo("max-age=10, private");
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 미리 압축한 본문과 별도 ETag로 응답")
+    void respondSerialized_Gzip() throws IOException {
+        // given
+        SerializedResponse serialized = SerializedResponse.of(new ObjectMapper(), Collections.nCopies(50, "질문"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/questions");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br");
+
+        // when
+        ResponseEntity<byte[]> response = support.respondSerialized("questions", new ServletWebRequest(request), "abc",
+                support.questionsCacheControl(), () -> serialized);
+
+        // then
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v2-abc-gzip\"");
+        assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(serialized.getGzip().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(serialized.getJson());
+        }
+    }
+
+    @Test
+    @DisplayName("gzip을 받지 않으면 원본 JSON, ETag가 일치하면 본문 없이 304")
+    void respondSerialized_IdentityAndNotModified() {
+        // given
+        SerializedResponse serialized = SerializedResponse.of(new ObjectMapper(), Collections.nCopies(50, "질문"));
+        Supplier<SerializedResponse> serializedBody = () -> {
+            bodyCalls.incrementAndGet();
+            return serialized;
+        };
+
+        // when
+        ResponseEntity<byte[]> identity = support.respondSerialized("questions", request(null), "abc",
+                support.questionsCacheControl(), serializedBody);
+        ResponseEntity<byte[]> notModified = support.respondSerialized("questions", request("\"v2-abc\""), "abc",
+                support.questionsCacheControl(), serializedBody);
+
+        // then
+        assertThat(identity.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(identity.getBody()).isEqualTo(serialized.getJson());
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(bodyCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding의 q=0은 거부로 해석")
+    void acceptsGzip_QualityZero() {
+        assertThat(ConditionalRequestSupport.acceptsGzip(new String[] {"gzip;q=0, br"})).isFalse();
+        assertThat(ConditionalRequestSupport.acceptsGzip(new String[] {"br", "GZIP;q=0.5"})).isTrue();
+        assertThat(ConditionalRequestSupport.acceptsGzip(new String[] {"*"})).isTrue();
+        assertThat(ConditionalRequestSupport.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않는 본문은 gzip 변형을 두지 않음")
+    void serializedResponse_SmallBody_NoGzip() {
+        // when
+        SerializedResponse serialized = SerializedResponse.of(new ObjectMapper(), "x");
+
+        // then
+        assertThat(serialized.getJson()).isEqualTo("\"x\"".getBytes());
+        assertThat(serialized.getGzip()).isNull();
+    }
+
+    private ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/questions");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get(ConditionalRequestSupport.CONDITIONAL_REQUESTS)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rstracker.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestCorrelationFilter / SampledSqlTurboFilter 단위 테스트
+ */
+@DisplayName("요청 상관관계 ID 및 SQL 로그 샘플링 테스트")
+class RequestCorrelationFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    private SampledSqlTurboFilter turboFilter;
+
+    @BeforeEach
+    void setUp() {
+        turboFilter = new SampledSqlTurboFilter();
+        turboFilter.start();
+    }
+
+    @Test
+    @DisplayName("요청 ID를 MDC와 응답 헤더에 넣고 요청이 끝나면 제거")
+    void doFilter_PropagatesRequestId() throws Exception {
+        // given
+        RequestCorrelationFilter filter = new RequestCorrelationFilter(0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestCorrelationFilter.REQUEST_ID_HEADER, "client-req-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        List<String> seen = new ArrayList<>();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> seen.add(MDC.get(RequestCorrelationFilter.REQUEST_ID_KEY)));
+
+        // then
+        assertThat(seen).containsExactly("client-req-1");
+        assertThat(response.getHeader(RequestCorrelationFilter.REQUEST_ID_HEADER)).isEqualTo("client-req-1");
+        assertThat(MDC.get(RequestCorrelationFilter.REQUEST_ID_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 요청 ID는 새로 생성")
+    void doFilter_InvalidHeader_GeneratesId() throws Exception {
+        // given
+        RequestCorrelationFilter filter = new RequestCorrelationFilter(0);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestCorrelationFilter.REQUEST_ID_HEADER, "bad id\r\ninjected");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> { });
+
+        // then
+        assertThat(response.getHeader(RequestCorrelationFilter.REQUEST_ID_HEADER)).matches("[0-9a-f]{16}");
+    }
+
+    @Test
+    @DisplayName("N개 요청 중 1개만 SQL 로그를 허용")
+    void doFilter_SamplesOneInN() throws Exception {
+        // given
+        RequestCorrelationFilter filter = new RequestCorrelationFilter(3);
+        List<FilterReply> replies = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (req, res) -> replies.add(decide(SampledSqlTurboFilter.SQL_LOGGER)));
+        }
+
+        // then
+        assertThat(replies).containsExactly(
+                FilterReply.ACCEPT, FilterReply.NEUTRAL, FilterReply.NEUTRAL,
+                FilterReply.ACCEPT, FilterReply.NEUTRAL, FilterReply.NEUTRAL);
+        assertThat(MDC.get(RequestCorrelationFilter.SQL_TRACE_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("샘플링된 요청이어도 SQL 외 로거는 레벨 판단을 따름")
+    void turboFilter_IgnoresOtherLoggers() {
+        // given
+        MDC.put(RequestCorrelationFilter.SQL_TRACE_KEY, "true");
+        try {
+            // when & then
+            assertThat(decide(SampledSqlTurboFilter.BIND_LOGGER)).isEqualTo(FilterReply.ACCEPT);
+            assertThat(decide("com.rstracker.service.RecordService")).isEqualTo(FilterReply.NEUTRAL);
+        } finally {
+            MDC.remove(RequestCorrelationFilter.SQL_TRACE_KEY);
+        }
+    }
+
+    private FilterReply decide(String loggerName) {
+        return turboFilter.decide(null, loggerContext.getLogger(loggerName), Level.DEBUG, "sql", null, null);
+    }
+}
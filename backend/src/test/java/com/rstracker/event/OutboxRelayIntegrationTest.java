@@ -0,0 +1,180 @@
+package com.rstracker.event;
+
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.config.OutboxProperties;
+import com.rstracker.entity.OutboxEvent;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.OutboxEventRepository;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.service.AnswerService;
+import com.rstracker.service.MatchingService;
+import com.rstracker.service.RecordService;
+import com.rstracker.service.metrics.DomainEventMetrics;
+import com.rstracker.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 트랜잭셔널 아웃박스 통합 테스트
+ */
+@DisplayName("아웃박스 릴레이 통합 테스트")
+class OutboxRelayIntegrationTest extends IntegrationTestSupport {
+
+    private static final String EVENTS_OF_MATCHING =
+            "SELECT event_type FROM outbox_events WHERE aggregate_id = ? ORDER BY id";
+    private static final String UNPUBLISHED_OF_MATCHING =
+            "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ? AND published_at IS NULL";
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.outbox.relay-enabled", () -> "true");
+    }
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxProperties outboxProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("업무 트랜잭션과 함께 기록된 이벤트를 순서대로 발행")
+    void recordsAndRelaysEvents() throws InterruptedException {
+        // given
+        Question question = questionRepository.save(newQuestion());
+        MatchingDto matching = matchingService.createMatching();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), List.of(
+                    new AnswerCreateDto(question.getId(), question.getChoices().get(i).getId())));
+        }
+        recordService.createRecord(matching.getId());
+
+        // then
+        assertThat(jdbcTemplate.queryForList(EVENTS_OF_MATCHING, String.class, matching.getId())).containsExactly(
+                "AnswersSubmittedEvent", "MatchingEstablishedEvent", "AnswersSubmittedEvent", "RecordCreatedEvent");
+        for (int i = 0; i < 100 && unpublished(matching.getId()) > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(unpublished(matching.getId())).isZero();
+        assertThat(meterRegistry.get(DomainEventMetrics.DOMAIN_EVENTS).tag("type", "RecordCreatedEvent").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("업무 트랜잭션이 롤백되면 이벤트도 기록되지 않음")
+    void rollback_DiscardsEvent() {
+        // given
+        MatchingDto matching = matchingService.createMatching();
+
+        // when
+        assertThatThrownBy(() -> recordService.createRecord(matching.getId()))
+                .isInstanceOf(BusinessException.class);
+
+        // then
+        assertThat(jdbcTemplate.queryForList(EVENTS_OF_MATCHING, String.class, matching.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 매칭에 앞선 미발행 이벤트가 있으면 뒤 이벤트는 선점 대상이 아님")
+    void lockClaimable_HoldsBackEventsBehindUnpublishedOnes() {
+        // 커밋하지 않은 행은 실행 중인 릴레이에 보이지 않으므로 한 트랜잭션 안에서 확인 후 롤백
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            // given
+            long matching = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            long head = insertEvent(matching, 0, null);
+            long next = insertEvent(matching, 0, null);
+            long deadLettered = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            insertEvent(deadLettered, outboxProperties.getMaxAttempts(), null);
+            long afterDead = insertEvent(deadLettered, 0, null);
+            long claimed = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+            insertEvent(claimed, 0, LocalDateTime.now().plusHours(1));
+            insertEvent(claimed, 0, null);
+            List<Long> aggregates = List.of(matching, deadLettered, claimed);
+
+            // when & then
+            assertThat(claimableIds(aggregates)).containsExactly(head, afterDead);
+
+            jdbcTemplate.update("UPDATE outbox_events SET published_at = now() WHERE id = ?", head);
+            assertThat(claimableIds(aggregates)).containsExactly(next, afterDead);
+        });
+    }
+
+    private List<Long> claimableIds(List<Long> aggregateIds) {
+        return outboxEventRepository.lockClaimable(outboxProperties.getMaxAttempts(), LocalDateTime.now(), Integer.MAX_VALUE)
+                .stream()
+                .filter(event -> aggregateIds.contains(event.getAggregateId()))
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    private long insertEvent(long aggregateId, int attempts, LocalDateTime claimedUntil) {
+        return jdbcTemplate.queryForObject("INSERT INTO outbox_events (event_type, aggregate_id, payload, attempts, claimed_until) "
+                        + "VALUES ('MatchingEstablishedEvent', ?, '{}'::jsonb, ?, ?) RETURNING id",
+                Long.class, aggregateId, attempts, claimedUntil);
+    }
+
+    private Integer unpublished(Long matchingId) {
+        return jdbcTemplate.queryForObject(UNPUBLISHED_OF_MATCHING, Integer.class, matchingId);
+    }
+
+    private static Question newQuestion() {
+        Question question = new Question();
+        question.setQuestionText("아웃박스 테스트 질문");
+        question.setQuestionType("context");
+        question.setOrder(200);
+        question.setIsActive(false);
+        for (int j = 0; j < 2; j++) {
+            QuestionChoice choice = new QuestionChoice();
+            choice.setQuestion(question);
+            choice.setChoiceText("선택지 " + j);
+            choice.setChoiceValue("choice_" + j);
+            choice.setOrder(j + 1);
+            choice.setTemperatureWeight(j * 0.5);
+            question.getChoices().add(choice);
+        }
+        return question;
+    }
+}
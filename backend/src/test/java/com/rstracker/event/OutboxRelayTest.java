@@ -0,0 +1,238 @@
+package com.rstracker.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rstracker.config.OutboxProperties;
+import com.rstracker.entity.OutboxEvent;
+import com.rstracker.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxRelay 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() { };
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private OutboxProperties properties;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setDispatcherThreads(2);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new OutboxRelay(outboxEventRepository, transactionManager, eventPublisher, objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.close();
+    }
+
+    @Test
+    @DisplayName("선점한 이벤트를 발행하고 같은 선점으로 발행 완료 표시")
+    void relayBatch_PublishesClaimedEvents() {
+        // given
+        OutboxEvent answers = outboxEvent(1L, new AnswersSubmittedEvent(10L, "p-1", 6, LocalDateTime.now()));
+        OutboxEvent record = outboxEvent(2L, new RecordCreatedEvent(20L, "r-1", 0.7, 0.1, LocalDateTime.now(), "abcdef012345"));
+        when(outboxEventRepository.lockClaimable(eq(properties.getMaxAttempts()), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(answers, record));
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> delivered.add(invocation.getArgument(0))).when(eventPublisher).publishEvent(any(Object.class));
+
+        // when
+        int published = relay.relayBatch();
+
+        // then
+        assertThat(published).isEqualTo(2);
+        assertThat(delivered).hasSize(2);
+        assertThat(answers.getClaimToken()).isNotNull().isEqualTo(record.getClaimToken());
+        assertThat(answers.getClaimedUntil()).isAfter(LocalDateTime.now());
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), eq(answers.getClaimToken()), any());
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+        // 선점과 결과 반영은 각각 짧은 트랜잭션
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("리스너 실패 시 실패를 기록하고 다른 매칭의 이벤트는 발행")
+    void relayBatch_ListenerFails_RecordsFailure() {
+        // given
+        OutboxEvent established = outboxEvent(1L, new MatchingEstablishedEvent(10L, "ABC123", LocalDateTime.now()));
+        OutboxEvent otherMatching = outboxEvent(3L, new MatchingEstablishedEvent(20L, "XYZ789", LocalDateTime.now()));
+        when(outboxEventRepository.lockClaimable(eq(properties.getMaxAttempts()), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(established, otherMatching));
+        doAnswer(invocation -> {
+            MatchingEstablishedEvent event = invocation.getArgument(0);
+            if (event.getMatchingId().equals(10L)) {
+                throw new IllegalStateException("listener down");
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(MatchingEstablishedEvent.class));
+
+        // when
+        int published = relay.relayBatch();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(outboxEventRepository).markFailed(eq(1L), eq(established.getClaimToken()), contains("listener down"));
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), eq(established.getClaimToken()), any());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 이벤트 타입은 실패로 기록")
+    void relayBatch_UnknownType_RecordsFailure() {
+        // given
+        OutboxEvent unknown = new OutboxEvent();
+        unknown.setId(1L);
+        unknown.setEventType("RemovedEvent");
+        unknown.setPayload(Map.of());
+        when(outboxEventRepository.lockClaimable(eq(properties.getMaxAttempts()), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(unknown));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verify(outboxEventRepository).markFailed(eq(1L), any(), contains("Unknown outbox event type"));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 끝나지 않은 전달은 늦게 끝나도 미완료로 반영")
+    void relayBatch_Timeout_ReleasesUnfinished() throws InterruptedException {
+        // given
+        properties.setBatchTimeout(Duration.ofMillis(200));
+        OutboxEvent slow = outboxEvent(1L, new MatchingEstablishedEvent(10L, "ABC123", LocalDateTime.now()));
+        OutboxEvent fast = outboxEvent(2L, new MatchingEstablishedEvent(20L, "XYZ789", LocalDateTime.now()));
+        when(outboxEventRepository.lockClaimable(eq(properties.getMaxAttempts()), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(slow, fast));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowFinished = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            MatchingEstablishedEvent event = invocation.getArgument(0);
+            if (event.getMatchingId().equals(10L)) {
+                // 인터럽트를 무시하고 대기 시간이 지난 뒤에 정상 종료하는 리스너
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(10, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ignored) {
+                        // 취소 요청을 무시
+                    }
+                }
+                slowFinished.countDown();
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(MatchingEstablishedEvent.class));
+
+        // when
+        int published = relay.relayBatch();
+        release.countDown();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        assertThat(slowFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), eq(slow.getClaimToken()), any());
+        verify(outboxEventRepository).releaseClaims(eq(List.of(1L)), eq(slow.getClaimToken()));
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 넘치는 이벤트는 릴레이 스레드에서 실행하지 않고 미완료로 반영")
+    void relayBatch_QueueFull_ReleasesRejectedWithoutRunningOnRelayThread() throws InterruptedException {
+        // given: 전달 스레드 1개, 대기열 1칸에 이벤트 3개 (실행 중 1, 대기 1, 거부 1)
+        relay.close();
+        properties.setDispatcherThreads(1);
+        properties.setDispatcherQueueCapacity(1);
+        properties.setBatchTimeout(Duration.ofMillis(200));
+        relay = new OutboxRelay(outboxEventRepository, transactionManager, eventPublisher, objectMapper, properties);
+        OutboxEvent slow = outboxEvent(1L, new MatchingEstablishedEvent(10L, "ABC123", LocalDateTime.now()));
+        OutboxEvent queued = outboxEvent(2L, new MatchingEstablishedEvent(20L, "DEF456", LocalDateTime.now()));
+        OutboxEvent rejected = outboxEvent(3L, new MatchingEstablishedEvent(30L, "XYZ789", LocalDateTime.now()));
+        when(outboxEventRepository.lockClaimable(eq(properties.getMaxAttempts()), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(slow, queued, rejected));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch slowFinished = new CountDownLatch(1);
+        List<String> listenerThreads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            listenerThreads.add(Thread.currentThread().getName());
+            MatchingEstablishedEvent event = invocation.getArgument(0);
+            if (event.getMatchingId().equals(10L)) {
+                // 인터럽트를 무시하고 대기 시간이 지난 뒤에 정상 종료하는 리스너
+                boolean released = false;
+                while (!released) {
+                    try {
+                        released = release.await(10, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ignored) {
+                        // 취소 요청을 무시
+                    }
+                }
+                slowFinished.countDown();
+            }
+            return null;
+        }).when(eventPublisher).publishEvent(any(MatchingEstablishedEvent.class));
+
+        // when
+        int published = relay.relayBatch();
+        release.countDown();
+
+        // then
+        assertThat(published).isZero();
+        assertThat(slowFinished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listenerThreads).singleElement().asString().startsWith("outbox-dispatch-");
+        verify(outboxEventRepository).releaseClaims(eq(List.of(1L, 2L, 3L)), eq(slow.getClaimToken()));
+        verify(outboxEventRepository, never()).markPublished(any(), any(), any());
+        verify(outboxEventRepository, never()).markFailed(any(), any(), any());
+    }
+
+    private OutboxEvent outboxEvent(long id, DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setId(id);
+        outboxEvent.setEventType(event.getClass().getSimpleName());
+        outboxEvent.setAggregateId(event.getAggregateId());
+        outboxEvent.setPayload(objectMapper.convertValue(event, PAYLOAD_TYPE));
+        return outboxEvent;
+    }
+}
@@ -0,0 +1,80 @@
+package com.rstracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 측정 구간(워밍업 또는 본 측정)의 단계별 지연과 흐름 결과 수집기
+ */
+final class FlowRecorder {
+
+    /** 보고서에 남길 실패 메시지 수 (같은 원인이 반복되는 경우가 대부분) */
+    private static final int MAX_FAILURE_SAMPLES = 5;
+
+    private final Map<MatchingFlowClient.Step, LatencyRecorder> steps = new EnumMap<>(MatchingFlowClient.Step.class);
+    private final LongAdder failedFlows = new LongAdder();
+    private final List<String> failureSamples = Collections.synchronizedList(new ArrayList<>());
+
+    FlowRecorder() {
+        for (MatchingFlowClient.Step step : MatchingFlowClient.Step.values()) {
+            steps.put(step, new LatencyRecorder());
+        }
+    }
+
+    void record(MatchingFlowClient.Step step, long nanos) {
+        steps.get(step).record(nanos);
+    }
+
+    void recordError(MatchingFlowClient.Step step, String message) {
+        steps.get(step).recordError();
+        if (failureSamples.size() < MAX_FAILURE_SAMPLES) {
+            failureSamples.add(step.getName() + ": " + message);
+        }
+    }
+
+    /**
+     * 흐름 하나의 전체 지연 기록 (실패한 흐름은 지연 없이 실패 수만 기록)
+     */
+    void recordFlow(long nanos, boolean succeeded) {
+        if (succeeded) {
+            steps.get(MatchingFlowClient.Step.FLOW).record(nanos);
+        } else {
+            steps.get(MatchingFlowClient.Step.FLOW).recordError();
+            failedFlows.increment();
+        }
+    }
+
+    long completedFlows() {
+        return steps.get(MatchingFlowClient.Step.FLOW).attempts() - failedFlows.sum();
+    }
+
+    long failedFlows() {
+        return failedFlows.sum();
+    }
+
+    /**
+     * HTTP 요청 시도 수 (흐름 전체 지연은 제외)
+     */
+    long requests() {
+        return steps.entrySet().stream()
+                .filter(entry -> entry.getKey() != MatchingFlowClient.Step.FLOW)
+                .mapToLong(entry -> entry.getValue().attempts())
+                .sum();
+    }
+
+    Map<MatchingFlowClient.Step, StepStats> stats() {
+        Map<MatchingFlowClient.Step, StepStats> stats = new EnumMap<>(MatchingFlowClient.Step.class);
+        steps.forEach((step, recorder) -> stats.put(step, recorder.toStats()));
+        return stats;
+    }
+
+    List<String> failureSamples() {
+        synchronized (failureSamples) {
+            return List.copyOf(failureSamples);
+        }
+    }
+}
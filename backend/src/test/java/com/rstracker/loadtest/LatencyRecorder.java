@@ -0,0 +1,59 @@
+package com.rstracker.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 단계의 지연 표본 수집기 (스레드 안전)
+ *
+ * 근사 히스토그램 대신 모든 표본(나노초)을 보관하여 정확한 백분위수를 계산합니다.
+ * 표본 하나가 8바이트이므로 수백만 요청까지는 메모리 부담이 크지 않습니다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized long attempts() {
+        return size + errors;
+    }
+
+    synchronized StepStats toStats() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double mean = size == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+        return new StepStats(size, errors,
+                toMillis(mean),
+                toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 90)),
+                toMillis(percentile(sorted, 95)),
+                toMillis(percentile(sorted, 99)),
+                toMillis(size == 0 ? 0 : sorted[size - 1]));
+    }
+
+    /**
+     * nearest-rank 백분위수 (표본이 없으면 0)
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 1_000) / 1_000.0;
+    }
+}
@@ -0,0 +1,129 @@
+package com.rstracker.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 실행 옵션
+ *
+ * 명령행 인자는 --이름=값 형식입니다. (예: --model=open --rate=20 --duration=2m)
+ * 시간 값은 application.yml과 같은 형식(500ms, 30s, 2m)을 사용합니다.
+ */
+@Getter
+final class LoadTestOptions {
+
+    static final String USAGE = """
+            usage: LoadTestRunner [--이름=값 ...]
+              --base-url=http://localhost:8080/api   API 주소 (context path 포함)
+              --username=admin --password=admin123    기본 인증 (기본값: ADMIN_USERNAME/ADMIN_PASSWORD 환경 변수)
+              --model=closed|open                     closed: 가상 사용자가 흐름을 반복, open: 초당 도착률로 흐름 시작
+              --concurrency=20                        closed: 가상 사용자 수, open: 동시에 실행할 최대 흐름 수
+              --rate=10                               open: 초당 시작할 흐름 수
+              --duration=60s --warmup=10s             측정 시간 / 측정 전 워밍업 시간 (결과에서 제외)
+              --request-timeout=30s                   요청별 타임아웃
+              --label=<이름>                          보고서 이름 (기본: 모델 이름) → target/loadtest/<label>.json
+              --output=<경로>                         보고서 경로 (기본: target/loadtest/<label>.json)
+              --baseline=<경로>                       비교할 기준 보고서 (없으면 비교하지 않음)
+              --latency-tolerance=0.20                p95/p99가 기준보다 이 비율 이상 늘면 회귀
+              --min-latency-delta=5                   지연 증가가 이 값(ms) 미만이면 회귀로 보지 않음
+              --throughput-tolerance=0.10             초당 흐름 수가 기준보다 이 비율 이상 줄면 회귀
+              --fail-on-regression=true               회귀가 있으면 종료 코드 1
+            """;
+
+    enum Model { CLOSED, OPEN }
+
+    private String baseUrl = "http://localhost:8080/api";
+    private String username = envOrDefault("ADMIN_USERNAME", "admin");
+    private String password = envOrDefault("ADMIN_PASSWORD", "admin123");
+    private Model model = Model.CLOSED;
+    private int concurrency = 20;
+    private double rate = 10;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration requestTimeout = Duration.ofSeconds(30);
+    private String label;
+    private Path output;
+    private Path baseline;
+    private double latencyTolerance = 0.20;
+    private double minLatencyDeltaMillis = 5;
+    private double throughputTolerance = 0.10;
+    private boolean failOnRegression = true;
+
+    private LoadTestOptions() {
+    }
+
+    /**
+     * 명령행 인자 파싱
+     *
+     * @throws IllegalArgumentException 알 수 없는 옵션이거나 값이 올바르지 않은 경우
+     */
+    static LoadTestOptions parse(String... args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            options.set(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        options.validate();
+        return options;
+    }
+
+    String getLabel() {
+        return label != null ? label : model.name().toLowerCase(Locale.ROOT);
+    }
+
+    Path getOutput() {
+        return output != null ? output : Path.of("target", "loadtest", getLabel() + ".json");
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "base-url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+            case "username" -> username = value;
+            case "password" -> password = value;
+            case "model" -> model = Model.valueOf(value.toUpperCase(Locale.ROOT));
+            case "concurrency" -> concurrency = Integer.parseInt(value);
+            case "rate" -> rate = Double.parseDouble(value);
+            case "duration" -> duration = DurationStyle.detectAndParse(value);
+            case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+            case "request-timeout" -> requestTimeout = DurationStyle.detectAndParse(value);
+            case "label" -> label = value;
+            case "output" -> output = Path.of(value);
+            case "baseline" -> baseline = value.isEmpty() ? null : Path.of(value);
+            case "latency-tolerance" -> latencyTolerance = Double.parseDouble(value);
+            case "min-latency-delta" -> minLatencyDeltaMillis = Double.parseDouble(value);
+            case "throughput-tolerance" -> throughputTolerance = Double.parseDouble(value);
+            case "fail-on-regression" -> failOnRegression = Boolean.parseBoolean(value);
+            default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: --" + name);
+        }
+    }
+
+    private void validate() {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency는 1 이상이어야 합니다.");
+        }
+        if (model == Model.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("open 모델의 rate는 0보다 커야 합니다.");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration은 0보다 커야 합니다.");
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("warmup은 음수일 수 없습니다.");
+        }
+    }
+
+    private static String envOrDefault(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,149 @@
+package com.rstracker.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 부하 테스트 보고서 (target/loadtest/<label>.json)
+ *
+ * 같은 형식의 보고서를 기준선으로 저장해 두고(src/test/resources/loadtest/baseline.json)
+ * 이후 실행 결과와 비교합니다. 기준선은 비교할 환경과 같은 장비/설정에서 기록해야 의미가 있습니다.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LoadTestReport {
+
+    /** 오류율이 기준보다 이 값(절대 비율) 이상 늘면 회귀 */
+    static final double ERROR_RATE_TOLERANCE = 0.01;
+
+    private String label;
+    private String model;
+    private int concurrency;
+
+    /** open 모델의 초당 흐름 시작 수 (closed 모델은 0) */
+    private double arrivalRate;
+
+    private double durationSeconds;
+    private String startedAt;
+
+    private long flows;
+    private long failedFlows;
+    private double flowsPerSecond;
+    private double requestsPerSecond;
+
+    /** 단계 이름 → 지연 통계 (흐름 순서) */
+    private Map<String, StepStats> steps = new LinkedHashMap<>();
+
+    /**
+     * 기준 보고서 대비 회귀 목록
+     *
+     * - 단계별 p95/p99가 기준보다 latencyTolerance 비율 이상, minLatencyDeltaMillis 이상 증가
+     * - 단계별 오류율이 기준보다 ERROR_RATE_TOLERANCE 이상 증가
+     * - 초당 흐름 수가 기준보다 throughputTolerance 비율 이상 감소
+     */
+    List<String> findRegressions(LoadTestReport baseline, double latencyTolerance,
+                                 double minLatencyDeltaMillis, double throughputTolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.getSteps().forEach((name, base) -> {
+            StepStats current = steps.get(name);
+            if (current == null) {
+                regressions.add(name + ": missing from report");
+                return;
+            }
+            checkLatency(regressions, name, "p95", base.getP95Millis(), current.getP95Millis(),
+                    latencyTolerance, minLatencyDeltaMillis);
+            checkLatency(regressions, name, "p99", base.getP99Millis(), current.getP99Millis(),
+                    latencyTolerance, minLatencyDeltaMillis);
+            if (current.errorRate() > base.errorRate() + ERROR_RATE_TOLERANCE) {
+                regressions.add(String.format(Locale.ROOT, "%s error rate: %.2f%% -> %.2f%%",
+                        name, base.errorRate() * 100, current.errorRate() * 100));
+            }
+        });
+        if (flowsPerSecond < baseline.getFlowsPerSecond() * (1 - throughputTolerance)) {
+            regressions.add(String.format(Locale.ROOT, "throughput: %.2f -> %.2f flows/s (%s)",
+                    baseline.getFlowsPerSecond(), flowsPerSecond, change(baseline.getFlowsPerSecond(), flowsPerSecond)));
+        }
+        return regressions;
+    }
+
+    /**
+     * 단계별 지연 표 (Markdown)
+     */
+    String formatSummary() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT,
+                "%s: %s model, concurrency %d%s, %.0fs%n%n",
+                label, model, concurrency,
+                arrivalRate > 0 ? String.format(Locale.ROOT, ", %.1f flows/s offered", arrivalRate) : "",
+                durationSeconds));
+        table.append("| Step | Count | Errors | Mean (ms) | p50 | p90 | p95 | p99 | Max |\n");
+        table.append("|---|---|---|---|---|---|---|---|---|\n");
+        steps.forEach((name, stats) -> table.append(String.format(Locale.ROOT,
+                "| %s | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %.1f |%n",
+                name, stats.getCount(), stats.getErrors(), stats.getMeanMillis(), stats.getP50Millis(),
+                stats.getP90Millis(), stats.getP95Millis(), stats.getP99Millis(), stats.getMaxMillis())));
+        table.append(String.format(Locale.ROOT, "%nThroughput: %.2f flows/s, %.2f requests/s (%d flows, %d failed)%n",
+                flowsPerSecond, requestsPerSecond, flows, failedFlows));
+        return table.toString();
+    }
+
+    /**
+     * 기준 보고서와의 비교 표 (Markdown)
+     */
+    String formatComparison(LoadTestReport baseline) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%s vs %s%n%n", label, baseline.getLabel()));
+        if (!sameWorkload(baseline)) {
+            table.append(String.format(Locale.ROOT,
+                    "WARNING: workload differs from baseline (%s model, concurrency %d, %.1f flows/s offered)%n%n",
+                    baseline.getModel(), baseline.getConcurrency(), baseline.getArrivalRate()));
+        }
+        table.append("| Step | p95 base (ms) | p95 | Change | p99 base (ms) | p99 | Change |\n");
+        table.append("|---|---|---|---|---|---|---|\n");
+        baseline.getSteps().forEach((name, base) -> {
+            StepStats current = steps.get(name);
+            if (current == null) {
+                return;
+            }
+            table.append(String.format(Locale.ROOT, "| %s | %.1f | %.1f | %s | %.1f | %.1f | %s |%n",
+                    name, base.getP95Millis(), current.getP95Millis(), change(base.getP95Millis(), current.getP95Millis()),
+                    base.getP99Millis(), current.getP99Millis(), change(base.getP99Millis(), current.getP99Millis())));
+        });
+        table.append(String.format(Locale.ROOT, "%nThroughput: %.2f -> %.2f flows/s (%s)%n",
+                baseline.getFlowsPerSecond(), flowsPerSecond, change(baseline.getFlowsPerSecond(), flowsPerSecond)));
+        return table.toString();
+    }
+
+    /**
+     * 같은 부하 조건(모델, 동시성, 도착률)으로 측정했는지 여부
+     */
+    boolean sameWorkload(LoadTestReport other) {
+        return Objects.equals(model, other.getModel())
+                && concurrency == other.getConcurrency()
+                && arrivalRate == other.getArrivalRate();
+    }
+
+    private static void checkLatency(List<String> regressions, String step, String percentile, double base,
+                                     double current, double tolerance, double minDeltaMillis) {
+        if (current > base * (1 + tolerance) && current - base >= minDeltaMillis) {
+            regressions.add(String.format(Locale.ROOT, "%s %s: %.1fms -> %.1fms (%s)",
+                    step, percentile, base, current, change(base, current)));
+        }
+    }
+
+    private static String change(double base, double current) {
+        if (base == 0) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (current - base) / base * 100);
+    }
+}
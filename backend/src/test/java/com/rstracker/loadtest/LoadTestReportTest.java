@@ -0,0 +1,105 @@
+package com.rstracker.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부하 테스트 보고서 집계/기준선 비교 단위 테스트 (서버 없이 실행)
+ */
+@DisplayName("LoadTestReport 테스트")
+class LoadTestReportTest {
+
+    @Test
+    @DisplayName("nearest-rank 백분위수와 밀리초 변환")
+    void latencyRecorder_Percentiles() {
+        // given
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int millis = 100; millis >= 1; millis--) {
+            recorder.record(millis * 1_000_000L);
+        }
+        recorder.recordError();
+
+        // when
+        StepStats stats = recorder.toStats();
+
+        // then
+        assertThat(stats.getCount()).isEqualTo(100);
+        assertThat(stats.getErrors()).isEqualTo(1);
+        assertThat(stats.getMeanMillis()).isEqualTo(50.5);
+        assertThat(stats.getP50Millis()).isEqualTo(50.0);
+        assertThat(stats.getP95Millis()).isEqualTo(95.0);
+        assertThat(stats.getP99Millis()).isEqualTo(99.0);
+        assertThat(stats.getMaxMillis()).isEqualTo(100.0);
+        assertThat(LatencyRecorder.percentile(new long[0], 99)).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 범위 안의 변화는 회귀가 아님")
+    void findRegressions_WithinTolerance() {
+        // given
+        LoadTestReport baseline = report(20.0, 40.0, 0, 100.0);
+        LoadTestReport current = report(23.0, 44.0, 0, 95.0);
+
+        // when & then
+        assertThat(current.findRegressions(baseline, 0.20, 5, 0.10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연 증가, 오류율 증가, 처리량 감소를 회귀로 보고")
+    void findRegressions_ReportsRegressions() {
+        // given
+        LoadTestReport baseline = report(20.0, 40.0, 0, 100.0);
+        LoadTestReport current = report(30.0, 60.0, 5, 80.0);
+
+        // when
+        var regressions = current.findRegressions(baseline, 0.20, 5, 0.10);
+
+        // then
+        assertThat(regressions).hasSize(4);
+        assertThat(regressions.get(0)).startsWith("create_record p95: 20.0ms -> 30.0ms");
+        assertThat(regressions.get(1)).startsWith("create_record p99");
+        assertThat(regressions.get(2)).startsWith("create_record error rate");
+        assertThat(regressions.get(3)).startsWith("throughput");
+    }
+
+    @Test
+    @DisplayName("작은 절대 증가는 비율이 커도 회귀가 아님")
+    void findRegressions_IgnoresSmallAbsoluteDelta() {
+        // given
+        LoadTestReport baseline = report(1.0, 2.0, 0, 100.0);
+        LoadTestReport current = report(2.0, 4.0, 0, 100.0);
+
+        // when & then
+        assertThat(current.findRegressions(baseline, 0.20, 5, 0.10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("옵션 파싱과 기본 보고서 경로")
+    void options_Parse() {
+        // when
+        LoadTestOptions options = LoadTestOptions.parse("--model=open", "--rate=25", "--duration=2m",
+                "--base-url=http://localhost:8080/api/");
+
+        // then
+        assertThat(options.getModel()).isEqualTo(LoadTestOptions.Model.OPEN);
+        assertThat(options.getRate()).isEqualTo(25.0);
+        assertThat(options.getDuration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(options.getBaseUrl()).isEqualTo("http://localhost:8080/api");
+        assertThat(options.getOutput()).hasToString("target/loadtest/open.json");
+        assertThatThrownBy(() -> LoadTestOptions.parse("--threads=4"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static LoadTestReport report(double p95, double p99, long errors, double flowsPerSecond) {
+        LoadTestReport report = new LoadTestReport();
+        report.setLabel("test");
+        report.setFlowsPerSecond(flowsPerSecond);
+        report.getSteps().put("create_record", new StepStats(100, errors, 10.0, 10.0, 15.0, p95, p99, p99));
+        return report;
+    }
+}
@@ -0,0 +1,164 @@
+package com.rstracker.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 참여자 흐름 부하 테스트 실행기
+ *
+ * 실행 중인 애플리케이션에 MatchingFlowClient의 흐름을 반복 실행하고 단계별 지연 백분위수와 처리량을
+ * 보고서로 남깁니다. 기준 보고서(--baseline)가 있으면 비교하여 회귀 시 종료 코드 1을 반환합니다.
+ *
+ * - closed 모델: --concurrency명의 가상 사용자가 흐름을 쉬지 않고 반복 (최대 처리량 확인)
+ * - open 모델: 초당 --rate개의 흐름을 일정 간격으로 시작하고, 흐름 전체 지연은 예정된 도착 시각부터 측정
+ *   (서버가 느려져도 요청 간격이 늘어나지 않으므로 대기 시간이 지연에 반영됨)
+ *
+ * 실행: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--concurrency=50 --duration=2m"
+ * 스레드 모드 비교와 기준선 비교는 scripts/load-test.sh를 사용합니다.
+ */
+public final class LoadTestRunner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final LoadTestOptions options;
+    private final MatchingFlowClient client;
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.client = new MatchingFlowClient(options);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        System.exit(new LoadTestRunner(options).run());
+    }
+
+    private int run() throws Exception {
+        client.connect();
+
+        if (!options.getWarmup().isZero()) {
+            System.out.printf("Warming up for %ds...%n", options.getWarmup().toSeconds());
+            runPhase(options.getWarmup(), new FlowRecorder());
+        }
+
+        System.out.printf("Measuring for %ds...%n", options.getDuration().toSeconds());
+        FlowRecorder recorder = new FlowRecorder();
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        runPhase(options.getDuration(), recorder);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        LoadTestReport report = toReport(recorder, startedAt, elapsedSeconds);
+        Files.createDirectories(options.getOutput().toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(options.getOutput().toFile(), report);
+
+        System.out.println();
+        System.out.print(report.formatSummary());
+        recorder.failureSamples().forEach(failure -> System.out.println("  failure: " + failure));
+        System.out.println("Report: " + options.getOutput());
+
+        if (options.getBaseline() == null) {
+            return 0;
+        }
+        LoadTestReport baseline = OBJECT_MAPPER.readValue(options.getBaseline().toFile(), LoadTestReport.class);
+        System.out.println();
+        System.out.print(report.formatComparison(baseline));
+        List<String> regressions = report.findRegressions(baseline, options.getLatencyTolerance(),
+                options.getMinLatencyDeltaMillis(), options.getThroughputTolerance());
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + options.getBaseline());
+            return 0;
+        }
+        System.out.println("Regressions against " + options.getBaseline() + ":");
+        regressions.forEach(regression -> System.out.println("  - " + regression));
+        return options.isFailOnRegression() ? 1 : 0;
+    }
+
+    private void runPhase(Duration duration, FlowRecorder recorder) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.getConcurrency(), workerThreadFactory());
+        if (options.getModel() == LoadTestOptions.Model.CLOSED) {
+            long deadline = System.nanoTime() + duration.toNanos();
+            for (int i = 0; i < options.getConcurrency(); i++) {
+                workers.execute(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        long flowStart = System.nanoTime();
+                        boolean succeeded = client.runFlow(recorder);
+                        recorder.recordFlow(System.nanoTime() - flowStart, succeeded);
+                    }
+                });
+            }
+        } else {
+            long intervalNanos = (long) (1e9 / options.getRate());
+            long arrivals = duration.toNanos() / intervalNanos;
+            long start = System.nanoTime();
+            for (long i = 0; i < arrivals; i++) {
+                long arrival = start + i * intervalNanos;
+                for (long wait = arrival - System.nanoTime(); wait > 0; wait = arrival - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                workers.execute(() -> {
+                    boolean succeeded = client.runFlow(recorder);
+                    recorder.recordFlow(System.nanoTime() - arrival, succeeded);
+                });
+            }
+        }
+        workers.shutdown();
+        // 진행 중인 흐름은 끝까지 기다림 (흐름당 요청 7개가 모두 타임아웃되는 경우까지)
+        long drainMillis = duration.toMillis() + options.getRequestTimeout().toMillis() * MatchingFlowClient.Step.values().length;
+        if (!workers.awaitTermination(drainMillis, TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private LoadTestReport toReport(FlowRecorder recorder, Instant startedAt, double elapsedSeconds) {
+        LoadTestReport report = new LoadTestReport();
+        report.setLabel(options.getLabel());
+        report.setModel(options.getModel().name().toLowerCase(Locale.ROOT));
+        report.setConcurrency(options.getConcurrency());
+        report.setArrivalRate(options.getModel() == LoadTestOptions.Model.OPEN ? options.getRate() : 0);
+        report.setDurationSeconds(round(elapsedSeconds));
+        report.setStartedAt(startedAt.toString());
+        report.setFlows(recorder.completedFlows());
+        report.setFailedFlows(recorder.failedFlows());
+        report.setFlowsPerSecond(round(recorder.completedFlows() / elapsedSeconds));
+        report.setRequestsPerSecond(round(recorder.requests() / elapsedSeconds));
+        for (Map.Entry<MatchingFlowClient.Step, StepStats> entry : recorder.stats().entrySet()) {
+            report.getSteps().put(entry.getKey().getName(), entry.getValue());
+        }
+        return report;
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,213 @@
+package com.rstracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 참여자 흐름 HTTP 클라이언트
+ *
+ * 매칭 생성 → 참여(2명) → 질문 조회 → 답변 제출(2명) → 기록 생성을 한 흐름으로 실행하고
+ * 각 요청의 지연을 FlowRecorder에 기록합니다. (scripts/native-smoke-test.sh와 같은 흐름)
+ * 기본 보안 설정은 CSRF가 켜져 있으므로 기본 로그인 페이지에서 받은 토큰과 세션 쿠키를 모든 요청에 보냅니다.
+ */
+final class MatchingFlowClient {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" type=\"hidden\" value=\"([^\"]*)\"");
+
+    /** 기본 질문 데이터는 기동 후 비동기로 채워지므로 질문이 보일 때까지 대기하는 최대 횟수 (100ms 간격) */
+    private static final int QUESTION_WAIT_ATTEMPTS = 100;
+
+    /**
+     * 흐름 단계 (보고서의 키)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    enum Step {
+        CREATE_MATCHING("create_matching"),
+        JOIN_FIRST("join_first"),
+        JOIN_SECOND("join_second"),
+        GET_QUESTIONS("get_questions"),
+        SUBMIT_ANSWERS_FIRST("submit_answers_first"),
+        SUBMIT_ANSWERS_SECOND("submit_answers_second"),
+        CREATE_RECORD("create_record"),
+        /** 흐름 전체 (open 모델에서는 예정된 도착 시각부터 측정하여 대기 시간 포함) */
+        FLOW("flow");
+
+        private final String name;
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration requestTimeout;
+    private String csrfToken;
+
+    MatchingFlowClient(LoadTestOptions options) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .cookieHandler(new CookieManager())
+                .build();
+        this.baseUrl = options.getBaseUrl();
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+                (options.getUsername() + ":" + options.getPassword()).getBytes(StandardCharsets.UTF_8));
+        this.requestTimeout = options.getRequestTimeout();
+    }
+
+    /**
+     * CSRF 토큰을 받고 활성 질문이 조회될 때까지 대기
+     *
+     * @throws IllegalStateException 토큰을 받지 못했거나 활성 질문이 없는 경우
+     */
+    void connect() throws IOException, InterruptedException {
+        HttpResponse<byte[]> login = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/login")).timeout(requestTimeout).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        Matcher matcher = CSRF_TOKEN.matcher(new String(login.body(), StandardCharsets.UTF_8));
+        if (!matcher.find()) {
+            throw new IllegalStateException("CSRF 토큰을 받지 못했습니다. (GET /login → HTTP " + login.statusCode() + ")");
+        }
+        csrfToken = matcher.group(1);
+
+        for (int attempt = 0; attempt < QUESTION_WAIT_ATTEMPTS; attempt++) {
+            HttpResponse<byte[]> response = httpClient.send(request("GET", "/questions", null),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200 && readJson(response).size() > 0) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("활성 질문이 없습니다. (GET /questions)");
+    }
+
+    /**
+     * 흐름 하나 실행
+     *
+     * @return 모든 단계가 2xx로 끝났으면 true (실패한 단계 이후는 실행하지 않음)
+     */
+    boolean runFlow(FlowRecorder recorder) {
+        try {
+            JsonNode matching = call(Step.CREATE_MATCHING, "POST", "/matching/create", null, recorder);
+            String code = matching.path("code").asText();
+            long matchingId = matching.path("id").asLong();
+
+            String first = call(Step.JOIN_FIRST, "POST", "/matching/join/" + code, null, recorder)
+                    .path("participantCode").asText();
+            String second = call(Step.JOIN_SECOND, "POST", "/matching/join/" + code, null, recorder)
+                    .path("participantCode").asText();
+
+            JsonNode questions = call(Step.GET_QUESTIONS, "GET", "/questions", null, recorder);
+            String answers = answersBody(questions);
+            call(Step.SUBMIT_ANSWERS_FIRST, "POST", "/answers/submit/" + first, answers, recorder);
+            call(Step.SUBMIT_ANSWERS_SECOND, "POST", "/answers/submit/" + second, answers, recorder);
+
+            call(Step.CREATE_RECORD, "POST", "/records/create/" + matchingId, null, recorder);
+            return true;
+        } catch (StepFailedException e) {
+            return false;
+        }
+    }
+
+    private JsonNode call(Step step, String method, String path, String body, FlowRecorder recorder) {
+        HttpRequest request = request(method, path, body);
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.recordError(step, e.toString());
+            throw new StepFailedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.recordError(step, "interrupted");
+            throw new StepFailedException();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (response.statusCode() / 100 != 2) {
+            recorder.recordError(step, method + " " + path + " → HTTP " + response.statusCode());
+            throw new StepFailedException();
+        }
+        recorder.record(step, elapsed);
+        try {
+            return readJson(response);
+        } catch (IOException e) {
+            recorder.recordError(step, "unreadable response: " + e.getMessage());
+            throw new StepFailedException();
+        }
+    }
+
+    private HttpRequest request(String method, String path, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        if (csrfToken != null) {
+            builder.header("X-CSRF-TOKEN", csrfToken);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        return builder.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    /**
+     * 각 질문의 첫 번째 선택지로 응답
+     */
+    private String answersBody(JsonNode questions) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode answers = body.putArray("answers");
+        for (JsonNode question : questions) {
+            answers.addObject()
+                    .put("questionId", question.path("id").asLong())
+                    .put("choiceId", question.path("choices").path(0).path("id").asLong());
+        }
+        return body.toString();
+    }
+
+    private JsonNode readJson(HttpResponse<byte[]> response) throws IOException {
+        if (response.body().length == 0) {
+            return objectMapper.missingNode();
+        }
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        try (InputStream body = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(response.body()))
+                : new ByteArrayInputStream(response.body())) {
+            return objectMapper.readTree(body);
+        }
+    }
+
+    /**
+     * 단계 실패 (FlowRecorder에 기록한 뒤 흐름을 중단하기 위한 신호)
+     */
+    private static final class StepFailedException extends RuntimeException {
+        StepFailedException() {
+            super(null, null, false, false);
+        }
+    }
+}
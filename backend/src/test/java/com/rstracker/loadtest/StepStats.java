@@ -0,0 +1,39 @@
+package com.rstracker.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단계별 지연 통계 (밀리초)
+ *
+ * 백분위수는 측정 구간의 모든 표본을 정렬한 nearest-rank 값입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StepStats {
+
+    /** 성공한 요청 수 */
+    private long count;
+
+    /** 실패한 요청 수 (2xx가 아닌 응답, 타임아웃, 연결 오류) */
+    private long errors;
+
+    private double meanMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+
+    /**
+     * 전체 시도 중 실패 비율
+     */
+    double errorRate() {
+        long attempts = count + errors;
+        return attempts == 0 ? 0 : (double) errors / attempts;
+    }
+}
@@ -0,0 +1,85 @@
+package com.rstracker.service;
+
+import com.rstracker.dto.AnswerSelectionDto;
+import com.rstracker.repository.AnswerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * AnswerQueryServiceImpl 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnswerQueryServiceImpl 테스트")
+class AnswerQueryServiceImplTest {
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @InjectMocks
+    private AnswerQueryServiceImpl answerQueryService;
+
+    @Test
+    @DisplayName("매칭 ID가 없으면 조회하지 않음")
+    void getAnswersByMatchings_Empty_NoQuery() {
+        // when
+        List<AnswerSelectionDto> result = answerQueryService.getAnswersByMatchings(Arrays.asList(null, null));
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(answerRepository);
+    }
+
+    @Test
+    @DisplayName("중복 ID를 제거하고 정렬해 한 번에 조회")
+    void getAnswersByMatchings_SingleQuery() {
+        // given
+        AnswerSelectionDto selection = new AnswerSelectionDto(1L, 10L, 100L, 1000L);
+        when(answerRepository.findSelectionsByMatchingIds(List.of(1L, 3L))).thenReturn(List.of(selection));
+
+        // when
+        List<AnswerSelectionDto> result = answerQueryService.getAnswersByMatchings(List.of(3L, 1L, 3L));
+
+        // then
+        assertThat(result).containsExactly(selection);
+        verify(answerRepository, times(1)).findSelectionsByMatchingIds(any());
+    }
+
+    @Test
+    @DisplayName("ID가 청크 크기를 넘으면 정렬 순서대로 나누어 조회")
+    void getAnswersByMatchings_Chunked() {
+        // given
+        int total = AnswerQueryServiceImpl.MATCHING_ID_CHUNK_SIZE * 2 + 1;
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, total).boxed().toList());
+        Collections.reverse(ids);
+        List<Collection<Long>> chunks = new ArrayList<>();
+        when(answerRepository.findSelectionsByMatchingIds(any())).thenAnswer(invocation -> {
+            Collection<Long> chunk = new ArrayList<>(invocation.getArgument(0));
+            chunks.add(chunk);
+            return List.of(new AnswerSelectionDto(chunk.iterator().next(), 1L, 1L, 1L));
+        });
+
+        // when
+        List<AnswerSelectionDto> result = answerQueryService.getAnswersByMatchings(ids);
+
+        // then
+        assertThat(chunks).hasSize(3);
+        assertThat(chunks.get(0)).hasSize(AnswerQueryServiceImpl.MATCHING_ID_CHUNK_SIZE).first().isEqualTo(1L);
+        assertThat(chunks.get(2)).containsExactly((long) total);
+        assertThat(result).extracting(AnswerSelectionDto::getMatchingId).isSorted();
+    }
+}
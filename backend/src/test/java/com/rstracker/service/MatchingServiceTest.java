@@ -5,9 +5,13 @@ import com.rstracker.dto.ParticipantDto;
 import com.rstracker.entity.Matching;
 import com.rstracker.entity.MatchingStatus;
 import com.rstracker.entity.Participant;
+import com.rstracker.event.DomainEventPublisher;
+import com.rstracker.event.MatchingEstablishedEvent;
+import com.rstracker.exception.BusinessException;
 import com.rstracker.mapper.MatchingMapper;
 import com.rstracker.repository.MatchingRepository;
 import com.rstracker.repository.ParticipantRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,6 +46,12 @@ class MatchingServiceTest {
     @Mock
     private MatchingMapper matchingMapper;
     
+    @Mock
+    private ServiceMetrics serviceMetrics;
+    
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    
     @InjectMocks
     private MatchingService matchingService;
     
@@ -96,6 +108,53 @@ class MatchingServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(participantRepository, times(1)).save(any());
+        verify(domainEventPublisher).publish(argThat(event -> event instanceof MatchingEstablishedEvent established
+                && established.getMatchingId().equals(1L) && established.getMatchingCode().equals(code)));
+    }
+    
+    @Test
+    @DisplayName("첫 번째 참여자는 매칭 성립 이벤트를 발행하지 않음")
+    void joinMatching_FirstParticipant_NoEstablishedEvent() {
+        // given
+        String code = "ABC123";
+        when(matchingRepository.findByCode(code)).thenReturn(Optional.of(testMatching));
+        when(participantRepository.countByMatchingId(anyLong())).thenReturn(0L);
+        when(participantRepository.save(any(Participant.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // when
+        matchingService.joinMatching(code);
+        
+        // then
+        assertThat(testMatching.getStatus()).isEqualTo(MatchingStatus.WAITING.getValue());
+        verifyNoInteractions(domainEventPublisher);
+    }
+    
+    @Test
+    @DisplayName("정원이 찬 매칭 참여 시 거절 지표 기록")
+    void joinMatching_Full_RecordsRejection() {
+        // given
+        String code = "ABC123";
+        when(matchingRepository.findByCode(code)).thenReturn(Optional.of(testMatching));
+        when(participantRepository.countByMatchingId(anyLong())).thenReturn(2L);
+        
+        // when & then
+        assertThatThrownBy(() -> matchingService.joinMatching(code))
+                .isInstanceOf(BusinessException.class);
+        verify(serviceMetrics).joinRejected(ServiceMetrics.REASON_FULL);
+        verify(participantRepository, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("종료된 매칭 참여 시 거절 지표 기록")
+    void joinMatching_Closed_RecordsRejection() {
+        // given
+        String code = "ABC123";
+        testMatching.setStatus(MatchingStatus.COMPLETED.getValue());
+        when(matchingRepository.findByCode(code)).thenReturn(Optional.of(testMatching));
+        
+        // when & then
+        assertThatThrownBy(() -> matchingService.joinMatching(code))
+                .isInstanceOf(BusinessException.class);
+        verify(serviceMetrics).joinRejected(ServiceMetrics.REASON_CLOSED);
     }
 }
-
@@ -0,0 +1,274 @@
+package com.rstracker.service;
+
+import com.rstracker.config.MatchingLifecycleProperties;
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.entity.MatchingStatus;
+import com.rstracker.entity.Participant;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.entity.User;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.MatchingArchiveRepository;
+import com.rstracker.repository.MatchingRepository;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.repository.ParticipantRepository;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.UserRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 매칭 만료/보관 스위퍼 통합 테스트
+ *
+ * 스케줄 실행과 겹치지 않도록 테스트 전용 설정으로 스위퍼를 직접 만들고,
+ * 대상 행의 시각을 과거로 옮겨 만료/보관 조건을 만듭니다.
+ */
+@DisplayName("MatchingSweeper 통합 테스트")
+class MatchingSweeperIntegrationTest extends IntegrationTestSupport {
+
+    private static final int QUESTION_COUNT = 2;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private MatchingArchiveRepository matchingArchiveRepository;
+
+    @Autowired
+    private MonthlyPartitionRepository monthlyPartitionRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MatchingLifecycleProperties properties;
+    private MatchingSweeper sweeper;
+    private List<Question> questions;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MatchingLifecycleProperties();
+        properties.setExpireAfter(Duration.ofHours(24));
+        properties.setArchiveCompletedAfter(Duration.ofDays(90));
+        properties.setArchiveExpiredAfter(Duration.ofDays(7));
+        sweeper = new MatchingSweeper(matchingArchiveRepository, monthlyPartitionRepository,
+                transactionManager, properties, serviceMetrics);
+
+        questions = new ArrayList<>();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Question question = new Question();
+            question.setQuestionText("스위퍼 테스트 질문 " + i);
+            question.setQuestionType("context");
+            question.setOrder(200 + i);
+            question.setIsActive(false);
+            QuestionChoice choice = new QuestionChoice();
+            choice.setQuestion(question);
+            choice.setChoiceText("선택지");
+            choice.setChoiceValue("choice");
+            choice.setOrder(1);
+            choice.setTemperatureWeight(0.5);
+            question.getChoices().add(choice);
+            questions.add(question);
+        }
+        questions = questionRepository.saveAll(questions);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 진행 중 매칭은 만료되고 참여/답변 제출/기록 생성이 거절됨")
+    void expireStale_ExpiresOldOpenMatchings() {
+        // given
+        MatchingDto stale = matchingService.createMatching();
+        ParticipantDto staleParticipant = matchingService.joinMatching(stale.getCode());
+        MatchingDto established = establishedMatching();
+        MatchingDto fresh = matchingService.createMatching();
+        backdateCreatedAt(stale.getId(), Duration.ofHours(25));
+        backdateCreatedAt(established.getId(), Duration.ofHours(25));
+
+        // when
+        sweeper.expireStale(LocalDateTime.now());
+
+        // then
+        assertThat(status(stale.getId())).isEqualTo(MatchingStatus.EXPIRED.getValue());
+        assertThat(status(established.getId())).isEqualTo(MatchingStatus.EXPIRED.getValue());
+        assertThat(status(fresh.getId())).isEqualTo(MatchingStatus.WAITING.getValue());
+        assertThatThrownBy(() -> matchingService.joinMatching(stale.getCode()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> answerService.submitAnswers(staleParticipant.getParticipantCode(), List.of(
+                new AnswerCreateDto(questions.get(0).getId(), questions.get(0).getChoices().get(0).getId()))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("만료된 매칭입니다");
+        assertThatThrownBy(() -> recordService.createRecord(established.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("만료된 매칭입니다");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 세션은 보관 테이블로 옮기고 기록은 유지")
+    void archiveClosed_MovesCompletedSessionAndKeepsRecord() {
+        // given
+        MatchingDto matching = establishedMatching();
+        RecordDto record = recordService.createRecord(matching.getId());
+        backdateCreatedAt(matching.getId(), Duration.ofDays(400));
+        jdbcTemplate.update("UPDATE matchings SET completed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(91), matching.getId());
+
+        // when
+        sweeper.archiveClosed(LocalDateTime.now());
+
+        // then
+        assertThat(matchingRepository.existsById(matching.getId())).isFalse();
+        assertThat(matchingRepository.existsByCode(matching.getCode())).isFalse();
+        assertThat(participantRepository.findByMatchingId(matching.getId())).isEmpty();
+        assertThat(count("SELECT COUNT(*) FROM matchings_archive WHERE id = ?", matching.getId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM participants_archive WHERE matching_id = ?", matching.getId())).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM answers_archive WHERE matching_id = ?", matching.getId()))
+                .isEqualTo(2 * QUESTION_COUNT);
+
+        // 생성 월 파티션에 저장
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT CAST(tableoid::regclass AS text) FROM matchings_archive WHERE id = ?", String.class, matching.getId());
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(400);
+        assertThat(partition).isEqualTo(String.format("matchings_archive_y%dm%02d", createdAt.getYear(), createdAt.getMonthValue()));
+
+        // 기록은 단건/목록/매칭 ID 조회 모두 유지
+        assertThat(recordService.getRecord(record.getRecordId()).getMatchingId()).isEqualTo(matching.getId());
+        assertThat(recordService.getRecordByMatchingId(matching.getId()).getRecordId()).isEqualTo(record.getRecordId());
+        assertThat(recordService.getRecords(null, null, null, null, null, PageRequest.of(0, 1000)).getContent())
+                .extracting(RecordDto::getRecordId).contains(record.getRecordId());
+        recordService.deactivateRecord(record.getRecordId());
+        assertThat(recordService.getRecord(record.getRecordId()).getIsActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 후 보관 기간이 지난 세션은 보관하고, 회원이 참여한 세션과 최근 세션은 남김")
+    void archiveClosed_SkipsMemberAndRecentSessions() {
+        // given
+        MatchingDto expired = matchingService.createMatching();
+        MatchingDto memberSession = matchingService.createMatching();
+        ParticipantDto member = matchingService.joinMatching(memberSession.getCode());
+        linkParticipantTo(member, newUser());
+        MatchingDto recentlyExpired = matchingService.createMatching();
+        backdateCreatedAt(expired.getId(), Duration.ofDays(9));
+        backdateCreatedAt(memberSession.getId(), Duration.ofDays(9));
+        backdateCreatedAt(recentlyExpired.getId(), Duration.ofDays(2));
+        sweeper.expireStale(LocalDateTime.now());
+
+        // when
+        sweeper.archiveClosed(LocalDateTime.now());
+
+        // then
+        assertThat(matchingRepository.existsById(expired.getId())).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM matchings_archive WHERE id = ?", expired.getId())).isEqualTo(1);
+        assertThat(status(memberSession.getId())).isEqualTo(MatchingStatus.EXPIRED.getValue());
+        assertThat(status(recentlyExpired.getId())).isEqualTo(MatchingStatus.EXPIRED.getValue());
+    }
+
+    @Test
+    @DisplayName("실행 한 번에 batchSize × maxBatchesPerRun건까지만 처리")
+    void expireStale_BoundedPerRun() {
+        // given
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(2);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MatchingDto matching = matchingService.createMatching();
+            backdateCreatedAt(matching.getId(), Duration.ofDays(30));
+            ids.add(matching.getId());
+        }
+
+        // when
+        int firstRun = sweeper.expireStale(LocalDateTime.now());
+        int secondRun = sweeper.expireStale(LocalDateTime.now());
+
+        // then
+        assertThat(firstRun).isEqualTo(4);
+        assertThat(secondRun).isGreaterThanOrEqualTo(1);
+        assertThat(ids).allSatisfy(id -> assertThat(status(id)).isEqualTo(MatchingStatus.EXPIRED.getValue()));
+    }
+
+    private MatchingDto establishedMatching() {
+        MatchingDto matching = matchingService.createMatching();
+        List<AnswerCreateDto> answers = questions.stream()
+                .map(question -> new AnswerCreateDto(question.getId(), question.getChoices().get(0).getId()))
+                .toList();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), answers);
+        }
+        return matching;
+    }
+
+    private void backdateCreatedAt(Long matchingId, Duration age) {
+        jdbcTemplate.update("UPDATE matchings SET created_at = ? WHERE id = ?", LocalDateTime.now().minus(age), matchingId);
+    }
+
+    private String status(Long matchingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM matchings WHERE id = ?", String.class, matchingId);
+    }
+
+    private long count(String sql, Long matchingId) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, matchingId);
+        return count == null ? 0 : count;
+    }
+
+    private User newUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        User user = new User();
+        user.setUserid("sw_" + suffix);
+        user.setPhoneNumber("010" + suffix.substring(0, 8));
+        user.setName("스위퍼 테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(User.Gender.OTHER);
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private void linkParticipantTo(ParticipantDto participantDto, User user) {
+        Participant participant = participantRepository.findByParticipantCode(participantDto.getParticipantCode()).orElseThrow();
+        participant.setUser(user);
+        participantRepository.save(participant);
+    }
+}
@@ -0,0 +1,193 @@
+package com.rstracker.service;
+
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.AnswerSelectionDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.UserHistoryDto;
+import com.rstracker.entity.Participant;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.entity.User;
+import com.rstracker.repository.ParticipantRepository;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.UserRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.rstracker.support.QueryCountAssertions.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 쓰기/조회 경로의 SQL 실행 수 고정 테스트
+ *
+ * 응답 수나 참여 매칭 수가 늘어도 실행 수가 변하지 않아야 합니다. (N+1 회귀 방지)
+ * 실행 수가 바뀌면 실패 메시지의 SQL 목록을 확인하고, 의도한 변경일 때만 기대값을 수정합니다.
+ */
+@DisplayName("SQL 실행 수 통합 테스트")
+class QueryCountIntegrationTest extends IntegrationTestSupport {
+
+    private static final int QUESTION_COUNT = 3;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private AnswerQueryService answerQueryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<Question> questions;
+
+    @BeforeEach
+    void setUp() {
+        questions = new ArrayList<>();
+        for (int i = 0; i < QUESTION_COUNT; i++) {
+            Question question = new Question();
+            question.setQuestionText("쿼리 수 테스트 질문 " + i);
+            question.setQuestionType("context");
+            question.setOrder(100 + i);
+            question.setIsActive(false);
+            for (int j = 0; j < 2; j++) {
+                QuestionChoice choice = new QuestionChoice();
+                choice.setQuestion(question);
+                choice.setChoiceText("선택지 " + j);
+                choice.setChoiceValue("choice_" + j);
+                choice.setOrder(j + 1);
+                choice.setTemperatureWeight(j * 0.5);
+                question.getChoices().add(choice);
+            }
+            questions.add(question);
+        }
+        questions = questionRepository.saveAll(questions);
+    }
+
+    @Test
+    @DisplayName("응답 제출 SQL 수는 응답 개수와 무관")
+    void submitAnswers_QueryCount() {
+        // given
+        MatchingDto matching = matchingService.createMatching();
+        ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+
+        // when & then
+        // 참여자 1 + 기존 응답 1 + 질문 1 + 선택지 1 + 응답 INSERT(IDENTITY) 질문 수만큼 + 아웃박스 INSERT 1
+        assertQueryCount(5 + QUESTION_COUNT, () -> answerService.submitAnswers(participant.getParticipantCode(), answers(0)));
+    }
+
+    @Test
+    @DisplayName("기록 생성 SQL 수는 응답 개수와 무관")
+    void createRecord_QueryCount() {
+        // given
+        MatchingDto matching = completedMatching();
+
+        // when
+        // 매칭(행 잠금) 1 + 기존 기록 1 + 응답 1 + 선택지 1 + 질문 1 + 기록 INSERT 1 + 아웃박스 INSERT 1 + 매칭 UPDATE 1
+        RecordDto record = assertQueryCount(8, () -> recordService.createRecord(matching.getId()));
+
+        // then
+        assertThat(record.getRecordId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("회원 히스토리 조회 SQL 수는 참여 매칭 수와 무관")
+    void getUserHistory_QueryCount() {
+        // given
+        User user = newUser();
+        for (int i = 0; i < 2; i++) {
+            MatchingDto matching = completedMatching();
+            recordService.createRecord(matching.getId());
+            linkParticipantsTo(matching.getId(), user);
+        }
+
+        // when
+        // 회원 1 + 참여자(매칭/기록/다른 참여자 Fetch Join) 1 + 응답(질문/선택지 Fetch Join) 1
+        UserHistoryDto history = assertQueryCount(3, () -> userService.getUserHistory(user.getId()));
+
+        // then
+        assertThat(history.getMatchings()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("여러 매칭 응답 일괄 조회 SQL 수는 매칭 수와 무관")
+    void getAnswersByMatchings_QueryCount() {
+        // given
+        List<Long> matchingIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            matchingIds.add(completedMatching().getId());
+        }
+
+        // when
+        // 응답(참여자 조인) 1
+        List<AnswerSelectionDto> selections = assertQueryCount(1,
+                () -> answerQueryService.getAnswersByMatchings(matchingIds));
+
+        // then
+        assertThat(selections).hasSize(matchingIds.size() * 2 * QUESTION_COUNT);
+        assertThat(selections).extracting(AnswerSelectionDto::getMatchingId).isSorted()
+                .isSubsetOf(matchingIds);
+        assertThat(selections).allSatisfy(selection -> {
+            assertThat(selection.getParticipantId()).isNotNull();
+            assertThat(selection.getQuestionId()).isNotNull();
+            assertThat(selection.getChoiceId()).isNotNull();
+        });
+    }
+
+    private MatchingDto completedMatching() {
+        MatchingDto matching = matchingService.createMatching();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), answers(i));
+        }
+        return matching;
+    }
+
+    private List<AnswerCreateDto> answers(int choiceIndex) {
+        return questions.stream()
+                .map(question -> new AnswerCreateDto(question.getId(), question.getChoices().get(choiceIndex).getId()))
+                .toList();
+    }
+
+    private User newUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        User user = new User();
+        user.setUserid("qc_" + suffix);
+        user.setPhoneNumber("010" + suffix.substring(0, 8));
+        user.setName("쿼리 수 테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(User.Gender.OTHER);
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+
+    private void linkParticipantsTo(Long matchingId, User user) {
+        List<Participant> participants = participantRepository.findByMatchingId(matchingId);
+        participants.forEach(participant -> participant.setUser(user));
+        participantRepository.saveAll(participants);
+    }
+}
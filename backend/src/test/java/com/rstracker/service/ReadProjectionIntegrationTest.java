@@ -0,0 +1,158 @@
+package com.rstracker.service;
+
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.UserDto;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.entity.User;
+import com.rstracker.mapper.MatchingMapper;
+import com.rstracker.mapper.RecordMapper;
+import com.rstracker.mapper.UserMapper;
+import com.rstracker.repository.MatchingRepository;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordRepository;
+import com.rstracker.repository.UserRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.rstracker.support.QueryCountAssertions.assertQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 전용 DTO 프로젝션 통합 테스트
+ *
+ * 프로젝션 결과가 엔티티 + Mapper 변환 결과와 같고, 한 번의 SELECT로 끝나는지 확인합니다.
+ */
+@DisplayName("DTO 프로젝션 조회 통합 테스트")
+class ReadProjectionIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MatchingMapper matchingMapper;
+
+    @Autowired
+    private RecordMapper recordMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("매칭 조회는 Mapper 결과와 같고 SELECT 1회")
+    void getMatching_MatchesMapper() {
+        // given
+        MatchingDto created = matchingService.createMatching();
+
+        // when
+        MatchingDto projected = assertQueryCount(1, () -> matchingService.getMatching(created.getCode()));
+
+        // then
+        MatchingDto mapped = transactionTemplate.execute(status ->
+                matchingMapper.toDto(matchingRepository.findByCode(created.getCode()).orElseThrow()));
+        assertThat(projected).isEqualTo(mapped);
+    }
+
+    @Test
+    @DisplayName("기록 조회는 요약(JSONB)까지 Mapper 결과와 같고 SELECT 1회")
+    void getRecord_MatchesMapper() {
+        // given
+        RecordDto created = recordService.createRecord(completedMatching().getId());
+
+        // when
+        RecordDto byRecordId = assertQueryCount(1, () -> recordService.getRecord(created.getRecordId()));
+        RecordDto byMatchingId = assertQueryCount(1, () -> recordService.getRecordByMatchingId(created.getMatchingId()));
+
+        // then
+        RecordDto mapped = transactionTemplate.execute(status ->
+                recordMapper.toDto(recordRepository.findByRecordId(created.getRecordId()).orElseThrow()));
+        assertThat(byRecordId).isEqualTo(mapped);
+        assertThat(byMatchingId).isEqualTo(mapped);
+        assertThat(byRecordId.getSummary()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("회원 조회는 Mapper 결과와 같고 SELECT 1회")
+    void getUserById_MatchesMapper() {
+        // given
+        User user = newUser();
+
+        // when
+        UserDto projected = assertQueryCount(1, () -> userService.getUserById(user.getId()));
+
+        // then
+        UserDto mapped = userMapper.toDto(userRepository.findById(user.getId()).orElseThrow());
+        assertThat(projected).isEqualTo(mapped);
+    }
+
+    private MatchingDto completedMatching() {
+        Question question = new Question();
+        question.setQuestionText("프로젝션 테스트 질문");
+        question.setQuestionType("context");
+        question.setOrder(1);
+        question.setIsActive(false);
+        QuestionChoice choice = new QuestionChoice();
+        choice.setQuestion(question);
+        choice.setChoiceText("선택지");
+        choice.setChoiceValue("choice");
+        choice.setOrder(1);
+        choice.setTemperatureWeight(0.5);
+        question.getChoices().add(choice);
+        Question saved = questionRepository.save(question);
+
+        MatchingDto matching = matchingService.createMatching();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(),
+                    List.of(new AnswerCreateDto(saved.getId(), saved.getChoices().get(0).getId())));
+        }
+        return matching;
+    }
+
+    private User newUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        User user = new User();
+        user.setUserid("pj_" + suffix);
+        user.setPhoneNumber("010" + suffix.substring(0, 8));
+        user.setName("프로젝션 테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(User.Gender.OTHER);
+        user.setUpdatedAt(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
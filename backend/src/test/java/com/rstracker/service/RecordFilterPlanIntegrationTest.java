@@ -0,0 +1,181 @@
+package com.rstracker.service;
+
+import com.rstracker.config.PartitioningProperties;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import com.rstracker.support.QueryPlans;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 목록 필터 실행 계획 회귀 테스트
+ *
+ * 필터 5개(minTemp, maxTemp, isActive, startDate, endDate)의 모든 조합(31가지)에 대해
+ * 기록 목록 조회가 만든 SQL을 제네릭 플랜으로 EXPLAIN하고, 지정한 조건이 인덱스 조건(Index Cond)으로 쓰이는지 확인합니다.
+ * 적은 행에서도 인덱스 사용 가능 여부를 보기 위해 enable_seqscan=off로 계획합니다.
+ * - 개수 SQL: 읽는 파티션마다 필터 컬럼이 선두인 인덱스를 인덱스 조건으로 사용
+ * - 목록 SQL: 순차 스캔 없음 (정렬용 created_at 인덱스 허용)
+ */
+@DisplayName("기록 필터 실행 계획 통합 테스트")
+class RecordFilterPlanIntegrationTest extends IntegrationTestSupport {
+
+    private static final YearMonth MONTH = YearMonth.of(2031, 2);
+    private static final double MIN_TEMP = 0.1;
+    private static final double MAX_TEMP = 0.9;
+    private static final LocalDateTime START = MONTH.atDay(1).atStartOfDay();
+    private static final LocalDateTime END = MONTH.atEndOfMonth().atTime(23, 59, 59);
+
+    /** 필터 순서 (RecordSpecifications가 조건을 추가하는 순서) */
+    private static final String[] FILTERS = {"minTemp", "maxTemp", "isActive", "startDate", "endDate"};
+
+    /** 필터별 인덱스 선두 컬럼 */
+    private static final Map<String, String> FILTER_COLUMNS = Map.of(
+            "minTemp", "temperature",
+            "maxTemp", "temperature",
+            "isActive", "is_active",
+            "startDate", "created_at",
+            "endDate", "created_at");
+
+    private static final Pattern PARTITION_SCAN =
+            Pattern.compile("(Seq Scan|Index Scan|Index Only Scan|Bitmap Heap Scan)\\b.* on records_y\\d{4}m\\d{2}\\b");
+
+    private static final Map<String, String> PLANNER_SETTINGS = Map.of(
+            "plan_cache_mode", "force_generic_plan",
+            "enable_seqscan", "off");
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private MonthlyPartitionRepository monthlyPartitionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        PartitioningProperties properties = new PartitioningProperties();
+        properties.setMonthsAhead(0);
+        new RecordPartitionMaintainer(monthlyPartitionRepository, transactionManager, properties)
+                .createUpcomingPartitions(MONTH);
+        // 모든 조합에 걸리도록 2건 (페이지 크기 1보다 많아야 개수 SQL이 실행됨)
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO records (record_id, matching_id, temperature, temperature_diff, is_active, created_at) "
+                            + "VALUES (?, ?, 0.5, 0.0, TRUE, ?)",
+                    UUID.randomUUID().toString(), -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1,
+                    MONTH.atDay(15).atStartOfDay());
+        }
+    }
+
+    @Test
+    @DisplayName("모든 필터 조합이 지정한 조건만 SQL에 넣고 인덱스 조건으로 사용")
+    void everyFilterCombination_UsesIndexes() {
+        SoftAssertions softly = new SoftAssertions();
+        for (int mask = 1; mask < (1 << FILTERS.length); mask++) {
+            List<String> filters = new ArrayList<>();
+            List<Object> parameters = new ArrayList<>();
+            for (int i = 0; i < FILTERS.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    filters.add(FILTERS[i]);
+                    parameters.add(valueOf(FILTERS[i]));
+                }
+            }
+
+            // given
+            List<String> statements = QueryPlans.capture("records", () -> recordService.getRecords(
+                    filters.contains("minTemp") ? MIN_TEMP : null,
+                    filters.contains("maxTemp") ? MAX_TEMP : null,
+                    filters.contains("isActive") ? Boolean.TRUE : null,
+                    filters.contains("startDate") ? START : null,
+                    filters.contains("endDate") ? END : null,
+                    PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"))));
+            String listSql = statements.stream().filter(sql -> sql.contains("order by")).findFirst().orElseThrow();
+            String countSql = statements.stream().filter(sql -> sql.startsWith("select count")).findFirst().orElseThrow();
+
+            // when
+            List<String> countPlan = QueryPlans.explain(jdbcTemplate, countSql, parameters, false, PLANNER_SETTINGS);
+            List<String> listPlan = QueryPlans.explain(jdbcTemplate, listSql, parameters, false, PLANNER_SETTINGS);
+
+            // then
+            Set<String> allowed = new HashSet<>();
+            filters.forEach(filter -> allowed.add(FILTER_COLUMNS.get(filter)));
+            softly.assertThat(countSql).as("%s SQL", filters).doesNotContain(" is null");
+            softly.assertThat(String.join("\n", countPlan)).as("%s count plan", filters).doesNotContain("Seq Scan");
+            softly.assertThat(countPlan.stream().filter(line -> line.contains("Index Cond")).count())
+                    .as("%s count plan index conditions per partition:%n%s", filters, String.join("\n", countPlan))
+                    .isGreaterThanOrEqualTo(partitionScans(countPlan));
+            softly.assertThat(QueryPlans.indexesIn(countPlan).stream().map(RecordFilterPlanIntegrationTest::leadingColumn))
+                    .as("%s count plan indexes", filters)
+                    .isNotEmpty()
+                    .allMatch(allowed::contains);
+            softly.assertThat(String.join("\n", listPlan)).as("%s list plan", filters).doesNotContain("Seq Scan");
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("기존 catch-all 형태(:param IS NULL OR ...)는 제네릭 플랜에서 인덱스 조건을 쓰지 못함")
+    void catchAllPredicate_CannotUseIndexConditions() {
+        // given
+        String catchAll = "select count(r1_0.id) from records r1_0 "
+                + "where (? is null or r1_0.temperature>=?) and (? is null or r1_0.is_active=?)";
+
+        // when
+        List<String> plan = QueryPlans.explain(jdbcTemplate, catchAll,
+                List.of(MIN_TEMP, MIN_TEMP, Boolean.TRUE, Boolean.TRUE), false, PLANNER_SETTINGS);
+
+        // then
+        assertThat(plan).noneMatch(line -> line.contains("Index Cond"));
+    }
+
+    private static Object valueOf(String filter) {
+        return switch (filter) {
+            case "minTemp" -> MIN_TEMP;
+            case "maxTemp" -> MAX_TEMP;
+            case "isActive" -> Boolean.TRUE;
+            case "startDate" -> START;
+            case "endDate" -> END;
+            default -> throw new IllegalArgumentException(filter);
+        };
+    }
+
+    /**
+     * 계획에서 파티션을 읽는 스캔 노드 수 (제네릭 플랜은 실행 시작 시점에 프루닝된 파티션이 빠짐)
+     */
+    private static long partitionScans(List<String> plan) {
+        return plan.stream().filter(line -> PARTITION_SCAN.matcher(line).find()).count();
+    }
+
+    /**
+     * 파티션 인덱스 이름(예: records_y2031m02_is_active_created_at_idx)의 선두 컬럼
+     */
+    private static String leadingColumn(String indexName) {
+        String columns = indexName.replaceFirst("^records_y\\d{4}m\\d{2}_", "").replaceFirst("_idx\\d*$", "");
+        return FILTER_COLUMNS.values().stream()
+                .filter(columns::startsWith)
+                .findFirst()
+                .orElse(columns);
+    }
+}
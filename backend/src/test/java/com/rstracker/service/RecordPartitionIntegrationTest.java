@@ -0,0 +1,151 @@
+package com.rstracker.service;
+
+import com.rstracker.config.PartitioningProperties;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import com.rstracker.support.QueryPlans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록(records) 월별 파티션 통합 테스트
+ *
+ * 기록 목록 조회가 실제로 실행하는 SQL(목록 + 개수)을 캡처해 EXPLAIN으로 읽는 파티션을 확인합니다.
+ * - 커스텀 플랜: 바인딩 값으로 계획 시점에 프루닝
+ * - 제네릭 플랜: 실행 시작 시점에 프루닝 (Subplans Removed)
+ * 프루닝 여부는 행 수와 관계없이 계획에서 결정되므로 적은 행으로 검증합니다.
+ */
+@DisplayName("기록 파티션 통합 테스트")
+class RecordPartitionIntegrationTest extends IntegrationTestSupport {
+
+    /** 다른 테스트의 기록과 섞이지 않는 먼 미래 월 */
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2031, 1);
+    private static final int MONTHS = 3;
+
+    private static final Pattern RECORD_PARTITION = Pattern.compile("records_y\\d{4}m\\d{2}");
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private MonthlyPartitionRepository monthlyPartitionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        PartitioningProperties properties = new PartitioningProperties();
+        properties.setMonthsAhead(MONTHS - 1);
+        maintainer = new RecordPartitionMaintainer(monthlyPartitionRepository, transactionManager, properties);
+        maintainer.createUpcomingPartitions(FIRST_MONTH);
+    }
+
+    @Test
+    @DisplayName("monthsAhead만큼 파티션을 만들고, 이미 있으면 건너뜀")
+    void createUpcomingPartitions_CreatesMissingMonthsOnce() {
+        // when
+        List<YearMonth> created = maintainer.createUpcomingPartitions(FIRST_MONTH);
+
+        // then
+        assertThat(created).isEmpty();
+        for (int i = 0; i < MONTHS; i++) {
+            String partition = MonthlyPartitionRepository.partitionName("records", FIRST_MONTH.plusMonths(i));
+            assertThat(jdbcTemplate.queryForObject("SELECT CAST(to_regclass(?) AS text)", String.class, partition))
+                    .isEqualTo(partition);
+        }
+    }
+
+    @Test
+    @DisplayName("기록은 생성 월 파티션에 저장되고 날짜 필터 조회는 해당 월만 반환")
+    void records_RoutedToCreatedMonth() {
+        // given
+        YearMonth month = FIRST_MONTH.plusMonths(1);
+        String recordId = insertRecord(month.atDay(15).atTime(12, 0));
+
+        // when
+        Page<RecordDto> page = recordService.getRecords(null, null, null,
+                month.atDay(1).atStartOfDay(), month.atEndOfMonth().atTime(23, 59, 59), PageRequest.of(0, 100));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT CAST(tableoid::regclass AS text) FROM records WHERE record_id = ?", String.class, recordId))
+                .isEqualTo(MonthlyPartitionRepository.partitionName("records", month));
+        assertThat(page.getContent()).extracting(RecordDto::getRecordId).contains(recordId);
+        assertThat(page.getContent()).allSatisfy(record ->
+                assertThat(YearMonth.from(record.getCreatedAt())).isEqualTo(month));
+    }
+
+    @Test
+    @DisplayName("날짜 필터 조회는 커스텀/제네릭 플랜 모두 해당 월 파티션만 읽음")
+    void dateFilteredListing_PrunesToMonth() {
+        // given
+        for (int i = 0; i < MONTHS; i++) {
+            insertRecord(FIRST_MONTH.plusMonths(i).atDay(10).atStartOfDay());
+            insertRecord(FIRST_MONTH.plusMonths(i).atDay(20).atStartOfDay());
+        }
+        YearMonth month = FIRST_MONTH.plusMonths(1);
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.atEndOfMonth().atTime(23, 59, 59);
+        List<String> statements = QueryPlans.capture("records", () ->
+                recordService.getRecords(null, null, null, start, end, PageRequest.of(0, 1)));
+        String expected = MonthlyPartitionRepository.partitionName("records", month);
+
+        // when & then
+        assertThat(statements).hasSize(2); // 목록 + 개수
+        for (String sql : statements) {
+            List<String> customPlan = QueryPlans.explain(jdbcTemplate, sql, List.of(start, end), false,
+                    Map.of("plan_cache_mode", "force_custom_plan"));
+            assertThat(QueryPlans.namesIn(customPlan, RECORD_PARTITION)).containsOnly(expected);
+            List<String> genericPlan = QueryPlans.explain(jdbcTemplate, sql, List.of(start, end), true,
+                    Map.of("plan_cache_mode", "force_generic_plan"));
+            assertThat(QueryPlans.namesIn(genericPlan, RECORD_PARTITION)).containsOnly(expected);
+            assertThat(String.join("\n", genericPlan)).contains("Subplans Removed");
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 필터가 없으면 모든 파티션을 읽음")
+    void unboundedListing_ScansAllPartitions() {
+        // given
+        List<String> statements = QueryPlans.capture("records", () ->
+                recordService.getRecords(null, null, true, null, null, PageRequest.of(0, 1)));
+
+        // when
+        List<String> plan = QueryPlans.explain(jdbcTemplate, statements.get(0), List.of(true), false, Map.of());
+
+        // then
+        assertThat(QueryPlans.namesIn(plan, RECORD_PARTITION)).contains(
+                MonthlyPartitionRepository.partitionName("records", FIRST_MONTH),
+                MonthlyPartitionRepository.partitionName("records", FIRST_MONTH.plusMonths(MONTHS - 1)));
+    }
+
+    private String insertRecord(LocalDateTime createdAt) {
+        String recordId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO records (record_id, matching_id, temperature, temperature_diff, is_active, created_at) "
+                        + "VALUES (?, ?, 0.5, 0.0, TRUE, ?)",
+                recordId, -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1, createdAt);
+        return recordId;
+    }
+}
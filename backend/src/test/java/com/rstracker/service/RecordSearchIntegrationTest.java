@@ -0,0 +1,187 @@
+package com.rstracker.service;
+
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.RecordSearchPageDto;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import com.rstracker.support.QueryPlans;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기록 검색(응답 선택지 조건, 키셋 페이징) 통합 테스트
+ *
+ * 선택지 값은 테스트마다 새로 만들어 같은 DB의 다른 기록과 섞이지 않게 합니다.
+ */
+@DisplayName("기록 검색 통합 테스트")
+class RecordSearchIntegrationTest extends IntegrationTestSupport {
+
+    private static final int QUESTION_ORDER = 300;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Question question;
+
+    private String closer;
+
+    private String same;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        closer = "closer_" + suffix;
+        same = "same_" + suffix;
+
+        question = new Question();
+        question.setQuestionText("기록 검색 테스트 질문");
+        question.setQuestionType("context");
+        question.setOrder(QUESTION_ORDER);
+        question.setIsActive(false);
+        List<String> values = List.of(closer, same);
+        for (int i = 0; i < values.size(); i++) {
+            QuestionChoice choice = new QuestionChoice();
+            choice.setQuestion(question);
+            choice.setChoiceText("선택지 " + i);
+            choice.setChoiceValue(values.get(i));
+            choice.setOrder(i + 1);
+            choice.setTemperatureWeight(i * 0.5);
+            question.getChoices().add(choice);
+        }
+        question = questionRepository.save(question);
+    }
+
+    @Test
+    @DisplayName("기록 생성 시 두 참여자의 선택지 값을 질문 순서별로 저장")
+    void createRecord_StoresAnswerChoices() {
+        // given & when
+        RecordDto record = recordWithChoices(0, 1);
+
+        // then
+        assertThat(recordRepository.findByRecordId(record.getRecordId()).orElseThrow().getAnswerChoices())
+                .containsEntry("Q" + QUESTION_ORDER, List.of(closer, same));
+    }
+
+    @Test
+    @DisplayName("선택지 조건을 모두 만족하는 기록만 최신순으로 조회")
+    void searchRecords_MatchesAllChoices() {
+        // given
+        RecordDto bothCloser = recordWithChoices(0, 0);
+        RecordDto mixed = recordWithChoices(0, 1);
+        RecordDto bothSame = recordWithChoices(1, 1);
+
+        // when
+        RecordSearchPageDto closerPage = recordService.searchRecords(
+                List.of(QUESTION_ORDER + ":" + closer), null, null, null, null, 10);
+        RecordSearchPageDto bothPage = recordService.searchRecords(
+                List.of(QUESTION_ORDER + ":" + closer, QUESTION_ORDER + ":" + same), null, null, true, null, 10);
+
+        // then
+        assertThat(closerPage.getRecords()).extracting(RecordDto::getRecordId)
+                .containsExactly(mixed.getRecordId(), bothCloser.getRecordId());
+        assertThat(closerPage.getNextCursor()).isNull();
+        assertThat(bothPage.getRecords()).extracting(RecordDto::getRecordId).containsExactly(mixed.getRecordId());
+        assertThat(recordService.countRecords(List.of(QUESTION_ORDER + ":" + same), null, null, null).getCount())
+                .isEqualTo(2);
+        assertThat(bothSame.getRecordId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 조회하면 중복/누락 없음")
+    void searchRecords_KeysetPaging() {
+        // given
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(0, recordWithChoices(0, 0).getRecordId());
+        }
+
+        // when
+        List<String> found = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            RecordSearchPageDto page = recordService.searchRecords(
+                    List.of(QUESTION_ORDER + ":" + closer), null, null, null, cursor, 2);
+            page.getRecords().forEach(record -> found.add(record.getRecordId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(found).containsExactlyElementsOf(created);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("선택지 조건이나 커서 형식이 잘못되면 예외 발생")
+    void searchRecords_InvalidInput_ThrowsException() {
+        assertThatThrownBy(() -> recordService.searchRecords(List.of("Q5=closer"), null, null, null, null, 10))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> recordService.searchRecords(List.of("five:closer"), null, null, null, null, 10))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> recordService.searchRecords(null, null, null, null, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("선택지 조건은 파티션마다 answer_choices GIN 인덱스 사용")
+    void searchRecords_UsesGinIndex() {
+        // given
+        recordWithChoices(0, 0);
+        List<String> statements = QueryPlans.capture("records", () -> recordService.countRecords(
+                List.of(QUESTION_ORDER + ":" + closer), null, null, null));
+        String countSql = statements.stream().filter(sql -> sql.startsWith("SELECT count")).findFirst().orElseThrow();
+
+        // when
+        List<String> plan = QueryPlans.explain(jdbcTemplate, countSql,
+                List.of("{\"Q" + QUESTION_ORDER + "\": [\"" + closer + "\"]}"), false,
+                Map.of("plan_cache_mode", "force_generic_plan", "enable_seqscan", "off"));
+
+        // then
+        assertThat(String.join("\n", plan)).doesNotContain("Seq Scan");
+        assertThat(QueryPlans.indexesIn(plan)).isNotEmpty().allMatch(index -> index.contains("answer_choices"));
+    }
+
+    private RecordDto recordWithChoices(int first, int second) {
+        MatchingDto matching = matchingService.createMatching();
+        for (int choiceIndex : new int[]{first, second}) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), List.of(
+                    new AnswerCreateDto(question.getId(), question.getChoices().get(choiceIndex).getId())));
+        }
+        return recordService.createRecord(matching.getId());
+    }
+}
@@ -0,0 +1,100 @@
+package com.rstracker.service.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * RebuildableIndex 단위 테스트
+ *
+ * 색인 상태는 기록 ID 목록으로 두어 같은 기록이 두 번 들어가면 드러나게 합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RebuildableIndex 테스트")
+class RebuildableIndexTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("재구축 중 변경은 스냅샷 상태에서 실제로 바뀐 경우에만 적용됨")
+    void replay_AppliesOnlyStateChanges() {
+        // given: 1은 스냅샷에 포함된 뒤 비활성화, 2는 스냅샷 이후 생성, 3은 스냅샷에 이미 포함된 생성
+        List<Long> rebuilt = new ArrayList<>(List.of(1L, 3L));
+        List<Change> mutations = List.of(
+                new Change(1, false),
+                new Change(2, true),
+                new Change(3, true),
+                new Change(2, false),
+                new Change(2, false));
+
+        // when
+        RebuildableIndex.replay(mutations, Set.of(1L, 3L), rebuilt);
+
+        // then
+        assertThat(rebuilt).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("재구축이 겹치면 나중 요청은 건너뛰고 먼저 시작한 재구축이 구축 중 변경까지 반영")
+    void rebuild_WhileRebuilding_SkipsAndKeepsPendingMutations() throws Exception {
+        // given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        RebuildableIndex<List<Long>> index = new RebuildableIndex<>(new ArrayList<>(), transactionManager);
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> index.rebuild(() -> {
+            building.countDown();
+            awaitQuietly(release);
+            return new ArrayList<>(List.of(1L));
+        }, ids -> Set.of()));
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+        index.mutateAfterCommit(new Change(2, true));
+
+        // when
+        List<Long> second = index.rebuild(() -> new ArrayList<>(List.of(9L)), ids -> Set.of());
+        release.countDown();
+
+        // then
+        assertThat(second).isNull();
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(1L, 2L);
+        assertThat(index.isReady()).isTrue();
+        List<Long> current = index.read(List::copyOf);
+        assertThat(current).containsExactly(1L, 2L);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Change(long recordId, boolean added) implements RebuildableIndex.Mutation<List<Long>> {
+
+        @Override
+        public void applyTo(List<Long> target) {
+            if (added) {
+                target.add(recordId);
+            } else {
+                target.remove(Long.valueOf(recordId));
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.service.ledger.MerkleTree.NodeId;
+import com.rstracker.service.ledger.MerkleTree.Range;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MerkleTree 단위 테스트
+ *
+ * 배치로 추가하며 저장한 노드로 계산한 루트/증명을 RFC 9162 정의(MTH)를 그대로 옮긴 재귀 구현과 비교합니다.
+ */
+@DisplayName("MerkleTree 테스트")
+class MerkleTreeTest {
+
+    private static final int MAX_SIZE = 70;
+
+    /** 배치 크기 (반복 사용) */
+    private static final int[] BATCH_SIZES = {1, 3, 7, 2, 16, 5};
+
+    @Test
+    @DisplayName("배치로 저장한 노드의 루트가 모든 크기에서 정의와 같음")
+    void rangeHash_MatchesDefinition() {
+        // given
+        List<byte[]> leaves = leaves(MAX_SIZE);
+        Map<NodeId, byte[]> stored = new HashMap<>();
+        appendInBatches(leaves, stored);
+
+        // when & then
+        SoftAssertions softly = new SoftAssertions();
+        for (long size = 1; size <= MAX_SIZE; size++) {
+            softly.assertThat(MerkleTree.rangeHash(new Range(0, size), stored::get))
+                    .as("root of %d", size)
+                    .isEqualTo(mth(leaves.subList(0, (int) size)));
+        }
+        softly.assertAll();
+        assertThat(stored).hasSize(2 * MAX_SIZE - Long.bitCount(MAX_SIZE));
+    }
+
+    @Test
+    @DisplayName("모든 잎의 포함 증명이 검증되고 경로 길이는 ⌈log2 n⌉ 이하")
+    void inclusionProof_Verifies() {
+        List<byte[]> leaves = leaves(MAX_SIZE);
+        Map<NodeId, byte[]> stored = new HashMap<>();
+        appendInBatches(leaves, stored);
+
+        SoftAssertions softly = new SoftAssertions();
+        for (int size = 1; size <= MAX_SIZE; size++) {
+            byte[] root = mth(leaves.subList(0, size));
+            for (int leaf = 0; leaf < size; leaf++) {
+                List<byte[]> path = proof(leaf, size, stored);
+                softly.assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf, size, path, root))
+                        .as("leaf %d of %d", leaf, size).isTrue();
+                softly.assertThat(path.size()).isLessThanOrEqualTo(64 - Long.numberOfLeadingZeros(size - 1));
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("잎, 경로, 번호, 루트 중 하나라도 다르면 검증 실패")
+    void inclusionProof_RejectsTampering() {
+        // given
+        int size = 37;
+        int leaf = 21;
+        List<byte[]> leaves = leaves(size);
+        Map<NodeId, byte[]> stored = new HashMap<>();
+        appendInBatches(leaves, stored);
+        byte[] root = mth(leaves);
+        List<byte[]> path = proof(leaf, size, stored);
+
+        // when
+        List<byte[]> tamperedPath = new ArrayList<>(path);
+        byte[] sibling = tamperedPath.get(2).clone();
+        sibling[0] ^= 1;
+        tamperedPath.set(2, sibling);
+
+        // then
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf, size, path, root)).isTrue();
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf + 1), leaf, size, path, root)).isFalse();
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf, size, tamperedPath, root)).isFalse();
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf + 1, size, path, root)).isFalse();
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf, size, path, mth(leaves.subList(0, size - 1)))).isFalse();
+        assertThat(MerkleTree.verifyInclusion(leaves.get(leaf), leaf, size, path.subList(0, path.size() - 1), root)).isFalse();
+    }
+
+    /**
+     * 배치 크기를 바꿔 가며 잎을 추가하고 저장 노드를 채움 (완성된 노드는 작은 트리에서도 그대로 쓰임)
+     */
+    private static void appendInBatches(List<byte[]> leaves, Map<NodeId, byte[]> stored) {
+        long size = 0;
+        for (int batch = 0; size < leaves.size(); batch++) {
+            long newSize = Math.min(leaves.size(), size + BATCH_SIZES[batch % BATCH_SIZES.length]);
+            Map<NodeId, byte[]> created = new LinkedHashMap<>();
+            for (long i = size; i < newSize; i++) {
+                created.put(new NodeId(0, i), leaves.get((int) i));
+            }
+            Map<NodeId, byte[]> existing = new HashMap<>();
+            for (NodeId id : MerkleTree.existingChildren(size, newSize)) {
+                assertThat(stored).containsKey(id);
+                existing.put(id, stored.get(id));
+            }
+            MerkleTree.completeParents(size, newSize, created, existing);
+            created.keySet().forEach(id -> assertThat(stored).doesNotContainKey(id));
+            stored.putAll(created);
+            size = newSize;
+        }
+    }
+
+    private static List<byte[]> proof(long leaf, long size, Map<NodeId, byte[]> stored) {
+        return MerkleTree.inclusionPath(leaf, size).stream()
+                .map(range -> MerkleTree.rangeHash(range, stored::get))
+                .toList();
+    }
+
+    /**
+     * RFC 9162 2.1.1의 MTH 정의
+     */
+    private static byte[] mth(List<byte[]> leafHashes) {
+        if (leafHashes.size() == 1) {
+            return leafHashes.get(0);
+        }
+        int k = Integer.highestOneBit(leafHashes.size() - 1);
+        return MerkleTree.nodeHash(mth(leafHashes.subList(0, k)), mth(leafHashes.subList(k, leafHashes.size())));
+    }
+
+    private static List<byte[]> leaves(int count) {
+        List<byte[]> leaves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leaves.add(MerkleTree.leafHash(("record-" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return leaves;
+    }
+}
@@ -0,0 +1,189 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.dto.RecordProofDto;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRootRepository;
+import com.rstracker.service.AnswerService;
+import com.rstracker.service.MatchingService;
+import com.rstracker.service.RecordService;
+import com.rstracker.service.metrics.ServiceMetrics;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기록 원장 추가/포함 증명 통합 테스트
+ *
+ * 원장 추가 작업은 IntegrationTestSupport에서 꺼져 있으므로 직접 실행합니다.
+ * 같은 DB의 다른 테스트 기록도 함께 추가되므로 트리 크기는 고정값으로 확인하지 않습니다.
+ */
+@DisplayName("기록 원장 통합 테스트")
+class RecordLedgerIntegrationTest extends IntegrationTestSupport {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private RecordLedgerService recordLedgerService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private RecordLedgerRepository recordLedgerRepository;
+
+    @Autowired
+    private RecordLedgerRootRepository recordLedgerRootRepository;
+
+    @Autowired
+    private RecordLedgerSigner recordLedgerSigner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordLedgerAppender appender;
+
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        LedgerProperties properties = new LedgerProperties();
+        properties.setBatchSize(50);
+        properties.setMaxBatchesPerRun(Integer.MAX_VALUE);
+        properties.setRootInterval(Duration.ZERO);
+        appender = new RecordLedgerAppender(recordLedgerRepository, recordLedgerRootRepository, recordLedgerSigner,
+                transactionManager, properties, serviceMetrics);
+
+        question = new Question();
+        question.setQuestionText("원장 테스트 질문");
+        question.setQuestionType("context");
+        question.setOrder(400);
+        question.setIsActive(false);
+        QuestionChoice choice = new QuestionChoice();
+        choice.setQuestion(question);
+        choice.setChoiceText("선택지");
+        choice.setChoiceValue("ledger");
+        choice.setOrder(1);
+        choice.setTemperatureWeight(0.5);
+        question.getChoices().add(choice);
+        question = questionRepository.save(question);
+    }
+
+    @Test
+    @DisplayName("원장에 추가하고 서명한 뒤 포함 증명과 루트 서명이 검증됨")
+    void getProof_VerifiesAgainstSignedRoot() {
+        // given
+        List<RecordDto> records = List.of(newRecord(), newRecord(), newRecord());
+        appender.appendPending();
+        appender.signRootIfDue(LocalDateTime.now());
+
+        for (RecordDto record : records) {
+            // when
+            RecordProofDto proof = recordLedgerService.getProof(record.getRecordId());
+
+            // then
+            byte[] leafHash = HEX.parseHex(proof.getLeafHash());
+            byte[] rootHash = HEX.parseHex(proof.getRootHash());
+            assertThat(leafHash).isEqualTo(MerkleTree.leafHash(proof.getCanonicalContent().getBytes(StandardCharsets.UTF_8)));
+            assertThat(proof.getCanonicalContent()).contains(record.getRecordId());
+            assertThat(MerkleTree.verifyInclusion(leafHash, proof.getLeafIndex(), proof.getTreeSize(),
+                    proof.getAuditPath().stream().map(HEX::parseHex).toList(), rootHash)).isTrue();
+            assertThat(proof.getAuditPath().size()).isLessThanOrEqualTo(64 - Long.numberOfLeadingZeros(proof.getTreeSize() - 1));
+            assertThat(RecordLedgerSigner.verify(proof.getPublicKey(), proof.getTreeSize(), rootHash,
+                    Base64.getDecoder().decode(proof.getSignature()))).isTrue();
+            assertThat(proof.getKeyId()).isEqualTo(recordLedgerSigner.getKeyId());
+        }
+    }
+
+    @Test
+    @DisplayName("원장에 추가되기 전에는 포함 증명 요청이 거절됨")
+    void getProof_Pending_ThrowsException() {
+        // given
+        RecordDto record = newRecord();
+
+        // when & then
+        assertThatThrownBy(() -> recordLedgerService.getProof(record.getRecordId()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("추가 후 기록 내용이 바뀌면 정규화 내용의 해시가 원장 잎과 달라짐")
+    void getProof_TamperedRecord_LeafHashMismatch() {
+        // given
+        RecordDto record = newRecord();
+        appender.appendPending();
+        appender.signRootIfDue(LocalDateTime.now());
+
+        // when
+        jdbcTemplate.update("UPDATE records SET temperature = temperature + 0.01 WHERE record_id = ?", record.getRecordId());
+        RecordProofDto proof = recordLedgerService.getProof(record.getRecordId());
+
+        // then
+        assertThat(MerkleTree.leafHash(proof.getCanonicalContent().getBytes(StandardCharsets.UTF_8)))
+                .isNotEqualTo(HEX.parseHex(proof.getLeafHash()));
+    }
+
+    @Test
+    @DisplayName("비활성화는 정규화 내용에 포함되지 않아 원장 잎과 계속 일치")
+    void getProof_DeactivatedRecord_LeafHashMatches() {
+        // given
+        RecordDto record = newRecord();
+        appender.appendPending();
+        appender.signRootIfDue(LocalDateTime.now());
+
+        // when
+        recordService.deactivateRecord(record.getRecordId());
+        RecordProofDto proof = recordLedgerService.getProof(record.getRecordId());
+
+        // then
+        assertThat(MerkleTree.leafHash(proof.getCanonicalContent().getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo(HEX.parseHex(proof.getLeafHash()));
+    }
+
+    private RecordDto newRecord() {
+        MatchingDto matching = matchingService.createMatching();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), List.of(
+                    new AnswerCreateDto(question.getId(), question.getChoices().get(0).getId())));
+        }
+        return recordService.createRecord(matching.getId());
+    }
+}
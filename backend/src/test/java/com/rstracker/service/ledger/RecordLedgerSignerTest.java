@@ -0,0 +1,82 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RecordLedgerSigner 단위 테스트 (서명 키 설정)
+ */
+@DisplayName("RecordLedgerSigner 테스트")
+class RecordLedgerSignerTest {
+
+    private static final byte[] ROOT_HASH = new byte[32];
+
+    @Test
+    @DisplayName("서명 키가 없고 임시 키를 허용하지 않으면 생성 실패")
+    void create_WithoutKey_Fails() {
+        // given
+        LedgerProperties properties = new LedgerProperties();
+
+        // when & then
+        assertThatThrownBy(() -> new RecordLedgerSigner(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.ledger.ephemeral-key-allowed");
+    }
+
+    @Test
+    @DisplayName("서명 키와 검증 키 중 하나만 설정하면 임시 키 허용과 관계없이 생성 실패")
+    void create_WithHalfKeyPair_Fails() throws Exception {
+        // given
+        LedgerProperties properties = new LedgerProperties();
+        properties.setEphemeralKeyAllowed(true);
+        properties.setSigningKey(encode(KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate().getEncoded()));
+
+        // when & then
+        assertThatThrownBy(() -> new RecordLedgerSigner(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("together");
+    }
+
+    @Test
+    @DisplayName("임시 키를 허용하면 키 없이 생성되고 서명이 검증됨")
+    void create_EphemeralAllowed_SignsVerifiably() {
+        // given
+        LedgerProperties properties = new LedgerProperties();
+        properties.setEphemeralKeyAllowed(true);
+
+        // when
+        RecordLedgerSigner signer = new RecordLedgerSigner(properties);
+
+        // then
+        assertThat(RecordLedgerSigner.verify(signer.getPublicKey(), 7, ROOT_HASH, signer.sign(7, ROOT_HASH))).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정한 키 쌍으로 서명함")
+    void create_WithConfiguredKey_UsesIt() throws Exception {
+        // given
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        LedgerProperties properties = new LedgerProperties();
+        properties.setSigningKey(encode(keyPair.getPrivate().getEncoded()));
+        properties.setVerificationKey(encode(keyPair.getPublic().getEncoded()));
+
+        // when
+        RecordLedgerSigner signer = new RecordLedgerSigner(properties);
+
+        // then
+        assertThat(signer.getPublicKey()).isEqualTo(properties.getVerificationKey());
+        assertThat(RecordLedgerSigner.verify(properties.getVerificationKey(), 7, ROOT_HASH, signer.sign(7, ROOT_HASH))).isTrue();
+    }
+
+    private static String encode(byte[] key) {
+        return Base64.getEncoder().encodeToString(key);
+    }
+}
@@ -0,0 +1,198 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import com.rstracker.dto.AnswerCreateDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.dto.ParticipantDto;
+import com.rstracker.dto.RecordDto;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.entity.RecordLedgerVerification;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerRootRepository;
+import com.rstracker.repository.RecordLedgerVerificationRepository;
+import com.rstracker.service.AnswerService;
+import com.rstracker.service.MatchingService;
+import com.rstracker.service.RecordService;
+import com.rstracker.service.metrics.ServiceMetrics;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 원장 전체 검증 통합 테스트
+ *
+ * 같은 DB의 다른 테스트가 변조한 기록도 함께 검증되므로, 이 테스트에서 만든 기록의 결과만 확인합니다.
+ */
+@DisplayName("기록 원장 검증 통합 테스트")
+class RecordLedgerVerifierIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private AnswerService answerService;
+
+    @Autowired
+    private RecordService recordService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private RecordLedgerRepository recordLedgerRepository;
+
+    @Autowired
+    private RecordLedgerRootRepository recordLedgerRootRepository;
+
+    @Autowired
+    private RecordLedgerVerificationRepository verificationRepository;
+
+    @Autowired
+    private RecordLedgerSigner recordLedgerSigner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordLedgerAppender appender;
+
+    private RecordLedgerVerifier verifier;
+
+    private Question question;
+
+    @BeforeEach
+    void setUp() {
+        LedgerProperties properties = new LedgerProperties();
+        properties.setMaxBatchesPerRun(Integer.MAX_VALUE);
+        properties.setVerificationInterval(Duration.ZERO);
+        properties.setVerificationChunkSize(7);
+        properties.setVerificationParallelism(3);
+        properties.setVerificationFetchSize(5);
+        properties.setVerificationMaxRecordsPerSecond(0);
+        appender = new RecordLedgerAppender(recordLedgerRepository, recordLedgerRootRepository, recordLedgerSigner,
+                transactionManager, properties, serviceMetrics);
+        verifier = new RecordLedgerVerifier(recordLedgerRepository, verificationRepository,
+                transactionManager, properties, serviceMetrics);
+
+        question = new Question();
+        question.setQuestionText("원장 검증 테스트 질문");
+        question.setQuestionType("context");
+        question.setOrder(401);
+        question.setIsActive(false);
+        QuestionChoice choice = new QuestionChoice();
+        choice.setQuestion(question);
+        choice.setChoiceText("선택지");
+        choice.setChoiceValue("verify");
+        choice.setOrder(1);
+        choice.setTemperatureWeight(0.5);
+        question.getChoices().add(choice);
+        question = questionRepository.save(question);
+    }
+
+    @Test
+    @DisplayName("변경되지 않은 기록은 모두 일치하고 모든 청크에 체크포인트가 남음")
+    void verify_UntouchedRecords_NoMismatch() {
+        // given
+        List<RecordDto> records = List.of(newRecord(), newRecord(), newRecord());
+        appender.appendPending();
+
+        // when
+        RecordLedgerVerification verification = verifier.verifyIfDue(LocalDateTime.now()).orElseThrow();
+
+        // then
+        assertThat(verification.getStatus()).isEqualTo(RecordLedgerVerification.Status.COMPLETED);
+        assertThat(verification.getVerifiedCount()).isGreaterThanOrEqualTo(records.size());
+        assertThat(verificationRepository.findCompletedChunkStarts(verification.getId()))
+                .hasSize((int) verification.chunkCount());
+        assertThat(verificationRepository.findMismatchedRecordIds(verification.getId()))
+                .doesNotContainAnyElementsOf(records.stream().map(RecordDto::getRecordId).toList());
+    }
+
+    @Test
+    @DisplayName("원장 추가 후 바뀐 기록과 잎이 없는 기록을 기록 ID로 보고")
+    void verify_TamperedRecords_ReportsRecordIds() {
+        // given
+        RecordDto untouched = newRecord();
+        RecordDto tampered = newRecord();
+        RecordDto leafMissing = newRecord();
+        appender.appendPending();
+        jdbcTemplate.update("UPDATE records SET summary = '{}'::jsonb WHERE record_id = ?", tampered.getRecordId());
+        jdbcTemplate.update("UPDATE records SET ledger_index = ledger_index + 1000000000 WHERE record_id = ?",
+                leafMissing.getRecordId());
+
+        // when
+        RecordLedgerVerification verification = verifier.verifyIfDue(LocalDateTime.now()).orElseThrow();
+
+        // then
+        assertThat(verificationRepository.findMismatchedRecordIds(verification.getId()))
+                .contains(tampered.getRecordId(), leafMissing.getRecordId())
+                .doesNotContain(untouched.getRecordId());
+        assertThat(reason(verification, tampered)).isEqualTo(RecordLedgerVerifier.REASON_HASH_MISMATCH);
+        assertThat(reason(verification, leafMissing)).isEqualTo(RecordLedgerVerifier.REASON_LEAF_MISSING);
+        assertThat(verification.getMismatchCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중단된 검증은 체크포인트가 없는 청크부터 이어서 검증")
+    void verify_RunningVerification_ResumesFromCheckpoint() {
+        // given: 두 기록을 변조하고, 첫 기록의 청크는 이미 끝난 것으로 기록
+        RecordDto checkpointed = newRecord();
+        RecordDto remaining = newRecord();
+        appender.appendPending();
+        long firstId = recordKey(checkpointed);
+        long lastId = recordKey(remaining);
+        jdbcTemplate.update("UPDATE records SET temperature = temperature + 0.01 WHERE record_id IN (?, ?)",
+                checkpointed.getRecordId(), remaining.getRecordId());
+        RecordLedgerVerification running = verificationRepository.save(
+                new RecordLedgerVerification(firstId, lastId, 1, LocalDateTime.now()));
+        jdbcTemplate.update("INSERT INTO record_ledger_verification_chunks VALUES (?, ?, 1, 0, now())",
+                running.getId(), firstId);
+
+        // when
+        RecordLedgerVerification verification = verifier.verifyIfDue(LocalDateTime.now()).orElseThrow();
+
+        // then
+        assertThat(verification.getId()).isEqualTo(running.getId());
+        assertThat(verification.getStatus()).isEqualTo(RecordLedgerVerification.Status.COMPLETED);
+        assertThat(verificationRepository.findMismatchedRecordIds(running.getId()))
+                .containsExactly(remaining.getRecordId());
+        assertThat(verification.getVerifiedCount()).isEqualTo(lastId - firstId + 1);
+    }
+
+    private String reason(RecordLedgerVerification verification, RecordDto record) {
+        return jdbcTemplate.queryForObject(
+                "SELECT reason FROM record_ledger_mismatches WHERE verification_id = ? AND record_id = ?",
+                String.class, verification.getId(), record.getRecordId());
+    }
+
+    private long recordKey(RecordDto record) {
+        return jdbcTemplate.queryForObject("SELECT id FROM records WHERE record_id = ?", Long.class, record.getRecordId());
+    }
+
+    private RecordDto newRecord() {
+        MatchingDto matching = matchingService.createMatching();
+        for (int i = 0; i < 2; i++) {
+            ParticipantDto participant = matchingService.joinMatching(matching.getCode());
+            answerService.submitAnswers(participant.getParticipantCode(), List.of(
+                    new AnswerCreateDto(question.getId(), question.getChoices().get(0).getId())));
+        }
+        return recordService.createRecord(matching.getId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.rstracker.service.ledger;
+
+import com.rstracker.config.LedgerProperties;
+import com.rstracker.entity.RecordLedgerVerification;
+import com.rstracker.repository.RecordLedgerRepository;
+import com.rstracker.repository.RecordLedgerVerificationRepository;
+import com.rstracker.service.metrics.ServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecordLedgerVerifier 단위 테스트 (스케줄 실행 방식)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecordLedgerVerifier 테스트")
+class RecordLedgerVerifierTest {
+
+    @Mock
+    private RecordLedgerRepository recordLedgerRepository;
+
+    @Mock
+    private RecordLedgerVerificationRepository verificationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RecordLedgerVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        verifier = new RecordLedgerVerifier(recordLedgerRepository, verificationRepository, transactionManager,
+                new LedgerProperties(), new ServiceMetrics(new SimpleMeterRegistry(), false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.close();
+    }
+
+    @Test
+    @DisplayName("검증을 실행기에 넘기고 바로 반환하며, 진행 중이면 새로 넘기지 않음")
+    void run_HandsPassOffWithoutBlockingScheduler() throws InterruptedException {
+        // given
+        CountDownLatch passStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(verificationRepository.findFirstByStatusOrderByIdAsc(RecordLedgerVerification.Status.RUNNING))
+                .thenAnswer(invocation -> {
+                    passStarted.countDown();
+                    release.await();
+                    return Optional.empty();
+                });
+        when(recordLedgerRepository.tryLockForVerificationStart()).thenReturn(false);
+
+        // when
+        verifier.run();
+        assertThat(passStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        verifier.run();
+        release.countDown();
+
+        // then
+        verify(verificationRepository, timeout(5_000)).findFirstByStatusOrderByIdAsc(RecordLedgerVerification.Status.RUNNING);
+        verify(recordLedgerRepository, timeout(5_000)).tryLockForVerificationStart();
+        verifyNoMoreInteractions(verificationRepository);
+    }
+}
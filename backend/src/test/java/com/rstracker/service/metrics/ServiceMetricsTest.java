@@ -0,0 +1,90 @@
+package com.rstracker.service.metrics;
+
+import com.rstracker.exception.BusinessException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ServiceMetrics 단위 테스트
+ */
+@DisplayName("ServiceMetrics 테스트")
+class ServiceMetricsTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("참여 거절은 사유 태그별로 집계")
+    void joinRejected_CountsByReason() {
+        // given
+        ServiceMetrics metrics = new ServiceMetrics(meterRegistry, true);
+
+        // when
+        metrics.joinRejected(ServiceMetrics.REASON_FULL);
+        metrics.joinRejected(ServiceMetrics.REASON_FULL);
+        metrics.joinRejected(ServiceMetrics.REASON_CLOSED);
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetrics.JOIN_REJECTIONS).tag("reason", "full").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get(ServiceMetrics.JOIN_REJECTIONS).tag("reason", "closed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("기록 생성 실패는 예외 타입별로 집계")
+    void recordCreationFailed_TagsExceptionType() {
+        // given
+        ServiceMetrics metrics = new ServiceMetrics(meterRegistry, true);
+
+        // when
+        metrics.recordCreationFailed(new BusinessException("이미 기록이 생성되었습니다"));
+
+        // then
+        assertThat(meterRegistry.get(ServiceMetrics.RECORD_CREATION_FAILURES)
+                .tag("exception", "BusinessException").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("온도 분포는 0.1 단위 버킷으로 기록")
+    void temperatureComputed_RecordsDistribution() {
+        // given
+        ServiceMetrics metrics = new ServiceMetrics(meterRegistry, true);
+
+        // when
+        metrics.temperatureComputed(0.25);
+        metrics.temperatureComputed(0.75);
+
+        // then
+        DistributionSummary summary = meterRegistry.get(ServiceMetrics.TEMPERATURE).summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.mean()).isEqualTo(0.5);
+        assertThat(summary.takeSnapshot().histogramCounts()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 미터를 등록하지 않음")
+    void disabled_RegistersNothing() {
+        // given
+        ServiceMetrics metrics = new ServiceMetrics(meterRegistry, false);
+
+        // when
+        metrics.codeGenerationRetried();
+        metrics.joinRejected(ServiceMetrics.REASON_FULL);
+        metrics.recordCreationFailed(new IllegalStateException());
+        metrics.temperatureComputed(0.5);
+
+        // then
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
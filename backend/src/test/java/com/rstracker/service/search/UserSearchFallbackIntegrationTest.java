@@ -0,0 +1,65 @@
+package com.rstracker.service.search;
+
+import com.rstracker.dto.UserSearchResultDto;
+import com.rstracker.entity.User;
+import com.rstracker.repository.UserRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 색인이 준비되기 전 pg_trgm 대체 검색 통합 테스트
+ */
+@DisplayName("회원 대체 검색 통합 테스트")
+class UserSearchFallbackIntegrationTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Test
+    @DisplayName("유사도가 높은 짧은 부분 문자열 일치가 후보 수보다 많아도 긴 접두어 일치가 먼저 반환됨")
+    void searchByTrigram_ManySubstringHits_KeepsPrefixMatchFirst() {
+        // given: 부분 문자열 일치는 아이디가 짧아 접두어 일치보다 유사도가 높음
+        String token = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            users.add(newUser("a" + token + i));
+        }
+        User prefixMatch = newUser(token + "_with_a_much_longer_suffix");
+        users.add(prefixMatch);
+        userRepository.saveAll(users);
+
+        // when
+        List<UserSearchResultDto> results = userSearchIndex.searchByTrigram(token, 2);
+
+        // then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getId()).isEqualTo(prefixMatch.getId());
+        assertThat(results.get(0).getMatchType()).isEqualTo(UserSearchIndex.MATCH_PREFIX);
+        assertThat(results.get(1).getMatchType()).isEqualTo(UserSearchIndex.MATCH_SUBSTRING);
+    }
+
+    private static User newUser(String userid) {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        User user = new User();
+        user.setUserid(userid);
+        user.setPhoneNumber("010" + suffix);
+        user.setName("대체 검색 테스트");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setGender(User.Gender.OTHER);
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+}
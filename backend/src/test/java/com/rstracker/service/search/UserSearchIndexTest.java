@@ -0,0 +1,132 @@
+package com.rstracker.service.search;
+
+import com.rstracker.dto.UserSearchResultDto;
+import com.rstracker.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserSearchIndex 단위 테스트
+ * 트랜잭션 없이 호출하므로 색인 변경이 즉시 반영됩니다.
+ */
+@DisplayName("UserSearchIndex 테스트")
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(null, null);
+        index.index(createUser(1L, "kimminsu", "김민수", "010-1234-5678"));
+        index.index(createUser(2L, "kimminji", "김민지", "010-2222-3333"));
+        index.index(createUser(3L, "leejihoon", "이지훈", "010-9876-5432"));
+        index.index(createUser(4L, "parkmin", "박민", "011-555-0000"));
+    }
+
+    @Test
+    @DisplayName("접두어 검색은 정확히 일치하는 결과를 가장 먼저 반환")
+    void search_Prefix_RanksExactFirst() {
+        // given
+        index.index(createUser(5L, "kim", "김", "010-0000-0000"));
+
+        // when
+        List<UserSearchResultDto> results = index.search("kim", 10);
+
+        // then
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactly(5L, 1L, 2L);
+        assertThat(results.get(0).getMatchType()).isEqualTo(UserSearchIndex.MATCH_EXACT);
+        assertThat(results.get(1).getMatchType()).isEqualTo(UserSearchIndex.MATCH_PREFIX);
+    }
+
+    @Test
+    @DisplayName("한 글자 이름 접두어 검색")
+    void search_SingleCharacterName() {
+        List<UserSearchResultDto> results = index.search("김", 10);
+
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(results).allMatch(result -> UserSearchIndex.FIELD_NAME.equals(result.getMatchedField()));
+    }
+
+    @Test
+    @DisplayName("부분 문자열 검색")
+    void search_Substring() {
+        List<UserSearchResultDto> results = index.search("jiho", 10);
+
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactly(3L);
+        assertThat(results.get(0).getMatchType()).isEqualTo(UserSearchIndex.MATCH_SUBSTRING);
+    }
+
+    @Test
+    @DisplayName("전화번호는 하이픈 없이도 검색")
+    void search_PhoneNumberDigits() {
+        List<UserSearchResultDto> results = index.search("98765", 10);
+
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactly(3L);
+        assertThat(results.get(0).getMatchedField()).isEqualTo(UserSearchIndex.FIELD_PHONE_NUMBER);
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 유사도 검색으로 찾음")
+    void search_Fuzzy() {
+        List<UserSearchResultDto> results = index.search("leejihun", 10);
+
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactly(3L);
+        assertThat(results.get(0).getMatchType()).isEqualTo(UserSearchIndex.MATCH_FUZZY);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 색인에 반영됨")
+    void index_UpdateAndRemove() {
+        // when
+        index.index(createUser(3L, "choijihoon", "최지훈", "010-9876-5432"));
+        User deleted = createUser(4L, "parkmin", "박민", "011-555-0000");
+        deleted.setStatus(User.UserStatus.DELETED);
+        index.index(deleted);
+
+        // then
+        assertThat(index.search("leejihoon", 10)).isEmpty();
+        assertThat(index.search("choi", 10)).extracting(UserSearchResultDto::getId).containsExactly(3L);
+        assertThat(index.search("parkmin", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    void search_Limit() {
+        List<UserSearchResultDto> results = index.search("010", 2);
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("후보가 상한을 넘어도 문서 ID가 큰 정확 일치와 가까운 접두어 일치가 남음")
+    void search_ManyPrefixCandidates_KeepsExactMatch() {
+        // given
+        for (long id = 100; id < 25_100; id++) {
+            index.index(createUser(id, "kimuser" + id, "회원", null));
+        }
+        index.index(createUser(30_000L, "kimz", "최근회원", null));
+        index.index(createUser(30_001L, "kim", "김", null));
+
+        // when
+        List<UserSearchResultDto> results = index.search("kim", 2);
+
+        // then
+        assertThat(results).extracting(UserSearchResultDto::getId).containsExactly(30_001L, 30_000L);
+        assertThat(results.get(0).getMatchType()).isEqualTo(UserSearchIndex.MATCH_EXACT);
+    }
+
+    private User createUser(Long id, String userid, String name, String phoneNumber) {
+        User user = new User();
+        user.setId(id);
+        user.setUserid(userid);
+        user.setName(name);
+        user.setPhoneNumber(phoneNumber);
+        return user;
+    }
+}
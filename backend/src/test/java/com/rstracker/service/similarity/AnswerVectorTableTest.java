@@ -0,0 +1,106 @@
+package com.rstracker.service.similarity;
+
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.service.similarity.AnswerVectorTable.Neighbor;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AnswerVectorTable / AnswerVectorEncoder 단위 테스트
+ *
+ * 상위 k개를 모든 벡터의 거리를 계산해 정렬한 결과와 비교합니다.
+ */
+@DisplayName("AnswerVectorTable 테스트")
+class AnswerVectorTableTest {
+
+    @Test
+    @DisplayName("상위 k개가 전체 정렬 결과와 같음 (같은 거리는 최근 기록 먼저)")
+    void nearest_MatchesBruteForce() {
+        // given
+        Random random = new Random(7);
+        AnswerVectorTable table = new AnswerVectorTable(16);
+        List<long[]> live = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            long vector = randomVector(random);
+            table.add(id, vector);
+            live.add(new long[]{id, vector});
+        }
+        for (int i = 0; i < 1500; i++) {
+            long[] removed = live.remove(random.nextInt(live.size()));
+            assertThat(table.remove(removed[0])).isTrue();
+        }
+
+        // when & then
+        SoftAssertions softly = new SoftAssertions();
+        for (int query = 0; query < 50; query++) {
+            long vector = randomVector(random);
+            long exclude = live.get(random.nextInt(live.size()))[0];
+            int limit = 1 + random.nextInt(30);
+            List<Neighbor> expected = live.stream()
+                    .filter(entry -> entry[0] != exclude)
+                    .map(entry -> new Neighbor(entry[0], AnswerVectorEncoder.distance(vector, entry[1])))
+                    .sorted(Comparator.comparingInt(Neighbor::distance).thenComparing(Neighbor::recordId, Comparator.reverseOrder()))
+                    .limit(limit)
+                    .toList();
+            softly.assertThat(table.nearest(vector, exclude, limit)).as("query %d", query).isEqualTo(expected);
+        }
+        softly.assertAll();
+        assertThat(table.size()).isEqualTo(live.size());
+        assertThat(table.remove(-5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("질문별 선택지 순서가 비트 위치가 되고 거리는 한쪽만 고른 선택지 수")
+    void encode_DistanceCountsDifferentChoices() {
+        // given
+        AnswerVectorEncoder encoder = AnswerVectorEncoder.of(List.of(3, 5),
+                List.of(question(3, "awkward", "comfortable", "excited"), question(5, "conversation_only", "hug"),
+                        question(6, "ok")));
+
+        // when
+        long same = encoder.encode(Map.of("Q3", List.of("excited"), "Q5", List.of("hug")));
+        long oneDifferent = encoder.encode(Map.of("Q3", List.of("comfortable", "excited"), "Q5", List.of("hug")));
+        long allDifferent = encoder.encode(Map.of("Q3", List.of("awkward"), "Q5", List.of("conversation_only"),
+                "Q6", List.of("ok"), "Q9", List.of("unknown")));
+
+        // then
+        assertThat(same).isEqualTo((1L << 2) | (1L << 9));
+        assertThat(AnswerVectorEncoder.distance(same, oneDifferent)).isEqualTo(1);
+        assertThat(AnswerVectorEncoder.distance(same, allDifferent)).isEqualTo(4);
+        assertThat(encoder.encode(null)).isZero();
+    }
+
+    /**
+     * 질문 6개, 질문마다 선택지 1~2개 (두 참여자의 응답)
+     */
+    private static long randomVector(Random random) {
+        long vector = 0;
+        for (int slot = 0; slot < 6; slot++) {
+            vector |= 1L << (slot * 8 + random.nextInt(4));
+            vector |= 1L << (slot * 8 + random.nextInt(4));
+        }
+        return vector;
+    }
+
+    private static Question question(int order, String... values) {
+        Question question = new Question();
+        question.setOrder(order);
+        for (int i = 0; i < values.length; i++) {
+            QuestionChoice choice = new QuestionChoice();
+            choice.setChoiceValue(values[i]);
+            choice.setOrder(i + 1);
+            question.getChoices().add(choice);
+        }
+        return question;
+    }
+}
@@ -0,0 +1,166 @@
+package com.rstracker.service.similarity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rstracker.config.RecordSimilarityProperties;
+import com.rstracker.dto.SimilarRecordDto;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.QuestionRepository;
+import com.rstracker.repository.RecordRepository;
+import com.rstracker.repository.RecordSimilarityRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 유사 기록 색인 통합 테스트
+ *
+ * 기동 시 비동기로 만들어지는 색인과 섞이지 않도록 테스트마다 새 질문 순서 두 개로 색인을 직접 만듭니다.
+ * 다른 기록은 이 질문에 답하지 않았으므로 질의 벡터의 비트 수만큼 떨어져 있습니다.
+ */
+@DisplayName("유사 기록 색인 통합 테스트")
+class RecordSimilarityIntegrationTest extends IntegrationTestSupport {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private RecordSimilarityRepository recordSimilarityRepository;
+
+    @Autowired
+    private RecordRepository recordRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordSimilarityIndex index;
+
+    private RecordSimilarityService service;
+
+    private int firstOrder;
+
+    @BeforeEach
+    void setUp() {
+        firstOrder = 10_000 + ThreadLocalRandom.current().nextInt(1_000_000) * 2;
+        questionRepository.save(question(firstOrder, "a", "b", "c"));
+        questionRepository.save(question(firstOrder + 1, "x", "y", "z"));
+        RecordSimilarityProperties properties = new RecordSimilarityProperties();
+        properties.setQuestionOrders(List.of(firstOrder, firstOrder + 1));
+        properties.setFetchSize(7);
+        index = new RecordSimilarityIndex(recordSimilarityRepository, questionRepository, properties, transactionManager);
+        service = new RecordSimilarityService(recordRepository, index);
+    }
+
+    @Test
+    @DisplayName("응답 거리 순으로 활성 기록을 찾고 질의 기록과 비활성 기록은 제외")
+    void findSimilarRecords_OrderedByDistance() {
+        // given
+        String query = insertRecord(choices(List.of("a", "b"), List.of("x", "y")), true);
+        String same = insertRecord(choices(List.of("a", "b"), List.of("x", "y")), true);
+        String oneApart = insertRecord(choices(List.of("a"), List.of("x", "y")), true);
+        String threeApart = insertRecord(choices(List.of("c"), List.of("x", "y")), true);
+        insertRecord(choices(List.of("a", "b"), List.of("x", "y")), false);
+        index.rebuild();
+
+        // when
+        List<SimilarRecordDto> similar = service.findSimilarRecords(query, 3);
+
+        // then
+        assertThat(similar).extracting(SimilarRecordDto::getRecordId).containsExactly(same, oneApart, threeApart);
+        assertThat(similar).extracting(SimilarRecordDto::getDistance).containsExactly(0, 1, 3);
+        assertThat(similar.get(0).getAnswerChoices()).containsEntry("Q" + firstOrder, List.of("a", "b"));
+    }
+
+    @Test
+    @DisplayName("생성/비활성화가 재구축 없이 결과에 반영됨")
+    void mutations_UpdateResults() {
+        // given
+        String query = insertRecord(choices(List.of("a", "c"), List.of("y", "z")), true);
+        index.rebuild();
+        int before = index.size();
+        String created = insertRecord(choices(List.of("a", "c"), List.of("y", "z")), true);
+        Long createdId = recordRepository.findByRecordId(created).orElseThrow().getId();
+
+        // when
+        index.addAfterCommit(createdId, choices(List.of("a", "c"), List.of("y", "z")));
+        List<SimilarRecordDto> afterCreate = service.findSimilarRecords(query, 1);
+        jdbcTemplate.update("UPDATE records SET is_active = FALSE WHERE id = ?", createdId);
+        index.removeAfterCommit(createdId);
+
+        // then
+        assertThat(afterCreate).extracting(SimilarRecordDto::getRecordId).containsExactly(created);
+        assertThat(index.size()).isEqualTo(before);
+        assertThat(index.findSimilar(null, choices(List.of("a", "c"), List.of("y", "z")), 5))
+                .noneMatch(neighbor -> neighbor.recordId() == createdId);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전에는 요청이 거절됨")
+    void findSimilarRecords_NotReady_ThrowsException() {
+        // given
+        String query = insertRecord(choices(List.of("b"), List.of("x")), true);
+
+        // when & then
+        assertThatThrownBy(() -> service.findSimilarRecords(query, 5))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private String insertRecord(Map<String, List<String>> answerChoices, boolean active) {
+        String recordId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO records (record_id, matching_id, temperature, temperature_diff, is_active, created_at, answer_choices) "
+                        + "VALUES (?, ?, 0.5, 0.0, ?, ?, CAST(? AS jsonb))",
+                recordId, -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1, active,
+                LocalDateTime.now(), json(answerChoices));
+        return recordId;
+    }
+
+    private Map<String, List<String>> choices(List<String> first, List<String> second) {
+        return Map.of("Q" + firstOrder, first, "Q" + (firstOrder + 1), second);
+    }
+
+    private static String json(Map<String, List<String>> answerChoices) {
+        try {
+            return JSON.writeValueAsString(answerChoices);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Question question(int order, String... values) {
+        Question question = new Question();
+        question.setQuestionText("유사 기록 테스트 질문 " + order);
+        question.setQuestionType("context");
+        question.setOrder(order);
+        question.setIsActive(false);
+        for (int i = 0; i < values.length; i++) {
+            QuestionChoice choice = new QuestionChoice();
+            choice.setQuestion(question);
+            choice.setChoiceText(values[i]);
+            choice.setChoiceValue(values[i]);
+            choice.setOrder(i + 1);
+            choice.setTemperatureWeight(0.5);
+            question.getChoices().add(choice);
+        }
+        return question;
+    }
+}
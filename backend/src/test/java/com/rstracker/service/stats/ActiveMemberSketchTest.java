@@ -0,0 +1,93 @@
+package com.rstracker.service.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ActiveMemberSketch 단위 테스트
+ */
+@DisplayName("ActiveMemberSketch 테스트")
+class ActiveMemberSketchTest {
+
+    @Test
+    @DisplayName("추정값의 오차가 2% 이내이고 오차 범위 안에 실제 값이 있음")
+    void estimate_WithinBound() {
+        // given
+        int members = 200_000;
+        ActiveMemberSketch sketch = new ActiveMemberSketch();
+        for (int i = 0; i < members; i++) {
+            sketch.add("u:" + i);
+        }
+
+        // when & then
+        assertThat(Math.abs(sketch.estimate() - members) / members).isLessThan(0.02);
+        assertThat(sketch.lowerBound()).isLessThanOrEqualTo(members);
+        assertThat(sketch.upperBound()).isGreaterThanOrEqualTo(members);
+    }
+
+    @Test
+    @DisplayName("날짜별 스케치의 합집합은 겹치는 멤버를 한 번만 셈")
+    void union_CountsOverlapOnce() {
+        // given: 30일 동안 매일 1,000명 중 400명은 매일 활동
+        ActiveMemberSketch month = new ActiveMemberSketch();
+        for (int day = 0; day < 30; day++) {
+            ActiveMemberSketch daily = new ActiveMemberSketch();
+            for (int i = 0; i < 400; i++) {
+                daily.add("u:" + i);
+            }
+            for (int i = 0; i < 600; i++) {
+                daily.add("p:" + day + "-" + i);
+            }
+            // 저장했다 읽은 스케치를 합침 (조회 경로와 같음)
+            month.union(ActiveMemberSketch.fromBytes(daily.toBytes()));
+        }
+        int distinct = 400 + 30 * 600;
+
+        // when & then
+        assertThat(Math.abs(month.estimate() - distinct) / distinct).isLessThan(0.02);
+        assertThat(month.lowerBound()).isLessThanOrEqualTo(distinct);
+        assertThat(month.upperBound()).isGreaterThanOrEqualTo(distinct);
+    }
+
+    @Test
+    @DisplayName("같은 멤버를 다시 넣거나 같은 스케치를 다시 합쳐도 저장되는 스케치가 같음")
+    void addAndUnion_Idempotent() {
+        // given
+        ActiveMemberSketch sketch = new ActiveMemberSketch();
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("u:" + i);
+        }
+        byte[] bytes = sketch.toBytes();
+
+        // when
+        for (int i = 0; i < 5000; i++) {
+            sketch.add("u:" + i);
+        }
+        sketch.union(ActiveMemberSketch.fromBytes(bytes));
+
+        // then
+        assertThat(ActiveMemberSketch.fromBytes(sketch.toBytes()).estimate())
+                .isEqualTo(ActiveMemberSketch.fromBytes(bytes).estimate());
+    }
+
+    @Test
+    @DisplayName("멤버가 적은 날의 스케치는 작고 정확함")
+    void smallSketch_CompactAndExact() {
+        // given
+        ActiveMemberSketch sketch = new ActiveMemberSketch();
+        for (int i = 0; i < 20; i++) {
+            sketch.add("p:" + i);
+        }
+
+        // when
+        byte[] bytes = sketch.toBytes();
+
+        // then
+        assertThat(bytes.length).isLessThan(200);
+        assertThat(ActiveMemberSketch.fromBytes(bytes).estimate()).isCloseTo(20.0, within(0.01));
+        assertThat(new ActiveMemberSketch().toBytes().length).isLessThanOrEqualTo(8 * 1024 + 64);
+    }
+}
@@ -0,0 +1,153 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.ActiveMemberStatsProperties;
+import com.rstracker.dto.ActiveMemberCountDto;
+import com.rstracker.dto.ActiveMemberSummaryDto;
+import com.rstracker.dto.MatchingDto;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.ActiveMemberRepository;
+import com.rstracker.service.MatchingService;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 활동 멤버 수 통합 테스트
+ *
+ * 스케치 갱신 작업은 IntegrationTestSupport에서 꺼져 있으므로 직접 실행합니다.
+ * 같은 DB의 다른 테스트 참여자도 함께 읽히므로 오늘 집계는 실행 전후 차이로 확인합니다.
+ */
+@DisplayName("활동 멤버 수 통합 테스트")
+class ActiveMemberStatsIntegrationTest extends IntegrationTestSupport {
+
+    /** 재구축 테스트용 과거 날짜 (다른 테스트의 참여자가 없는 날짜) */
+    private static final LocalDate HISTORY_DATE = LocalDate.of(2019, 3, 1);
+
+    @Autowired
+    private ActiveMemberStatsService activeMemberStatsService;
+
+    @Autowired
+    private ActiveMemberRepository activeMemberRepository;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ActiveMemberSketcher sketcher;
+
+    private Long matchingId;
+
+    @BeforeEach
+    void setUp() {
+        ActiveMemberStatsProperties properties = new ActiveMemberStatsProperties();
+        properties.setFetchSize(50);
+        sketcher = new ActiveMemberSketcher(activeMemberRepository, transactionManager, properties);
+
+        MatchingDto matching = matchingService.createMatching();
+        matchingId = matching.getId();
+    }
+
+    @Test
+    @DisplayName("새 참여와 로그인이 오늘 집계에 정확히 반영되고, 다시 읽어도 중복으로 세지 않음")
+    void scan_CountsTodayExactly() {
+        // given
+        sketcher.scan(LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+        ActiveMemberCountDto participantsBefore = activeMemberStatsService.countActiveMembers(ActiveMemberMetric.PARTICIPANTS, today, today);
+        ActiveMemberCountDto usersBefore = activeMemberStatsService.countActiveMembers(ActiveMemberMetric.USERS, today, today);
+
+        long member = insertUser(null);
+        insertUser(LocalDateTime.now());
+        LocalDateTime joinedAt = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            insertParticipant(null, joinedAt);
+        }
+        insertParticipant(member, joinedAt);
+        insertParticipant(member, joinedAt);
+
+        // when
+        sketcher.scan(LocalDateTime.now().plusSeconds(1));
+        sketcher.scan(LocalDateTime.now().plusSeconds(2));
+        ActiveMemberCountDto participants = activeMemberStatsService.countActiveMembers(ActiveMemberMetric.PARTICIPANTS, today, today);
+        ActiveMemberCountDto users = activeMemberStatsService.countActiveMembers(ActiveMemberMetric.USERS, today, today);
+
+        // then
+        assertThat(participants.getExact()).isTrue();
+        assertThat(participants.getCount()).isEqualTo(participantsBefore.getCount() + 4);
+        assertThat(users.getCount()).isEqualTo(usersBefore.getCount() + 2);
+        assertThat(users.getLowerBound()).isEqualTo(users.getCount());
+    }
+
+    @Test
+    @DisplayName("과거 기간은 재구축한 날짜별 스케치의 합집합으로 추정하고, 실제 값이 오차 범위 안에 있음")
+    void rebuild_EstimatesHistoryWithinBound() {
+        // given: 사흘 동안 같은 회원 40명이 매일 참여하고, 비회원은 날마다 10명씩 새로 참여
+        List<Long> members = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            members.add(insertUser(null));
+        }
+        for (int day = 0; day < 3; day++) {
+            LocalDateTime joinedAt = HISTORY_DATE.plusDays(day).atTime(10, 0);
+            members.forEach(member -> insertParticipant(member, joinedAt));
+            for (int i = 0; i < 10; i++) {
+                insertParticipant(null, joinedAt);
+            }
+        }
+
+        // when
+        sketcher.rebuild(HISTORY_DATE, HISTORY_DATE.plusDays(3));
+        sketcher.rebuild(HISTORY_DATE, HISTORY_DATE.plusDays(3));
+        ActiveMemberCountDto participants = activeMemberStatsService.countActiveMembers(ActiveMemberMetric.PARTICIPANTS,
+                HISTORY_DATE, HISTORY_DATE.plusDays(2));
+        ActiveMemberSummaryDto users = activeMemberStatsService.getSummary(ActiveMemberMetric.USERS, HISTORY_DATE.plusDays(2));
+
+        // then
+        assertThat(participants.getExact()).isFalse();
+        assertThat(participants.getLowerBound()).isLessThanOrEqualTo(70L);
+        assertThat(participants.getUpperBound()).isGreaterThanOrEqualTo(70L);
+        assertThat(participants.getCount()).isEqualTo(70L);
+        assertThat(users.getDaily().getCount()).isEqualTo(40L);
+        assertThat(users.getWeekly().getCount()).isEqualTo(40L);
+        assertThat(users.getMonthly().getCount()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("시작 날짜가 종료 날짜보다 늦으면 거절됨")
+    void countActiveMembers_InvalidRange_ThrowsException() {
+        assertThatThrownBy(() -> activeMemberStatsService.countActiveMembers(ActiveMemberMetric.USERS,
+                HISTORY_DATE.plusDays(1), HISTORY_DATE))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private long insertUser(LocalDateTime lastLoginAt) {
+        String userid = "hll-" + UUID.randomUUID();
+        String phoneNumber = "010" + ThreadLocalRandom.current().nextLong(10_000_000L, 100_000_000L);
+        return jdbcTemplate.queryForObject("INSERT INTO users (userid, phone_number, name, birth_date, gender, last_login_at) "
+                        + "VALUES (?, ?, '테스트', DATE '1990-01-01', 'OTHER', ?) RETURNING id",
+                Long.class, userid, phoneNumber, lastLoginAt);
+    }
+
+    private void insertParticipant(Long userId, LocalDateTime joinedAt) {
+        jdbcTemplate.update("INSERT INTO participants (matching_id, participant_code, joined_at, user_id) VALUES (?, ?, ?, ?)",
+                matchingId, UUID.randomUUID().toString(), joinedAt, userId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.RecordRankProperties;
+import com.rstracker.repository.RecordRankRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 온도 백분위 색인 통합 테스트
+ *
+ * 기동 시 비동기로 만들어지는 색인과 섞이지 않도록 색인을 직접 만들어 재구축합니다.
+ * 같은 DB의 다른 테스트 기록도 포함되므로 기대값은 SQL로 정확히 센 비율로 확인합니다.
+ */
+@DisplayName("기록 온도 백분위 색인 통합 테스트")
+class RecordPercentileIntegrationTest extends IntegrationTestSupport {
+
+    /** 구간 경계에 놓인 조회 온도 (구간 안의 반올림 없이 SQL 비교와 일치) */
+    private static final double[] BOUNDARIES = {0.1, 0.25, 0.5, 0.75, 0.9};
+
+    @Autowired
+    private RecordRankRepository recordRankRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordPercentileIndex index;
+
+    @BeforeEach
+    void setUp() {
+        RecordRankProperties properties = new RecordRankProperties();
+        properties.setBins(100);
+        properties.setFetchSize(7);
+        index = new RecordPercentileIndex(recordRankRepository, properties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("재구축한 백분위가 활성 기록을 SQL로 센 비율과 같음")
+    void rebuild_MatchesExactFraction() {
+        // given
+        for (int i = 0; i < 40; i++) {
+            insertRecord(i / 40.0, i % 5 != 0);
+        }
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(activeCount());
+        SoftAssertions softly = new SoftAssertions();
+        for (double boundary : BOUNDARIES) {
+            softly.assertThat(index.percentileOf(boundary)).as("percentile of %s", boundary)
+                    .isEqualTo(exactPercentile(boundary));
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("생성/비활성화가 재구축 없이 백분위에 반영됨")
+    void mutations_UpdatePercentile() {
+        // given
+        index.rebuild();
+        long before = index.size();
+        long created = insertRecord(0.05, true);
+
+        // when
+        index.addAfterCommit(created, 0.05);
+        long afterCreate = index.size();
+        jdbcTemplate.update("UPDATE records SET is_active = FALSE WHERE id = ?", created);
+        index.removeAfterCommit(created, 0.05);
+
+        // then
+        assertThat(afterCreate).isEqualTo(before + 1);
+        assertThat(index.size()).isEqualTo(before);
+        assertThat(index.size()).isEqualTo(activeCount());
+        assertThat(index.percentileOf(0.5)).isEqualTo(exactPercentile(0.5));
+    }
+
+    @Test
+    @DisplayName("준비되기 전이나 온도가 없으면 백분위는 null")
+    void percentileOf_NotReady_ReturnsNull() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.percentileOf(0.5)).isNull();
+        index.rebuild();
+        assertThat(index.percentileOf(null)).isNull();
+    }
+
+    private long insertRecord(double temperature, boolean active) {
+        return jdbcTemplate.queryForObject("INSERT INTO records (record_id, matching_id, temperature, temperature_diff, is_active, created_at) "
+                        + "VALUES (?, ?, ?, 0.0, ?, ?) RETURNING id", Long.class,
+                UUID.randomUUID().toString(), -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1,
+                temperature, active, LocalDateTime.now());
+    }
+
+    private long activeCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM records WHERE is_active AND temperature IS NOT NULL", Long.class);
+    }
+
+    /**
+     * 범위(0~1) 밖 온도는 양 끝 구간에 포함되므로 같은 방식으로 잘라서 셈
+     */
+    private Double exactPercentile(double temperature) {
+        Long below = jdbcTemplate.queryForObject("SELECT count(*) FROM records WHERE is_active "
+                + "AND temperature IS NOT NULL AND LEAST(GREATEST(temperature, 0.0), 1.0) < ?", Long.class, temperature);
+        return Math.round(below * 1000.0 / activeCount()) / 10.0;
+    }
+}
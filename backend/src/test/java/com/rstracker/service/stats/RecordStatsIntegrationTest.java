@@ -0,0 +1,162 @@
+package com.rstracker.service.stats;
+
+import com.rstracker.config.RecordStatsProperties;
+import com.rstracker.dto.RecordTemperatureStatsDto;
+import com.rstracker.event.RecordCreatedEvent;
+import com.rstracker.exception.BusinessException;
+import com.rstracker.repository.MonthlyPartitionRepository;
+import com.rstracker.repository.RecordStatsRepository;
+import com.rstracker.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 기록 온도 스케치 통합 테스트
+ *
+ * 스케치 반영 작업은 IntegrationTestSupport에서 꺼져 있으므로 직접 실행합니다.
+ * 다른 테스트의 기록과 섞이지 않도록 테스트마다 고유한 질문 세트로 조회합니다.
+ */
+@DisplayName("기록 온도 스케치 통합 테스트")
+class RecordStatsIntegrationTest extends IntegrationTestSupport {
+
+    /** 재구축 테스트용 과거 날짜 (다른 테스트의 기록이 없는 월) */
+    private static final LocalDate HISTORY_DATE = LocalDate.of(2020, 1, 15);
+
+    @Autowired
+    private RecordStatsService recordStatsService;
+
+    @Autowired
+    private RecordStatsRepository recordStatsRepository;
+
+    @Autowired
+    private MonthlyPartitionRepository monthlyPartitionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecordStatsSketcher sketcher;
+
+    @BeforeEach
+    void setUp() {
+        RecordStatsProperties properties = new RecordStatsProperties();
+        properties.setBatchSize(30);
+        properties.setMaxBatchesPerRun(Integer.MAX_VALUE);
+        properties.setBackfillFetchSize(50);
+        sketcher = new RecordStatsSketcher(recordStatsRepository, transactionManager, properties);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                monthlyPartitionRepository.createIfMissing("records", YearMonth.from(HISTORY_DATE)));
+    }
+
+    @Test
+    @DisplayName("같은 기록 이벤트가 다시 전달되어도 스케치에 한 번만 반영됨")
+    void flushPending_RedeliveredEvent_AppliedOnce() {
+        // given
+        String questionSet = uniqueQuestionSet();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 100; i++) {
+            RecordCreatedEvent event = new RecordCreatedEvent((long) i, UUID.randomUUID().toString(),
+                    i / 100.0, i / 200.0, now, questionSet);
+            sketcher.on(event);
+            if (i % 10 == 0) {
+                sketcher.on(event);
+            }
+        }
+
+        // when
+        int applied = sketcher.flushPending();
+        sketcher.flushPending();
+        RecordTemperatureStatsDto stats = recordStatsService.getTemperatureStats(now.toLocalDate(), now.toLocalDate(), questionSet);
+
+        // then
+        assertThat(applied).isGreaterThanOrEqualTo(100);
+        assertThat(stats.getRecordCount()).isEqualTo(100L);
+        assertThat(stats.getTemperatureP50()).isCloseTo(0.5, within(0.02));
+        assertThat(stats.getTemperatureP90()).isCloseTo(0.9, within(0.02));
+        assertThat(stats.getTemperatureDiffP50()).isCloseTo(0.25, within(0.01));
+    }
+
+    @Test
+    @DisplayName("과거 기록으로 날짜별 스케치를 재구축하고, 이미 받은 이벤트는 다시 반영하지 않음")
+    void rebuild_FromHistory_ReplacesSketches() {
+        // given
+        String questionText = "스케치 테스트 질문 " + UUID.randomUUID();
+        String summary = "{\"Q1\": {\"question_text\": \"" + questionText + "\", \"choice_text\": \"선택지\"}}";
+        String questionSet = QuestionSetFingerprint.of(Map.<String, Object>of("Q1", Map.of("question_text", questionText)));
+        String firstRecordId = null;
+        for (int i = 0; i < 40; i++) {
+            LocalDateTime createdAt = HISTORY_DATE.plusDays(i % 2).atTime(12, 0);
+            String recordId = insertRecord(createdAt, i / 40.0, summary);
+            firstRecordId = firstRecordId == null ? recordId : firstRecordId;
+        }
+        sketcher.on(new RecordCreatedEvent(1L, firstRecordId, 0.0, 0.0, HISTORY_DATE.atTime(12, 0), questionSet));
+
+        // when
+        long rebuilt = sketcher.rebuild(HISTORY_DATE, HISTORY_DATE.plusDays(2));
+        sketcher.flushPending();
+        RecordTemperatureStatsDto stats = recordStatsService.getTemperatureStats(HISTORY_DATE, HISTORY_DATE.plusDays(1), questionSet);
+        List<RecordTemperatureStatsDto> daily = recordStatsService.getDailyTemperatureStats(HISTORY_DATE, HISTORY_DATE.plusDays(6), questionSet);
+
+        // then
+        assertThat(rebuilt).isGreaterThanOrEqualTo(40);
+        assertThat(stats.getRecordCount()).isEqualTo(40L);
+        assertThat(stats.getTemperatureP50()).isCloseTo(0.5, within(0.05));
+        assertThat(daily).extracting(RecordTemperatureStatsDto::getStartDate)
+                .containsExactly(HISTORY_DATE, HISTORY_DATE.plusDays(1));
+        assertThat(daily).extracting(RecordTemperatureStatsDto::getRecordCount).containsExactly(20L, 20L);
+        assertThat(recordStatsService.getQuestionSets())
+                .anySatisfy(set -> {
+                    assertThat(set.getQuestionSet()).isEqualTo(questionSet);
+                    assertThat(set.getFirstDate()).isEqualTo(HISTORY_DATE);
+                    assertThat(set.getRecordCount()).isEqualTo(40L);
+                });
+    }
+
+    @Test
+    @DisplayName("기록이 없는 기간은 백분위가 비어 있고, 시작 날짜가 종료 날짜보다 늦으면 거절됨")
+    void getTemperatureStats_EmptyAndInvalidRange() {
+        // given
+        LocalDate date = LocalDate.of(2019, 6, 1);
+
+        // when
+        RecordTemperatureStatsDto stats = recordStatsService.getTemperatureStats(date, date, uniqueQuestionSet());
+
+        // then
+        assertThat(stats.getRecordCount()).isZero();
+        assertThat(stats.getTemperatureP50()).isNull();
+        assertThatThrownBy(() -> recordStatsService.getTemperatureStats(date.plusDays(1), date, null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private static String uniqueQuestionSet() {
+        return UUID.randomUUID().toString().substring(0, 12);
+    }
+
+    private String insertRecord(LocalDateTime createdAt, double temperature, String summary) {
+        String recordId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO records (record_id, matching_id, temperature, temperature_diff, is_active, created_at, summary) "
+                        + "VALUES (?, ?, ?, 0.0, TRUE, ?, CAST(? AS jsonb))",
+                recordId, -Math.abs(UUID.randomUUID().getMostSignificantBits() % 1_000_000_000L) - 1, temperature,
+                createdAt, summary);
+        return recordId;
+    }
+}
@@ -0,0 +1,69 @@
+package com.rstracker.service.stats;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TemperatureHistogram 단위 테스트
+ *
+ * 추가/삭제를 섞은 뒤 구간별 개수를 직접 센 값과 비교합니다.
+ */
+@DisplayName("TemperatureHistogram 테스트")
+class TemperatureHistogramTest {
+
+    private static final int BINS = 1000;
+
+    @Test
+    @DisplayName("추가/삭제 후 낮은 구간 개수가 직접 센 값과 같음")
+    void countBelow_MatchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        TemperatureHistogram histogram = new TemperatureHistogram(0.0, 1.0, BINS);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            double value = random.nextDouble();
+            histogram.add(value);
+            values.add(value);
+        }
+        for (int i = 0; i < 2000; i++) {
+            histogram.remove(values.remove(random.nextInt(values.size())));
+        }
+
+        // when & then
+        SoftAssertions softly = new SoftAssertions();
+        for (int i = 0; i < 200; i++) {
+            double query = random.nextDouble();
+            int queryBin = histogram.bin(query);
+            long expected = values.stream().filter(value -> histogram.bin(value) < queryBin).count();
+            softly.assertThat(histogram.countBelow(query)).as("below %s", query).isEqualTo(expected);
+        }
+        softly.assertAll();
+        assertThat(histogram.total()).isEqualTo(values.size());
+    }
+
+    @Test
+    @DisplayName("범위 밖 온도는 양 끝 구간에 포함됨")
+    void add_OutOfRange_Clamped() {
+        // given
+        TemperatureHistogram histogram = new TemperatureHistogram(0.0, 1.0, BINS);
+
+        // when
+        histogram.add(-0.5);
+        histogram.add(0.5);
+        histogram.add(1.5);
+
+        // then
+        assertThat(histogram.countBelow(0.0)).isZero();
+        assertThat(histogram.countBelow(0.5)).isEqualTo(1);
+        assertThat(histogram.countBelow(0.9999)).isEqualTo(2);
+        assertThat(histogram.countBelow(2.0)).isEqualTo(2);
+        assertThat(histogram.total()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,124 @@
+package com.rstracker.service.stats;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TemperatureSketch 단위 테스트
+ *
+ * 스케치 백분위를 전체 값을 정렬해 구한 정확한 백분위와 순위(rank) 오차로 비교합니다.
+ */
+@DisplayName("TemperatureSketch 테스트")
+class TemperatureSketchTest {
+
+    private static final int COUNT = 100_000;
+    private static final double[] QUANTILES = {0.01, 0.1, 0.5, 0.9, 0.99};
+
+    @Test
+    @DisplayName("백분위가 정확한 값과 순위 오차 0.5% 이내")
+    void quantile_CloseToExact() {
+        // given
+        double[] temperatures = temperatures(new Random(42), COUNT);
+        TemperatureSketch sketch = new TemperatureSketch();
+        for (double temperature : temperatures) {
+            sketch.add(temperature, temperature - 0.5);
+        }
+        Arrays.sort(temperatures);
+
+        // when & then
+        SoftAssertions softly = new SoftAssertions();
+        for (double q : QUANTILES) {
+            softly.assertThat(rank(temperatures, sketch.temperatureQuantile(q))).as("rank of p%s", q * 100)
+                    .isCloseTo(q, within(0.005));
+            softly.assertThat(sketch.temperatureDiffQuantile(q)).as("diff p%s", q * 100)
+                    .isCloseTo(sketch.temperatureQuantile(q) - 0.5, within(1e-9));
+        }
+        softly.assertAll();
+        assertThat(sketch.count()).isEqualTo(COUNT);
+    }
+
+    @Test
+    @DisplayName("날짜별 스케치를 병합한 백분위가 전체 기간의 정확한 값과 순위 오차 0.5% 이내")
+    void merge_CloseToExact() {
+        // given
+        Random random = new Random(7);
+        double[] all = new double[0];
+        TemperatureSketch merged = new TemperatureSketch();
+        for (int day = 0; day < 30; day++) {
+            double[] daily = temperatures(random, 1000 + day * 100);
+            TemperatureSketch sketch = new TemperatureSketch();
+            for (double temperature : daily) {
+                sketch.add(temperature, null);
+            }
+            // 저장했다 읽은 스케치를 병합 (조회 경로와 같음)
+            merged.merge(TemperatureSketch.fromBytes(sketch.temperatureBytes(), sketch.temperatureDiffBytes()));
+            all = concat(all, daily);
+        }
+        Arrays.sort(all);
+
+        // when & then
+        SoftAssertions softly = new SoftAssertions();
+        for (double q : QUANTILES) {
+            softly.assertThat(rank(all, merged.temperatureQuantile(q))).as("rank of p%s", q * 100)
+                    .isCloseTo(q, within(0.005));
+        }
+        softly.assertAll();
+        assertThat(merged.count()).isEqualTo(all.length);
+        assertThat(merged.temperatureDiffQuantile(0.5)).isNaN();
+    }
+
+    @Test
+    @DisplayName("바이트로 저장했다 읽어도 백분위와 기록 수가 같음")
+    void fromBytes_RoundTrip() {
+        // given
+        TemperatureSketch sketch = new TemperatureSketch();
+        for (double temperature : temperatures(new Random(1), 5000)) {
+            sketch.add(temperature, temperature / 2);
+        }
+        byte[] temperatureBytes = sketch.temperatureBytes();
+
+        // when
+        TemperatureSketch restored = TemperatureSketch.fromBytes(temperatureBytes, sketch.temperatureDiffBytes());
+
+        // then
+        assertThat(restored.count()).isEqualTo(sketch.count());
+        for (double q : QUANTILES) {
+            assertThat(restored.temperatureQuantile(q)).isEqualTo(sketch.temperatureQuantile(q));
+            assertThat(restored.temperatureDiffQuantile(q)).isEqualTo(sketch.temperatureDiffQuantile(q));
+        }
+        assertThat(temperatureBytes.length).isLessThan(8 * 1024);
+    }
+
+    /**
+     * 온도처럼 0~1에 몰린 분포 (가운데가 두껍고 한쪽 꼬리가 긴 분포)
+     */
+    private static double[] temperatures(Random random, int count) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Math.min(1.0, Math.max(0.0, 0.55 + random.nextGaussian() * 0.12 - random.nextDouble() * random.nextDouble() * 0.3));
+        }
+        return values;
+    }
+
+    /**
+     * 정렬된 값에서 value 이하 비율
+     */
+    private static double rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        int position = index >= 0 ? index + 1 : -index - 1;
+        return (double) position / sorted.length;
+    }
+
+    private static double[] concat(double[] a, double[] b) {
+        double[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,196 @@
+package com.rstracker.service.temperature;
+
+import com.rstracker.config.TemperatureCalculationProperties;
+import com.rstracker.entity.Answer;
+import com.rstracker.entity.Participant;
+import com.rstracker.entity.Question;
+import com.rstracker.entity.QuestionChoice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * LookupTemperatureCalculationStrategy 단위 테스트
+ *
+ * 질문 세트 v1과 같은 카탈로그에서 두 참여자의 모든 응답 조합(응답하지 않은 질문 포함)을
+ * WeightedTemperatureCalculationStrategy와 비교합니다. 응답은 질문 순서대로 전달하므로 덧셈 순서도 같아 값이 정확히 같습니다.
+ */
+@DisplayName("LookupTemperatureCalculationStrategy 테스트")
+class LookupTemperatureCalculationStrategyTest {
+
+    /** 질문 순서별 선택지 온도 가중치 (질문 세트 v1) */
+    private static final double[][] CHOICE_WEIGHTS = {
+            {0.0, 0.0, 0.0, 0.0, 0.0},
+            {0.0, 0.0, 0.0, 0.0, 0.0},
+            {0.2, 0.5, 0.7, 0.9},
+            {0.2, 0.4, 0.6, 0.5},
+            {0.1, 0.4, 0.6, 0.9},
+            {0.7, 0.3, 0.5}};
+
+    private TemperatureCalculationProperties properties;
+    private WeightedTemperatureCalculationStrategy weighted;
+    private LookupTemperatureCalculationStrategy lookup;
+
+    private final List<Question> questions = new ArrayList<>();
+    private final Map<Long, QuestionChoice> choiceMap = new LinkedHashMap<>();
+    private final Map<Long, Integer> questionOrderMap = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new TemperatureCalculationProperties();
+        weighted = new WeightedTemperatureCalculationStrategy(properties);
+        lookup = new LookupTemperatureCalculationStrategy(properties, weighted);
+        long choiceId = 100;
+        for (int order = 1; order <= CHOICE_WEIGHTS.length; order++) {
+            Question question = new Question();
+            question.setId((long) order * 10);
+            question.setOrder(order);
+            for (double weight : CHOICE_WEIGHTS[order - 1]) {
+                QuestionChoice choice = new QuestionChoice();
+                choice.setId(choiceId++);
+                choice.setQuestion(question);
+                choice.setTemperatureWeight(weight);
+                question.getChoices().add(choice);
+                choiceMap.put(choice.getId(), choice);
+            }
+            questions.add(question);
+            questionOrderMap.put(question.getId(), order);
+        }
+    }
+
+    @Test
+    @DisplayName("두 참여자의 모든 응답 조합에서 가중치 전략과 같은 결과")
+    void calculate_AllCombinations_MatchesWeighted() {
+        // given
+        List<List<QuestionChoice>> combinations = combinations();
+        Participant first = participant(1L);
+        Participant second = participant(2L);
+
+        // when & then
+        assertThat(combinations.size()).isEqualTo(5 * 5 * 5 * 4);
+        for (List<QuestionChoice> firstAnswers : combinations) {
+            for (List<QuestionChoice> secondAnswers : combinations) {
+                List<Answer> answers = new ArrayList<>(answers(first, firstAnswers));
+                answers.addAll(answers(second, secondAnswers));
+                assertSameResult(answers);
+            }
+            assertSameResult(answers(first, firstAnswers));
+        }
+        assertThat(TemperatureLookupTable.build(choiceMap, questionOrderMap, properties.getQuestionWeights()).size())
+                .isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("선택지 가중치나 질문 가중치가 바뀌면 표를 다시 만들어 같은 결과")
+    void calculate_CatalogOrWeightsChanged_Rebuilds() {
+        // given
+        List<Answer> answers = new ArrayList<>(answers(participant(1L), List.of(choice(3, 2), choice(5, 3))));
+        answers.addAll(answers(participant(2L), List.of(choice(3, 0), choice(6, 1))));
+        assertSameResult(answers);
+
+        // when
+        choice(3, 2).setTemperatureWeight(0.95);
+        QuestionChoice added = new QuestionChoice();
+        added.setId(999L);
+        added.setQuestion(questions.get(3));
+        added.setTemperatureWeight(0.8);
+        choiceMap.put(added.getId(), added);
+        answers.add(answer(participant(2L), added));
+
+        // then
+        assertSameResult(answers);
+        properties.setQuestionWeights(new HashMap<>(Map.of(3, 1.0, 5, 4.0)));
+        assertSameResult(answers);
+    }
+
+    @Test
+    @DisplayName("한 질문에 두 번 응답하거나 참여자가 3명이면 가중치 전략으로 계산")
+    void calculate_Unrepresentable_FallsBack() {
+        // given
+        List<Answer> duplicated = answers(participant(1L), List.of(choice(3, 1), choice(3, 3), choice(4, 0)));
+        List<Answer> threeParticipants = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            threeParticipants.addAll(answers(participant(id), List.of(choice(3, (int) id))));
+        }
+
+        // when & then
+        assertSameResult(duplicated);
+        assertSameResult(threeParticipants);
+        assertSameResult(List.of());
+    }
+
+    private void assertSameResult(List<Answer> answers) {
+        TemperatureCalculationStrategy.TemperatureResult expected = weighted.calculate(answers, choiceMap, questionOrderMap);
+        TemperatureCalculationStrategy.TemperatureResult actual = lookup.calculate(answers, choiceMap, questionOrderMap);
+        if (!expected.getAverageTemperature().equals(actual.getAverageTemperature())
+                || !expected.getTemperatureDiff().equals(actual.getTemperatureDiff())) {
+            fail("Mismatch for %s: expected (%s, %s) but was (%s, %s)", describe(answers),
+                    expected.getAverageTemperature(), expected.getTemperatureDiff(),
+                    actual.getAverageTemperature(), actual.getTemperatureDiff());
+        }
+    }
+
+    /**
+     * 한 참여자의 응답 조합 (가중치 질문은 응답 안 함 + 모든 선택지, 가중치 없는 Q1/Q2는 첫 선택지)
+     */
+    private List<List<QuestionChoice>> combinations() {
+        List<List<QuestionChoice>> combinations = new ArrayList<>();
+        combinations.add(new ArrayList<>());
+        for (Question question : questions) {
+            List<QuestionChoice> options = new ArrayList<>();
+            if (question.getOrder() <= 2) {
+                options.add(question.getChoices().get(0));
+            } else {
+                options.add(null);
+                options.addAll(question.getChoices());
+            }
+            List<List<QuestionChoice>> extended = new ArrayList<>();
+            for (List<QuestionChoice> prefix : combinations) {
+                for (QuestionChoice option : options) {
+                    List<QuestionChoice> next = new ArrayList<>(prefix);
+                    if (option != null) {
+                        next.add(option);
+                    }
+                    extended.add(next);
+                }
+            }
+            combinations = extended;
+        }
+        return combinations;
+    }
+
+    private QuestionChoice choice(int order, int index) {
+        return questions.get(order - 1).getChoices().get(index);
+    }
+
+    private List<Answer> answers(Participant participant, List<QuestionChoice> choices) {
+        return choices.stream().map(choice -> answer(participant, choice)).toList();
+    }
+
+    private static Answer answer(Participant participant, QuestionChoice choice) {
+        Answer answer = new Answer();
+        answer.setParticipant(participant);
+        answer.setQuestion(choice.getQuestion());
+        answer.setChoice(choice);
+        return answer;
+    }
+
+    private static Participant participant(Long id) {
+        Participant participant = new Participant();
+        participant.setId(id);
+        return participant;
+    }
+
+    private static String describe(List<Answer> answers) {
+        return answers.stream().map(answer -> answer.getParticipant().getId() + ":" + answer.getChoice().getId()).toList().toString();
+    }
+}
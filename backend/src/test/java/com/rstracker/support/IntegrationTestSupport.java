@@ -0,0 +1,81 @@
+package com.rstracker.support;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL 통합 테스트 기반 클래스
+ *
+ * 데이터베이스는 다음 순서로 결정합니다.
+ * 1. IT_DATASOURCE_URL (환경 변수 또는 시스템 프로퍼티, 계정은 IT_DATASOURCE_USERNAME / IT_DATASOURCE_PASSWORD)
+ * 2. Docker가 있으면 Testcontainers PostgreSQL
+ * 둘 다 없으면 테스트를 건너뜁니다. 스키마는 Flyway 마이그레이션으로 만들어집니다.
+ * 아웃박스 릴레이, 매칭 스위퍼, 원장 추가/검증, 통계 스케치 반영 같은 백그라운드 작업은 꺼 둡니다. 테스트 설정이 다른 컨텍스트가
+ * 여러 개 캐시되어도 같은 DB의 행을 서로 가져가지 않도록, 필요한 테스트에서만 켜거나 직접 실행합니다.
+ */
+@SpringBootTest(properties = {
+        "app.outbox.relay-enabled=false",
+        "app.matching-lifecycle.sweeper-enabled=false",
+        "app.ledger.appender-enabled=false",
+        "app.ledger.verifier-enabled=false",
+        "app.record-stats.sketcher-enabled=false",
+        "app.active-members.sketcher-enabled=false",
+        "app.ledger.ephemeral-key-allowed=true"
+})
+public abstract class IntegrationTestSupport {
+
+    private static final String DATASOURCE_URL = setting("IT_DATASOURCE_URL");
+
+    private static final PostgreSQLContainer<?> POSTGRES = DATASOURCE_URL == null ? startContainerIfDockerAvailable() : null;
+
+    @BeforeAll
+    static void requireDatabase() {
+        Assumptions.assumeTrue(DATASOURCE_URL != null || POSTGRES != null,
+                "IT_DATASOURCE_URL이 없고 Docker도 사용할 수 없어 통합 테스트를 건너뜁니다");
+    }
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        if (POSTGRES != null) {
+            registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+            registry.add("spring.datasource.username", POSTGRES::getUsername);
+            registry.add("spring.datasource.password", POSTGRES::getPassword);
+        } else if (DATASOURCE_URL != null) {
+            registry.add("spring.datasource.url", () -> DATASOURCE_URL);
+            String username = setting("IT_DATASOURCE_USERNAME");
+            if (username != null) {
+                registry.add("spring.datasource.username", () -> username);
+            }
+            String password = setting("IT_DATASOURCE_PASSWORD");
+            if (password != null) {
+                registry.add("spring.datasource.password", () -> password);
+            }
+        }
+    }
+
+    /**
+     * 테스트에 사용하는 JDBC URL (하위 클래스에서 추가 데이터소스 설정용)
+     */
+    protected static String jdbcUrl() {
+        return POSTGRES != null ? POSTGRES.getJdbcUrl() : DATASOURCE_URL;
+    }
+
+    private static PostgreSQLContainer<?> startContainerIfDockerAvailable() {
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return null;
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine");
+        container.start();
+        return container;
+    }
+
+    private static String setting(String name) {
+        String value = System.getProperty(name, System.getenv(name));
+        return value == null || value.isBlank() ? null : value;
+    }
+}
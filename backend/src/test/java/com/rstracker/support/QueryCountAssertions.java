@@ -0,0 +1,46 @@
+package com.rstracker.support;
+
+import com.rstracker.config.QueryBudgetTracker;
+
+import java.util.function.Supplier;
+
+/**
+ * SQL 실행 수 검증 도우미
+ *
+ * 주어진 작업을 {@link QueryBudgetTracker} 범위 안에서 실행하고 준비된 SQL 문 수를 검증합니다.
+ * 개수가 다르면 실제 실행된 SQL 목록을 실패 메시지에 포함합니다.
+ * 작업은 테스트 스레드에서 실행되어야 하며, 테스트 트랜잭션 밖에서 호출해야 실제 요청과 같은 수가 나옵니다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(int expectedStatements, Runnable action) {
+        assertQueryCount(expectedStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T assertQueryCount(int expectedStatements, Supplier<T> action) {
+        T result;
+        QueryBudgetTracker.Scope scope = QueryBudgetTracker.start("test", true);
+        try {
+            result = action.get();
+        } finally {
+            scope.close();
+        }
+        if (scope.getStatementCount() != expectedStatements) {
+            StringBuilder message = new StringBuilder()
+                    .append("Expected ").append(expectedStatements).append(" SQL statements but ")
+                    .append(scope.getStatementCount()).append(" were prepared:");
+            for (int i = 0; i < scope.getStatements().size(); i++) {
+                message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ")
+                        .append(scope.getStatements().get(i));
+            }
+            throw new AssertionError(message.toString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+package com.rstracker.support;
+
+import com.rstracker.config.QueryBudgetTracker;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 계획 검증 도우미
+ *
+ * Hibernate가 실제로 만든 SQL을 {@link QueryBudgetTracker}로 캡처하고, PREPARE 후 EXPLAIN EXECUTE로 계획을 읽습니다.
+ * 바인딩 값은 SQL의 ? 순서대로 넘기며, 남는 ?(페이징 값)에는 1을 넣습니다.
+ * 세션 설정(plan_cache_mode, enable_seqscan 등)은 EXPLAIN 동안만 바꾸고 되돌립니다.
+ */
+public final class QueryPlans {
+
+    private static final Pattern INDEX_SCAN = Pattern.compile("Index (?:Only )?Scan (?:Backward )?(?:using|on) (\\w+)");
+
+    private QueryPlans() {
+    }
+
+    /**
+     * 작업 중 실행된 SQL 중 해당 테이블을 읽는 SQL 목록 (네이티브 SQL의 대문자 FROM 포함)
+     */
+    public static List<String> capture(String table, Runnable action) {
+        QueryBudgetTracker.Scope scope = QueryBudgetTracker.start("test", true);
+        try {
+            action.run();
+        } finally {
+            scope.close();
+        }
+        return scope.getStatements().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" from " + table + " "))
+                .toList();
+    }
+
+    /**
+     * SQL 실행 계획 (analyze=true이면 실제 실행, 실행 시작 시점 파티션 프루닝은 ANALYZE에서만 보임)
+     *
+     * @param parameters ? 순서의 바인딩 값 (Double, Boolean, Integer, Long, String, LocalDateTime)
+     * @param settings   EXPLAIN 동안 적용할 세션 설정 (예: plan_cache_mode → force_generic_plan)
+     */
+    public static List<String> explain(JdbcTemplate jdbcTemplate, String sql, List<?> parameters,
+                                       boolean analyze, Map<String, String> settings) {
+        StringBuilder numbered = new StringBuilder();
+        int count = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++count);
+            } else {
+                numbered.append(c);
+            }
+        }
+        if (count < parameters.size()) {
+            throw new IllegalArgumentException("SQL has " + count + " parameters but " + parameters.size() + " were given: " + sql);
+        }
+        List<String> types = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (Object parameter : parameters) {
+            types.add(typeOf(parameter));
+            values.add(parameter instanceof Number || parameter instanceof Boolean
+                    ? parameter.toString() : "'" + parameter.toString().replace("'", "''") + "'");
+        }
+        while (types.size() < count) {
+            types.add("int4");
+            values.add("1");
+        }
+        String options = analyze ? "(ANALYZE, COSTS OFF, TIMING OFF, SUMMARY OFF)" : "(COSTS OFF)";
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (Map.Entry<String, String> setting : settings.entrySet()) {
+                    statement.execute("SET " + setting.getKey() + " = " + setting.getValue());
+                }
+                try {
+                    statement.execute("PREPARE explained(" + String.join(", ", types) + ") AS " + numbered);
+                    try (ResultSet rows = statement.executeQuery(
+                            "EXPLAIN " + options + " EXECUTE explained(" + String.join(", ", values) + ")")) {
+                        List<String> plan = new ArrayList<>();
+                        while (rows.next()) {
+                            plan.add(rows.getString(1));
+                        }
+                        return plan;
+                    } finally {
+                        statement.execute("DEALLOCATE explained");
+                    }
+                } finally {
+                    for (String name : settings.keySet()) {
+                        statement.execute("RESET " + name);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 계획에 나온 이름 중 패턴과 일치하는 것 (등장 순서, 중복 제외)
+     */
+    public static Set<String> namesIn(List<String> plan, Pattern pattern) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String line : plan) {
+            Matcher matcher = pattern.matcher(line);
+            while (matcher.find()) {
+                names.add(matcher.group());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 계획에서 사용한 인덱스 이름 (Index Scan, Index Only Scan, Bitmap Index Scan)
+     */
+    public static Set<String> indexesIn(List<String> plan) {
+        Set<String> indexes = new LinkedHashSet<>();
+        for (String line : plan) {
+            Matcher matcher = INDEX_SCAN.matcher(line);
+            while (matcher.find()) {
+                indexes.add(matcher.group(1));
+            }
+        }
+        return indexes;
+    }
+
+    private static String typeOf(Object parameter) {
+        if (parameter instanceof Double) {
+            return "float8";
+        }
+        if (parameter instanceof Boolean) {
+            return "boolean";
+        }
+        if (parameter instanceof Integer) {
+            return "int4";
+        }
+        if (parameter instanceof Long) {
+            return "int8";
+        }
+        if (parameter instanceof LocalDateTime) {
+            return "timestamp";
+        }
+        if (parameter instanceof String) {
+            return "text";
+        }
+        throw new IllegalArgumentException("Unsupported parameter type: " + parameter.getClass());
+    }
+}